@@ -20,7 +20,9 @@ public enum JavaType {
     DOUBLE,
     DOUBLE_OBJECT,
     STRING,
-    BYTE_ARRAY;
+    BYTE_ARRAY,
+    // Lazily loaded BLOB, is not returned by from(), processors that support lazy columns set it explicitly
+    LAZY_BLOB;
 
     @NotNull
     public static JavaType from(@NotNull TypeMirror typeMirror) {
@@ -0,0 +1,71 @@
+package com.pushtorefresh.storio.internal;
+
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * FOR INTERNAL USAGE ONLY (used by generated GetResolvers).
+ * <p>
+ * Resolves indices of columns only once per {@link Cursor} instead of
+ * looking them up by name for each row.
+ * <p>
+ * Thread-safe.
+ */
+public final class ColumnIndices {
+
+    @NonNull
+    private final String[] columnNames;
+
+    @Nullable
+    private volatile ResolvedIndices resolvedIndices;
+
+    public ColumnIndices(@NonNull String... columnNames) {
+        this.columnNames = columnNames;
+    }
+
+    /**
+     * Returns indices of columns in passed {@link Cursor} in the same order as
+     * column names were passed to the constructor, indices are resolved only
+     * if {@link Cursor} is different from the previous one.
+     *
+     * @param cursor cursor to resolve indices for.
+     * @return indices of columns, {@code -1} for missing columns.
+     * Returned array is shared and should not be modified!
+     */
+    @NonNull
+    public int[] of(@NonNull Cursor cursor) {
+        final ResolvedIndices current = resolvedIndices;
+
+        if (current != null && current.cursorReference.get() == cursor) {
+            return current.indices;
+        }
+
+        final int[] indices = new int[columnNames.length];
+
+        //noinspection ForLoopReplaceableByForEach -> on Android it's faster
+        for (int i = 0; i < columnNames.length; i++) {
+            indices[i] = cursor.getColumnIndex(columnNames[i]);
+        }
+
+        // Weak reference allows cursor to be garbage collected after usage
+        resolvedIndices = new ResolvedIndices(new WeakReference<Cursor>(cursor), indices);
+        return indices;
+    }
+
+    private static final class ResolvedIndices {
+
+        @NonNull
+        final WeakReference<Cursor> cursorReference;
+
+        @NonNull
+        final int[] indices;
+
+        ResolvedIndices(@NonNull WeakReference<Cursor> cursorReference, @NonNull int[] indices) {
+            this.cursorReference = cursorReference;
+            this.indices = indices;
+        }
+    }
+}
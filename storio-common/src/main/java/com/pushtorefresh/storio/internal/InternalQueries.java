@@ -7,6 +7,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
@@ -19,6 +21,9 @@ import static java.util.Collections.unmodifiableList;
  */
 public final class InternalQueries {
 
+    @NonNull
+    private static final Pattern KEY_WHERE_PATTERN = Pattern.compile("^\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*=\\s*\\?\\s*$");
+
     private InternalQueries() {
         throw new IllegalStateException("No instances please");
     }
@@ -144,4 +149,63 @@ public final class InternalQueries {
     public static String nullableString(@Nullable String str) {
         return str == null || str.isEmpty() ? null : str;
     }
+
+    /**
+     * Finds out key column of {@code WHERE} clause that looks like {@code "key = ?"}.
+     *
+     * @param where             {@code WHERE} clause, can be null.
+     * @param numberOfWhereArgs number of arguments for the {@code WHERE} clause.
+     * @return name of the key column or {@code null} if {@code WHERE} clause
+     * does not select rows by one key.
+     */
+    @Nullable
+    public static String keyColumnOf(@Nullable String where, int numberOfWhereArgs) {
+        if (where == null || numberOfWhereArgs != 1) {
+            return null;
+        }
+
+        final Matcher matcher = KEY_WHERE_PATTERN.matcher(where);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    /**
+     * Converts value of the key to its canonical string representation,
+     * so {@code 42L}, {@code 42} and {@code "42"} produce same key
+     * as they do for SQLite column with integer affinity.
+     *
+     * @param key value of the key.
+     * @return non-null canonical representation of the key.
+     */
+    @NonNull
+    public static String normalizeKey(@NonNull Object key) {
+        if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+            return String.valueOf(((Number) key).longValue());
+        }
+
+        final String string = key.toString();
+
+        try {
+            return String.valueOf(Long.parseLong(string.trim()));
+        } catch (NumberFormatException notANumber) {
+            return string;
+        }
+    }
+
+    /**
+     * Checks whether key in canonical form (see {@link #normalizeKey(Object)}) is an integer.
+     * SQLite never treats different integers as equal, while other values can be equal
+     * in different forms, for example {@code 42.0} and {@code 42} in {@code REAL} column
+     * or {@code "a"} and {@code "A"} in column with {@code NOCASE} collation.
+     *
+     * @param normalizedKey key in canonical form.
+     * @return {@code true} if key is an integer, {@code false} otherwise.
+     */
+    public static boolean isIntegerKey(@NonNull String normalizedKey) {
+        try {
+            Long.parseLong(normalizedKey);
+            return true;
+        } catch (NumberFormatException notANumber) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,58 @@
+package com.pushtorefresh.storio.internal;
+
+import android.database.Cursor;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ColumnIndicesTest {
+
+    @Test
+    public void shouldResolveIndicesInOrderOfColumnNames() {
+        final Cursor cursor = mock(Cursor.class);
+        when(cursor.getColumnIndex("column1")).thenReturn(2);
+        when(cursor.getColumnIndex("column2")).thenReturn(0);
+        when(cursor.getColumnIndex("column3")).thenReturn(-1);
+
+        final int[] indices = new ColumnIndices("column1", "column2", "column3").of(cursor);
+
+        assertThat(indices).containsExactly(2, 0, -1);
+    }
+
+    @Test
+    public void shouldResolveIndicesOnlyOncePerCursor() {
+        final Cursor cursor = mock(Cursor.class);
+        when(cursor.getColumnIndex("column1")).thenReturn(1);
+
+        final ColumnIndices columnIndices = new ColumnIndices("column1");
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(columnIndices.of(cursor)).containsExactly(1);
+        }
+
+        verify(cursor, times(1)).getColumnIndex("column1");
+    }
+
+    @Test
+    public void shouldResolveIndicesAgainForAnotherCursor() {
+        final Cursor cursor1 = mock(Cursor.class);
+        when(cursor1.getColumnIndex("column1")).thenReturn(1);
+
+        final Cursor cursor2 = mock(Cursor.class);
+        when(cursor2.getColumnIndex("column1")).thenReturn(3);
+
+        final ColumnIndices columnIndices = new ColumnIndices("column1");
+
+        assertThat(columnIndices.of(cursor1)).containsExactly(1);
+        assertThat(columnIndices.of(cursor2)).containsExactly(3);
+        assertThat(columnIndices.of(cursor1)).containsExactly(1);
+
+        verify(cursor1, times(2)).getColumnIndex("column1");
+        verify(cursor2, times(1)).getColumnIndex("column1");
+    }
+}
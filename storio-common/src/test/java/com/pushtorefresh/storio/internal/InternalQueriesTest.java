@@ -258,4 +258,46 @@ public class InternalQueriesTest {
     }
 
     //endregion
+
+    //region Tests for Queries.keyColumnOf()
+
+    @Test
+    public void keyColumnOfKeyWhere() {
+        assertThat(InternalQueries.keyColumnOf("_id = ?", 1)).isEqualTo("_id");
+        assertThat(InternalQueries.keyColumnOf(" email=? ", 1)).isEqualTo("email");
+    }
+
+    @Test
+    public void keyColumnOfOtherWhere() {
+        assertThat(InternalQueries.keyColumnOf(null, 0)).isNull();
+        assertThat(InternalQueries.keyColumnOf("_id = ?", 2)).isNull();
+        assertThat(InternalQueries.keyColumnOf("_id > ?", 1)).isNull();
+        assertThat(InternalQueries.keyColumnOf("_id = ? OR email = ?", 1)).isNull();
+    }
+
+    //endregion
+
+    //region Tests for Queries.normalizeKey()
+
+    @Test
+    public void normalizeKeyOfNumbers() {
+        assertThat(InternalQueries.normalizeKey(42L)).isEqualTo("42");
+        assertThat(InternalQueries.normalizeKey(42)).isEqualTo("42");
+        assertThat(InternalQueries.normalizeKey("042")).isEqualTo("42");
+    }
+
+    @Test
+    public void normalizeKeyOfString() {
+        assertThat(InternalQueries.normalizeKey("some@example.com")).isEqualTo("some@example.com");
+    }
+
+    @Test
+    public void isIntegerKey() {
+        assertThat(InternalQueries.isIntegerKey(InternalQueries.normalizeKey(42L))).isTrue();
+        assertThat(InternalQueries.isIntegerKey(InternalQueries.normalizeKey("-42"))).isTrue();
+        assertThat(InternalQueries.isIntegerKey(InternalQueries.normalizeKey("42.0"))).isFalse();
+        assertThat(InternalQueries.isIntegerKey(InternalQueries.normalizeKey("some@example.com"))).isFalse();
+    }
+
+    //endregion
 }
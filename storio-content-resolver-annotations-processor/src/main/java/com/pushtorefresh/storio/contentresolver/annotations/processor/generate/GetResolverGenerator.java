@@ -6,6 +6,7 @@ import com.pushtorefresh.storio.common.annotations.processor.introspection.JavaT
 import com.pushtorefresh.storio.contentresolver.annotations.processor.introspection.StorIOContentResolverColumnMeta;
 import com.pushtorefresh.storio.contentresolver.annotations.processor.introspection.StorIOContentResolverTypeMeta;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
@@ -15,6 +16,7 @@ import com.squareup.javapoet.TypeSpec;
 import org.jetbrains.annotations.NotNull;
 
 import static com.pushtorefresh.storio.common.annotations.processor.generate.Common.ANDROID_NON_NULL_ANNOTATION_CLASS_NAME;
+import static com.pushtorefresh.storio.common.annotations.processor.generate.Common.COLUMN_INDICES_CLASS_NAME;
 import static com.pushtorefresh.storio.common.annotations.processor.generate.Common.INDENT;
 import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.BOOLEAN;
 import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.BOOLEAN_OBJECT;
@@ -30,6 +32,8 @@ import static com.pushtorefresh.storio.common.annotations.processor.introspectio
 import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.SHORT;
 import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.SHORT_OBJECT;
 import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.STRING;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 
 public class GetResolverGenerator implements Generator<StorIOContentResolverTypeMeta> {
@@ -49,6 +53,7 @@ public class GetResolverGenerator implements Generator<StorIOContentResolverType
                 .addJavadoc("Generated resolver for Get Operation\n")
                 .addModifiers(PUBLIC)
                 .superclass(ParameterizedTypeName.get(ClassName.get("com.pushtorefresh.storio.contentresolver.operations.get", "DefaultGetResolver"), storIOContentResolverTypeClassName))
+                .addField(createColumnIndicesFieldSpec(storIOContentResolverTypeMeta))
                 .addMethod(createMapFromCursorMethodSpec(storIOContentResolverTypeMeta, storIOContentResolverTypeClassName))
                 .build();
 
@@ -58,6 +63,27 @@ public class GetResolverGenerator implements Generator<StorIOContentResolverType
                 .build();
     }
 
+    @NotNull
+    private FieldSpec createColumnIndicesFieldSpec(@NotNull StorIOContentResolverTypeMeta storIOContentResolverTypeMeta) {
+        final StringBuilder format = new StringBuilder("new $T(");
+        final Object[] args = new Object[storIOContentResolverTypeMeta.columns.size() + 1];
+        args[0] = COLUMN_INDICES_CLASS_NAME;
+
+        int index = 1;
+
+        for (final StorIOContentResolverColumnMeta columnMeta : storIOContentResolverTypeMeta.columns.values()) {
+            format.append(index > 1 ? ", $S" : "$S");
+            args[index++] = columnMeta.storIOColumn.name();
+        }
+
+        format.append(')');
+
+        return FieldSpec.builder(COLUMN_INDICES_CLASS_NAME, "columnIndices", PRIVATE, FINAL)
+                .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                .initializer(format.toString(), args)
+                .build();
+    }
+
     @NotNull
     private MethodSpec createMapFromCursorMethodSpec(@NotNull StorIOContentResolverTypeMeta storIOContentResolverTypeMeta, @NotNull ClassName storIOContentResolverTypeClassName) {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("mapFromCursor")
@@ -69,11 +95,15 @@ public class GetResolverGenerator implements Generator<StorIOContentResolverType
                 .addParameter(ParameterSpec.builder(ClassName.get("android.database", "Cursor"), "cursor")
                         .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
                         .build())
+                .addStatement("final int[] indices = columnIndices.of(cursor)")
                 .addStatement("$T object = new $T()", storIOContentResolverTypeClassName, storIOContentResolverTypeClassName)
                 .addCode("\n");
 
+        int index = 0;
+
         for (final StorIOContentResolverColumnMeta columnMeta : storIOContentResolverTypeMeta.columns.values()) {
-            final String columnIndex = "cursor.getColumnIndex(\"" + columnMeta.storIOColumn.name() + "\")";
+            // Indices are resolved in the same order as columns were passed to ColumnIndices
+            final String columnIndex = "indices[" + index++ + "]";
 
             final String getFromCursor;
 
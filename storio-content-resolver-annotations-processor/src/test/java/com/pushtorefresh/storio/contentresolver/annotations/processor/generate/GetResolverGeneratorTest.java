@@ -64,22 +64,27 @@ public class GetResolverGeneratorTest {
                 "import android.database.Cursor;\n" +
                 "import android.support.annotation.NonNull;\n" +
                 "import com.pushtorefresh.storio.contentresolver.operations.get.DefaultGetResolver;\n" +
+                "import com.pushtorefresh.storio.internal.ColumnIndices;\n" +
                 "import java.lang.Override;\n" +
                 "\n" +
                 "/**\n" +
                 " * Generated resolver for Get Operation\n" +
                 " */\n" +
                 "public class TestItemStorIOContentResolverGetResolver extends DefaultGetResolver<TestItem> {\n" +
+                "    @NonNull\n" +
+                "    private final ColumnIndices columnIndices = new ColumnIndices(\"column1\", \"column2\");\n" +
+                "\n" +
                 "    /**\n" +
                 "     * {@inheritDoc}\n" +
                 "     */\n" +
                 "    @Override\n" +
                 "    @NonNull\n" +
                 "    public TestItem mapFromCursor(@NonNull Cursor cursor) {\n" +
+                "        final int[] indices = columnIndices.of(cursor);\n" +
                 "        TestItem object = new TestItem();\n" +
                 "\n" +
-                "        object.field1 = cursor.getInt(cursor.getColumnIndex(\"column1\")) == 1;\n" +
-                "        object.field2 = cursor.getString(cursor.getColumnIndex(\"column2\"));\n" +
+                "        object.field1 = cursor.getInt(indices[0]) == 1;\n" +
+                "        object.field2 = cursor.getString(indices[1]);\n" +
                 "\n" +
                 "        return object;\n" +
                 "    }\n" +
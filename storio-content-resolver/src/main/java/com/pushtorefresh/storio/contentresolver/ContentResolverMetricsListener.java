@@ -0,0 +1,70 @@
+package com.pushtorefresh.storio.contentresolver;
+
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio.contentresolver.queries.DeleteQuery;
+import com.pushtorefresh.storio.contentresolver.queries.InsertQuery;
+import com.pushtorefresh.storio.contentresolver.queries.Query;
+import com.pushtorefresh.storio.contentresolver.queries.UpdateQuery;
+
+/**
+ * Receives duration and number of rows of each call to {@link android.content.ContentProvider}
+ * made by {@link StorIOContentResolver}, for example to feed latency histograms.
+ * <p>
+ * Methods are called synchronously on the thread that executes operation,
+ * so implementation should be thread-safe and should return as fast as possible.
+ * <p>
+ * All methods do nothing by default, override only required ones.
+ */
+public abstract class ContentResolverMetricsListener {
+
+    /**
+     * Called after {@link android.content.ContentProvider} returned cursor for the query.
+     *
+     * @param query        query.
+     * @param numberOfRows number of rows in returned cursor.
+     * @param timeNanos    time spent in the query in nanoseconds.
+     */
+    public void onQuery(@NonNull Query query, int numberOfRows, long timeNanos) {
+    }
+
+    /**
+     * Called after rows were inserted via {@link android.content.ContentProvider}.
+     *
+     * @param insertQuery  query.
+     * @param numberOfRows number of inserted rows.
+     * @param timeNanos    time spent in the insert in nanoseconds.
+     */
+    public void onInsert(@NonNull InsertQuery insertQuery, int numberOfRows, long timeNanos) {
+    }
+
+    /**
+     * Called after rows were updated via {@link android.content.ContentProvider}.
+     *
+     * @param updateQuery  query.
+     * @param numberOfRows number of updated rows.
+     * @param timeNanos    time spent in the update in nanoseconds.
+     */
+    public void onUpdate(@NonNull UpdateQuery updateQuery, int numberOfRows, long timeNanos) {
+    }
+
+    /**
+     * Called after rows were deleted via {@link android.content.ContentProvider}.
+     *
+     * @param deleteQuery  query.
+     * @param numberOfRows number of deleted rows.
+     * @param timeNanos    time spent in the delete in nanoseconds.
+     */
+    public void onDelete(@NonNull DeleteQuery deleteQuery, int numberOfRows, long timeNanos) {
+    }
+
+    /**
+     * Called after batch of operations was applied to {@link android.content.ContentProvider}.
+     *
+     * @param authority          authority of the {@link android.content.ContentProvider}.
+     * @param numberOfOperations number of applied operations.
+     * @param timeNanos          time spent in the batch in nanoseconds.
+     */
+    public void onApplyBatch(@NonNull String authority, int numberOfOperations, long timeNanos) {
+    }
+}
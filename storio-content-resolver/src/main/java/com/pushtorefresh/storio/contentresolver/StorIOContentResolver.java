@@ -1,9 +1,13 @@
 package com.pushtorefresh.storio.contentresolver;
 
+import android.content.ContentProviderOperation;
+import android.content.ContentProviderResult;
 import android.content.ContentResolver;
 import android.content.ContentValues;
+import android.content.OperationApplicationException;
 import android.database.Cursor;
 import android.net.Uri;
+import android.os.RemoteException;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.WorkerThread;
@@ -16,6 +20,7 @@ import com.pushtorefresh.storio.contentresolver.queries.InsertQuery;
 import com.pushtorefresh.storio.contentresolver.queries.Query;
 import com.pushtorefresh.storio.contentresolver.queries.UpdateQuery;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Set;
 
@@ -135,6 +140,31 @@ public abstract class StorIOContentResolver {
         @NonNull
         public abstract Uri insert(@NonNull InsertQuery insertQuery, @NonNull ContentValues contentValues);
 
+        /**
+         * Inserts multiple rows to {@link StorIOContentResolver}.
+         * <p>
+         * Default implementation calls {@link #insert(InsertQuery, ContentValues)} for each row,
+         * implementations can override it to insert all rows in one transaction
+         * via {@link ContentResolver#bulkInsert(Uri, ContentValues[])}.
+         *
+         * @param insertQuery   query.
+         * @param contentValues data of rows.
+         * @return number of inserted rows.
+         */
+        @WorkerThread
+        public int bulkInsert(@NonNull InsertQuery insertQuery, @NonNull ContentValues[] contentValues) {
+            int numberOfRowsInserted = 0;
+
+            for (final ContentValues cv : contentValues) {
+                //noinspection ConstantConditions -> ContentProvider returns null if row was not inserted
+                if (insert(insertQuery, cv) != null) {
+                    numberOfRowsInserted++;
+                }
+            }
+
+            return numberOfRowsInserted;
+        }
+
         /**
          * Updates data in {@link StorIOContentResolver}.
          *
@@ -154,6 +184,27 @@ public abstract class StorIOContentResolver {
         @WorkerThread
         public abstract int delete(@NonNull DeleteQuery deleteQuery);
 
+        /**
+         * Applies batch of operations to the {@link android.content.ContentProvider} of the authority
+         * in one IPC transaction, provider may apply them atomically.
+         * <p>
+         * Default implementation delegates to {@link ContentResolver#applyBatch(String, ArrayList)}
+         * of {@link #contentResolver()}.
+         *
+         * @param authority  authority of the {@link android.content.ContentProvider}.
+         * @param operations operations to apply.
+         * @return results of the operations in the same order as operations.
+         * @throws RemoteException               if the provider has died.
+         * @throws OperationApplicationException if any operation failed.
+         */
+        @WorkerThread
+        @NonNull
+        public ContentProviderResult[] applyBatch(@NonNull String authority,
+                                                  @NonNull ArrayList<ContentProviderOperation> operations)
+                throws RemoteException, OperationApplicationException {
+            return contentResolver().applyBatch(authority, operations);
+        }
+
         /**
          * Returns {@link ContentResolver} that can be used for operations
          * like {@link ContentResolver#applyBatch(String, java.util.ArrayList)} and so on!
@@ -1,18 +1,23 @@
 package com.pushtorefresh.storio.contentresolver.impl;
 
 import android.annotation.SuppressLint;
+import android.content.ContentProviderOperation;
+import android.content.ContentProviderResult;
 import android.content.ContentResolver;
 import android.content.ContentValues;
+import android.content.OperationApplicationException;
 import android.database.Cursor;
 import android.net.Uri;
 import android.os.Build;
 import android.os.Handler;
 import android.os.HandlerThread;
+import android.os.RemoteException;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.WorkerThread;
 
 import com.pushtorefresh.storio.contentresolver.Changes;
+import com.pushtorefresh.storio.contentresolver.ContentResolverMetricsListener;
 import com.pushtorefresh.storio.contentresolver.ContentResolverTypeMapping;
 import com.pushtorefresh.storio.contentresolver.StorIOContentResolver;
 import com.pushtorefresh.storio.contentresolver.queries.DeleteQuery;
@@ -20,10 +25,12 @@ import com.pushtorefresh.storio.contentresolver.queries.InsertQuery;
 import com.pushtorefresh.storio.contentresolver.queries.Query;
 import com.pushtorefresh.storio.contentresolver.queries.UpdateQuery;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import rx.Observable;
 
@@ -38,6 +45,11 @@ import static java.util.Collections.unmodifiableMap;
  */
 public class DefaultStorIOContentResolver extends StorIOContentResolver {
 
+    /**
+     * Value of changes coalescing window which means that coalescing is disabled.
+     */
+    static final long CHANGES_COALESCING_DISABLED = -1;
+
     @NonNull
     private final Internal internal;
 
@@ -47,12 +59,33 @@ public class DefaultStorIOContentResolver extends StorIOContentResolver {
     @NonNull
     private final Handler contentObserverHandler;
 
+    private final long changesCoalescingWindowMillis;
+
+    /**
+     * Listener of durations of calls to content provider, {@code null} if calls should not be measured.
+     */
+    @Nullable
+    private final ContentResolverMetricsListener metricsListener;
+
     protected DefaultStorIOContentResolver(@NonNull ContentResolver contentResolver,
                                            @NonNull Handler contentObserverHandler,
                                            @Nullable Map<Class<?>, ContentResolverTypeMapping<?>> typesMapping) {
-        this.contentResolver = contentResolver;
-        this.contentObserverHandler = contentObserverHandler;
-        internal = new InternalImpl(typesMapping);
+        this(new CompleteBuilder(contentResolver, contentObserverHandler, typesMapping));
+    }
+
+    /**
+     * Creates instance with configuration of passed builder,
+     * please use {@link DefaultStorIOContentResolver#builder()} instead of this.
+     *
+     * @param builder builder with configuration of the instance, content observer handler should be set.
+     */
+    DefaultStorIOContentResolver(@NonNull CompleteBuilder builder) {
+        contentResolver = builder.contentResolver;
+        //noinspection ConstantConditions
+        contentObserverHandler = builder.contentObserverHandler;
+        changesCoalescingWindowMillis = builder.changesCoalescingWindowMillis;
+        metricsListener = builder.metricsListener;
+        internal = new InternalImpl(builder.typesMapping);
     }
 
     /**
@@ -66,7 +99,13 @@ public class DefaultStorIOContentResolver extends StorIOContentResolver {
 
         // indirect usage of RxJava
         // required to avoid problems with ClassLoader when RxJava is not in ClassPath
-        return RxChangesObserver.observeChanges(contentResolver, uris, contentObserverHandler, Build.VERSION.SDK_INT);
+        return RxChangesObserver.observeChanges(
+                contentResolver,
+                uris,
+                contentObserverHandler,
+                Build.VERSION.SDK_INT,
+                changesCoalescingWindowMillis
+        );
     }
 
     /**
@@ -130,10 +169,23 @@ public class DefaultStorIOContentResolver extends StorIOContentResolver {
         @Nullable
         private Handler contentObserverHandler;
 
+        private long changesCoalescingWindowMillis = CHANGES_COALESCING_DISABLED;
+
+        @Nullable
+        private ContentResolverMetricsListener metricsListener;
+
         CompleteBuilder(@NonNull ContentResolver contentResolver) {
             this.contentResolver = contentResolver;
         }
 
+        CompleteBuilder(@NonNull ContentResolver contentResolver,
+                        @NonNull Handler contentObserverHandler,
+                        @Nullable Map<Class<?>, ContentResolverTypeMapping<?>> typesMapping) {
+            this.contentResolver = contentResolver;
+            this.contentObserverHandler = contentObserverHandler;
+            this.typesMapping = typesMapping;
+        }
+
         /**
          * Adds {@link ContentResolverTypeMapping} for some type.
          *
@@ -165,6 +217,55 @@ public class DefaultStorIOContentResolver extends StorIOContentResolver {
             return this;
         }
 
+        /**
+         * Optional: Enables coalescing of {@link Changes}: Uris of all changes delivered to
+         * an observer within the window after the first one are merged into one {@link Changes}.
+         * <p>
+         * So burst of notifications from {@link android.content.ContentProvider}, for example during import,
+         * triggers one re-query of observing operations instead of one re-query per notification,
+         * but notifications are delayed by the window. Window {@code 0} merges notifications
+         * that are already queued to the content observer handler.
+         * <p>
+         * Each observer merges only Uris it was notified about, so {@link Changes}
+         * contain only Uris that match observed Uris or their descendants.
+         * <p>
+         * By default coalescing is disabled and each notification is emitted immediately.
+         *
+         * @param window non-negative duration of the window.
+         * @param unit   unit of the window.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder changesCoalescingWindow(long window, @NonNull TimeUnit unit) {
+            checkNotNull(unit, "Please specify time unit");
+
+            if (window < 0) {
+                throw new IllegalArgumentException("window should be >= 0, window = " + window);
+            }
+
+            changesCoalescingWindowMillis = unit.toMillis(window);
+            return this;
+        }
+
+        /**
+         * Optional: Specifies {@link ContentResolverMetricsListener} that receives time spent
+         * in each call to {@link android.content.ContentProvider} and number of read or written rows.
+         * <p>
+         * Number of rows of the query is taken from returned {@link Cursor}, so
+         * rows are counted before they are returned to the operation.
+         * <p>
+         * By default calls are not measured and no time is read.
+         *
+         * @param metricsListener listener of calls to content provider.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder metricsListener(@NonNull ContentResolverMetricsListener metricsListener) {
+            checkNotNull(metricsListener, "Please specify metrics listener");
+            this.metricsListener = metricsListener;
+            return this;
+        }
+
         /**
          * Builds new instance of {@link DefaultStorIOContentResolver}.
          *
@@ -178,7 +279,7 @@ public class DefaultStorIOContentResolver extends StorIOContentResolver {
                 contentObserverHandler = new Handler(handlerThread.getLooper());
             }
 
-            return new DefaultStorIOContentResolver(contentResolver, contentObserverHandler, typesMapping);
+            return new DefaultStorIOContentResolver(this);
         }
     }
 
@@ -272,6 +373,8 @@ public class DefaultStorIOContentResolver extends StorIOContentResolver {
         @NonNull
         @Override
         public Cursor query(@NonNull Query query) {
+            final long startNanos = metricsListener != null ? System.nanoTime() : 0;
+
             Cursor cursor = contentResolver.query(
                     query.uri(),
                     nullableArrayOfStrings(query.columns()),
@@ -284,6 +387,10 @@ public class DefaultStorIOContentResolver extends StorIOContentResolver {
                 throw new IllegalStateException("Cursor returned by content provider is null");
             }
 
+            if (metricsListener != null) {
+                metricsListener.onQuery(query, cursor.getCount(), System.nanoTime() - startNanos);
+            }
+
             return cursor;
         }
 
@@ -294,10 +401,38 @@ public class DefaultStorIOContentResolver extends StorIOContentResolver {
         @NonNull
         @Override
         public Uri insert(@NonNull InsertQuery insertQuery, @NonNull ContentValues contentValues) {
-            return contentResolver.insert(
+            final long startNanos = metricsListener != null ? System.nanoTime() : 0;
+
+            final Uri insertedUri = contentResolver.insert(
                     insertQuery.uri(),
                     contentValues
             );
+
+            if (metricsListener != null) {
+                metricsListener.onInsert(insertQuery, insertedUri != null ? 1 : 0, System.nanoTime() - startNanos);
+            }
+
+            return insertedUri;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @WorkerThread
+        @Override
+        public int bulkInsert(@NonNull InsertQuery insertQuery, @NonNull ContentValues[] contentValues) {
+            final long startNanos = metricsListener != null ? System.nanoTime() : 0;
+
+            final int numberOfRows = contentResolver.bulkInsert(
+                    insertQuery.uri(),
+                    contentValues
+            );
+
+            if (metricsListener != null) {
+                metricsListener.onInsert(insertQuery, numberOfRows, System.nanoTime() - startNanos);
+            }
+
+            return numberOfRows;
         }
 
         /**
@@ -306,12 +441,20 @@ public class DefaultStorIOContentResolver extends StorIOContentResolver {
         @WorkerThread
         @Override
         public int update(@NonNull UpdateQuery updateQuery, @NonNull ContentValues contentValues) {
-            return contentResolver.update(
+            final long startNanos = metricsListener != null ? System.nanoTime() : 0;
+
+            final int numberOfRows = contentResolver.update(
                     updateQuery.uri(),
                     contentValues,
                     nullableString(updateQuery.where()),
                     nullableArrayOfStrings(updateQuery.whereArgs())
             );
+
+            if (metricsListener != null) {
+                metricsListener.onUpdate(updateQuery, numberOfRows, System.nanoTime() - startNanos);
+            }
+
+            return numberOfRows;
         }
 
         /**
@@ -320,11 +463,39 @@ public class DefaultStorIOContentResolver extends StorIOContentResolver {
         @WorkerThread
         @Override
         public int delete(@NonNull DeleteQuery deleteQuery) {
-            return contentResolver.delete(
+            final long startNanos = metricsListener != null ? System.nanoTime() : 0;
+
+            final int numberOfRows = contentResolver.delete(
                     deleteQuery.uri(),
                     nullableString(deleteQuery.where()),
                     nullableArrayOfStrings(deleteQuery.whereArgs())
             );
+
+            if (metricsListener != null) {
+                metricsListener.onDelete(deleteQuery, numberOfRows, System.nanoTime() - startNanos);
+            }
+
+            return numberOfRows;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @WorkerThread
+        @NonNull
+        @Override
+        public ContentProviderResult[] applyBatch(@NonNull String authority,
+                                                  @NonNull ArrayList<ContentProviderOperation> operations)
+                throws RemoteException, OperationApplicationException {
+            final long startNanos = metricsListener != null ? System.nanoTime() : 0;
+
+            final ContentProviderResult[] results = contentResolver.applyBatch(authority, operations);
+
+            if (metricsListener != null) {
+                metricsListener.onApplyBatch(authority, operations.size(), System.nanoTime() - startNanos);
+            }
+
+            return results;
         }
 
         /**
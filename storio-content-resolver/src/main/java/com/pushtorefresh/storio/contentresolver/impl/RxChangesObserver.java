@@ -6,9 +6,11 @@ import android.net.Uri;
 import android.os.Build;
 import android.os.Handler;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import com.pushtorefresh.storio.contentresolver.Changes;
 
+import java.util.HashSet;
 import java.util.Set;
 
 import rx.Observable;
@@ -27,14 +29,45 @@ final class RxChangesObserver {
         throw new IllegalStateException("No instances please.");
     }
 
+    @NonNull
+    static Observable<Changes> observeChanges(@NonNull ContentResolver contentResolver,
+                                              @NonNull Set<Uri> uris,
+                                              @NonNull Handler handler,
+                                              int sdkVersion) {
+        return observeChanges(contentResolver, uris, handler, sdkVersion, DefaultStorIOContentResolver.CHANGES_COALESCING_DISABLED);
+    }
+
+    /**
+     * Observes changes of passed Uris and their descendants.
+     *
+     * @param coalescingWindowMillis if {@code >= 0}, Uris of changes delivered within the window
+     *                               after the first one are merged into one {@link Changes},
+     *                               negative value disables coalescing.
+     */
     @NonNull
     static Observable<Changes> observeChanges(@NonNull final ContentResolver contentResolver,
                                               @NonNull final Set<Uri> uris,
                                               @NonNull final Handler handler,
-                                              final int sdkVersion) {
+                                              final int sdkVersion,
+                                              final long coalescingWindowMillis) {
         return Observable.create(new Observable.OnSubscribe<Changes>() {
             @Override
             public void call(final Subscriber<? super Changes> subscriber) {
+                // Coalescer is created per subscriber, so it merges only Uris
+                // that ContentResolver has already matched to Uris of this subscriber
+                final ChangesCoalescer changesCoalescer = coalescingWindowMillis >= 0
+                        ? new ChangesCoalescer(subscriber, handler, coalescingWindowMillis)
+                        : null;
+
+                if (changesCoalescer != null) {
+                    subscriber.add(Subscriptions.create(new Action0() {
+                        @Override
+                        public void call() {
+                            handler.removeCallbacks(changesCoalescer);
+                        }
+                    }));
+                }
+
                 // Use one ContentObserver for all passed Uris on API >= 16
                 if (sdkVersion >= Build.VERSION_CODES.JELLY_BEAN) {
                     final ContentObserver contentObserver = new ContentObserver(handler) {
@@ -45,7 +78,7 @@ final class RxChangesObserver {
 
                         @Override
                         public void onChange(boolean selfChange, Uri uri) {
-                            subscriber.onNext(Changes.newInstance(uri));
+                            onNext(subscriber, changesCoalescer, uri);
                         }
                     };
 
@@ -75,7 +108,7 @@ final class RxChangesObserver {
 
                             @Override
                             public void onChange(boolean selfChange) {
-                                subscriber.onNext(Changes.newInstance(uri));
+                                onNext(subscriber, changesCoalescer, uri);
                             }
                         };
 
@@ -92,4 +125,71 @@ final class RxChangesObserver {
             }
         });
     }
+
+    private static void onNext(@NonNull Subscriber<? super Changes> subscriber,
+                               @Nullable ChangesCoalescer changesCoalescer,
+                               @NonNull Uri uri) {
+        if (changesCoalescer != null) {
+            changesCoalescer.onChange(uri);
+        } else {
+            subscriber.onNext(Changes.newInstance(uri));
+        }
+    }
+
+    /**
+     * Merges Uris of changes delivered within the window after the first one into one {@link Changes}.
+     * <p>
+     * Flush is posted to the {@link Handler} of {@link ContentObserver}s, so window {@code 0}
+     * merges all changes that are already queued to the handler.
+     */
+    private static final class ChangesCoalescer implements Runnable {
+
+        @NonNull
+        private final Subscriber<? super Changes> subscriber;
+
+        @NonNull
+        private final Handler handler;
+
+        private final long windowMillis;
+
+        /**
+         * {@code null} if flush is not scheduled, guarded by {@code this}.
+         */
+        @Nullable
+        private Set<Uri> pendingUris;
+
+        ChangesCoalescer(@NonNull Subscriber<? super Changes> subscriber, @NonNull Handler handler, long windowMillis) {
+            this.subscriber = subscriber;
+            this.handler = handler;
+            this.windowMillis = windowMillis;
+        }
+
+        void onChange(@NonNull Uri uri) {
+            synchronized (this) {
+                if (pendingUris != null) {
+                    pendingUris.add(uri);
+                    return;
+                }
+
+                pendingUris = new HashSet<Uri>();
+                pendingUris.add(uri);
+            }
+
+            handler.postDelayed(this, windowMillis);
+        }
+
+        @Override
+        public void run() {
+            final Set<Uri> uris;
+
+            synchronized (this) {
+                uris = pendingUris;
+                pendingUris = null;
+            }
+
+            if (uris != null && !subscriber.isUnsubscribed()) {
+                subscriber.onNext(Changes.newInstance(uris));
+            }
+        }
+    }
 }
@@ -1,5 +1,9 @@
 package com.pushtorefresh.storio.contentresolver.operations.delete;
 
+import android.content.ContentProviderOperation;
+import android.content.ContentProviderResult;
+import android.content.OperationApplicationException;
+import android.os.RemoteException;
 import android.support.annotation.CheckResult;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
@@ -8,6 +12,7 @@ import android.support.annotation.WorkerThread;
 import com.pushtorefresh.storio.StorIOException;
 import com.pushtorefresh.storio.contentresolver.ContentResolverTypeMapping;
 import com.pushtorefresh.storio.contentresolver.StorIOContentResolver;
+import com.pushtorefresh.storio.contentresolver.queries.DeleteQuery;
 import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking;
 
 import java.util.AbstractMap.SimpleImmutableEntry;
@@ -21,6 +26,8 @@ import rx.Observable;
 import rx.schedulers.Schedulers;
 
 import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+import static com.pushtorefresh.storio.internal.InternalQueries.nullableArrayOfStrings;
+import static com.pushtorefresh.storio.internal.InternalQueries.nullableString;
 
 /**
  * Prepared Delete Operation for {@link StorIOContentResolver}.
@@ -35,12 +42,22 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
     @Nullable
     private final DeleteResolver<T> explicitDeleteResolver;
 
+    private final boolean useApplyBatch;
+
     PreparedDeleteCollectionOfObjects(@NonNull StorIOContentResolver storIOContentResolver,
                                       @NonNull Collection<T> objects,
                                       @Nullable DeleteResolver<T> explicitDeleteResolver) {
+        this(storIOContentResolver, objects, explicitDeleteResolver, false);
+    }
+
+    PreparedDeleteCollectionOfObjects(@NonNull StorIOContentResolver storIOContentResolver,
+                                      @NonNull Collection<T> objects,
+                                      @Nullable DeleteResolver<T> explicitDeleteResolver,
+                                      boolean useApplyBatch) {
         super(storIOContentResolver);
         this.objects = objects;
         this.explicitDeleteResolver = explicitDeleteResolver;
+        this.useApplyBatch = useApplyBatch;
     }
 
     /**
@@ -87,7 +104,9 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
 
             final Map<T, DeleteResult> results = new HashMap<T, DeleteResult>(objects.size());
 
-            if (explicitDeleteResolver != null) {
+            if (useApplyBatch) {
+                performApplyBatch(internal, objectsAndDeleteResolvers, results);
+            } else if (explicitDeleteResolver != null) {
                 for (final T object : objects) {
                     final DeleteResult deleteResult = explicitDeleteResolver.performDelete(storIOContentResolver, object);
                     results.put(object, deleteResult);
@@ -109,6 +128,83 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
         }
     }
 
+    /**
+     * Deletes objects which {@link DeleteResolver} is {@link DefaultDeleteResolver} via
+     * {@link StorIOContentResolver.Internal#applyBatch(String, ArrayList)}, one batch per
+     * sequence of consecutive objects with same authority, so objects are deleted in their order.
+     * Objects with other {@link DeleteResolver}s are deleted as usual.
+     */
+    @SuppressWarnings("unchecked")
+    private void performApplyBatch(@NonNull StorIOContentResolver.Internal internal,
+                                   @Nullable List<SimpleImmutableEntry> objectsAndDeleteResolvers,
+                                   @NonNull Map<T, DeleteResult> results) throws RemoteException, OperationApplicationException {
+        final ArrayList<ContentProviderOperation> operations = new ArrayList<ContentProviderOperation>();
+        final List<T> objectsOfOperations = new ArrayList<T>();
+        String authorityOfOperations = null;
+
+        int index = 0;
+
+        for (final T object : objects) {
+            //noinspection ConstantConditions -> objectsAndDeleteResolvers is not null if there is no explicit DeleteResolver
+            final DeleteResolver<T> deleteResolver = explicitDeleteResolver != null
+                    ? explicitDeleteResolver
+                    : (DeleteResolver<T>) objectsAndDeleteResolvers.get(index).getValue();
+
+            index++;
+
+            if (deleteResolver instanceof DefaultDeleteResolver) {
+                final DeleteQuery deleteQuery = ((DefaultDeleteResolver<T>) deleteResolver).mapToDeleteQuery(object);
+                final String authority = deleteQuery.uri().getAuthority();
+
+                if (authority == null) {
+                    throw new IllegalStateException("Uri should have authority to apply batch, uri = " + deleteQuery.uri());
+                }
+
+                if (!authority.equals(authorityOfOperations)) {
+                    applyBatch(internal, authorityOfOperations, operations, objectsOfOperations, results);
+                    authorityOfOperations = authority;
+                }
+
+                operations.add(ContentProviderOperation.newDelete(deleteQuery.uri())
+                        .withSelection(nullableString(deleteQuery.where()), nullableArrayOfStrings(deleteQuery.whereArgs()))
+                        .build());
+                objectsOfOperations.add(object);
+            } else {
+                // Previous objects should be deleted before this one
+                applyBatch(internal, authorityOfOperations, operations, objectsOfOperations, results);
+                results.put(object, deleteResolver.performDelete(storIOContentResolver, object));
+            }
+        }
+
+        applyBatch(internal, authorityOfOperations, operations, objectsOfOperations, results);
+    }
+
+    /**
+     * Applies pending operations if there are any and clears them.
+     */
+    private void applyBatch(@NonNull StorIOContentResolver.Internal internal,
+                            @Nullable String authority,
+                            @NonNull ArrayList<ContentProviderOperation> operations,
+                            @NonNull List<T> objectsOfOperations,
+                            @NonNull Map<T, DeleteResult> results) throws RemoteException, OperationApplicationException {
+        if (authority == null || operations.isEmpty()) {
+            return;
+        }
+
+        final ContentProviderResult[] operationResults = internal.applyBatch(authority, operations);
+
+        for (int i = 0; i < operationResults.length; i++) {
+            //noinspection ConstantConditions -> delete always returns number of deleted rows
+            results.put(objectsOfOperations.get(i), DeleteResult.newInstance(
+                    operationResults[i].count,
+                    operations.get(i).getUri()
+            ));
+        }
+
+        operations.clear();
+        objectsOfOperations.clear();
+    }
+
     /**
      * Creates {@link Observable} which will perform Delete Operation and send result to observer.
      * <p>
@@ -150,6 +246,8 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
         @Nullable
         private DeleteResolver<T> deleteResolver;
 
+        private boolean useApplyBatch;
+
         /**
          * Creates builder for {@link PreparedDeleteCollectionOfObjects}.
          *
@@ -178,6 +276,27 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
             return this;
         }
 
+        /**
+         * Optional: Specifies whether objects should be deleted via
+         * {@link android.content.ContentResolver#applyBatch(String, ArrayList)},
+         * one batch per sequence of consecutive objects with same authority of their Uris.
+         * <p>
+         * Deletes of each batch are sent in one IPC transaction and
+         * can be applied atomically if the {@link android.content.ContentProvider} supports it.
+         * It's applied only to objects which {@link DeleteResolver} is {@link DefaultDeleteResolver},
+         * other objects are deleted one by one, objects are deleted in the order of the collection.
+         * <p>
+         * Default value is {@code false}.
+         *
+         * @param useApplyBatch {@code true} to apply batch, {@code false} to not.
+         * @return builder.
+         */
+        @NonNull
+        public Builder<T> useApplyBatch(boolean useApplyBatch) {
+            this.useApplyBatch = useApplyBatch;
+            return this;
+        }
+
         /**
          * Builds instance of {@link PreparedDeleteCollectionOfObjects}.
          *
@@ -188,7 +307,8 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
             return new PreparedDeleteCollectionOfObjects<T>(
                     storIOContentResolver,
                     objects,
-                    deleteResolver
+                    deleteResolver,
+                    useApplyBatch
             );
         }
     }
@@ -79,5 +79,15 @@ public abstract class PreparedGet<Result> implements PreparedOperation<Result> {
         public PreparedGetNumberOfResults.Builder numberOfResults() {
             return new PreparedGetNumberOfResults.Builder(storIOContentResolver);
         }
+
+        /**
+         * Returns builder for Get Operation that checks whether query has at least one row.
+         *
+         * @return builder for Get Operation that checks whether query has at least one row.
+         */
+        @NonNull
+        public PreparedGetExists.Builder exists() {
+            return new PreparedGetExists.Builder(storIOContentResolver);
+        }
     }
 }
@@ -54,16 +54,9 @@ public abstract class DefaultPutResolver<T> extends PutResolver<T> {
     @Override
     public PutResult performPut(@NonNull StorIOContentResolver storIOContentResolver, @NonNull T object) {
         final UpdateQuery updateQuery = mapToUpdateQuery(object);
-
-        final Query query = Query.builder()
-                .uri(updateQuery.uri())
-                .where(nullableString(updateQuery.where()))
-                .whereArgs((Object[]) nullableArrayOfStrings(updateQuery.whereArgs()))
-                .build();
-
         final StorIOContentResolver.Internal internal = storIOContentResolver.internal();
 
-        final Cursor cursor = internal.query(query);
+        final Cursor cursor = queryRowsToUpdate(internal, updateQuery);
 
         try {
             final ContentValues contentValues = mapToContentValues(object);
@@ -80,4 +73,19 @@ public abstract class DefaultPutResolver<T> extends PutResolver<T> {
             cursor.close();
         }
     }
+
+    /**
+     * Queries rows that will be updated by the {@link UpdateQuery},
+     * object should be inserted if there are no such rows.
+     */
+    @NonNull
+    Cursor queryRowsToUpdate(@NonNull StorIOContentResolver.Internal internal, @NonNull UpdateQuery updateQuery) {
+        final Query query = Query.builder()
+                .uri(updateQuery.uri())
+                .where(nullableString(updateQuery.where()))
+                .whereArgs((Object[]) nullableArrayOfStrings(updateQuery.whereArgs()))
+                .build();
+
+        return internal.query(query);
+    }
 }
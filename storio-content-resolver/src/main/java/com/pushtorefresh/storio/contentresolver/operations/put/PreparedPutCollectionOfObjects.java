@@ -1,5 +1,12 @@
 package com.pushtorefresh.storio.contentresolver.operations.put;
 
+import android.content.ContentProviderOperation;
+import android.content.ContentProviderResult;
+import android.content.ContentValues;
+import android.content.OperationApplicationException;
+import android.database.Cursor;
+import android.net.Uri;
+import android.os.RemoteException;
 import android.support.annotation.CheckResult;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
@@ -8,19 +15,24 @@ import android.support.annotation.WorkerThread;
 import com.pushtorefresh.storio.StorIOException;
 import com.pushtorefresh.storio.contentresolver.ContentResolverTypeMapping;
 import com.pushtorefresh.storio.contentresolver.StorIOContentResolver;
+import com.pushtorefresh.storio.contentresolver.queries.UpdateQuery;
 import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking;
 
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import rx.Observable;
 import rx.schedulers.Schedulers;
 
 import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+import static com.pushtorefresh.storio.internal.InternalQueries.nullableArrayOfStrings;
+import static com.pushtorefresh.storio.internal.InternalQueries.nullableString;
 
 /**
  * Prepared Put Operation for collection of objects.
@@ -35,12 +47,22 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
     @Nullable
     private final PutResolver<T> explicitPutResolver;
 
+    private final boolean useApplyBatch;
+
     PreparedPutCollectionOfObjects(@NonNull StorIOContentResolver storIOContentResolver,
                                    @NonNull Collection<T> objects,
                                    @Nullable PutResolver<T> explicitPutResolver) {
+        this(storIOContentResolver, objects, explicitPutResolver, false);
+    }
+
+    PreparedPutCollectionOfObjects(@NonNull StorIOContentResolver storIOContentResolver,
+                                   @NonNull Collection<T> objects,
+                                   @Nullable PutResolver<T> explicitPutResolver,
+                                   boolean useApplyBatch) {
         super(storIOContentResolver);
         this.objects = objects;
         this.explicitPutResolver = explicitPutResolver;
+        this.useApplyBatch = useApplyBatch;
     }
 
     /**
@@ -87,7 +109,9 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
 
             final Map<T, PutResult> results = new HashMap<T, PutResult>(objects.size());
 
-            if (explicitPutResolver != null) {
+            if (useApplyBatch) {
+                performApplyBatch(internal, objectsAndPutResolvers, results);
+            } else if (explicitPutResolver != null) {
                 for (final T object : objects) {
                     final PutResult putResult = explicitPutResolver.performPut(storIOContentResolver, object);
                     results.put(object, putResult);
@@ -109,6 +133,134 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
         }
     }
 
+    /**
+     * Puts objects which {@link PutResolver} is {@link DefaultPutResolver} via
+     * {@link StorIOContentResolver.Internal#applyBatch(String, ArrayList)}, one batch per
+     * sequence of consecutive objects with same authority, so objects are written in their order.
+     * Whether object should be inserted or updated is still checked by query for each object,
+     * because {@link ContentProviderOperation} can not insert row conditionally,
+     * so pending batch is applied before query of object with same {@link UpdateQuery}.
+     * Objects with other {@link PutResolver}s are put as usual.
+     */
+    private void performApplyBatch(@NonNull StorIOContentResolver.Internal internal,
+                                   @Nullable List<SimpleImmutableEntry<T, PutResolver<T>>> objectsAndPutResolvers,
+                                   @NonNull Map<T, PutResult> results) throws RemoteException, OperationApplicationException {
+        final ArrayList<ContentProviderOperation> operations = new ArrayList<ContentProviderOperation>();
+        final List<T> objectsOfOperations = new ArrayList<T>();
+        final Set<UpdateQuery> updateQueriesOfOperations = new HashSet<UpdateQuery>();
+        String authorityOfOperations = null;
+
+        int index = 0;
+
+        for (final T object : objects) {
+            //noinspection ConstantConditions -> objectsAndPutResolvers is not null if there is no explicit PutResolver
+            final PutResolver<T> putResolver = explicitPutResolver != null
+                    ? explicitPutResolver
+                    : objectsAndPutResolvers.get(index).getValue();
+
+            index++;
+
+            if (putResolver instanceof DefaultPutResolver) {
+                final DefaultPutResolver<T> defaultPutResolver = (DefaultPutResolver<T>) putResolver;
+                final UpdateQuery updateQuery = defaultPutResolver.mapToUpdateQuery(object);
+
+                // Query does not see pending insert, so same row would be inserted twice
+                if (updateQueriesOfOperations.contains(updateQuery)) {
+                    applyBatch(internal, authorityOfOperations, operations, objectsOfOperations, updateQueriesOfOperations, results);
+                }
+
+                final ContentProviderOperation operation
+                        = toOperation(internal, defaultPutResolver, updateQuery, object);
+                final String authority = operation.getUri().getAuthority();
+
+                if (authority == null) {
+                    throw new IllegalStateException("Uri should have authority to apply batch, uri = " + operation.getUri());
+                }
+
+                if (!authority.equals(authorityOfOperations)) {
+                    applyBatch(internal, authorityOfOperations, operations, objectsOfOperations, updateQueriesOfOperations, results);
+                    authorityOfOperations = authority;
+                }
+
+                operations.add(operation);
+                objectsOfOperations.add(object);
+                updateQueriesOfOperations.add(updateQuery);
+            } else {
+                // Previous objects should be written before this one
+                applyBatch(internal, authorityOfOperations, operations, objectsOfOperations, updateQueriesOfOperations, results);
+                results.put(object, putResolver.performPut(storIOContentResolver, object));
+            }
+        }
+
+        applyBatch(internal, authorityOfOperations, operations, objectsOfOperations, updateQueriesOfOperations, results);
+    }
+
+    /**
+     * Applies pending operations if there are any and clears them.
+     */
+    private void applyBatch(@NonNull StorIOContentResolver.Internal internal,
+                            @Nullable String authority,
+                            @NonNull ArrayList<ContentProviderOperation> operations,
+                            @NonNull List<T> objectsOfOperations,
+                            @NonNull Set<UpdateQuery> updateQueriesOfOperations,
+                            @NonNull Map<T, PutResult> results) throws RemoteException, OperationApplicationException {
+        if (authority == null || operations.isEmpty()) {
+            return;
+        }
+
+        final ContentProviderResult[] operationResults = internal.applyBatch(authority, operations);
+
+        for (int i = 0; i < operationResults.length; i++) {
+            final ContentProviderResult operationResult = operationResults[i];
+            final Uri affectedUri = operations.get(i).getUri();
+            final PutResult putResult;
+
+            // Update returns number of updated rows, insert returns Uri of inserted row
+            if (operationResult.count != null) {
+                putResult = PutResult.newUpdateResult(operationResult.count, affectedUri);
+            } else if (operationResult.uri != null) {
+                putResult = PutResult.newInsertResult(operationResult.uri, affectedUri);
+            } else {
+                // ContentProvider returns null Uri if it did not insert the row
+                putResult = PutResult.newNotInsertedResult(affectedUri);
+            }
+
+            results.put(objectsOfOperations.get(i), putResult);
+        }
+
+        operations.clear();
+        objectsOfOperations.clear();
+        updateQueriesOfOperations.clear();
+    }
+
+    @NonNull
+    private ContentProviderOperation toOperation(@NonNull StorIOContentResolver.Internal internal,
+                                                 @NonNull DefaultPutResolver<T> putResolver,
+                                                 @NonNull UpdateQuery updateQuery,
+                                                 @NonNull T object) {
+        final Cursor cursor = putResolver.queryRowsToUpdate(internal, updateQuery);
+        final boolean stored;
+
+        try {
+            stored = cursor.getCount() > 0;
+        } finally {
+            cursor.close();
+        }
+
+        final ContentValues contentValues = putResolver.mapToContentValues(object);
+
+        if (stored) {
+            return ContentProviderOperation.newUpdate(updateQuery.uri())
+                    .withSelection(nullableString(updateQuery.where()), nullableArrayOfStrings(updateQuery.whereArgs()))
+                    .withValues(contentValues)
+                    .build();
+        } else {
+            return ContentProviderOperation.newInsert(putResolver.mapToInsertQuery(object).uri())
+                    .withValues(contentValues)
+                    .build();
+        }
+    }
+
     /**
      * Creates {@link Observable} which will perform Put Operation and send result to observer.
      * <p>
@@ -150,6 +302,8 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
         @Nullable
         private PutResolver<T> putResolver;
 
+        private boolean useApplyBatch;
+
         public Builder(@NonNull StorIOContentResolver storIOContentResolver, @NonNull Collection<T> objects) {
             this.storIOContentResolver = storIOContentResolver;
             this.objects = objects;
@@ -173,6 +327,29 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
             return this;
         }
 
+        /**
+         * Optional: Specifies whether objects should be put via
+         * {@link android.content.ContentResolver#applyBatch(String, ArrayList)},
+         * one batch per sequence of consecutive objects with same authority of their Uris.
+         * <p>
+         * Writes of each batch are sent in one IPC transaction and
+         * can be applied atomically if the {@link android.content.ContentProvider} supports it.
+         * It's applied only to objects which {@link PutResolver} is {@link DefaultPutResolver},
+         * other objects are put one by one, objects are written in the order of the collection.
+         * If {@link android.content.ContentProvider} returns {@code null} Uri for insert,
+         * object will be reported via {@link PutResult#newNotInsertedResult(Uri)}.
+         * <p>
+         * Default value is {@code false}.
+         *
+         * @param useApplyBatch {@code true} to apply batch, {@code false} to not.
+         * @return builder.
+         */
+        @NonNull
+        public Builder<T> useApplyBatch(boolean useApplyBatch) {
+            this.useApplyBatch = useApplyBatch;
+            return this;
+        }
+
         /**
          * Builds new instance of {@link PreparedPutCollectionOfObjects}.
          *
@@ -183,7 +360,8 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
             return new PreparedPutCollectionOfObjects<T>(
                     storIOContentResolver,
                     objects,
-                    putResolver
+                    putResolver,
+                    useApplyBatch
             );
         }
     }
@@ -7,9 +7,13 @@ import android.support.annotation.WorkerThread;
 
 import com.pushtorefresh.storio.StorIOException;
 import com.pushtorefresh.storio.contentresolver.StorIOContentResolver;
+import com.pushtorefresh.storio.contentresolver.queries.InsertQuery;
 import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import rx.Observable;
@@ -24,18 +28,38 @@ import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJa
  */
 public final class PreparedPutContentValuesIterable extends PreparedPut<PutResults<ContentValues>> {
 
+    /**
+     * Default number of rows sent in one {@link android.content.ContentResolver#bulkInsert(android.net.Uri, ContentValues[])},
+     * keeps Binder transaction far from its size limit for rows of typical size.
+     */
+    static final int DEFAULT_BULK_INSERT_CHUNK_SIZE = 100;
+
     @NonNull
     private final Iterable<ContentValues> contentValues;
 
     @NonNull
     private final PutResolver<ContentValues> putResolver;
 
+    private final boolean useBulkInsert;
+
+    private final int bulkInsertChunkSize;
+
     PreparedPutContentValuesIterable(@NonNull StorIOContentResolver storIOContentResolver,
                                      @NonNull PutResolver<ContentValues> putResolver,
                                      @NonNull Iterable<ContentValues> contentValues) {
+        this(storIOContentResolver, putResolver, contentValues, false, DEFAULT_BULK_INSERT_CHUNK_SIZE);
+    }
+
+    PreparedPutContentValuesIterable(@NonNull StorIOContentResolver storIOContentResolver,
+                                     @NonNull PutResolver<ContentValues> putResolver,
+                                     @NonNull Iterable<ContentValues> contentValues,
+                                     boolean useBulkInsert,
+                                     int bulkInsertChunkSize) {
         super(storIOContentResolver);
         this.contentValues = contentValues;
         this.putResolver = putResolver;
+        this.useBulkInsert = useBulkInsert;
+        this.bulkInsertChunkSize = bulkInsertChunkSize;
     }
 
     /**
@@ -54,9 +78,13 @@ public final class PreparedPutContentValuesIterable extends PreparedPut<PutResul
         try {
             final Map<ContentValues, PutResult> putResultsMap = new HashMap<ContentValues, PutResult>();
 
-            for (final ContentValues cv : contentValues) {
-                final PutResult putResult = putResolver.performPut(storIOContentResolver, cv);
-                putResultsMap.put(cv, putResult);
+            if (useBulkInsert && putResolver instanceof DefaultPutResolver) {
+                performBulkInsert((DefaultPutResolver<ContentValues>) putResolver, putResultsMap);
+            } else {
+                for (final ContentValues cv : contentValues) {
+                    final PutResult putResult = putResolver.performPut(storIOContentResolver, cv);
+                    putResultsMap.put(cv, putResult);
+                }
             }
 
             return PutResults.newInstance(putResultsMap);
@@ -65,6 +93,59 @@ public final class PreparedPutContentValuesIterable extends PreparedPut<PutResul
         }
     }
 
+    /**
+     * Inserts content values without checking whether they are already stored,
+     * content values are grouped by {@link InsertQuery} and each group is sent in chunks
+     * via {@link StorIOContentResolver.Internal#bulkInsert(InsertQuery, ContentValues[])}.
+     * Rows of chunk are reported as inserted only if all of them were inserted.
+     */
+    private void performBulkInsert(@NonNull DefaultPutResolver<ContentValues> defaultPutResolver,
+                                   @NonNull Map<ContentValues, PutResult> putResultsMap) {
+        final Map<InsertQuery, List<ContentValues>> contentValuesToInsert
+                = new LinkedHashMap<InsertQuery, List<ContentValues>>(1); // in most cases it will be 1 query
+
+        for (final ContentValues cv : contentValues) {
+            final InsertQuery insertQuery = defaultPutResolver.mapToInsertQuery(cv);
+
+            List<ContentValues> contentValuesForQuery = contentValuesToInsert.get(insertQuery);
+
+            if (contentValuesForQuery == null) {
+                contentValuesForQuery = new ArrayList<ContentValues>();
+                contentValuesToInsert.put(insertQuery, contentValuesForQuery);
+            }
+
+            contentValuesForQuery.add(cv);
+        }
+
+        final StorIOContentResolver.Internal internal = storIOContentResolver.internal();
+
+        for (final Map.Entry<InsertQuery, List<ContentValues>> entry : contentValuesToInsert.entrySet()) {
+            final InsertQuery insertQuery = entry.getKey();
+            final List<ContentValues> contentValuesForQuery = entry.getValue();
+            final PutResult insertResult = PutResult.newBulkInsertResult(insertQuery.uri());
+            // ContentProvider does not tell which rows were rejected, so none of them is marked as inserted
+            final PutResult notInsertedResult = PutResult.newNotInsertedResult(insertQuery.uri());
+
+            for (int start = 0; start < contentValuesForQuery.size(); start += bulkInsertChunkSize) {
+                final int end = Math.min(start + bulkInsertChunkSize, contentValuesForQuery.size());
+                final ContentValues[] chunk = new ContentValues[end - start];
+
+                for (int i = start; i < end; i++) {
+                    chunk[i - start] = defaultPutResolver.mapToContentValues(contentValuesForQuery.get(i));
+                }
+
+                final int numberOfRowsInserted = internal.bulkInsert(insertQuery, chunk);
+                final PutResult putResult = numberOfRowsInserted == chunk.length
+                        ? insertResult
+                        : notInsertedResult;
+
+                for (int i = start; i < end; i++) {
+                    putResultsMap.put(contentValuesForQuery.get(i), putResult);
+                }
+            }
+        }
+    }
+
     /**
      * Creates {@link Observable} which will perform Put Operation and send result to observer.
      * <p>
@@ -138,12 +219,61 @@ public final class PreparedPutContentValuesIterable extends PreparedPut<PutResul
         @NonNull
         private final PutResolver<ContentValues> putResolver;
 
+        private boolean useBulkInsert;
+
+        private int bulkInsertChunkSize = DEFAULT_BULK_INSERT_CHUNK_SIZE;
+
         CompleteBuilder(@NonNull StorIOContentResolver storIOContentResolver, @NonNull Iterable<ContentValues> contentValues, @NonNull PutResolver<ContentValues> putResolver) {
             this.storIOContentResolver = storIOContentResolver;
             this.contentValues = contentValues;
             this.putResolver = putResolver;
         }
 
+        /**
+         * Optional: Specifies whether content values should be inserted via
+         * {@link android.content.ContentResolver#bulkInsert(android.net.Uri, ContentValues[])}
+         * without checking whether they are already stored.
+         * <p>
+         * Bulk insert performs one Binder transaction per chunk of rows instead of
+         * query and insert or update per row, so use it only for rows that are not stored yet.
+         * It's applied only if {@link PutResolver} is {@link DefaultPutResolver},
+         * {@link PutResult#insertedUri()} will be {@code null} because
+         * {@link android.content.ContentResolver} does not return Uris of bulk inserted rows.
+         * If {@link android.content.ContentProvider} inserts less rows than it received in a chunk,
+         * rows of that chunk will be reported via {@link PutResult#newNotInsertedResult(android.net.Uri)}.
+         * <p>
+         * Default value is {@code false}.
+         *
+         * @param useBulkInsert {@code true} to use bulk insert.
+         * @return builder.
+         * @see #bulkInsertChunkSize(int)
+         */
+        @NonNull
+        public CompleteBuilder useBulkInsert(boolean useBulkInsert) {
+            this.useBulkInsert = useBulkInsert;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies max number of rows sent in one bulk insert, decrease it
+         * if rows are big and bulk insert fails because of Binder transaction size limit.
+         * <p>
+         * Default value is {@code 100}.
+         *
+         * @param bulkInsertChunkSize max number of rows in one bulk insert, should be > 0.
+         * @return builder.
+         * @see #useBulkInsert(boolean)
+         */
+        @NonNull
+        public CompleteBuilder bulkInsertChunkSize(int bulkInsertChunkSize) {
+            if (bulkInsertChunkSize <= 0) {
+                throw new IllegalArgumentException("bulkInsertChunkSize should be > 0, bulkInsertChunkSize = " + bulkInsertChunkSize);
+            }
+
+            this.bulkInsertChunkSize = bulkInsertChunkSize;
+            return this;
+        }
+
         /**
          * Builds instance of {@link PreparedPutContentValuesIterable}.
          *
@@ -154,7 +284,9 @@ public final class PreparedPutContentValuesIterable extends PreparedPut<PutResul
             return new PreparedPutContentValuesIterable(
                     storIOContentResolver,
                     putResolver,
-                    contentValues
+                    contentValues,
+                    useBulkInsert,
+                    bulkInsertChunkSize
             );
         }
     }
@@ -11,6 +11,8 @@ import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
  */
 public final class PutResult {
 
+    private final boolean wasInserted;
+
     @Nullable
     private final Uri insertedUri;
 
@@ -20,13 +22,14 @@ public final class PutResult {
     @NonNull
     private final Uri affectedUri;
 
-    private PutResult(@Nullable Uri insertedUri, @Nullable Integer numberOfRowsUpdated, @NonNull Uri affectedUri) {
+    private PutResult(boolean wasInserted, @Nullable Uri insertedUri, @Nullable Integer numberOfRowsUpdated, @NonNull Uri affectedUri) {
         if (numberOfRowsUpdated != null && numberOfRowsUpdated < 0) {
             throw new IllegalStateException("Number of rows updated must be >= 0");
         }
 
         checkNotNull(affectedUri, "affectedUri must not be null");
 
+        this.wasInserted = wasInserted;
         this.insertedUri = insertedUri;
         this.numberOfRowsUpdated = numberOfRowsUpdated;
         this.affectedUri = affectedUri;
@@ -42,7 +45,35 @@ public final class PutResult {
     @NonNull
     public static PutResult newInsertResult(@NonNull Uri insertedUri, @NonNull Uri affectedUri) {
         checkNotNull(insertedUri, "insertedUri must not be null");
-        return new PutResult(insertedUri, null, affectedUri);
+        return new PutResult(true, insertedUri, null, affectedUri);
+    }
+
+    /**
+     * Creates {@link PutResult} for insert performed via
+     * {@link android.content.ContentResolver#bulkInsert(Uri, android.content.ContentValues[])},
+     * it does not return Uris of inserted rows, so {@link #insertedUri()} will be {@code null}.
+     *
+     * @param affectedUri Uri that was affected by insert.
+     * @return new {@link PutResult} instance.
+     */
+    @NonNull
+    public static PutResult newBulkInsertResult(@NonNull Uri affectedUri) {
+        return new PutResult(true, null, null, affectedUri);
+    }
+
+    /**
+     * Creates {@link PutResult} for object which is not known to be inserted,
+     * for example if {@link android.content.ContentProvider} inserted less rows of bulk insert
+     * than it received and did not tell which rows were rejected.
+     * {@link #wasInserted()} and {@link #wasUpdated()} will be {@code false},
+     * {@link #numberOfRowsUpdated()} will be {@code null}.
+     *
+     * @param affectedUri Uri that was passed to insert.
+     * @return new {@link PutResult} instance.
+     */
+    @NonNull
+    public static PutResult newNotInsertedResult(@NonNull Uri affectedUri) {
+        return new PutResult(false, null, null, affectedUri);
     }
 
     /**
@@ -54,7 +85,7 @@ public final class PutResult {
      */
     @NonNull
     public static PutResult newUpdateResult(int numberOfRowsUpdated, @NonNull Uri affectedUri) {
-        return new PutResult(null, numberOfRowsUpdated, affectedUri);
+        return new PutResult(false, null, numberOfRowsUpdated, affectedUri);
     }
 
     /**
@@ -65,7 +96,7 @@ public final class PutResult {
      * {@code false} otherwise.
      */
     public boolean wasInserted() {
-        return insertedUri != null;
+        return wasInserted;
     }
 
     /**
@@ -109,7 +140,7 @@ public final class PutResult {
     /**
      * Gets id of inserted row.
      *
-     * @return null if nothing was inserted or id of inserted row.
+     * @return null if nothing was inserted or row was inserted via bulk insert, or id of inserted row.
      */
     @Nullable
     public Uri insertedUri() {
@@ -143,6 +174,7 @@ public final class PutResult {
 
         PutResult putResult = (PutResult) o;
 
+        if (wasInserted != putResult.wasInserted) return false;
         if (insertedUri != null ? !insertedUri.equals(putResult.insertedUri) : putResult.insertedUri != null)
             return false;
         if (numberOfRowsUpdated != null ? !numberOfRowsUpdated.equals(putResult.numberOfRowsUpdated) : putResult.numberOfRowsUpdated != null)
@@ -152,7 +184,8 @@ public final class PutResult {
 
     @Override
     public int hashCode() {
-        int result = insertedUri != null ? insertedUri.hashCode() : 0;
+        int result = (wasInserted ? 1 : 0);
+        result = 31 * result + (insertedUri != null ? insertedUri.hashCode() : 0);
         result = 31 * result + (numberOfRowsUpdated != null ? numberOfRowsUpdated.hashCode() : 0);
         result = 31 * result + affectedUri.hashCode();
         return result;
@@ -161,7 +194,8 @@ public final class PutResult {
     @Override
     public String toString() {
         return "PutResult{" +
-                "insertedUri=" + insertedUri +
+                "wasInserted=" + wasInserted +
+                ", insertedUri=" + insertedUri +
                 ", numberOfRowsUpdated=" + numberOfRowsUpdated +
                 ", affectedUri=" + affectedUri +
                 '}';
@@ -0,0 +1,40 @@
+package com.pushtorefresh.storio.contentresolver;
+
+import android.content.ContentValues;
+import android.net.Uri;
+
+import com.pushtorefresh.storio.contentresolver.queries.InsertQuery;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class StorIOContentResolverTest {
+
+    @Test
+    public void defaultBulkInsertShouldCountOnlyInsertedRows() {
+        final StorIOContentResolver.Internal internal = mock(StorIOContentResolver.Internal.class);
+
+        final InsertQuery insertQuery = InsertQuery.builder()
+                .uri(mock(Uri.class))
+                .build();
+
+        final ContentValues insertedContentValues = mock(ContentValues.class);
+        final ContentValues rejectedContentValues = mock(ContentValues.class);
+
+        final ContentValues[] contentValues = {insertedContentValues, rejectedContentValues};
+
+        when(internal.insert(insertQuery, insertedContentValues))
+                .thenReturn(mock(Uri.class));
+
+        when(internal.insert(insertQuery, rejectedContentValues))
+                .thenReturn(null);
+
+        when(internal.bulkInsert(insertQuery, contentValues))
+                .thenCallRealMethod();
+
+        assertThat(internal.bulkInsert(insertQuery, contentValues)).isEqualTo(1);
+    }
+}
@@ -1,14 +1,19 @@
 package com.pushtorefresh.storio.contentresolver.impl;
 
 import android.content.ContentResolver;
+import android.content.ContentValues;
+import android.database.Cursor;
 import android.net.Uri;
 
 import com.pushtorefresh.storio.contentresolver.BuildConfig;
+import com.pushtorefresh.storio.contentresolver.ContentResolverMetricsListener;
 import com.pushtorefresh.storio.contentresolver.ContentResolverTypeMapping;
 import com.pushtorefresh.storio.contentresolver.StorIOContentResolver;
 import com.pushtorefresh.storio.contentresolver.operations.delete.DeleteResolver;
 import com.pushtorefresh.storio.contentresolver.operations.get.GetResolver;
 import com.pushtorefresh.storio.contentresolver.operations.put.PutResolver;
+import com.pushtorefresh.storio.contentresolver.queries.DeleteQuery;
+import com.pushtorefresh.storio.contentresolver.queries.InsertQuery;
 import com.pushtorefresh.storio.contentresolver.queries.Query;
 
 import org.junit.Test;
@@ -16,10 +21,16 @@ import org.junit.runner.RunWith;
 import org.robolectric.RobolectricGradleTestRunner;
 import org.robolectric.annotation.Config;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @RunWith(RobolectricGradleTestRunner.class)
@@ -298,4 +309,89 @@ public class DefaultStorIOContentResolverTest {
 
         assertThat(storIOContentResolver.internal().contentResolver()).isSameAs(contentResolver);
     }
+
+    @Test
+    public void bulkInsertShouldDelegateToContentResolver() {
+        final ContentResolver contentResolver = mock(ContentResolver.class);
+        final Uri uri = mock(Uri.class);
+        final ContentValues[] contentValues = {mock(ContentValues.class), mock(ContentValues.class)};
+
+        when(contentResolver.bulkInsert(uri, contentValues))
+                .thenReturn(2);
+
+        final StorIOContentResolver storIOContentResolver = DefaultStorIOContentResolver.builder()
+                .contentResolver(contentResolver)
+                .build();
+
+        final int numberOfInsertedRows = storIOContentResolver
+                .internal()
+                .bulkInsert(InsertQuery.builder().uri(uri).build(), contentValues);
+
+        assertThat(numberOfInsertedRows).isEqualTo(2);
+        verify(contentResolver).bulkInsert(uri, contentValues);
+    }
+
+    @Test
+    public void changesCoalescingWindowShouldNotBeNegative() {
+        try {
+            DefaultStorIOContentResolver.builder()
+                    .contentResolver(mock(ContentResolver.class))
+                    .changesCoalescingWindow(-1, MILLISECONDS);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (IllegalArgumentException expected) {
+            assertThat(expected).hasMessage("window should be >= 0, window = -1");
+        }
+    }
+
+    @Test
+    public void shouldReportCallsToMetricsListener() {
+        final ContentResolver contentResolver = mock(ContentResolver.class);
+        final ContentResolverMetricsListener metricsListener = mock(ContentResolverMetricsListener.class);
+        final Uri uri = mock(Uri.class);
+        final Cursor cursor = mock(Cursor.class);
+        final ContentValues[] contentValues = {mock(ContentValues.class), mock(ContentValues.class)};
+
+        when(contentResolver.query(uri, null, null, null, null))
+                .thenReturn(cursor);
+
+        when(cursor.getCount())
+                .thenReturn(5);
+
+        when(contentResolver.bulkInsert(uri, contentValues))
+                .thenReturn(2);
+
+        when(contentResolver.delete(uri, null, null))
+                .thenReturn(3);
+
+        final StorIOContentResolver storIOContentResolver = DefaultStorIOContentResolver.builder()
+                .contentResolver(contentResolver)
+                .metricsListener(metricsListener)
+                .build();
+
+        final Query query = Query.builder().uri(uri).build();
+        final InsertQuery insertQuery = InsertQuery.builder().uri(uri).build();
+        final DeleteQuery deleteQuery = DeleteQuery.builder().uri(uri).build();
+
+        assertThat(storIOContentResolver.internal().query(query)).isSameAs(cursor);
+        storIOContentResolver.internal().bulkInsert(insertQuery, contentValues);
+        storIOContentResolver.internal().delete(deleteQuery);
+
+        verify(metricsListener).onQuery(eq(query), eq(5), anyLong());
+        verify(metricsListener).onInsert(eq(insertQuery), eq(2), anyLong());
+        verify(metricsListener).onDelete(eq(deleteQuery), eq(3), anyLong());
+        verifyNoMoreInteractions(metricsListener);
+    }
+
+    @Test
+    public void metricsListenerShouldNotAcceptNull() {
+        try {
+            //noinspection ConstantConditions
+            DefaultStorIOContentResolver.builder()
+                    .contentResolver(mock(ContentResolver.class))
+                    .metricsListener(null);
+            failBecauseExceptionWasNotThrown(NullPointerException.class);
+        } catch (NullPointerException expected) {
+            assertThat(expected).hasMessage("Please specify metrics listener");
+        }
+    }
 }
@@ -13,6 +13,7 @@ import com.pushtorefresh.storio.contentresolver.Changes;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.robolectric.RobolectricGradleTestRunner;
@@ -32,8 +33,10 @@ import static com.pushtorefresh.storio.test.Utils.MAX_SDK_VERSION;
 import static com.pushtorefresh.storio.test.Utils.MIN_SDK_VERSION;
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
+import static java.util.Arrays.asList;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.doAnswer;
@@ -336,4 +339,133 @@ public class RxChangesObserverTest {
             testSubscriber.assertNoErrors();
         }
     }
+
+    @Test
+    public void shouldCoalesceChangesWithinWindowOnSdkVersionGreaterThan15() {
+        ContentResolver contentResolver = mock(ContentResolver.class);
+        final AtomicReference<ContentObserver> contentObserver = new AtomicReference<ContentObserver>();
+
+        doAnswer(new Answer() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                contentObserver.set((ContentObserver) invocation.getArguments()[2]);
+                return null;
+            }
+        }).when(contentResolver).registerContentObserver(any(Uri.class), eq(true), any(ContentObserver.class));
+
+        Handler handler = mock(Handler.class);
+        TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        Uri uri1 = mock(Uri.class);
+        Uri uri2 = mock(Uri.class);
+
+        RxChangesObserver
+                .observeChanges(
+                        contentResolver,
+                        new HashSet<Uri>(asList(uri1, uri2)),
+                        handler,
+                        21,
+                        100)
+                .subscribe(testSubscriber);
+
+        contentObserver.get().onChange(false, uri1);
+        contentObserver.get().onChange(false, uri2);
+        contentObserver.get().onChange(false, uri1);
+
+        // Flush should be scheduled once per window
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(handler).postDelayed(flush.capture(), eq(100L));
+        testSubscriber.assertNoValues();
+
+        flush.getValue().run();
+        testSubscriber.assertValue(Changes.newInstance(new HashSet<Uri>(asList(uri1, uri2))));
+
+        // Next change should start new window
+        contentObserver.get().onChange(false, uri2);
+        verify(handler, times(2)).postDelayed(same(flush.getValue()), eq(100L));
+
+        flush.getValue().run();
+        testSubscriber.assertValues(
+                Changes.newInstance(new HashSet<Uri>(asList(uri1, uri2))),
+                Changes.newInstance(uri2)
+        );
+
+        testSubscriber.unsubscribe();
+        testSubscriber.assertNoErrors();
+    }
+
+    @Test
+    public void shouldCoalesceChangesOfAllUrisOnSdkVersionLowerThan16() {
+        ContentResolver contentResolver = mock(ContentResolver.class);
+        final Map<Uri, ContentObserver> contentObservers = new HashMap<Uri, ContentObserver>(2);
+
+        doAnswer(new Answer() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                contentObservers.put((Uri) invocation.getArguments()[0], (ContentObserver) invocation.getArguments()[2]);
+                return null;
+            }
+        }).when(contentResolver).registerContentObserver(any(Uri.class), eq(true), any(ContentObserver.class));
+
+        Handler handler = mock(Handler.class);
+        TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        Uri uri1 = mock(Uri.class);
+        Uri uri2 = mock(Uri.class);
+
+        RxChangesObserver
+                .observeChanges(
+                        contentResolver,
+                        new HashSet<Uri>(asList(uri1, uri2)),
+                        handler,
+                        15,
+                        0)
+                .subscribe(testSubscriber);
+
+        contentObservers.get(uri1).onChange(false);
+        contentObservers.get(uri2).onChange(false);
+
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(handler).postDelayed(flush.capture(), eq(0L));
+
+        flush.getValue().run();
+        testSubscriber.assertValue(Changes.newInstance(new HashSet<Uri>(asList(uri1, uri2))));
+
+        testSubscriber.unsubscribe();
+        testSubscriber.assertNoErrors();
+    }
+
+    @Test
+    public void shouldRemoveScheduledFlushAfterUnsubscribing() {
+        ContentResolver contentResolver = mock(ContentResolver.class);
+        final AtomicReference<ContentObserver> contentObserver = new AtomicReference<ContentObserver>();
+
+        doAnswer(new Answer() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                contentObserver.set((ContentObserver) invocation.getArguments()[2]);
+                return null;
+            }
+        }).when(contentResolver).registerContentObserver(any(Uri.class), eq(true), any(ContentObserver.class));
+
+        Handler handler = mock(Handler.class);
+        TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+        Uri uri = mock(Uri.class);
+
+        RxChangesObserver
+                .observeChanges(contentResolver, singleton(uri), handler, 21, 100)
+                .subscribe(testSubscriber);
+
+        contentObserver.get().onChange(false, uri);
+
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(handler).postDelayed(flush.capture(), anyLong());
+
+        testSubscriber.unsubscribe();
+        verify(handler).removeCallbacks(flush.getValue());
+
+        // Even if flush was already dequeued, it should not emit after unsubscribe
+        flush.getValue().run();
+        testSubscriber.assertNoValues();
+    }
 }
@@ -1,14 +1,27 @@
 package com.pushtorefresh.storio.contentresolver.operations.delete;
 
+import android.content.ContentProviderResult;
+import android.net.Uri;
+import android.support.annotation.NonNull;
+
 import com.pushtorefresh.storio.StorIOException;
+import com.pushtorefresh.storio.contentresolver.BuildConfig;
+import com.pushtorefresh.storio.contentresolver.ContentResolverTypeMapping;
 import com.pushtorefresh.storio.contentresolver.StorIOContentResolver;
 import com.pushtorefresh.storio.contentresolver.queries.DeleteQuery;
 
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import rx.Observable;
 import rx.observers.TestSubscriber;
@@ -17,6 +30,8 @@ import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -152,4 +167,161 @@ public class PreparedDeleteCollectionOfObjectsTest {
             verifyNoMoreInteractions(storIOContentResolver, internal);
         }
     }
+
+    @RunWith(RobolectricGradleTestRunner.class) // Required for ContentProviderOperation and Uri
+    @Config(constants = BuildConfig.class, sdk = 21)
+    public static class WithApplyBatch {
+
+        @SuppressWarnings("unchecked")
+        @Test
+        public void shouldDeleteConsecutiveObjectsOfSameAuthorityInOneBatch() throws Exception {
+            final StorIOContentResolver storIOContentResolver = mock(StorIOContentResolver.class);
+            final StorIOContentResolver.Internal internal = mock(StorIOContentResolver.Internal.class);
+
+            when(storIOContentResolver.internal())
+                    .thenReturn(internal);
+
+            final Uri uri1 = Uri.parse("content://authority1/items");
+            final Uri uri2 = Uri.parse("content://authority2/items");
+
+            final TestItem item1 = TestItem.newInstance();
+            final TestItem item2 = TestItem.newInstance();
+            final TestItem item3 = TestItem.newInstance();
+
+            final Map<TestItem, Uri> uris = new HashMap<TestItem, Uri>();
+            uris.put(item1, uri1);
+            uris.put(item2, uri2);
+            uris.put(item3, uri1);
+
+            when(internal.applyBatch(eq("authority1"), any(ArrayList.class)))
+                    .thenReturn(new ContentProviderResult[]{new ContentProviderResult(1), new ContentProviderResult(0)});
+
+            when(internal.applyBatch(eq("authority2"), any(ArrayList.class)))
+                    .thenReturn(new ContentProviderResult[]{new ContentProviderResult(1)});
+
+            final DeleteResults<TestItem> deleteResults = new PreparedDeleteCollectionOfObjects.Builder<TestItem>(storIOContentResolver, asList(item1, item3, item2))
+                    .withDeleteResolver(newDefaultDeleteResolver(uris))
+                    .useApplyBatch(true)
+                    .prepare()
+                    .executeAsBlocking();
+
+            verify(internal).applyBatch(eq("authority1"), any(ArrayList.class));
+            verify(internal).applyBatch(eq("authority2"), any(ArrayList.class));
+            verify(internal, never()).delete(any(DeleteQuery.class));
+
+            assertThat(deleteResults.results().get(item1)).isEqualTo(DeleteResult.newInstance(1, uri1));
+            assertThat(deleteResults.results().get(item2)).isEqualTo(DeleteResult.newInstance(1, uri2));
+            assertThat(deleteResults.results().get(item3)).isEqualTo(DeleteResult.newInstance(0, uri1));
+        }
+
+        @SuppressWarnings("unchecked")
+        @Test
+        public void shouldDeleteObjectsInTheirOrder() throws Exception {
+            final StorIOContentResolver storIOContentResolver = mock(StorIOContentResolver.class);
+            final StorIOContentResolver.Internal internal = mock(StorIOContentResolver.Internal.class);
+
+            when(storIOContentResolver.internal())
+                    .thenReturn(internal);
+
+            final Uri uri1 = Uri.parse("content://authority1/items");
+            final Uri uri2 = Uri.parse("content://authority2/items");
+
+            final TestItem item1 = TestItem.newInstance();
+            final TestItem item2 = TestItem.newInstance();
+            final TestItem item3 = TestItem.newInstance();
+
+            final Map<TestItem, Uri> uris = new HashMap<TestItem, Uri>();
+            uris.put(item1, uri1);
+            uris.put(item2, uri2);
+            uris.put(item3, uri1);
+
+            when(internal.applyBatch(eq("authority1"), any(ArrayList.class)))
+                    .thenReturn(new ContentProviderResult[]{new ContentProviderResult(1)});
+
+            when(internal.applyBatch(eq("authority2"), any(ArrayList.class)))
+                    .thenReturn(new ContentProviderResult[]{new ContentProviderResult(1)});
+
+            new PreparedDeleteCollectionOfObjects.Builder<TestItem>(storIOContentResolver, asList(item1, item2, item3))
+                    .withDeleteResolver(newDefaultDeleteResolver(uris))
+                    .useApplyBatch(true)
+                    .prepare()
+                    .executeAsBlocking();
+
+            final InOrder inOrder = inOrder(internal);
+
+            inOrder.verify(internal).applyBatch(eq("authority1"), any(ArrayList.class));
+            inOrder.verify(internal).applyBatch(eq("authority2"), any(ArrayList.class));
+            inOrder.verify(internal).applyBatch(eq("authority1"), any(ArrayList.class));
+        }
+
+        @SuppressWarnings("unchecked")
+        @Test
+        public void shouldDeleteObjectsInTheirOrderIfSomeOfThemAreNotBatched() throws Exception {
+            final StorIOContentResolver storIOContentResolver = mock(StorIOContentResolver.class);
+            final StorIOContentResolver.Internal internal = mock(StorIOContentResolver.Internal.class);
+
+            when(storIOContentResolver.internal())
+                    .thenReturn(internal);
+
+            final Uri uri = Uri.parse("content://authority/items");
+
+            when(internal.applyBatch(eq("authority"), any(ArrayList.class)))
+                    .thenReturn(new ContentProviderResult[]{new ContentProviderResult(1)});
+
+            final ContentResolverTypeMapping<TestItem> itemTypeMapping = mock(ContentResolverTypeMapping.class);
+            final ContentResolverTypeMapping<String> stringTypeMapping = mock(ContentResolverTypeMapping.class);
+            final DeleteResolver<String> stringDeleteResolver = mock(DeleteResolver.class);
+            final DeleteResult stringDeleteResult = DeleteResult.newInstance(1, uri);
+
+            final TestItem item1 = TestItem.newInstance();
+            final TestItem item2 = TestItem.newInstance();
+
+            final Map<TestItem, Uri> uris = new HashMap<TestItem, Uri>();
+            uris.put(item1, uri);
+            uris.put(item2, uri);
+
+            when(internal.typeMapping(TestItem.class))
+                    .thenReturn(itemTypeMapping);
+
+            when(internal.typeMapping(String.class))
+                    .thenReturn(stringTypeMapping);
+
+            when(itemTypeMapping.deleteResolver())
+                    .thenReturn(newDefaultDeleteResolver(uris));
+
+            when(stringTypeMapping.deleteResolver())
+                    .thenReturn(stringDeleteResolver);
+
+            when(stringDeleteResolver.performDelete(storIOContentResolver, "string"))
+                    .thenReturn(stringDeleteResult);
+
+            final DeleteResults<Object> deleteResults = new PreparedDeleteCollectionOfObjects.Builder<Object>(storIOContentResolver, Arrays.<Object>asList(item1, "string", item2))
+                    .useApplyBatch(true)
+                    .prepare()
+                    .executeAsBlocking();
+
+            final InOrder inOrder = inOrder(internal, stringDeleteResolver);
+
+            inOrder.verify(internal).applyBatch(eq("authority"), any(ArrayList.class));
+            inOrder.verify(stringDeleteResolver).performDelete(storIOContentResolver, "string");
+            inOrder.verify(internal).applyBatch(eq("authority"), any(ArrayList.class));
+
+            assertThat(deleteResults.results().get(item1)).isEqualTo(DeleteResult.newInstance(1, uri));
+            assertThat(deleteResults.results().get("string")).isSameAs(stringDeleteResult);
+            assertThat(deleteResults.results().get(item2)).isEqualTo(DeleteResult.newInstance(1, uri));
+        }
+
+        @NonNull
+        private static DefaultDeleteResolver<TestItem> newDefaultDeleteResolver(@NonNull final Map<TestItem, Uri> uris) {
+            return new DefaultDeleteResolver<TestItem>() {
+                @NonNull
+                @Override
+                protected DeleteQuery mapToDeleteQuery(@NonNull TestItem object) {
+                    return DeleteQuery.builder()
+                            .uri(uris.get(object))
+                            .build();
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,86 @@
+package com.pushtorefresh.storio.contentresolver.operations.get;
+
+import android.database.Cursor;
+import android.net.Uri;
+
+import com.pushtorefresh.storio.StorIOException;
+import com.pushtorefresh.storio.contentresolver.StorIOContentResolver;
+import com.pushtorefresh.storio.contentresolver.queries.Query;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Fail.failBecauseExceptionWasNotThrown;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PreparedGetExistsTest {
+
+    @Test
+    public void shouldCheckExistenceBlocking() {
+        final StorIOContentResolver storIOContentResolver = mock(StorIOContentResolver.class);
+        final Query query = Query.builder().uri(mock(Uri.class)).build();
+        final Cursor cursor = mock(Cursor.class);
+
+        //noinspection unchecked
+        final GetResolver<Boolean> getResolver = mock(GetResolver.class);
+
+        when(getResolver.performGet(storIOContentResolver, query)).thenReturn(cursor);
+        when(getResolver.mapFromCursor(cursor)).thenReturn(true);
+
+        final Boolean exists = new PreparedGetExists.Builder(storIOContentResolver)
+                .withQuery(query)
+                .withGetResolver(getResolver)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(exists).isTrue();
+        verify(getResolver).performGet(storIOContentResolver, query);
+        verify(cursor).close();
+    }
+
+    @Test
+    public void shouldWrapExceptionIntoStorIOExceptionForBlocking() {
+        final StorIOContentResolver storIOContentResolver = mock(StorIOContentResolver.class);
+
+        //noinspection unchecked
+        final GetResolver<Boolean> getResolver = mock(GetResolver.class);
+
+        when(getResolver.performGet(eq(storIOContentResolver), any(Query.class)))
+                .thenThrow(new IllegalStateException("test exception"));
+
+        try {
+            new PreparedGetExists.Builder(storIOContentResolver)
+                    .withQuery(Query.builder().uri(mock(Uri.class)).build())
+                    .withGetResolver(getResolver)
+                    .prepare()
+                    .executeAsBlocking();
+
+            failBecauseExceptionWasNotThrown(StorIOException.class);
+        } catch (StorIOException expected) {
+            IllegalStateException cause = (IllegalStateException) expected.getCause();
+            assertThat(cause).hasMessage("test exception");
+        }
+    }
+
+    @Test
+    public void standardGetResolverShouldReturnTrueIfCursorHasRows() {
+        final Cursor cursor = mock(Cursor.class);
+
+        when(cursor.moveToFirst()).thenReturn(true);
+
+        assertThat(PreparedGetExists.CompleteBuilder.STANDARD_GET_RESOLVER.mapFromCursor(cursor)).isTrue();
+    }
+
+    @Test
+    public void standardGetResolverShouldReturnFalseIfCursorIsEmpty() {
+        final Cursor cursor = mock(Cursor.class);
+
+        when(cursor.moveToFirst()).thenReturn(false);
+
+        assertThat(PreparedGetExists.CompleteBuilder.STANDARD_GET_RESOLVER.mapFromCursor(cursor)).isFalse();
+    }
+}
@@ -1,27 +1,45 @@
 package com.pushtorefresh.storio.contentresolver.operations.put;
 
+import android.content.ContentProviderResult;
 import android.content.ContentValues;
+import android.database.Cursor;
+import android.net.Uri;
+import android.support.annotation.NonNull;
 
 import com.pushtorefresh.storio.StorIOException;
+import com.pushtorefresh.storio.contentresolver.BuildConfig;
+import com.pushtorefresh.storio.contentresolver.ContentResolverTypeMapping;
 import com.pushtorefresh.storio.contentresolver.StorIOContentResolver;
 import com.pushtorefresh.storio.contentresolver.queries.InsertQuery;
+import com.pushtorefresh.storio.contentresolver.queries.Query;
 import com.pushtorefresh.storio.contentresolver.queries.UpdateQuery;
 
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import rx.Observable;
 import rx.observers.TestSubscriber;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -157,4 +175,223 @@ public class PreparedPutCollectionOfObjectsTest {
             verifyNoMoreInteractions(storIOContentResolver, internal);
         }
     }
+
+    @RunWith(RobolectricGradleTestRunner.class) // Required for ContentProviderOperation and Uri
+    @Config(constants = BuildConfig.class, sdk = 21)
+    public static class WithApplyBatch {
+
+        @SuppressWarnings("unchecked")
+        @Test
+        public void shouldPutObjectsInOneBatch() throws Exception {
+            final StorIOContentResolver storIOContentResolver = mock(StorIOContentResolver.class);
+            final StorIOContentResolver.Internal internal = mock(StorIOContentResolver.Internal.class);
+            final Cursor cursor = mock(Cursor.class);
+
+            when(storIOContentResolver.internal())
+                    .thenReturn(internal);
+
+            when(internal.query(any(Query.class)))
+                    .thenReturn(cursor);
+
+            when(cursor.getCount())
+                    .thenReturn(0, 1); // first object is not stored yet, second is stored
+
+            final Uri uri = Uri.parse("content://authority/items");
+            final Uri insertedUri = Uri.parse("content://authority/items/1");
+
+            when(internal.applyBatch(eq("authority"), any(ArrayList.class)))
+                    .thenReturn(new ContentProviderResult[]{new ContentProviderResult(insertedUri), new ContentProviderResult(1)});
+
+            final TestItem itemToInsert = TestItem.newInstance();
+            final TestItem itemToUpdate = TestItem.newInstance();
+
+            final Map<TestItem, String> ids = new HashMap<TestItem, String>();
+            ids.put(itemToInsert, "1");
+            ids.put(itemToUpdate, "2");
+
+            final PutResults<TestItem> putResults = new PreparedPutCollectionOfObjects.Builder<TestItem>(storIOContentResolver, asList(itemToInsert, itemToUpdate))
+                    .withPutResolver(newDefaultPutResolver(uri, ids))
+                    .useApplyBatch(true)
+                    .prepare()
+                    .executeAsBlocking();
+
+            verify(internal).applyBatch(eq("authority"), any(ArrayList.class));
+            verify(internal, never()).insert(any(InsertQuery.class), any(ContentValues.class));
+            verify(internal, never()).update(any(UpdateQuery.class), any(ContentValues.class));
+            verify(cursor, times(2)).close();
+
+            assertThat(putResults.results().get(itemToInsert)).isEqualTo(PutResult.newInsertResult(insertedUri, uri));
+            assertThat(putResults.results().get(itemToUpdate)).isEqualTo(PutResult.newUpdateResult(1, uri));
+        }
+
+        @SuppressWarnings("unchecked")
+        @Test
+        public void shouldPutObjectsInTheirOrderIfSomeOfThemAreNotBatched() throws Exception {
+            final StorIOContentResolver storIOContentResolver = mock(StorIOContentResolver.class);
+            final StorIOContentResolver.Internal internal = mock(StorIOContentResolver.Internal.class);
+            final Cursor cursor = mock(Cursor.class);
+
+            when(storIOContentResolver.internal())
+                    .thenReturn(internal);
+
+            when(internal.query(any(Query.class)))
+                    .thenReturn(cursor);
+
+            final Uri uri = Uri.parse("content://authority/items");
+            final Uri insertedUri = Uri.parse("content://authority/items/1");
+
+            when(internal.applyBatch(eq("authority"), any(ArrayList.class)))
+                    .thenReturn(new ContentProviderResult[]{new ContentProviderResult(insertedUri)});
+
+            final TestItem item1 = TestItem.newInstance();
+            final TestItem item2 = TestItem.newInstance();
+
+            final Map<TestItem, String> ids = new HashMap<TestItem, String>();
+            ids.put(item1, "1");
+            ids.put(item2, "2");
+
+            final ContentResolverTypeMapping<TestItem> itemTypeMapping = mock(ContentResolverTypeMapping.class);
+            final ContentResolverTypeMapping<String> stringTypeMapping = mock(ContentResolverTypeMapping.class);
+            final PutResolver<String> stringPutResolver = mock(PutResolver.class);
+            final PutResult stringPutResult = PutResult.newUpdateResult(1, uri);
+
+            when(internal.typeMapping(TestItem.class))
+                    .thenReturn(itemTypeMapping);
+
+            when(internal.typeMapping(String.class))
+                    .thenReturn(stringTypeMapping);
+
+            when(itemTypeMapping.putResolver())
+                    .thenReturn(newDefaultPutResolver(uri, ids));
+
+            when(stringTypeMapping.putResolver())
+                    .thenReturn(stringPutResolver);
+
+            when(stringPutResolver.performPut(storIOContentResolver, "string"))
+                    .thenReturn(stringPutResult);
+
+            final PutResults<Object> putResults = new PreparedPutCollectionOfObjects.Builder<Object>(storIOContentResolver, Arrays.<Object>asList(item1, "string", item2))
+                    .useApplyBatch(true)
+                    .prepare()
+                    .executeAsBlocking();
+
+            final InOrder inOrder = inOrder(internal, stringPutResolver);
+
+            inOrder.verify(internal).applyBatch(eq("authority"), any(ArrayList.class));
+            inOrder.verify(stringPutResolver).performPut(storIOContentResolver, "string");
+            inOrder.verify(internal).applyBatch(eq("authority"), any(ArrayList.class));
+
+            assertThat(putResults.results().get(item1)).isEqualTo(PutResult.newInsertResult(insertedUri, uri));
+            assertThat(putResults.results().get("string")).isSameAs(stringPutResult);
+            assertThat(putResults.results().get(item2)).isEqualTo(PutResult.newInsertResult(insertedUri, uri));
+        }
+
+        @SuppressWarnings("unchecked")
+        @Test
+        public void shouldNotReportObjectAsInsertedIfContentProviderReturnedNullUri() throws Exception {
+            final StorIOContentResolver storIOContentResolver = mock(StorIOContentResolver.class);
+            final StorIOContentResolver.Internal internal = mock(StorIOContentResolver.Internal.class);
+            final Cursor cursor = mock(Cursor.class);
+
+            when(storIOContentResolver.internal())
+                    .thenReturn(internal);
+
+            when(internal.query(any(Query.class)))
+                    .thenReturn(cursor);
+
+            final Uri uri = Uri.parse("content://authority/items");
+
+            // Mock has null uri and count, like result of rejected insert
+            when(internal.applyBatch(eq("authority"), any(ArrayList.class)))
+                    .thenReturn(new ContentProviderResult[]{mock(ContentProviderResult.class)});
+
+            final TestItem item = TestItem.newInstance();
+
+            final PutResults<TestItem> putResults = new PreparedPutCollectionOfObjects.Builder<TestItem>(storIOContentResolver, asList(item))
+                    .withPutResolver(newDefaultPutResolver(uri, singletonMap(item, "1")))
+                    .useApplyBatch(true)
+                    .prepare()
+                    .executeAsBlocking();
+
+            assertThat(putResults.numberOfInserts()).isEqualTo(0);
+            assertThat(putResults.results().get(item)).isEqualTo(PutResult.newNotInsertedResult(uri));
+        }
+
+        @SuppressWarnings("unchecked")
+        @Test
+        public void shouldApplyPendingBatchBeforeQueryOfObjectWithSameUpdateQuery() throws Exception {
+            final StorIOContentResolver storIOContentResolver = mock(StorIOContentResolver.class);
+            final StorIOContentResolver.Internal internal = mock(StorIOContentResolver.Internal.class);
+            final Cursor cursor = mock(Cursor.class);
+
+            when(storIOContentResolver.internal())
+                    .thenReturn(internal);
+
+            when(internal.query(any(Query.class)))
+                    .thenReturn(cursor);
+
+            when(cursor.getCount())
+                    .thenReturn(0, 1); // second object is stored by the first batch
+
+            final Uri uri = Uri.parse("content://authority/items");
+            final Uri insertedUri = Uri.parse("content://authority/items/1");
+
+            when(internal.applyBatch(eq("authority"), any(ArrayList.class)))
+                    .thenReturn(new ContentProviderResult[]{new ContentProviderResult(insertedUri)})
+                    .thenReturn(new ContentProviderResult[]{new ContentProviderResult(1)});
+
+            final TestItem item1 = TestItem.newInstance();
+            final TestItem item2 = TestItem.newInstance();
+
+            // Both objects are stored in the same row
+            final Map<TestItem, String> ids = new HashMap<TestItem, String>();
+            ids.put(item1, "1");
+            ids.put(item2, "1");
+
+            final PutResults<TestItem> putResults = new PreparedPutCollectionOfObjects.Builder<TestItem>(storIOContentResolver, asList(item1, item2))
+                    .withPutResolver(newDefaultPutResolver(uri, ids))
+                    .useApplyBatch(true)
+                    .prepare()
+                    .executeAsBlocking();
+
+            final InOrder inOrder = inOrder(internal);
+
+            inOrder.verify(internal).query(any(Query.class));
+            inOrder.verify(internal).applyBatch(eq("authority"), any(ArrayList.class));
+            inOrder.verify(internal).query(any(Query.class));
+            inOrder.verify(internal).applyBatch(eq("authority"), any(ArrayList.class));
+
+            assertThat(putResults.results().get(item1)).isEqualTo(PutResult.newInsertResult(insertedUri, uri));
+            assertThat(putResults.results().get(item2)).isEqualTo(PutResult.newUpdateResult(1, uri));
+        }
+
+        @NonNull
+        private static DefaultPutResolver<TestItem> newDefaultPutResolver(@NonNull final Uri uri, @NonNull final Map<TestItem, String> ids) {
+            return new DefaultPutResolver<TestItem>() {
+                @NonNull
+                @Override
+                protected InsertQuery mapToInsertQuery(@NonNull TestItem object) {
+                    return InsertQuery.builder()
+                            .uri(uri)
+                            .build();
+                }
+
+                @NonNull
+                @Override
+                protected UpdateQuery mapToUpdateQuery(@NonNull TestItem object) {
+                    return UpdateQuery.builder()
+                            .uri(uri)
+                            .where("_id = ?")
+                            .whereArgs(ids.get(object))
+                            .build();
+                }
+
+                @NonNull
+                @Override
+                protected ContentValues mapToContentValues(@NonNull TestItem object) {
+                    return new ContentValues();
+                }
+            };
+        }
+    }
 }
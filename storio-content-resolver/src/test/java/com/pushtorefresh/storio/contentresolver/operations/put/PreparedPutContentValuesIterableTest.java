@@ -1,11 +1,30 @@
 package com.pushtorefresh.storio.contentresolver.operations.put;
 
 import android.content.ContentValues;
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio.contentresolver.StorIOContentResolver;
+import com.pushtorefresh.storio.contentresolver.queries.InsertQuery;
+import com.pushtorefresh.storio.contentresolver.queries.UpdateQuery;
 
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import rx.Observable;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 public class PreparedPutContentValuesIterableTest {
 
     @Test
@@ -35,4 +54,146 @@ public class PreparedPutContentValuesIterableTest {
 
         putStub.verifyBehaviorForMultipleContentValues(putResultsObservable);
     }
+
+    @Test
+    public void bulkInsertShouldSendContentValuesInChunks() {
+        final StorIOContentResolver storIOContentResolver = mock(StorIOContentResolver.class);
+        final StorIOContentResolver.Internal internal = mock(StorIOContentResolver.Internal.class);
+
+        when(storIOContentResolver.internal())
+                .thenReturn(internal);
+
+        final InsertQuery insertQuery = InsertQuery.builder()
+                .uri(TestItem.CONTENT_URI)
+                .build();
+
+        when(internal.bulkInsert(eq(insertQuery), any(ContentValues[].class)))
+                .thenAnswer(new Answer<Integer>() {
+                    @Override
+                    public Integer answer(InvocationOnMock invocation) throws Throwable {
+                        return ((ContentValues[]) invocation.getArguments()[1]).length;
+                    }
+                });
+
+        final List<ContentValues> contentValues = newContentValues(5);
+
+        final PutResults<ContentValues> putResults = bulkInsert(storIOContentResolver, insertQuery, contentValues);
+
+        verify(internal, times(3)).bulkInsert(eq(insertQuery), any(ContentValues[].class));
+        verify(internal).bulkInsert(insertQuery, new ContentValues[]{contentValues.get(0), contentValues.get(1)});
+        verify(internal).bulkInsert(insertQuery, new ContentValues[]{contentValues.get(2), contentValues.get(3)});
+        verify(internal).bulkInsert(insertQuery, new ContentValues[]{contentValues.get(4)});
+
+        assertThat(putResults.numberOfInserts()).isEqualTo(5);
+
+        for (final ContentValues cv : contentValues) {
+            //noinspection ConstantConditions
+            assertThat(putResults.results().get(cv).insertedUri()).isNull();
+            //noinspection ConstantConditions
+            assertThat(putResults.results().get(cv).affectedUri()).isSameAs(TestItem.CONTENT_URI);
+        }
+    }
+
+    @Test
+    public void bulkInsertShouldNotReportRowsOfChunkAsInsertedIfProviderInsertedLessRows() {
+        final StorIOContentResolver storIOContentResolver = mock(StorIOContentResolver.class);
+        final StorIOContentResolver.Internal internal = mock(StorIOContentResolver.Internal.class);
+
+        when(storIOContentResolver.internal())
+                .thenReturn(internal);
+
+        final InsertQuery insertQuery = InsertQuery.builder()
+                .uri(TestItem.CONTENT_URI)
+                .build();
+
+        final List<ContentValues> contentValues = newContentValues(3);
+
+        when(internal.bulkInsert(insertQuery, new ContentValues[]{contentValues.get(0), contentValues.get(1)}))
+                .thenReturn(1);
+
+        when(internal.bulkInsert(insertQuery, new ContentValues[]{contentValues.get(2)}))
+                .thenReturn(1);
+
+        final PutResults<ContentValues> putResults = bulkInsert(storIOContentResolver, insertQuery, contentValues);
+
+        assertThat(putResults.numberOfInserts()).isEqualTo(1);
+        assertThat(putResults.numberOfUpdates()).isEqualTo(0);
+
+        assertThat(putResults.results().get(contentValues.get(0))).isEqualTo(PutResult.newNotInsertedResult(TestItem.CONTENT_URI));
+        assertThat(putResults.results().get(contentValues.get(1))).isEqualTo(PutResult.newNotInsertedResult(TestItem.CONTENT_URI));
+        assertThat(putResults.results().get(contentValues.get(2))).isEqualTo(PutResult.newBulkInsertResult(TestItem.CONTENT_URI));
+    }
+
+    @Test
+    public void bulkInsertShouldPutAsUsualIfPutResolverIsNotDefault() {
+        final PutContentValuesStub putStub = PutContentValuesStub.newPutStubForMultipleContentValues();
+
+        final PutResults<ContentValues> putResults = putStub.storIOContentResolver
+                .put()
+                .contentValues(putStub.contentValues)
+                .withPutResolver(putStub.putResolver)
+                .useBulkInsert(true)
+                .prepare()
+                .executeAsBlocking();
+
+        putStub.verifyBehaviorForMultipleContentValues(putResults);
+    }
+
+    @Test
+    public void bulkInsertChunkSizeShouldBePositive() {
+        final PutContentValuesStub putStub = PutContentValuesStub.newPutStubForMultipleContentValues();
+
+        try {
+            putStub.storIOContentResolver
+                    .put()
+                    .contentValues(putStub.contentValues)
+                    .withPutResolver(putStub.putResolver)
+                    .bulkInsertChunkSize(0);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (IllegalArgumentException expected) {
+            assertThat(expected).hasMessage("bulkInsertChunkSize should be > 0, bulkInsertChunkSize = 0");
+        }
+    }
+
+    @NonNull
+    private static List<ContentValues> newContentValues(int count) {
+        final List<ContentValues> contentValues = new ArrayList<ContentValues>(count);
+
+        for (int i = 0; i < count; i++) {
+            contentValues.add(mock(ContentValues.class));
+        }
+
+        return contentValues;
+    }
+
+    @NonNull
+    private static PutResults<ContentValues> bulkInsert(@NonNull StorIOContentResolver storIOContentResolver,
+                                                        @NonNull final InsertQuery insertQuery,
+                                                        @NonNull List<ContentValues> contentValues) {
+        return new PreparedPut.Builder(storIOContentResolver)
+                .contentValues(contentValues)
+                .withPutResolver(new DefaultPutResolver<ContentValues>() {
+                    @NonNull
+                    @Override
+                    protected InsertQuery mapToInsertQuery(@NonNull ContentValues object) {
+                        return insertQuery;
+                    }
+
+                    @NonNull
+                    @Override
+                    protected UpdateQuery mapToUpdateQuery(@NonNull ContentValues object) {
+                        throw new AssertionError("Bulk insert should not map content values to UpdateQuery");
+                    }
+
+                    @NonNull
+                    @Override
+                    protected ContentValues mapToContentValues(@NonNull ContentValues object) {
+                        return object;
+                    }
+                })
+                .useBulkInsert(true)
+                .bulkInsertChunkSize(2)
+                .prepare()
+                .executeAsBlocking();
+    }
 }
@@ -61,6 +61,42 @@ public class PutResultTest {
         }
     }
 
+    @Test
+    public void createBulkInsertResult() {
+        final Uri affectedUri = mock(Uri.class);
+
+        final PutResult insertResult = PutResult.newBulkInsertResult(affectedUri);
+
+        assertThat(insertResult.wasInserted()).isTrue();
+        assertThat(insertResult.wasUpdated()).isFalse();
+
+        assertThat(insertResult.wasNotInserted()).isFalse();
+        assertThat(insertResult.wasNotUpdated()).isTrue();
+
+        assertThat(insertResult.insertedUri()).isNull();
+        assertThat(insertResult.affectedUri()).isSameAs(affectedUri);
+
+        assertThat(insertResult.numberOfRowsUpdated()).isNull();
+    }
+
+    @Test
+    public void createNotInsertedResult() {
+        final Uri affectedUri = mock(Uri.class);
+
+        final PutResult notInsertedResult = PutResult.newNotInsertedResult(affectedUri);
+
+        assertThat(notInsertedResult.wasInserted()).isFalse();
+        assertThat(notInsertedResult.wasUpdated()).isFalse();
+
+        assertThat(notInsertedResult.wasNotInserted()).isTrue();
+        assertThat(notInsertedResult.wasNotUpdated()).isTrue();
+
+        assertThat(notInsertedResult.insertedUri()).isNull();
+        assertThat(notInsertedResult.affectedUri()).isSameAs(affectedUri);
+
+        assertThat(notInsertedResult.numberOfRowsUpdated()).isNull();
+    }
+
     @Test
     public void createUpdateResult() {
         final int numberOfRowsUpdated = 10;
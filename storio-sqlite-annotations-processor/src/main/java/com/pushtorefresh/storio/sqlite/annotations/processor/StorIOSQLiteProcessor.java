@@ -120,20 +120,34 @@ public class StorIOSQLiteProcessor extends StorIOAnnotationsProcessor<StorIOSQLi
     @NotNull
     @Override
     protected StorIOSQLiteColumnMeta processAnnotatedField(@NotNull final Element annotatedField) {
+        final StorIOSQLiteColumn storIOSQLiteColumn = annotatedField.getAnnotation(StorIOSQLiteColumn.class);
+
         final JavaType javaType;
 
-        try {
-            javaType = JavaType.from(annotatedField.asType());
-        } catch (Exception e) {
-            throw new ProcessingException(annotatedField, "Unsupported type of field for "
-                    + StorIOSQLiteColumn.class.getSimpleName()
-                    + " annotation, if you need to serialize/deserialize field of that type "
-                    + "-> please write your own resolver: "
-                    + e.getMessage()
-            );
-        }
+        if (storIOSQLiteColumn.lazy()) {
+            if (!GetResolverGenerator.LAZY_BLOB_CLASS_NAME.toString().equals(annotatedField.asType().toString())) {
+                throw new ProcessingException(annotatedField, "Field of lazy column should have type "
+                        + GetResolverGenerator.LAZY_BLOB_CLASS_NAME
+                );
+            }
 
-        final StorIOSQLiteColumn storIOSQLiteColumn = annotatedField.getAnnotation(StorIOSQLiteColumn.class);
+            if (storIOSQLiteColumn.key()) {
+                throw new ProcessingException(annotatedField, "Key column can not be lazy");
+            }
+
+            javaType = JavaType.LAZY_BLOB;
+        } else {
+            try {
+                javaType = JavaType.from(annotatedField.asType());
+            } catch (Exception e) {
+                throw new ProcessingException(annotatedField, "Unsupported type of field for "
+                        + StorIOSQLiteColumn.class.getSimpleName()
+                        + " annotation, if you need to serialize/deserialize field of that type "
+                        + "-> please write your own resolver: "
+                        + e.getMessage()
+                );
+            }
+        }
 
         final String columnName = storIOSQLiteColumn.name();
 
@@ -163,22 +177,33 @@ public class StorIOSQLiteProcessor extends StorIOAnnotationsProcessor<StorIOSQLi
                                 + " annotation");
             }
 
-            boolean hasAtLeastOneKeyColumn = false;
+            int numberOfKeyColumns = 0;
+            boolean hasLazyColumns = false;
 
             for (final StorIOSQLiteColumnMeta columnMeta : annotatedClass.getValue().columns.values()) {
                 if (columnMeta.storIOColumn.key()) {
-                    hasAtLeastOneKeyColumn = true;
-                    break;
+                    numberOfKeyColumns++;
+                }
+
+                if (columnMeta.storIOColumn.lazy()) {
+                    hasLazyColumns = true;
                 }
             }
 
-            if (!hasAtLeastOneKeyColumn) {
+            if (numberOfKeyColumns == 0) {
                 throw new ProcessingException(annotatedClass.getKey(),
                         "Class marked with "
                                 + StorIOSQLiteType.class.getSimpleName()
                                 + " annotation should have at least one KEY field marked with "
                                 + StorIOSQLiteColumn.class.getSimpleName() + " annotation");
             }
+
+            if (hasLazyColumns && numberOfKeyColumns > 1) {
+                throw new ProcessingException(annotatedClass.getKey(),
+                        "Class marked with "
+                                + StorIOSQLiteType.class.getSimpleName()
+                                + " annotation should have exactly one KEY field if it has lazy columns");
+            }
         }
     }
 
@@ -6,6 +6,7 @@ import com.pushtorefresh.storio.common.annotations.processor.introspection.JavaT
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteColumnMeta;
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteTypeMeta;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
@@ -13,8 +14,14 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import static com.pushtorefresh.storio.common.annotations.processor.generate.Common.ANDROID_NON_NULL_ANNOTATION_CLASS_NAME;
+import static com.pushtorefresh.storio.common.annotations.processor.generate.Common.COLUMN_INDICES_CLASS_NAME;
 import static com.pushtorefresh.storio.common.annotations.processor.generate.Common.INDENT;
 import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.BOOLEAN;
 import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.BOOLEAN_OBJECT;
@@ -25,17 +32,22 @@ import static com.pushtorefresh.storio.common.annotations.processor.introspectio
 import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.FLOAT_OBJECT;
 import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.INTEGER;
 import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.INTEGER_OBJECT;
+import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.LAZY_BLOB;
 import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.LONG;
 import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.LONG_OBJECT;
 import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.SHORT;
 import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.SHORT_OBJECT;
 import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.STRING;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 
 public class GetResolverGenerator implements Generator<StorIOSQLiteTypeMeta> {
 
     public static final String SUFFIX = "StorIOSQLiteGetResolver";
 
+    public static final ClassName LAZY_BLOB_CLASS_NAME = ClassName.get("com.pushtorefresh.storio.sqlite.operations.get", "LazyBlob");
+
     @NotNull
     public static String generateName(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta) {
         return storIOSQLiteTypeMeta.simpleName + SUFFIX;
@@ -45,19 +57,53 @@ public class GetResolverGenerator implements Generator<StorIOSQLiteTypeMeta> {
     public JavaFile generateJavaFile(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta) {
         final ClassName storIOSQLiteTypeClassName = ClassName.get(storIOSQLiteTypeMeta.packageName, storIOSQLiteTypeMeta.simpleName);
 
-        final TypeSpec getResolver = TypeSpec.classBuilder(generateName(storIOSQLiteTypeMeta))
+        final TypeSpec.Builder getResolver = TypeSpec.classBuilder(generateName(storIOSQLiteTypeMeta))
                 .addJavadoc("Generated resolver for Get Operation\n")
                 .addModifiers(PUBLIC)
                 .superclass(ParameterizedTypeName.get(ClassName.get("com.pushtorefresh.storio.sqlite.operations.get", "DefaultGetResolver"), storIOSQLiteTypeClassName))
-                .addMethod(createMapFromCursorMethodSpec(storIOSQLiteTypeMeta, storIOSQLiteTypeClassName))
-                .build();
+                .addField(createColumnIndicesFieldSpec(storIOSQLiteTypeMeta))
+                .addMethod(createMapFromCursorMethodSpec(storIOSQLiteTypeMeta, storIOSQLiteTypeClassName));
+
+        if (hasLazyColumns(storIOSQLiteTypeMeta)) {
+            getResolver.addMethod(createPerformGetMethodSpec(storIOSQLiteTypeMeta));
+        }
+
+        final StorIOSQLiteColumnMeta keyColumnMeta = singleKeyColumnOf(storIOSQLiteTypeMeta);
+
+        if (keyColumnMeta != null) {
+            getResolver.addMethod(createKeyColumnMethodSpec(keyColumnMeta));
+        }
 
         return JavaFile
-                .builder(storIOSQLiteTypeMeta.packageName, getResolver)
+                .builder(storIOSQLiteTypeMeta.packageName, getResolver.build())
                 .indent(INDENT)
                 .build();
     }
 
+    @NotNull
+    private FieldSpec createColumnIndicesFieldSpec(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta) {
+        final StringBuilder format = new StringBuilder("new $T(");
+        final Object[] args = new Object[storIOSQLiteTypeMeta.columns.size() + 1];
+        args[0] = COLUMN_INDICES_CLASS_NAME;
+
+        int index = 1;
+
+        for (final StorIOSQLiteColumnMeta columnMeta : storIOSQLiteTypeMeta.columns.values()) {
+            // Values of lazy columns are not read from the cursor
+            if (!columnMeta.storIOColumn.lazy()) {
+                format.append(index > 1 ? ", $S" : "$S");
+                args[index++] = columnMeta.storIOColumn.name();
+            }
+        }
+
+        format.append(')');
+
+        return FieldSpec.builder(COLUMN_INDICES_CLASS_NAME, "columnIndices", PRIVATE, FINAL)
+                .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                .initializer(format.toString(), Arrays.copyOf(args, index))
+                .build();
+    }
+
     @NotNull
     private MethodSpec createMapFromCursorMethodSpec(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta, @NotNull ClassName storIOSQLiteTypeClassName) {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("mapFromCursor")
@@ -69,11 +115,39 @@ public class GetResolverGenerator implements Generator<StorIOSQLiteTypeMeta> {
                 .addParameter(ParameterSpec.builder(ClassName.get("android.database", "Cursor"), "cursor")
                         .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
                         .build())
+                .addStatement("final int[] indices = columnIndices.of(cursor)")
                 .addStatement("$T object = new $T()", storIOSQLiteTypeClassName, storIOSQLiteTypeClassName)
                 .addCode("\n");
 
+        final Map<String, String> columnIndices = new HashMap<String, String>();
+
         for (final StorIOSQLiteColumnMeta columnMeta : storIOSQLiteTypeMeta.columns.values()) {
-            final String columnIndex = "cursor.getColumnIndex(\"" + columnMeta.storIOColumn.name() + "\")";
+            if (!columnMeta.storIOColumn.lazy()) {
+                // Indices are resolved in the same order as columns were passed to ColumnIndices
+                columnIndices.put(columnMeta.storIOColumn.name(), "indices[" + columnIndices.size() + "]");
+            }
+        }
+
+        for (final StorIOSQLiteColumnMeta columnMeta : storIOSQLiteTypeMeta.columns.values()) {
+            if (columnMeta.javaType == LAZY_BLOB) {
+                final StorIOSQLiteColumnMeta keyColumnMeta = keyColumnOf(storIOSQLiteTypeMeta);
+                final String keyColumnIndex = columnIndices.get(keyColumnMeta.storIOColumn.name());
+
+                // Row with NULL key can not be queried later, so it does not get LazyBlob
+                builder.addStatement(
+                        "object.$L = cursor.isNull($L) ? null : $T.newInstance($S, $S, cursor.getString($L), $S)",
+                        columnMeta.fieldName,
+                        keyColumnIndex,
+                        LAZY_BLOB_CLASS_NAME,
+                        storIOSQLiteTypeMeta.storIOType.table(),
+                        keyColumnMeta.storIOColumn.name(),
+                        keyColumnIndex,
+                        columnMeta.storIOColumn.name()
+                );
+                continue;
+            }
+
+            final String columnIndex = columnIndices.get(columnMeta.storIOColumn.name());
 
             final String getFromCursor;
 
@@ -107,4 +181,98 @@ public class GetResolverGenerator implements Generator<StorIOSQLiteTypeMeta> {
                 .addStatement("return object")
                 .build();
     }
+
+    /**
+     * Selects only non-lazy columns if query selects all columns,
+     * so values of lazy columns are not loaded into {@link android.database.CursorWindow}.
+     */
+    @NotNull
+    private MethodSpec createPerformGetMethodSpec(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta) {
+        final StringBuilder columns = new StringBuilder();
+
+        for (final StorIOSQLiteColumnMeta columnMeta : storIOSQLiteTypeMeta.columns.values()) {
+            if (!columnMeta.storIOColumn.lazy()) {
+                columns.append(columns.length() > 0 ? ", " : "").append('"').append(columnMeta.storIOColumn.name()).append('"');
+            }
+        }
+
+        final ClassName queryClassName = ClassName.get("com.pushtorefresh.storio.sqlite.queries", "Query");
+
+        return MethodSpec.methodBuilder("performGet")
+                .addJavadoc("{@inheritDoc}\n")
+                .addAnnotation(Override.class)
+                .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                .addModifiers(PUBLIC)
+                .returns(ClassName.get("android.database", "Cursor"))
+                .addParameter(ParameterSpec.builder(ClassName.get("com.pushtorefresh.storio.sqlite", "StorIOSQLite"), "storIOSQLite")
+                        .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                        .build())
+                .addParameter(ParameterSpec.builder(queryClassName, "query")
+                        .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                        .build())
+                .beginControlFlow("if (query.columns().isEmpty())")
+                .addStatement("return super.performGet(storIOSQLite, query.toBuilder().columns($L).build())", columns)
+                .endControlFlow()
+                .addStatement("return super.performGet(storIOSQLite, query)")
+                .build();
+    }
+
+    /**
+     * Reports key column, so identity map can be enabled without specifying the column manually.
+     */
+    @NotNull
+    private MethodSpec createKeyColumnMethodSpec(@NotNull StorIOSQLiteColumnMeta keyColumnMeta) {
+        return MethodSpec.methodBuilder("keyColumn")
+                .addJavadoc("{@inheritDoc}\n")
+                .addAnnotation(Override.class)
+                .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                .addModifiers(PUBLIC)
+                .returns(String.class)
+                .addStatement("return $S", keyColumnMeta.storIOColumn.name())
+                .build();
+    }
+
+    static boolean hasLazyColumns(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta) {
+        for (final StorIOSQLiteColumnMeta columnMeta : storIOSQLiteTypeMeta.columns.values()) {
+            if (columnMeta.storIOColumn.lazy()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns key column of type with lazy columns, processor checks that there is exactly one key column.
+     */
+    @NotNull
+    private static StorIOSQLiteColumnMeta keyColumnOf(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta) {
+        final StorIOSQLiteColumnMeta keyColumnMeta = singleKeyColumnOf(storIOSQLiteTypeMeta);
+
+        if (keyColumnMeta != null) {
+            return keyColumnMeta;
+        }
+
+        throw new IllegalStateException("Type with lazy columns should have key column: " + storIOSQLiteTypeMeta.simpleName);
+    }
+
+    /**
+     * Returns key column if type has exactly one key column, otherwise returns {@code null}.
+     */
+    @Nullable
+    private static StorIOSQLiteColumnMeta singleKeyColumnOf(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta) {
+        StorIOSQLiteColumnMeta keyColumnMeta = null;
+
+        for (final StorIOSQLiteColumnMeta columnMeta : storIOSQLiteTypeMeta.columns.values()) {
+            if (columnMeta.storIOColumn.key()) {
+                if (keyColumnMeta != null) {
+                    return null;
+                }
+
+                keyColumnMeta = columnMeta;
+            }
+        }
+
+        return keyColumnMeta;
+    }
 }
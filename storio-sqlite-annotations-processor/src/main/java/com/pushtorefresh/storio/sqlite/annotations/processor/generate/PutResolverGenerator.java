@@ -1,9 +1,12 @@
 package com.pushtorefresh.storio.sqlite.annotations.processor.generate;
 
+import com.pushtorefresh.storio.common.annotations.processor.ProcessingException;
 import com.pushtorefresh.storio.common.annotations.processor.generate.Generator;
+import com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType;
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteColumnMeta;
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteTypeMeta;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterSpec;
@@ -16,6 +19,23 @@ import java.util.Map;
 
 import static com.pushtorefresh.storio.common.annotations.processor.generate.Common.ANDROID_NON_NULL_ANNOTATION_CLASS_NAME;
 import static com.pushtorefresh.storio.common.annotations.processor.generate.Common.INDENT;
+import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.BOOLEAN;
+import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.BOOLEAN_OBJECT;
+import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.BYTE_ARRAY;
+import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.DOUBLE;
+import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.DOUBLE_OBJECT;
+import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.FLOAT;
+import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.FLOAT_OBJECT;
+import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.INTEGER;
+import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.INTEGER_OBJECT;
+import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.LAZY_BLOB;
+import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.LONG;
+import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.LONG_OBJECT;
+import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.SHORT;
+import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.SHORT_OBJECT;
+import static com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType.STRING;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PROTECTED;
 import static javax.lang.model.element.Modifier.PUBLIC;
 
@@ -23,6 +43,8 @@ public class PutResolverGenerator implements Generator<StorIOSQLiteTypeMeta> {
 
     public static final String SUFFIX = "StorIOSQLitePutResolver";
 
+    private static final ClassName STATEMENT_BINDER_CLASS_NAME = ClassName.get("com.pushtorefresh.storio.sqlite.operations.put", "StatementBinder");
+
     @NotNull
     public static String generateName(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta) {
         return storIOSQLiteTypeMeta.simpleName + SUFFIX;
@@ -32,17 +54,29 @@ public class PutResolverGenerator implements Generator<StorIOSQLiteTypeMeta> {
     public JavaFile generateJavaFile(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta) {
         final ClassName storIOSQLiteTypeClassName = ClassName.get(storIOSQLiteTypeMeta.packageName, storIOSQLiteTypeMeta.simpleName);
 
-        final TypeSpec putResolver = TypeSpec.classBuilder(generateName(storIOSQLiteTypeMeta))
+        final TypeSpec.Builder putResolver = TypeSpec.classBuilder(generateName(storIOSQLiteTypeMeta))
                 .addJavadoc("Generated resolver for Put Operation\n")
                 .addModifiers(PUBLIC)
-                .superclass(ParameterizedTypeName.get(ClassName.get("com.pushtorefresh.storio.sqlite.operations.put", "DefaultPutResolver"), storIOSQLiteTypeClassName))
+                .superclass(ParameterizedTypeName.get(ClassName.get("com.pushtorefresh.storio.sqlite.operations.put", "DefaultPutResolver"), storIOSQLiteTypeClassName));
+
+        // Not loaded values of lazy columns are not put, so set of columns is not fixed
+        final boolean generateStatementBinder = !GetResolverGenerator.hasLazyColumns(storIOSQLiteTypeMeta);
+
+        if (generateStatementBinder) {
+            putResolver.addField(createStatementBinderFieldSpec(storIOSQLiteTypeMeta, storIOSQLiteTypeClassName));
+        }
+
+        putResolver
                 .addMethod(createMapToInsertQueryMethodSpec(storIOSQLiteTypeMeta, storIOSQLiteTypeClassName))
                 .addMethod(createMapToUpdateQueryMethodSpec(storIOSQLiteTypeMeta, storIOSQLiteTypeClassName))
-                .addMethod(createMapToContentValuesMethodSpec(storIOSQLiteTypeMeta, storIOSQLiteTypeClassName))
-                .build();
+                .addMethod(createMapToContentValuesMethodSpec(storIOSQLiteTypeMeta, storIOSQLiteTypeClassName));
+
+        if (generateStatementBinder) {
+            putResolver.addMethod(createStatementBinderMethodSpec(storIOSQLiteTypeClassName));
+        }
 
         return JavaFile
-                .builder(storIOSQLiteTypeMeta.packageName, putResolver)
+                .builder(storIOSQLiteTypeMeta.packageName, putResolver.build())
                 .indent(INDENT)
                 .build();
     }
@@ -104,11 +138,19 @@ public class PutResolverGenerator implements Generator<StorIOSQLiteTypeMeta> {
                 .addCode("\n");
 
         for (StorIOSQLiteColumnMeta columnMeta : storIOSQLiteTypeMeta.columns.values()) {
-            builder.addStatement(
-                    "contentValues.put($S, $L)",
-                    columnMeta.storIOColumn.name(),
-                    "object." + columnMeta.fieldName
-            );
+            if (columnMeta.javaType == LAZY_BLOB) {
+                // Not loaded value was not changed, so it is not put
+                builder
+                        .beginControlFlow("if ($L != null && $L.isLoaded())", "object." + columnMeta.fieldName, "object." + columnMeta.fieldName)
+                        .addStatement("contentValues.put($S, $L.value())", columnMeta.storIOColumn.name(), "object." + columnMeta.fieldName)
+                        .endControlFlow();
+            } else {
+                builder.addStatement(
+                        "contentValues.put($S, $L)",
+                        columnMeta.storIOColumn.name(),
+                        "object." + columnMeta.fieldName
+                );
+            }
         }
 
         return builder
@@ -116,4 +158,91 @@ public class PutResolverGenerator implements Generator<StorIOSQLiteTypeMeta> {
                 .addStatement("return contentValues")
                 .build();
     }
+
+    @NotNull
+    private FieldSpec createStatementBinderFieldSpec(@NotNull StorIOSQLiteTypeMeta storIOSQLiteTypeMeta, @NotNull ClassName storIOSQLiteTypeClassName) {
+        // Binder is used only for objects of this class, subclasses may override mapToContentValues()
+        final StringBuilder format = new StringBuilder("$T.class");
+        final Object[] args = new Object[storIOSQLiteTypeMeta.columns.size() + 1];
+        args[0] = ClassName.get(storIOSQLiteTypeMeta.packageName, generateName(storIOSQLiteTypeMeta));
+
+        final MethodSpec.Builder bindMethod = MethodSpec.methodBuilder("bind")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(ParameterSpec.builder(ClassName.get("android.database.sqlite", "SQLiteStatement"), "statement")
+                        .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                        .build())
+                .addParameter(ParameterSpec.builder(storIOSQLiteTypeClassName, "object")
+                        .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                        .build());
+
+        int index = 0;
+
+        for (final StorIOSQLiteColumnMeta columnMeta : storIOSQLiteTypeMeta.columns.values()) {
+            format.append(", $S");
+            args[++index] = columnMeta.storIOColumn.name();
+
+            // Values are bound in the same order as columns were passed to StatementBinder
+            addBindStatement(bindMethod, columnMeta, index);
+        }
+
+        final TypeSpec statementBinder = TypeSpec.anonymousClassBuilder(format.toString(), args)
+                .superclass(ParameterizedTypeName.get(STATEMENT_BINDER_CLASS_NAME, storIOSQLiteTypeClassName))
+                .addMethod(bindMethod.build())
+                .build();
+
+        return FieldSpec.builder(ParameterizedTypeName.get(STATEMENT_BINDER_CLASS_NAME, storIOSQLiteTypeClassName), "statementBinder", PRIVATE, FINAL)
+                .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                .initializer("$L", statementBinder)
+                .build();
+    }
+
+    private static void addBindStatement(@NotNull MethodSpec.Builder bindMethod, @NotNull StorIOSQLiteColumnMeta columnMeta, int bindIndex) {
+        final String field = "object." + columnMeta.fieldName;
+        final JavaType javaType = columnMeta.javaType;
+
+        final String bind;
+
+        if (javaType == BOOLEAN || javaType == BOOLEAN_OBJECT) {
+            bind = "bindLong(" + bindIndex + ", " + field + " ? 1 : 0)";
+        } else if (javaType == SHORT || javaType == SHORT_OBJECT
+                || javaType == INTEGER || javaType == INTEGER_OBJECT
+                || javaType == LONG || javaType == LONG_OBJECT) {
+            bind = "bindLong(" + bindIndex + ", " + field + ")";
+        } else if (javaType == FLOAT || javaType == FLOAT_OBJECT
+                || javaType == DOUBLE || javaType == DOUBLE_OBJECT) {
+            bind = "bindDouble(" + bindIndex + ", " + field + ")";
+        } else if (javaType == STRING) {
+            bind = "bindString(" + bindIndex + ", " + field + ")";
+        } else if (javaType == BYTE_ARRAY) {
+            bind = "bindBlob(" + bindIndex + ", " + field + ")";
+        } else {
+            throw new ProcessingException(columnMeta.element, "Can not generate PutResolver for field");
+        }
+
+        if (javaType == BOOLEAN || javaType == SHORT || javaType == INTEGER
+                || javaType == LONG || javaType == FLOAT || javaType == DOUBLE) {
+            bindMethod.addStatement("statement.$L", bind);
+        } else {
+            // Boxed values, strings and blobs can be null, ContentValues stores them as NULL too
+            bindMethod
+                    .beginControlFlow("if ($L != null)", field)
+                    .addStatement("statement.$L", bind)
+                    .nextControlFlow("else")
+                    .addStatement("statement.bindNull($L)", bindIndex)
+                    .endControlFlow();
+        }
+    }
+
+    @NotNull
+    private MethodSpec createStatementBinderMethodSpec(@NotNull ClassName storIOSQLiteTypeClassName) {
+        return MethodSpec.methodBuilder("statementBinder")
+                .addJavadoc("{@inheritDoc}\n")
+                .addAnnotation(Override.class)
+                .addAnnotation(ANDROID_NON_NULL_ANNOTATION_CLASS_NAME)
+                .addModifiers(PROTECTED)
+                .returns(ParameterizedTypeName.get(STATEMENT_BINDER_CLASS_NAME, storIOSQLiteTypeClassName))
+                .addStatement("return statementBinder")
+                .build();
+    }
 }
@@ -63,6 +63,7 @@ public class GetResolverGeneratorTest {
                 "\n" +
                 "import android.database.Cursor;\n" +
                 "import android.support.annotation.NonNull;\n" +
+                "import com.pushtorefresh.storio.internal.ColumnIndices;\n" +
                 "import com.pushtorefresh.storio.sqlite.operations.get.DefaultGetResolver;\n" +
                 "import java.lang.Override;\n" +
                 "\n" +
@@ -70,19 +71,122 @@ public class GetResolverGeneratorTest {
                 " * Generated resolver for Get Operation\n" +
                 " */\n" +
                 "public class TestItemStorIOSQLiteGetResolver extends DefaultGetResolver<TestItem> {\n" +
+                "    @NonNull\n" +
+                "    private final ColumnIndices columnIndices = new ColumnIndices(\"column1\", \"column2\");\n" +
+                "\n" +
+                "    /**\n" +
+                "     * {@inheritDoc}\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    @NonNull\n" +
+                "    public TestItem mapFromCursor(@NonNull Cursor cursor) {\n" +
+                "        final int[] indices = columnIndices.of(cursor);\n" +
+                "        TestItem object = new TestItem();\n" +
+                "\n" +
+                "        object.field1 = cursor.getInt(indices[0]) == 1;\n" +
+                "        object.field2 = cursor.getString(indices[1]);\n" +
+                "\n" +
+                "        return object;\n" +
+                "    }\n" +
+                "}\n");
+    }
+
+    @Test
+    public void generateJavaFileWithLazyColumn() throws IOException {
+        final StorIOSQLiteType storIOSQLiteType = mock(StorIOSQLiteType.class);
+
+        when(storIOSQLiteType.table()).thenReturn("test_table");
+
+        final StorIOSQLiteTypeMeta storIOSQLiteTypeMeta = new StorIOSQLiteTypeMeta(
+                "TestItem",
+                "com.test",
+                storIOSQLiteType
+        );
+
+        final StorIOSQLiteColumn storIOSQLiteColumn1 = mock(StorIOSQLiteColumn.class);
+        when(storIOSQLiteColumn1.name()).thenReturn("column1");
+        when(storIOSQLiteColumn1.key()).thenReturn(true);
+
+        //noinspection ConstantConditions
+        storIOSQLiteTypeMeta.columns.put("column1", new StorIOSQLiteColumnMeta(
+                null,
+                null,
+                "field1",
+                JavaType.LONG,
+                storIOSQLiteColumn1
+        ));
+
+        final StorIOSQLiteColumn storIOSQLiteColumn2 = mock(StorIOSQLiteColumn.class);
+        when(storIOSQLiteColumn2.name()).thenReturn("column2");
+        when(storIOSQLiteColumn2.lazy()).thenReturn(true);
+
+        //noinspection ConstantConditions
+        storIOSQLiteTypeMeta.columns.put("column2", new StorIOSQLiteColumnMeta(
+                null,
+                null,
+                "field2",
+                JavaType.LAZY_BLOB,
+                storIOSQLiteColumn2
+        ));
+
+        final JavaFile javaFile = new GetResolverGenerator().generateJavaFile(storIOSQLiteTypeMeta);
+        final StringBuilder out = new StringBuilder();
+        javaFile.writeTo(out);
+
+        assertThat(out.toString()).isEqualTo("package com.test;\n" +
+                "\n" +
+                "import android.database.Cursor;\n" +
+                "import android.support.annotation.NonNull;\n" +
+                "import com.pushtorefresh.storio.internal.ColumnIndices;\n" +
+                "import com.pushtorefresh.storio.sqlite.StorIOSQLite;\n" +
+                "import com.pushtorefresh.storio.sqlite.operations.get.DefaultGetResolver;\n" +
+                "import com.pushtorefresh.storio.sqlite.operations.get.LazyBlob;\n" +
+                "import com.pushtorefresh.storio.sqlite.queries.Query;\n" +
+                "import java.lang.Override;\n" +
+                "import java.lang.String;\n" +
+                "\n" +
+                "/**\n" +
+                " * Generated resolver for Get Operation\n" +
+                " */\n" +
+                "public class TestItemStorIOSQLiteGetResolver extends DefaultGetResolver<TestItem> {\n" +
+                "    @NonNull\n" +
+                "    private final ColumnIndices columnIndices = new ColumnIndices(\"column1\");\n" +
+                "\n" +
                 "    /**\n" +
                 "     * {@inheritDoc}\n" +
                 "     */\n" +
                 "    @Override\n" +
                 "    @NonNull\n" +
                 "    public TestItem mapFromCursor(@NonNull Cursor cursor) {\n" +
+                "        final int[] indices = columnIndices.of(cursor);\n" +
                 "        TestItem object = new TestItem();\n" +
                 "\n" +
-                "        object.field1 = cursor.getInt(cursor.getColumnIndex(\"column1\")) == 1;\n" +
-                "        object.field2 = cursor.getString(cursor.getColumnIndex(\"column2\"));\n" +
+                "        object.field1 = cursor.getLong(indices[0]);\n" +
+                "        object.field2 = cursor.isNull(indices[0]) ? null : LazyBlob.newInstance(\"test_table\", \"column1\", cursor.getString(indices[0]), \"column2\");\n" +
                 "\n" +
                 "        return object;\n" +
                 "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * {@inheritDoc}\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    @NonNull\n" +
+                "    public Cursor performGet(@NonNull StorIOSQLite storIOSQLite, @NonNull Query query) {\n" +
+                "        if (query.columns().isEmpty()) {\n" +
+                "            return super.performGet(storIOSQLite, query.toBuilder().columns(\"column1\").build());\n" +
+                "        }\n" +
+                "        return super.performGet(storIOSQLite, query);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * {@inheritDoc}\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    @NonNull\n" +
+                "    public String keyColumn() {\n" +
+                "        return \"column1\";\n" +
+                "    }\n" +
                 "}\n");
     }
 }
@@ -2,6 +2,7 @@ package com.pushtorefresh.storio.sqlite.annotations.processor.generate;
 
 import com.pushtorefresh.storio.sqlite.annotations.StorIOSQLiteColumn;
 import com.pushtorefresh.storio.sqlite.annotations.StorIOSQLiteType;
+import com.pushtorefresh.storio.common.annotations.processor.introspection.JavaType;
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteColumnMeta;
 import com.pushtorefresh.storio.sqlite.annotations.processor.introspection.StorIOSQLiteTypeMeta;
 import com.squareup.javapoet.JavaFile;
@@ -35,7 +36,7 @@ public class PutResolverGeneratorTest {
                 null,
                 null,
                 "column1Field",
-                null,
+                JavaType.LONG,
                 storIOSQLiteColumn1
         );
         storIOSQLiteTypeMeta.columns.put("column1", storIOSQLiteColumnMeta1);
@@ -49,7 +50,7 @@ public class PutResolverGeneratorTest {
                 null,
                 null,
                 "column2Field",
-                null,
+                JavaType.STRING,
                 storIOSQLiteColumn2
         );
         storIOSQLiteTypeMeta.columns.put("column2", storIOSQLiteColumnMeta2);
@@ -61,8 +62,10 @@ public class PutResolverGeneratorTest {
         assertThat(out.toString()).isEqualTo("package com.test;\n" +
                 "\n" +
                 "import android.content.ContentValues;\n" +
+                "import android.database.sqlite.SQLiteStatement;\n" +
                 "import android.support.annotation.NonNull;\n" +
                 "import com.pushtorefresh.storio.sqlite.operations.put.DefaultPutResolver;\n" +
+                "import com.pushtorefresh.storio.sqlite.operations.put.StatementBinder;\n" +
                 "import com.pushtorefresh.storio.sqlite.queries.InsertQuery;\n" +
                 "import com.pushtorefresh.storio.sqlite.queries.UpdateQuery;\n" +
                 "import java.lang.Override;\n" +
@@ -71,6 +74,19 @@ public class PutResolverGeneratorTest {
                 " * Generated resolver for Put Operation\n" +
                 " */\n" +
                 "public class TestItemStorIOSQLitePutResolver extends DefaultPutResolver<TestItem> {\n" +
+                "    @NonNull\n" +
+                "    private final StatementBinder<TestItem> statementBinder = new StatementBinder<TestItem>(TestItemStorIOSQLitePutResolver.class, \"column1\", \"column2\") {\n" +
+                "        @Override\n" +
+                "        public void bind(@NonNull SQLiteStatement statement, @NonNull TestItem object) {\n" +
+                "            statement.bindLong(1, object.column1Field);\n" +
+                "            if (object.column2Field != null) {\n" +
+                "                statement.bindString(2, object.column2Field);\n" +
+                "            } else {\n" +
+                "                statement.bindNull(2);\n" +
+                "            }\n" +
+                "        }\n" +
+                "    };\n" +
+                "\n" +
                 "    /**\n" +
                 "     * {@inheritDoc}\n" +
                 "     */\n" +
@@ -108,6 +124,108 @@ public class PutResolverGeneratorTest {
                 "\n" +
                 "        return contentValues;\n" +
                 "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * {@inheritDoc}\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    @NonNull\n" +
+                "    protected StatementBinder<TestItem> statementBinder() {\n" +
+                "        return statementBinder;\n" +
+                "    }\n" +
+                "}\n");
+    }
+
+    @Test
+    public void generateJavaFileWithLazyColumn() throws IOException {
+        final StorIOSQLiteType storIOSQLiteType = mock(StorIOSQLiteType.class);
+
+        when(storIOSQLiteType.table()).thenReturn("test_table");
+
+        final StorIOSQLiteTypeMeta storIOSQLiteTypeMeta = new StorIOSQLiteTypeMeta("TestItem", "com.test", storIOSQLiteType);
+
+        final StorIOSQLiteColumn storIOSQLiteColumn1 = mock(StorIOSQLiteColumn.class);
+        when(storIOSQLiteColumn1.name()).thenReturn("column1");
+        when(storIOSQLiteColumn1.key()).thenReturn(true);
+
+        //noinspection ConstantConditions
+        storIOSQLiteTypeMeta.columns.put("column1", new StorIOSQLiteColumnMeta(
+                null,
+                null,
+                "column1Field",
+                JavaType.LONG,
+                storIOSQLiteColumn1
+        ));
+
+        final StorIOSQLiteColumn storIOSQLiteColumn2 = mock(StorIOSQLiteColumn.class);
+        when(storIOSQLiteColumn2.name()).thenReturn("column2");
+        when(storIOSQLiteColumn2.lazy()).thenReturn(true);
+
+        //noinspection ConstantConditions
+        storIOSQLiteTypeMeta.columns.put("column2", new StorIOSQLiteColumnMeta(
+                null,
+                null,
+                "column2Field",
+                JavaType.LAZY_BLOB,
+                storIOSQLiteColumn2
+        ));
+
+        final JavaFile javaFile = new PutResolverGenerator().generateJavaFile(storIOSQLiteTypeMeta);
+        final StringBuilder out = new StringBuilder();
+        javaFile.writeTo(out);
+
+        assertThat(out.toString()).isEqualTo("package com.test;\n" +
+                "\n" +
+                "import android.content.ContentValues;\n" +
+                "import android.support.annotation.NonNull;\n" +
+                "import com.pushtorefresh.storio.sqlite.operations.put.DefaultPutResolver;\n" +
+                "import com.pushtorefresh.storio.sqlite.queries.InsertQuery;\n" +
+                "import com.pushtorefresh.storio.sqlite.queries.UpdateQuery;\n" +
+                "import java.lang.Override;\n" +
+                "\n" +
+                "/**\n" +
+                " * Generated resolver for Put Operation\n" +
+                " */\n" +
+                "public class TestItemStorIOSQLitePutResolver extends DefaultPutResolver<TestItem> {\n" +
+                "    /**\n" +
+                "     * {@inheritDoc}\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    @NonNull\n" +
+                "    protected InsertQuery mapToInsertQuery(@NonNull TestItem object) {\n" +
+                "        return InsertQuery.builder()\n" +
+                "            .table(\"test_table\")\n" +
+                "            .build();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * {@inheritDoc}\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    @NonNull\n" +
+                "    protected UpdateQuery mapToUpdateQuery(@NonNull TestItem object) {\n" +
+                "        return UpdateQuery.builder()\n" +
+                "            .table(\"test_table\")\n" +
+                "            .where(\"column1 = ?\")\n" +
+                "            .whereArgs(object.column1Field)\n" +
+                "            .build();\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * {@inheritDoc}\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    @NonNull\n" +
+                "    public ContentValues mapToContentValues(@NonNull TestItem object) {\n" +
+                "        ContentValues contentValues = new ContentValues(2);\n" +
+                "\n" +
+                "        contentValues.put(\"column1\", object.column1Field);\n" +
+                "        if (object.column2Field != null && object.column2Field.isLoaded()) {\n" +
+                "            contentValues.put(\"column2\", object.column2Field.value());\n" +
+                "        }\n" +
+                "\n" +
+                "        return contentValues;\n" +
+                "    }\n" +
                 "}\n");
     }
 }
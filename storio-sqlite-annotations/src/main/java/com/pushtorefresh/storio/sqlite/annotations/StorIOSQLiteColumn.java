@@ -26,4 +26,16 @@ public @interface StorIOSQLiteColumn {
      * @return true if column is key, false otherwise
      */
     boolean key() default false;
+
+    /**
+     * Optional: marks BLOB column as lazy, so generated Get resolver does not read its value
+     * together with the row. Field should have type {@code com.pushtorefresh.storio.sqlite.operations.get.LazyBlob},
+     * value is loaded on first access via {@code LazyBlob.get(StorIOSQLite)}.
+     * Class should have exactly one key column.
+     * Lazy columns are excluded only from {@code Query} which selects all columns,
+     * {@code RawQuery} should not select them to avoid reading of blobs.
+     *
+     * @return true if column is lazy, false otherwise
+     */
+    boolean lazy() default false;
 }
@@ -1,14 +1,25 @@
 package com.pushtorefresh.storio.sqlite;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
+import static com.pushtorefresh.storio.internal.Checks.checkNotEmpty;
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
+import static com.pushtorefresh.storio.internal.InternalQueries.isIntegerKey;
+import static com.pushtorefresh.storio.internal.InternalQueries.normalizeKey;
 
 /**
  * Immutable container of information about one or more changes happened in {@link StorIOSQLite}.
+ * <p>
+ * Optionally contains keys of affected rows, so observers of particular rows
+ * can skip changes of other rows, see {@link #mayAffectRow(String, String, Object)}.
  */
 public final class Changes {
 
@@ -18,14 +29,22 @@ public final class Changes {
     @NonNull
     private final Set<String> affectedTables;
 
+    /**
+     * Immutable map table → affected rows for tables where keys of affected rows are known.
+     */
+    @NonNull
+    private final Map<String, AffectedRows> affectedRows;
+
     /**
      * Creates {@link Changes} container with info about changes.
      *
      * @param affectedTables set of tables which were affected by these changes.
+     * @param affectedRows   map table → affected rows for tables where keys of affected rows are known.
      */
-    private Changes(@NonNull Set<String> affectedTables) {
+    private Changes(@NonNull Set<String> affectedTables, @NonNull Map<String, AffectedRows> affectedRows) {
         checkNotNull(affectedTables, "Please specify affected tables");
         this.affectedTables = Collections.unmodifiableSet(affectedTables);
+        this.affectedRows = affectedRows;
     }
 
     /**
@@ -36,7 +55,7 @@ public final class Changes {
      */
     @NonNull
     public static Changes newInstance(@NonNull Set<String> affectedTables) {
-        return new Changes(affectedTables);
+        return new Changes(affectedTables, Collections.<String, AffectedRows>emptyMap());
     }
 
     /**
@@ -48,7 +67,94 @@ public final class Changes {
     @NonNull
     public static Changes newInstance(@NonNull String affectedTable) {
         checkNotNull(affectedTable, "Please specify affected table");
-        return new Changes(Collections.singleton(affectedTable));
+        return new Changes(Collections.singleton(affectedTable), Collections.<String, AffectedRows>emptyMap());
+    }
+
+    /**
+     * Creates {@link Changes} container with info about changes of particular rows.
+     *
+     * @param affectedTable table that was affected.
+     * @param keyColumn     column that identifies rows, for example {@code "_id"}.
+     * @param affectedKeys  values of key column of all affected rows.
+     * @return new immutable instance of {@link Changes}.
+     */
+    @NonNull
+    public static Changes newInstance(
+            @NonNull String affectedTable,
+            @NonNull String keyColumn,
+            @NonNull Collection<?> affectedKeys) {
+
+        checkNotNull(affectedTable, "Please specify affected table");
+        checkNotEmpty(keyColumn, "Please specify key column");
+        checkNotNull(affectedKeys, "Please specify affected keys");
+
+        final Set<String> keys = new HashSet<String>(affectedKeys.size());
+
+        for (Object key : affectedKeys) {
+            checkNotNull(key, "Affected key can not be null");
+            keys.add(normalizeKey(key));
+        }
+
+        return new Changes(
+                Collections.singleton(affectedTable),
+                Collections.singletonMap(affectedTable, new AffectedRows(keyColumn, keys))
+        );
+    }
+
+    /**
+     * Merges several {@link Changes} into one. Keys of affected rows are kept only for tables
+     * where all merged {@link Changes} know keys of the same key column.
+     *
+     * @param changes changes to merge, should not be empty.
+     * @return new immutable instance of {@link Changes} with union of affected tables and rows.
+     */
+    @NonNull
+    public static Changes merge(@NonNull Collection<Changes> changes) {
+        checkNotNull(changes, "Please specify changes to merge");
+
+        if (changes.size() == 1) {
+            return changes.iterator().next();
+        }
+
+        final Set<String> affectedTables = new HashSet<String>();
+        final Set<String> tablesWithoutKeys = new HashSet<String>();
+        final Map<String, String> keyColumns = new HashMap<String, String>();
+        final Map<String, Set<String>> keys = new HashMap<String, Set<String>>();
+
+        for (Changes change : changes) {
+            affectedTables.addAll(change.affectedTables);
+
+            for (String table : change.affectedTables) {
+                if (tablesWithoutKeys.contains(table)) {
+                    continue;
+                }
+
+                final AffectedRows rows = change.affectedRows.get(table);
+                final String keyColumn = keyColumns.get(table);
+
+                if (rows == null || (keyColumn != null && !keyColumn.equals(rows.keyColumn))) {
+                    tablesWithoutKeys.add(table);
+                    keyColumns.remove(table);
+                    keys.remove(table);
+                } else if (keyColumn == null) {
+                    keyColumns.put(table, rows.keyColumn);
+                    keys.put(table, new HashSet<String>(rows.keys));
+                } else {
+                    keys.get(table).addAll(rows.keys);
+                }
+            }
+        }
+
+        final Map<String, AffectedRows> affectedRows = new HashMap<String, AffectedRows>(keyColumns.size());
+
+        for (Map.Entry<String, String> keyColumn : keyColumns.entrySet()) {
+            affectedRows.put(
+                    keyColumn.getKey(),
+                    new AffectedRows(keyColumn.getValue(), keys.get(keyColumn.getKey()))
+            );
+        }
+
+        return new Changes(affectedTables, Collections.unmodifiableMap(affectedRows));
     }
 
     /**
@@ -61,6 +167,52 @@ public final class Changes {
         return affectedTables;
     }
 
+    /**
+     * Gets keys of affected rows of the table.
+     *
+     * @param table     table to check.
+     * @param keyColumn column that identifies rows.
+     * @return immutable set of keys in canonical form, or {@code null} if keys of
+     * affected rows are unknown, so any row of the table could be affected.
+     */
+    @Nullable
+    public Set<String> affectedKeys(@NonNull String table, @NonNull String keyColumn) {
+        final AffectedRows rows = affectedRows.get(table);
+        return rows != null && rows.keyColumn.equals(keyColumn) ? rows.keys : null;
+    }
+
+    /**
+     * Checks whether these changes may affect the row.
+     * <p>
+     * Keys are compared in canonical form. Row is known to be not affected only if its key
+     * and all affected keys are integers, because other values can be equal in SQLite
+     * while having different forms, for example {@code 42.0} and {@code 42} in {@code REAL} column
+     * or {@code "a"} and {@code "A"} in column with {@code NOCASE} collation.
+     *
+     * @param table     table of the row.
+     * @param keyColumn column that identifies rows.
+     * @param key       value of the key column of the row.
+     * @return {@code false} only if table was not affected or if it's known that row was not affected,
+     * {@code true} otherwise.
+     */
+    public boolean mayAffectRow(@NonNull String table, @NonNull String keyColumn, @NonNull Object key) {
+        if (!affectedTables.contains(table)) {
+            return false;
+        }
+
+        final AffectedRows rows = affectedRows.get(table);
+
+        if (rows == null || !rows.keyColumn.equals(keyColumn)) {
+            return true;
+        }
+
+        final String normalizedKey = normalizeKey(key);
+
+        return rows.keys.contains(normalizedKey)
+                || !rows.integerKeys
+                || !isIntegerKey(normalizedKey);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -68,18 +220,78 @@ public final class Changes {
 
         Changes changes = (Changes) o;
 
-        return affectedTables.equals(changes.affectedTables);
+        if (!affectedTables.equals(changes.affectedTables)) return false;
+        return affectedRows.equals(changes.affectedRows);
     }
 
     @Override
     public int hashCode() {
-        return affectedTables.hashCode();
+        int result = affectedTables.hashCode();
+        result = 31 * result + affectedRows.hashCode();
+        return result;
     }
 
     @Override
     public String toString() {
         return "Changes{" +
                 "affectedTables=" + affectedTables +
+                ", affectedRows=" + affectedRows +
                 '}';
     }
+
+    /**
+     * Immutable keys of affected rows of one table.
+     */
+    private static final class AffectedRows {
+
+        @NonNull
+        final String keyColumn;
+
+        @NonNull
+        final Set<String> keys;
+
+        /**
+         * {@code true} if all keys are integers, so they can be compared exactly.
+         */
+        final boolean integerKeys;
+
+        AffectedRows(@NonNull String keyColumn, @NonNull Set<String> keys) {
+            this.keyColumn = keyColumn;
+            this.keys = Collections.unmodifiableSet(keys);
+
+            boolean integerKeys = true;
+
+            for (String key : keys) {
+                if (!isIntegerKey(key)) {
+                    integerKeys = false;
+                    break;
+                }
+            }
+
+            this.integerKeys = integerKeys;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            AffectedRows that = (AffectedRows) o;
+
+            if (!keyColumn.equals(that.keyColumn)) return false;
+            return keys.equals(that.keys);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = keyColumn.hashCode();
+            result = 31 * result + keys.hashCode();
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return keyColumn + "=" + keys;
+        }
+    }
 }
@@ -0,0 +1,213 @@
+package com.pushtorefresh.storio.sqlite;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio.sqlite.queries.Query;
+import com.pushtorefresh.storio.sqlite.queries.RawQuery;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Set;
+
+/**
+ * LRU cache of results of Get Operations keyed by query, {@link com.pushtorefresh.storio.sqlite.operations.get.GetResolver}
+ * and type of Get Operation.
+ * <p>
+ * Results are invalidated by {@link Changes} of tables they were read from, so
+ * writes that don't notify about changes won't invalidate cached results.
+ * <p>
+ * Cached results are shared between all callers, so they should not be modified.
+ * <p>
+ * Thread-safe.
+ */
+public final class QueryResultsCache {
+
+    private final int maxSize;
+
+    /**
+     * Guarded by {@code this}.
+     */
+    @NonNull
+    private final LinkedHashMap<Key, Object> results;
+
+    /**
+     * Incremented on each invalidation, guarded by {@code this}.
+     */
+    private long version;
+
+    /**
+     * Creates new cache.
+     *
+     * @param maxSize max number of cached results, should be > 0.
+     */
+    public QueryResultsCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize should be > 0, maxSize = " + maxSize);
+        }
+
+        this.maxSize = maxSize;
+        results = new LinkedHashMap<Key, Object>(16, 0.75f, true);
+    }
+
+    /**
+     * Creates key for result of Get Operation with {@link Query}.
+     *
+     * @param query         query of Get Operation.
+     * @param getResolver   resolver that maps rows of the query.
+     * @param operationType type of Get Operation, results of different operations can not be shared.
+     * @return non-null key.
+     */
+    @NonNull
+    public static Key keyOf(@NonNull Query query, @NonNull Object getResolver, @NonNull Class<?> operationType) {
+        return new Key(query, getResolver, operationType, Collections.singleton(query.table()));
+    }
+
+    /**
+     * Creates key for result of Get Operation with {@link RawQuery}.
+     *
+     * @param rawQuery      query of Get Operation.
+     * @param getResolver   resolver that maps rows of the query.
+     * @param operationType type of Get Operation, results of different operations can not be shared.
+     * @return key or {@code null} if raw query does not declare tables it observes,
+     * such results can not be invalidated so they are not cached.
+     */
+    @Nullable
+    public static Key keyOf(@NonNull RawQuery rawQuery, @NonNull Object getResolver, @NonNull Class<?> operationType) {
+        return rawQuery.observesTables().isEmpty()
+                ? null
+                : new Key(rawQuery, getResolver, operationType, rawQuery.observesTables());
+    }
+
+    /**
+     * Gets cached result.
+     *
+     * @param key key of result.
+     * @return cached result or {@code null} if there is no such result in the cache.
+     */
+    @Nullable
+    public synchronized Object get(@NonNull Key key) {
+        return results.get(key);
+    }
+
+    /**
+     * Gets current version of the cache, should be taken before the query is executed
+     * and passed to {@link #put(Key, Object, long)}.
+     *
+     * @return current version of the cache.
+     */
+    public synchronized long version() {
+        return version;
+    }
+
+    /**
+     * Puts result to the cache if no invalidation happened since the query was executed,
+     * otherwise result may be stale and it's ignored.
+     *
+     * @param key     key of result.
+     * @param result  result of Get Operation.
+     * @param version version of the cache taken before the query was executed.
+     */
+    public synchronized void put(@NonNull Key key, @NonNull Object result, long version) {
+        if (this.version != version) {
+            return;
+        }
+
+        results.put(key, result);
+
+        if (results.size() > maxSize) {
+            final Iterator<Key> iterator = results.keySet().iterator();
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Removes results that were read from affected tables.
+     *
+     * @param changes changes happened in {@link StorIOSQLite}.
+     */
+    public synchronized void invalidate(@NonNull Changes changes) {
+        version++;
+
+        final Set<String> affectedTables = changes.affectedTables();
+        final Iterator<Key> iterator = results.keySet().iterator();
+
+        while (iterator.hasNext()) {
+            if (!Collections.disjoint(iterator.next().tables, affectedTables)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public synchronized void clear() {
+        version++;
+        results.clear();
+    }
+
+    // Visible for tests
+    synchronized int size() {
+        return results.size();
+    }
+
+    /**
+     * Key of cached result.
+     */
+    public static final class Key {
+
+        @NonNull
+        private final Object query;
+
+        @NonNull
+        private final Object getResolver;
+
+        @NonNull
+        private final Class<?> operationType;
+
+        @NonNull
+        private final Set<String> tables;
+
+        Key(@NonNull Object query,
+            @NonNull Object getResolver,
+            @NonNull Class<?> operationType,
+            @NonNull Set<String> tables) {
+            this.query = query;
+            this.getResolver = getResolver;
+            this.operationType = operationType;
+            this.tables = tables;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Key key = (Key) o;
+
+            if (!query.equals(key.query)) return false;
+            if (!getResolver.equals(key.getResolver)) return false;
+            return operationType.equals(key.operationType);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = query.hashCode();
+            result = 31 * result + getResolver.hashCode();
+            result = 31 * result + operationType.hashCode();
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "Key{" +
+                    "query=" + query +
+                    ", getResolver=" + getResolver +
+                    ", operationType=" + operationType +
+                    '}';
+        }
+    }
+}
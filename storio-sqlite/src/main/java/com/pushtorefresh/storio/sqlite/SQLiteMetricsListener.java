@@ -0,0 +1,110 @@
+package com.pushtorefresh.storio.sqlite;
+
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio.sqlite.queries.DeleteQuery;
+import com.pushtorefresh.storio.sqlite.queries.InsertQuery;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+import com.pushtorefresh.storio.sqlite.queries.RawQuery;
+import com.pushtorefresh.storio.sqlite.queries.UpdateQuery;
+
+/**
+ * Receives duration and number of rows of each operation executed by {@link StorIOSQLite},
+ * for example to feed latency histograms.
+ * <p>
+ * Methods are called synchronously on the thread that executes operation,
+ * so implementation should be thread-safe and should return as fast as possible.
+ * <p>
+ * All methods do nothing by default, override only required ones.
+ */
+public abstract class SQLiteMetricsListener {
+
+    /**
+     * Number of rows reported by Get Operations which don't read rows of the query themselves.
+     */
+    public static final int UNKNOWN_NUMBER_OF_ROWS = -1;
+
+    /**
+     * Called after Get Operation with {@link Query} read rows of the query,
+     * results returned from {@link QueryResultsCache} are not reported.
+     * <p>
+     * Rows of {@link android.database.Cursor} are read from the db lazily on first access,
+     * so SQL time of operations that map rows to objects includes filling
+     * of the first {@link android.database.CursorWindow}.
+     * <p>
+     * Operations that don't map rows to objects (for example Get Operation that returns
+     * {@link android.database.Cursor}, number of results or lazy iterator of objects)
+     * are reported right after the query with zero mapping time and
+     * {@link #UNKNOWN_NUMBER_OF_ROWS}, because counting rows would force a scan of the whole result.
+     * Each chunk of chunked iterator and each loaded page are reported separately
+     * with their own queries.
+     *
+     * @param query            query of the operation.
+     * @param numberOfRows     number of read rows or {@link #UNKNOWN_NUMBER_OF_ROWS}.
+     * @param sqlTimeNanos     time spent in the db in nanoseconds.
+     * @param mappingTimeNanos time spent in mapping of rows to objects in nanoseconds.
+     */
+    public void onGet(@NonNull Query query, int numberOfRows, long sqlTimeNanos, long mappingTimeNanos) {
+    }
+
+    /**
+     * Called after Get Operation with {@link RawQuery} read rows of the query,
+     * see {@link #onGet(Query, int, long, long)}.
+     *
+     * @param rawQuery         query of the operation.
+     * @param numberOfRows     number of read rows or {@link #UNKNOWN_NUMBER_OF_ROWS}.
+     * @param sqlTimeNanos     time spent in the db in nanoseconds.
+     * @param mappingTimeNanos time spent in mapping of rows to objects in nanoseconds.
+     */
+    public void onGet(@NonNull RawQuery rawQuery, int numberOfRows, long sqlTimeNanos, long mappingTimeNanos) {
+    }
+
+    /**
+     * Called after rows were inserted into the db.
+     *
+     * @param insertQuery  query.
+     * @param numberOfRows number of inserted rows.
+     * @param sqlTimeNanos time spent in the db in nanoseconds.
+     */
+    public void onInsert(@NonNull InsertQuery insertQuery, int numberOfRows, long sqlTimeNanos) {
+    }
+
+    /**
+     * Called after rows were updated in the db.
+     *
+     * @param updateQuery  query.
+     * @param numberOfRows number of updated rows.
+     * @param sqlTimeNanos time spent in the db in nanoseconds.
+     */
+    public void onUpdate(@NonNull UpdateQuery updateQuery, int numberOfRows, long sqlTimeNanos) {
+    }
+
+    /**
+     * Called after rows were deleted from the db.
+     *
+     * @param deleteQuery  query.
+     * @param numberOfRows number of deleted rows.
+     * @param sqlTimeNanos time spent in the db in nanoseconds.
+     */
+    public void onDelete(@NonNull DeleteQuery deleteQuery, int numberOfRows, long sqlTimeNanos) {
+    }
+
+    /**
+     * Called after raw SQL statement was executed.
+     *
+     * @param rawQuery     query.
+     * @param sqlTimeNanos time spent in the db in nanoseconds.
+     */
+    public void onExecuteSQL(@NonNull RawQuery rawQuery, long sqlTimeNanos) {
+    }
+
+    /**
+     * Called after {@link Changes} were dispatched to observers, changes made in transaction
+     * are reported after the end of the transaction.
+     *
+     * @param changes           dispatched changes, see {@link Changes#affectedTables()}.
+     * @param dispatchTimeNanos time spent in dispatching in nanoseconds.
+     */
+    public void onChanges(@NonNull Changes changes, long dispatchTimeNanos) {
+    }
+}
@@ -1,11 +1,14 @@
 package com.pushtorefresh.storio.sqlite;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import com.pushtorefresh.storio.sqlite.operations.delete.DeleteResolver;
 import com.pushtorefresh.storio.sqlite.operations.get.GetResolver;
+import com.pushtorefresh.storio.sqlite.operations.get.IdentityMapGetResolver;
 import com.pushtorefresh.storio.sqlite.operations.put.PutResolver;
 
+import static com.pushtorefresh.storio.internal.Checks.checkNotEmpty;
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
 
 /**
@@ -160,6 +163,14 @@ public class SQLiteTypeMapping<T> {
         @NonNull
         private final DeleteResolver<T> deleteResolver;
 
+        @Nullable
+        private String identityMapKeyColumn;
+
+        @Nullable
+        private String identityMapVersionColumn;
+
+        private int identityMapMaxSize;
+
         CompleteBuilder(@NonNull PutResolver<T> putResolver,
                         @NonNull GetResolver<T> getResolver,
                         @NonNull DeleteResolver<T> deleteResolver) {
@@ -168,6 +179,74 @@ public class SQLiteTypeMapping<T> {
             this.deleteResolver = deleteResolver;
         }
 
+        /**
+         * Optional: Enables identity map for objects of this type, see {@link IdentityMapGetResolver}.
+         * <p>
+         * Get Operations will reuse previously mapped objects for rows that were not changed
+         * instead of mapping them again, so re-queries of same rows don't allocate new objects.
+         * Objects are shared between all Get Operations, so they should be immutable.
+         * <p>
+         * Key column is taken from {@link GetResolver#keyColumn()}, generated resolvers return
+         * column declared with {@code @StorIOSQLiteColumn(key = true)}.
+         * <p>
+         * By default identity map is disabled.
+         *
+         * @param maxSize max number of objects kept in the identity map, should be > 0.
+         * @return builder.
+         * @throws IllegalStateException if {@link GetResolver} doesn't know its key column.
+         */
+        @NonNull
+        public CompleteBuilder<T> identityMap(int maxSize) {
+            final String keyColumn = getResolver.keyColumn();
+
+            if (keyColumn == null) {
+                throw new IllegalStateException("GetResolver doesn't know its key column, " +
+                        "please specify it via identityMap(keyColumn, maxSize)");
+            }
+
+            return identityMap(keyColumn, null, maxSize);
+        }
+
+        /**
+         * Optional: Enables identity map for objects of this type with passed key column,
+         * see {@link #identityMap(int)}.
+         *
+         * @param keyColumn column that identifies rows.
+         * @param maxSize   max number of objects kept in the identity map, should be > 0.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder<T> identityMap(@NonNull String keyColumn, int maxSize) {
+            return identityMap(keyColumn, null, maxSize);
+        }
+
+        /**
+         * Optional: Enables identity map for objects of this type with passed key column
+         * and version column, see {@link #identityMap(int)}.
+         * <p>
+         * Value of the version column is compared instead of checksum of all values of the row,
+         * which is cheaper, especially for rows with blobs.
+         *
+         * @param keyColumn     column that identifies rows.
+         * @param versionColumn {@code INTEGER} column which value changes on each update of the row,
+         *                      if it's {@code null} checksums of rows are compared.
+         * @param maxSize       max number of objects kept in the identity map, should be > 0.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder<T> identityMap(@NonNull String keyColumn, @Nullable String versionColumn, int maxSize) {
+            checkNotEmpty(keyColumn, "Please specify key column");
+
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("maxSize should be > 0, maxSize = " + maxSize);
+            }
+
+            identityMapKeyColumn = keyColumn;
+            identityMapVersionColumn = versionColumn;
+            identityMapMaxSize = maxSize;
+            return this;
+        }
+
         /**
          * Builds new immutable instance of {@link SQLiteTypeMapping}.
          *
@@ -175,9 +254,22 @@ public class SQLiteTypeMapping<T> {
          */
         @NonNull
         public SQLiteTypeMapping<T> build() {
+            final GetResolver<T> resolver;
+
+            if (identityMapKeyColumn != null) {
+                resolver = new IdentityMapGetResolver<T>(
+                        getResolver,
+                        identityMapKeyColumn,
+                        identityMapVersionColumn,
+                        identityMapMaxSize
+                );
+            } else {
+                resolver = getResolver;
+            }
+
             return new SQLiteTypeMapping<T>(
                     putResolver,
-                    getResolver,
+                    resolver,
                     deleteResolver
             );
         }
@@ -10,6 +10,7 @@ import com.pushtorefresh.storio.sqlite.operations.delete.PreparedDelete;
 import com.pushtorefresh.storio.sqlite.operations.execute.PreparedExecuteSQL;
 import com.pushtorefresh.storio.sqlite.operations.get.PreparedGet;
 import com.pushtorefresh.storio.sqlite.operations.put.PreparedPut;
+import com.pushtorefresh.storio.sqlite.operations.put.StatementBinder;
 import com.pushtorefresh.storio.sqlite.queries.DeleteQuery;
 import com.pushtorefresh.storio.sqlite.queries.InsertQuery;
 import com.pushtorefresh.storio.sqlite.queries.Query;
@@ -18,9 +19,11 @@ import com.pushtorefresh.storio.sqlite.queries.UpdateQuery;
 
 import java.io.Closeable;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import rx.Observable;
+import rx.functions.Func0;
 
 import static com.pushtorefresh.storio.internal.Checks.checkNotEmpty;
 
@@ -141,6 +144,26 @@ public abstract class StorIOSQLite implements Closeable {
         return observeChangesInTables(Collections.singleton(table));
     }
 
+    /**
+     * FOR INTERNAL USAGE ONLY.
+     * <p>
+     * Returns {@link Observable} that can be shared between subscribers of Get Operations
+     * with equal key, so identical reactive queries execute SQL once per change
+     * instead of once per subscriber.
+     * <p>
+     * Default implementation does not share observables and returns new observable
+     * created by the factory.
+     *
+     * @param key               key of Get Operation, implements {@code equals()} and {@code hashCode()}.
+     * @param observableFactory creates observable of Get Operation if there is no shared one.
+     * @param <T>               type of results.
+     * @return observable that can be shared with other subscribers.
+     */
+    @NonNull
+    public <T> Observable<T> sharedObservable(@NonNull Object key, @NonNull Func0<Observable<T>> observableFactory) {
+        return observableFactory.call();
+    }
+
     /**
      * Hides some internal operations of {@link StorIOSQLite}
      * to make API of {@link StorIOSQLite} clean and easy to understand.
@@ -232,6 +255,75 @@ public abstract class StorIOSQLite implements Closeable {
         @WorkerThread
         public abstract long insertWithOnConflict(@NonNull InsertQuery insertQuery, @NonNull ContentValues contentValues, int conflictAlgorithm);
 
+        /**
+         * Inserts multiple rows into the database.
+         * <p>
+         * Default implementation calls {@link #insert(InsertQuery, ContentValues)} for each row,
+         * implementations can override it to compile statement once and reuse it for all rows.
+         *
+         * @param insertQuery       query.
+         * @param contentValuesList list of maps that contain the initial column values for the rows.
+         * @return ids of inserted rows in the same order as passed content values.
+         */
+        @WorkerThread
+        @NonNull
+        public long[] insertAll(@NonNull InsertQuery insertQuery, @NonNull List<ContentValues> contentValuesList) {
+            final long[] insertedIds = new long[contentValuesList.size()];
+
+            for (int i = 0; i < insertedIds.length; i++) {
+                insertedIds[i] = insert(insertQuery, contentValuesList.get(i));
+            }
+
+            return insertedIds;
+        }
+
+        /**
+         * Inserts multiple rows into the database, values of objects are bound
+         * directly to compiled statement via passed {@link StatementBinder}.
+         * <p>
+         * Default implementation returns {@code null}, so caller should insert objects
+         * via {@link #insertAll(InsertQuery, List)}.
+         *
+         * @param insertQuery     query.
+         * @param objects         objects which values should be inserted.
+         * @param statementBinder binds values of objects to compiled statement.
+         * @param <T>             type of objects.
+         * @return ids of inserted rows in the same order as passed objects or {@code null}
+         * if inserting via {@link StatementBinder} is not supported.
+         */
+        @WorkerThread
+        @Nullable
+        public <T> long[] insertAll(@NonNull InsertQuery insertQuery,
+                                    @NonNull List<T> objects,
+                                    @NonNull StatementBinder<T> statementBinder) {
+            return null;
+        }
+
+        /**
+         * Gets cache of results of Get Operations.
+         * <p>
+         * Default implementation returns {@code null}, so results are not cached.
+         *
+         * @return cache of results or {@code null} if results should not be cached at the moment,
+         * for example during transaction.
+         */
+        @Nullable
+        public QueryResultsCache queryResultsCache() {
+            return null;
+        }
+
+        /**
+         * Gets listener of durations and number of rows of operations.
+         * <p>
+         * Default implementation returns {@code null}, so operations are not measured.
+         *
+         * @return listener or {@code null} if operations should not be measured.
+         */
+        @Nullable
+        public SQLiteMetricsListener metricsListener() {
+            return null;
+        }
+
         /**
          * Updates one or multiple rows in the database.
          *
@@ -0,0 +1,103 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio.internal.ChangesBus;
+import com.pushtorefresh.storio.sqlite.Changes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import rx.Scheduler;
+import rx.functions.Action0;
+import rx.schedulers.Schedulers;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * FOR INTERNAL USAGE ONLY.
+ * <p>
+ * Merges {@link Changes} that arrive within a time window into one {@link Changes}
+ * with union of affected tables and rows, so observers re-query once per window instead of once per change.
+ * <p>
+ * Hides RxJava from ClassLoader via separate class.
+ * <p>
+ * Thread-safe.
+ */
+final class ChangesCoalescer {
+
+    @NonNull
+    private final ChangesBus<Changes> changesBus;
+
+    private final long windowMillis;
+
+    @NonNull
+    private final Scheduler scheduler;
+
+    @NonNull
+    private final Object lock = new Object();
+
+    /**
+     * Guarded by {@link #lock}.
+     */
+    @NonNull
+    private List<Changes> pendingChanges = new ArrayList<Changes>(5);
+
+    /**
+     * Guarded by {@link #lock}.
+     */
+    private boolean flushScheduled;
+
+    ChangesCoalescer(@NonNull ChangesBus<Changes> changesBus, long windowMillis, @NonNull Scheduler scheduler) {
+        this.changesBus = changesBus;
+        this.windowMillis = windowMillis;
+        this.scheduler = scheduler;
+    }
+
+    @NonNull
+    static ChangesCoalescer newInstance(@NonNull ChangesBus<Changes> changesBus, long windowMillis) {
+        return new ChangesCoalescer(changesBus, windowMillis, Schedulers.computation());
+    }
+
+    /**
+     * Adds changes to the current window, window starts with first changes after previous flush.
+     */
+    void onNext(@NonNull Changes changes) {
+        synchronized (lock) {
+            pendingChanges.add(changes);
+
+            if (flushScheduled) {
+                return;
+            }
+
+            flushScheduled = true;
+        }
+
+        final Scheduler.Worker worker = scheduler.createWorker();
+
+        worker.schedule(new Action0() {
+            @Override
+            public void call() {
+                try {
+                    flush();
+                } finally {
+                    worker.unsubscribe();
+                }
+            }
+        }, windowMillis, MILLISECONDS);
+    }
+
+    private void flush() {
+        final List<Changes> changes;
+
+        synchronized (lock) {
+            changes = pendingChanges;
+            pendingChanges = new ArrayList<Changes>(5);
+            flushScheduled = false;
+        }
+
+        if (!changes.isEmpty()) {
+            changesBus.onNext(Changes.merge(changes));
+        }
+    }
+}
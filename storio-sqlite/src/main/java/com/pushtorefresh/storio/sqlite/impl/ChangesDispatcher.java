@@ -0,0 +1,144 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio.sqlite.Changes;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import rx.Observable;
+import rx.Subscriber;
+import rx.functions.Action0;
+import rx.functions.Action1;
+import rx.subscriptions.Subscriptions;
+
+import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
+
+/**
+ * FOR INTERNAL USAGE ONLY.
+ * <p>
+ * Dispatches {@link Changes} only to subscribers of affected tables
+ * via index table → subscribers, so cost of dispatching does not depend
+ * on total number of subscribers.
+ * <p>
+ * Hides RxJava from ClassLoader via separate class.
+ * <p>
+ * Thread-safe.
+ */
+final class ChangesDispatcher implements Action1<Changes> {
+
+    @NonNull
+    private final ConcurrentMap<String, List<Subscriber<? super Changes>>> subscribersByTable
+            = new ConcurrentHashMap<String, List<Subscriber<? super Changes>>>();
+
+    private ChangesDispatcher() {
+    }
+
+    /**
+     * Creates new instance of {@link ChangesDispatcher} subscribed to passed bus.
+     *
+     * @param rxBus bus with all changes, events should be serialized.
+     * @return new instance of {@link ChangesDispatcher}.
+     */
+    @NonNull
+    static ChangesDispatcher newInstance(@NonNull Observable<Changes> rxBus) {
+        final ChangesDispatcher changesDispatcher = new ChangesDispatcher();
+        rxBus.subscribe(changesDispatcher);
+        return changesDispatcher;
+    }
+
+    /**
+     * Creates {@link Observable} which emits only {@link Changes} that affect passed tables.
+     *
+     * @param tables set of tables to observe.
+     * @return {@link Observable} of changes in passed tables.
+     */
+    @NonNull
+    Observable<Changes> observeChangesInTables(@NonNull final Set<String> tables) {
+        checkNotNull(tables, "Set of tables can not be null");
+
+        return Observable.create(new Observable.OnSubscribe<Changes>() {
+            @Override
+            public void call(final Subscriber<? super Changes> subscriber) {
+                for (String table : tables) {
+                    subscribersOf(table).add(subscriber);
+                }
+
+                subscriber.add(Subscriptions.create(new Action0() {
+                    @Override
+                    public void call() {
+                        for (String table : tables) {
+                            subscribersOf(table).remove(subscriber);
+                        }
+                    }
+                }));
+            }
+        });
+    }
+
+    @Override
+    public void call(Changes changes) {
+        final Set<String> affectedTables = changes.affectedTables();
+
+        if (affectedTables.size() == 1) {
+            // Fast path, subscribers are unique within one table
+            final List<Subscriber<? super Changes>> subscribers
+                    = subscribersByTable.get(affectedTables.iterator().next());
+
+            if (subscribers != null) {
+                for (Subscriber<? super Changes> subscriber : subscribers) {
+                    deliver(subscriber, changes);
+                }
+            }
+        } else {
+            // Subscriber of several affected tables should receive changes only once
+            final Set<Subscriber<? super Changes>> interestedSubscribers
+                    = new LinkedHashSet<Subscriber<? super Changes>>();
+
+            for (String affectedTable : affectedTables) {
+                final List<Subscriber<? super Changes>> subscribers = subscribersByTable.get(affectedTable);
+
+                if (subscribers != null) {
+                    interestedSubscribers.addAll(subscribers);
+                }
+            }
+
+            for (Subscriber<? super Changes> subscriber : interestedSubscribers) {
+                deliver(subscriber, changes);
+            }
+        }
+    }
+
+    @NonNull
+    private List<Subscriber<? super Changes>> subscribersOf(@NonNull String table) {
+        List<Subscriber<? super Changes>> subscribers = subscribersByTable.get(table);
+
+        if (subscribers == null) {
+            // Lists are never removed from the index, so lock-free registration is safe
+            final List<Subscriber<? super Changes>> newSubscribers = new CopyOnWriteArrayList<Subscriber<? super Changes>>();
+            subscribers = subscribersByTable.putIfAbsent(table, newSubscribers);
+
+            if (subscribers == null) {
+                subscribers = newSubscribers;
+            }
+        }
+
+        return subscribers;
+    }
+
+    private static void deliver(@NonNull Subscriber<? super Changes> subscriber, @NonNull Changes changes) {
+        if (!subscriber.isUnsubscribed()) {
+            try {
+                subscriber.onNext(changes);
+            } catch (Throwable throwable) {
+                // Error of one subscriber should not break dispatching to others
+                subscriber.onError(throwable);
+            }
+        }
+    }
+}
@@ -1,16 +1,23 @@
 package com.pushtorefresh.storio.sqlite.impl;
 
+import android.annotation.TargetApi;
 import android.content.ContentValues;
 import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
+import android.os.Build;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.WorkerThread;
 
 import com.pushtorefresh.storio.internal.ChangesBus;
 import com.pushtorefresh.storio.sqlite.Changes;
+import com.pushtorefresh.storio.sqlite.QueryResultsCache;
+import com.pushtorefresh.storio.sqlite.SQLiteMetricsListener;
 import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.operations.put.StatementBinder;
 import com.pushtorefresh.storio.sqlite.queries.DeleteQuery;
 import com.pushtorefresh.storio.sqlite.queries.InsertQuery;
 import com.pushtorefresh.storio.sqlite.queries.Query;
@@ -18,17 +25,22 @@ import com.pushtorefresh.storio.sqlite.queries.RawQuery;
 import com.pushtorefresh.storio.sqlite.queries.UpdateQuery;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import rx.Observable;
+import rx.functions.Func0;
 
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
 import static com.pushtorefresh.storio.internal.Environment.RX_JAVA_IS_IN_THE_CLASS_PATH;
+import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
 import static com.pushtorefresh.storio.internal.InternalQueries.nullableArrayOfStrings;
 import static com.pushtorefresh.storio.internal.InternalQueries.nullableString;
 import static java.util.Collections.unmodifiableMap;
@@ -40,12 +52,70 @@ import static java.util.Collections.unmodifiableMap;
  */
 public class DefaultStorIOSQLite extends StorIOSQLite {
 
+    /**
+     * Max number of statements compiled for one {@link Internal#insertAll(InsertQuery, List)}
+     * if cache of compiled statements is disabled, in most cases all rows have same columns.
+     */
+    private static final int BULK_INSERT_STATEMENTS_CACHE_SIZE = 4;
+
+    /**
+     * Value of changes coalescing window which means that coalescing is disabled.
+     */
+    static final long CHANGES_COALESCING_DISABLED = -1;
+
     @NonNull
     private final SQLiteOpenHelper sqLiteOpenHelper;
 
     @NonNull
     private final ChangesBus<Changes> changesBus = new ChangesBus<Changes>(RX_JAVA_IS_IN_THE_CLASS_PATH);
 
+    /**
+     * Dispatches changes to observers of affected tables, {@code null} if RxJava is not available.
+     * <p>
+     * Declared as {@link Object} to hide RxJava from ClassLoader.
+     */
+    @Nullable
+    private final Object changesDispatcher;
+
+    /**
+     * Cache of compiled statements for writes, {@code null} if disabled.
+     */
+    @Nullable
+    private final SQLiteStatementsCache statementsCache;
+
+    /**
+     * Merges changes before sending them to the {@link #changesBus}, {@code null} if disabled.
+     * <p>
+     * Declared as {@link Object} to hide RxJava from ClassLoader.
+     */
+    @Nullable
+    private final Object changesCoalescer;
+
+    /**
+     * Observables shared between identical Get Operations, {@code null} if RxJava is not available.
+     * <p>
+     * Declared as {@link Object} to hide RxJava from ClassLoader.
+     */
+    @Nullable
+    private final Object sharedObservables;
+
+    /**
+     * Cache of results of Get Operations, {@code null} if disabled.
+     */
+    @Nullable
+    private final QueryResultsCache queryResultsCache;
+
+    /**
+     * {@code true} if write-ahead logging is enabled for the database.
+     */
+    private final boolean writeAheadLoggingEnabled;
+
+    /**
+     * Listener of durations of operations, {@code null} if operations should not be measured.
+     */
+    @Nullable
+    private final SQLiteMetricsListener metricsListener;
+
     /**
      * Implementation of {@link StorIOSQLite.Internal}.
      */
@@ -53,8 +123,42 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
     private final Internal internal;
 
     protected DefaultStorIOSQLite(@NonNull SQLiteOpenHelper sqLiteOpenHelper, @Nullable Map<Class<?>, SQLiteTypeMapping<?>> typesMapping) {
-        this.sqLiteOpenHelper = sqLiteOpenHelper;
-        internal = new InternalImpl(typesMapping);
+        this(new CompleteBuilder(sqLiteOpenHelper, typesMapping));
+    }
+
+    /**
+     * Creates instance with configuration of passed builder,
+     * please use {@link DefaultStorIOSQLite#builder()} instead of this.
+     *
+     * @param builder builder with configuration of the instance.
+     */
+    DefaultStorIOSQLite(@NonNull CompleteBuilder builder) {
+        sqLiteOpenHelper = builder.sqLiteOpenHelper;
+        writeAheadLoggingEnabled = builder.writeAheadLoggingEnabled;
+        metricsListener = builder.metricsListener;
+        //noinspection ConstantConditions
+        changesDispatcher = RX_JAVA_IS_IN_THE_CLASS_PATH
+                ? ChangesDispatcher.newInstance(changesBus.asObservable())
+                : null;
+        statementsCache = builder.compiledStatementsCacheSize > 0
+                ? new SQLiteStatementsCache(builder.compiledStatementsCacheSize)
+                : null;
+        // Without RxJava nobody can observe changes, so there is nothing to coalesce
+        changesCoalescer = builder.changesCoalescingWindowMillis >= 0 && RX_JAVA_IS_IN_THE_CLASS_PATH
+                ? ChangesCoalescer.newInstance(changesBus, builder.changesCoalescingWindowMillis)
+                : null;
+        //noinspection ConstantConditions
+        sharedObservables = RX_JAVA_IS_IN_THE_CLASS_PATH
+                ? new SharedObservables()
+                : null;
+        queryResultsCache = builder.queryResultsCacheSize > 0
+                ? new QueryResultsCache(builder.queryResultsCacheSize)
+                : null;
+        internal = new InternalImpl(builder.typesMapping);
+
+        if (writeAheadLoggingEnabled) {
+            enableWriteAheadLogging(sqLiteOpenHelper);
+        }
     }
 
     /**
@@ -78,8 +182,12 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
     @Override
     @NonNull
     public Observable<Changes> observeChangesInTables(@NonNull final Set<String> tables) {
-        // indirect usage of RxJava filter() required to avoid problems with ClassLoader when RxJava is not in ClassPath
-        return ChangesFilter.apply(observeChanges(), tables);
+        if (changesDispatcher == null) {
+            throw new IllegalStateException("Observing changes in StorIOSQLite requires RxJava");
+        }
+
+        // indirect usage of RxJava required to avoid problems with ClassLoader when RxJava is not in ClassPath
+        return ((ChangesDispatcher) changesDispatcher).observeChangesInTables(tables);
     }
 
     /**
@@ -91,6 +199,20 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         return internal;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Observables are kept in {@link SharedObservables} while they have subscribers.
+     */
+    @NonNull
+    @Override
+    public <T> Observable<T> sharedObservable(@NonNull Object key, @NonNull Func0<Observable<T>> observableFactory) {
+        throwExceptionIfRxJavaIsNotAvailable("sharedObservable()");
+
+        //noinspection ConstantConditions -> sharedObservables is not null if RxJava is available
+        return ((SharedObservables) sharedObservables).share(key, observableFactory);
+    }
+
     /**
      * Closes underlying {@link SQLiteOpenHelper}.
      * <p>
@@ -100,9 +222,59 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
      */
     @Override
     public void close() throws IOException {
+        if (statementsCache != null) {
+            statementsCache.clear();
+        }
+
+        if (queryResultsCache != null) {
+            queryResultsCache.clear();
+        }
+
         sqLiteOpenHelper.close();
     }
 
+    /**
+     * {@link SQLiteOpenHelper#setWriteAheadLoggingEnabled(boolean)} does not exist before API 16,
+     * so calling it would crash with {@link NoSuchMethodError}.
+     */
+    static void checkWriteAheadLoggingIsSupported(int sdkInt) {
+        if (sdkInt < Build.VERSION_CODES.JELLY_BEAN) {
+            throw new IllegalStateException("Write-ahead logging requires API " + Build.VERSION_CODES.JELLY_BEAN
+                    + " (Jelly Bean) or higher, current API = " + sdkInt);
+        }
+    }
+
+    /**
+     * Enables write-ahead logging via {@link SQLiteOpenHelper}, so it's configured
+     * when the database is opened, before any transaction can be started.
+     * If the database is already opened, it's reconfigured immediately.
+     */
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private static void enableWriteAheadLogging(@NonNull SQLiteOpenHelper sqLiteOpenHelper) {
+        sqLiteOpenHelper.setWriteAheadLoggingEnabled(true);
+    }
+
+    @NonNull
+    private SQLiteDatabase writableDatabase() {
+        return sqLiteOpenHelper.getWritableDatabase();
+    }
+
+    /**
+     * Gets database for reads.
+     * <p>
+     * With write-ahead logging it's the same database as for writes, so reads from different
+     * threads run in parallel on the connection pool of the database instead of waiting
+     * for each other and for writes.
+     *
+     * @return readable database.
+     */
+    @NonNull
+    private SQLiteDatabase readableDatabase() {
+        return writeAheadLoggingEnabled
+                ? writableDatabase()
+                : sqLiteOpenHelper.getReadableDatabase();
+    }
+
     /**
      * Creates new builder for {@link DefaultStorIOSQLite}.
      *
@@ -148,8 +320,24 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
 
         private Map<Class<?>, SQLiteTypeMapping<?>> typesMapping;
 
+        private int compiledStatementsCacheSize;
+
+        private long changesCoalescingWindowMillis = CHANGES_COALESCING_DISABLED;
+
+        private boolean writeAheadLoggingEnabled;
+
+        private int queryResultsCacheSize;
+
+        @Nullable
+        private SQLiteMetricsListener metricsListener;
+
         CompleteBuilder(@NonNull SQLiteOpenHelper sqLiteOpenHelper) {
+            this(sqLiteOpenHelper, null);
+        }
+
+        CompleteBuilder(@NonNull SQLiteOpenHelper sqLiteOpenHelper, @Nullable Map<Class<?>, SQLiteTypeMapping<?>> typesMapping) {
             this.sqLiteOpenHelper = sqLiteOpenHelper;
+            this.typesMapping = typesMapping;
         }
 
         /**
@@ -174,6 +362,138 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
             return this;
         }
 
+        /**
+         * Optional: Specifies max number of compiled {@link android.database.sqlite.SQLiteStatement}s
+         * that will be cached and reused for inserts, updates and deletes.
+         * <p>
+         * Statements are keyed by table, set of columns and {@code WHERE} clause, so
+         * repeated writes of objects of the same type skip SQL building and compilation,
+         * values are bound directly into the cached statement.
+         * <p>
+         * Cache is cleared on each {@link StorIOSQLite.Internal#executeSQL(RawQuery)}
+         * because it can change the schema.
+         * <p>
+         * Default value is {@code 0} which means that cache is disabled.
+         *
+         * @param compiledStatementsCacheSize max number of cached statements, {@code 0} to disable cache.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder compiledStatementsCacheSize(int compiledStatementsCacheSize) {
+            if (compiledStatementsCacheSize < 0) {
+                throw new IllegalArgumentException("compiledStatementsCacheSize should be >= 0, compiledStatementsCacheSize = "
+                        + compiledStatementsCacheSize);
+            }
+
+            this.compiledStatementsCacheSize = compiledStatementsCacheSize;
+            return this;
+        }
+
+        /**
+         * Optional: Enables coalescing of {@link Changes}: all changes that happen within the window
+         * after the first one are merged into one {@link Changes} with union of affected tables.
+         * <p>
+         * So burst of non-transactional writes triggers one re-query of observing operations
+         * instead of one re-query per write, but notifications are delayed by the window.
+         * Window {@code 0} merges changes that happen before the next tick of the scheduler.
+         * <p>
+         * By default coalescing is disabled and each change is emitted immediately.
+         *
+         * @param window non-negative duration of the window.
+         * @param unit   unit of the window.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder changesCoalescingWindow(long window, @NonNull TimeUnit unit) {
+            checkNotNull(unit, "Please specify time unit");
+
+            if (window < 0) {
+                throw new IllegalArgumentException("window should be >= 0, window = " + window);
+            }
+
+            changesCoalescingWindowMillis = unit.toMillis(window);
+            return this;
+        }
+
+        /**
+         * Optional: Enables write-ahead logging for the database, see
+         * {@link SQLiteOpenHelper#setWriteAheadLoggingEnabled(boolean)}.
+         * <p>
+         * With write-ahead logging Get Operations from different threads are executed in parallel
+         * on the connection pool of the database and are not blocked by writes and transactions,
+         * so observing queries stay responsive while other threads write.
+         * Size of the pool is managed by Android itself.
+         * <p>
+         * Write-ahead logging is enabled via {@link SQLiteOpenHelper}, so it's configured when
+         * the database is opened. If the database is already opened, it's reconfigured
+         * when {@link DefaultStorIOSQLite} is built, so there should be no running transactions.
+         * It has no effect for in-memory databases.
+         * <p>
+         * Requires API 16 (Jelly Bean) or higher, {@link #build()} throws
+         * {@link IllegalStateException} if it's enabled on lower API level.
+         * <p>
+         * Default value is {@code false}.
+         *
+         * @param writeAheadLoggingEnabled {@code true} to enable write-ahead logging.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder writeAheadLoggingEnabled(boolean writeAheadLoggingEnabled) {
+            this.writeAheadLoggingEnabled = writeAheadLoggingEnabled;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies max number of results of Get Operations
+         * that will be cached in memory, see {@link QueryResultsCache}.
+         * <p>
+         * Results of {@code listOfObjects()}, {@code object()} and {@code numberOfResults()}
+         * are keyed by query, {@link com.pushtorefresh.storio.sqlite.operations.get.GetResolver}
+         * and type of operation, so repeated identical reads of rarely changed tables
+         * are served from memory without touching the db.
+         * Raw queries are cached only if they declare observed tables.
+         * <p>
+         * Cached results are removed on {@link Changes} of tables they were read from,
+         * and whole cache is cleared on each {@link StorIOSQLite.Internal#executeSQL(RawQuery)}.
+         * Results are not cached during transactions.
+         * Cached objects are shared between callers, so they should be immutable.
+         * <p>
+         * Default value is {@code 0} which means that cache is disabled.
+         *
+         * @param queryResultsCacheSize max number of cached results, {@code 0} to disable cache.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder queryResultsCacheSize(int queryResultsCacheSize) {
+            if (queryResultsCacheSize < 0) {
+                throw new IllegalArgumentException("queryResultsCacheSize should be >= 0, queryResultsCacheSize = "
+                        + queryResultsCacheSize);
+            }
+
+            this.queryResultsCacheSize = queryResultsCacheSize;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies {@link SQLiteMetricsListener} that receives time spent in the db
+         * and in mapping of rows, number of read or written rows of each operation
+         * and time spent in dispatching of {@link Changes}.
+         * <p>
+         * Reads are reported by all Get Operations, operations that don't map rows to objects
+         * report zero mapping time. Writes and executed SQL are reported by {@link StorIOSQLite.Internal}.
+         * <p>
+         * By default operations are not measured and no time is read.
+         *
+         * @param metricsListener listener of operations.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder metricsListener(@NonNull SQLiteMetricsListener metricsListener) {
+            checkNotNull(metricsListener, "Please specify metrics listener");
+            this.metricsListener = metricsListener;
+            return this;
+        }
+
         /**
          * Builds {@link DefaultStorIOSQLite} instance with required params.
          *
@@ -181,7 +501,11 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
          */
         @NonNull
         public DefaultStorIOSQLite build() {
-            return new DefaultStorIOSQLite(sqLiteOpenHelper, typesMapping);
+            if (writeAheadLoggingEnabled) {
+                checkWriteAheadLoggingIsSupported(Build.VERSION.SDK_INT);
+            }
+
+            return new DefaultStorIOSQLite(this);
         }
     }
 
@@ -290,18 +614,32 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         @WorkerThread
         @Override
         public void executeSQL(@NonNull RawQuery rawQuery) {
+            if (statementsCache != null) {
+                // Schema can be changed, so compiled statements may become invalid
+                statementsCache.clear();
+            }
+
+            if (queryResultsCache != null) {
+                // Statement can change any table without notification
+                queryResultsCache.clear();
+            }
+
+            final long startNanos = metricsListener != null ? System.nanoTime() : 0;
+
             if (rawQuery.args().isEmpty()) {
-                sqLiteOpenHelper
-                        .getWritableDatabase()
+                writableDatabase()
                         .execSQL(rawQuery.query());
             } else {
-                sqLiteOpenHelper
-                        .getWritableDatabase()
+                writableDatabase()
                         .execSQL(
                                 rawQuery.query(),
                                 rawQuery.args().toArray(new String[rawQuery.args().size()])
                         );
             }
+
+            if (metricsListener != null) {
+                metricsListener.onExecuteSQL(rawQuery, System.nanoTime() - startNanos);
+            }
         }
 
         /**
@@ -311,8 +649,7 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         @NonNull
         @Override
         public Cursor rawQuery(@NonNull RawQuery rawQuery) {
-            return sqLiteOpenHelper
-                    .getReadableDatabase()
+            return readableDatabase()
                     .rawQuery(
                             rawQuery.query(),
                             nullableArrayOfStrings(rawQuery.args())
@@ -326,8 +663,7 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         @NonNull
         @Override
         public Cursor query(@NonNull Query query) {
-            return sqLiteOpenHelper
-                    .getReadableDatabase().query(
+            return readableDatabase().query(
                             query.distinct(),
                             query.table(),
                             nullableArrayOfStrings(query.columns()),
@@ -346,13 +682,30 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         @WorkerThread
         @Override
         public long insert(@NonNull InsertQuery insertQuery, @NonNull ContentValues contentValues) {
-            return sqLiteOpenHelper
-                    .getWritableDatabase()
-                    .insertOrThrow(
-                            insertQuery.table(),
-                            insertQuery.nullColumnHack(),
-                            contentValues
-                    );
+            final long startNanos = metricsListener != null ? System.nanoTime() : 0;
+            final long insertedId;
+
+            if (statementsCache != null && contentValues.size() > 0) {
+                insertedId = statementsCache.insert(
+                        writableDatabase(),
+                        insertQuery.table(),
+                        contentValues,
+                        SQLiteDatabase.CONFLICT_NONE
+                );
+            } else {
+                insertedId = writableDatabase()
+                        .insertOrThrow(
+                                insertQuery.table(),
+                                insertQuery.nullColumnHack(),
+                                contentValues
+                        );
+            }
+
+            if (metricsListener != null) {
+                metricsListener.onInsert(insertQuery, insertedId != -1 ? 1 : 0, System.nanoTime() - startNanos);
+            }
+
+            return insertedId;
         }
 
         /**
@@ -361,14 +714,110 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         @WorkerThread
         @Override
         public long insertWithOnConflict(@NonNull InsertQuery insertQuery, @NonNull ContentValues contentValues, int conflictAlgorithm) {
-            return sqLiteOpenHelper
-                    .getWritableDatabase()
-                    .insertWithOnConflict(
-                            insertQuery.table(),
-                            insertQuery.nullColumnHack(),
-                            contentValues,
-                            conflictAlgorithm
-                    );
+            final long startNanos = metricsListener != null ? System.nanoTime() : 0;
+            final long insertedId;
+
+            if (statementsCache != null && contentValues.size() > 0) {
+                insertedId = statementsCache.insert(
+                        writableDatabase(),
+                        insertQuery.table(),
+                        contentValues,
+                        conflictAlgorithm
+                );
+            } else {
+                insertedId = writableDatabase()
+                        .insertWithOnConflict(
+                                insertQuery.table(),
+                                insertQuery.nullColumnHack(),
+                                contentValues,
+                                conflictAlgorithm
+                        );
+            }
+
+            if (metricsListener != null) {
+                // -1 means that row was ignored because of conflict
+                metricsListener.onInsert(insertQuery, insertedId != -1 ? 1 : 0, System.nanoTime() - startNanos);
+            }
+
+            return insertedId;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Rows with the same set of columns are inserted via one compiled statement
+         * even if cache of compiled statements is disabled.
+         */
+        @WorkerThread
+        @NonNull
+        @Override
+        public long[] insertAll(@NonNull InsertQuery insertQuery, @NonNull List<ContentValues> contentValuesList) {
+            final SQLiteStatementsCache cache = statementsCache != null
+                    ? statementsCache
+                    : new SQLiteStatementsCache(BULK_INSERT_STATEMENTS_CACHE_SIZE);
+            final long startNanos = metricsListener != null ? System.nanoTime() : 0;
+
+            try {
+                final SQLiteDatabase db = writableDatabase();
+                final long[] insertedIds = new long[contentValuesList.size()];
+
+                for (int i = 0; i < insertedIds.length; i++) {
+                    final ContentValues contentValues = contentValuesList.get(i);
+
+                    if (contentValues.size() > 0) {
+                        insertedIds[i] = cache.insert(db, insertQuery.table(), contentValues, SQLiteDatabase.CONFLICT_NONE);
+                    } else {
+                        insertedIds[i] = db.insertOrThrow(insertQuery.table(), insertQuery.nullColumnHack(), contentValues);
+                    }
+                }
+
+                if (metricsListener != null) {
+                    metricsListener.onInsert(insertQuery, insertedIds.length, System.nanoTime() - startNanos);
+                }
+
+                return insertedIds;
+            } finally {
+                if (cache != statementsCache) {
+                    cache.clear();
+                }
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Statement is compiled once for all objects and is closed after insert.
+         */
+        @WorkerThread
+        @NonNull
+        @Override
+        public <T> long[] insertAll(@NonNull InsertQuery insertQuery,
+                                    @NonNull List<T> objects,
+                                    @NonNull StatementBinder<T> statementBinder) {
+            final long startNanos = metricsListener != null ? System.nanoTime() : 0;
+            final SQLiteStatement statement = SQLiteStatementsCache.compileInsert(
+                    writableDatabase(),
+                    insertQuery.table(),
+                    statementBinder.columns()
+            );
+
+            try {
+                final long[] insertedIds = new long[objects.size()];
+
+                for (int i = 0; i < insertedIds.length; i++) {
+                    statement.clearBindings();
+                    statementBinder.bind(statement, objects.get(i));
+                    insertedIds[i] = statement.executeInsert();
+                }
+
+                if (metricsListener != null) {
+                    metricsListener.onInsert(insertQuery, insertedIds.length, System.nanoTime() - startNanos);
+                }
+
+                return insertedIds;
+            } finally {
+                statement.close();
+            }
         }
 
         /**
@@ -377,14 +826,32 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         @WorkerThread
         @Override
         public int update(@NonNull UpdateQuery updateQuery, @NonNull ContentValues contentValues) {
-            return sqLiteOpenHelper
-                    .getWritableDatabase()
-                    .update(
-                            updateQuery.table(),
-                            contentValues,
-                            nullableString(updateQuery.where()),
-                            nullableArrayOfStrings(updateQuery.whereArgs())
-                    );
+            final long startNanos = metricsListener != null ? System.nanoTime() : 0;
+            final int numberOfRows;
+
+            if (statementsCache != null && contentValues.size() > 0) {
+                numberOfRows = statementsCache.update(
+                        writableDatabase(),
+                        updateQuery.table(),
+                        contentValues,
+                        updateQuery.where(),
+                        updateQuery.whereArgs()
+                );
+            } else {
+                numberOfRows = writableDatabase()
+                        .update(
+                                updateQuery.table(),
+                                contentValues,
+                                nullableString(updateQuery.where()),
+                                nullableArrayOfStrings(updateQuery.whereArgs())
+                        );
+            }
+
+            if (metricsListener != null) {
+                metricsListener.onUpdate(updateQuery, numberOfRows, System.nanoTime() - startNanos);
+            }
+
+            return numberOfRows;
         }
 
         /**
@@ -393,13 +860,30 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
         @WorkerThread
         @Override
         public int delete(@NonNull DeleteQuery deleteQuery) {
-            return sqLiteOpenHelper
-                    .getWritableDatabase()
-                    .delete(
-                            deleteQuery.table(),
-                            nullableString(deleteQuery.where()),
-                            nullableArrayOfStrings(deleteQuery.whereArgs())
-                    );
+            final long startNanos = metricsListener != null ? System.nanoTime() : 0;
+            final int numberOfRows;
+
+            if (statementsCache != null) {
+                numberOfRows = statementsCache.delete(
+                        writableDatabase(),
+                        deleteQuery.table(),
+                        deleteQuery.where(),
+                        deleteQuery.whereArgs()
+                );
+            } else {
+                numberOfRows = writableDatabase()
+                        .delete(
+                                deleteQuery.table(),
+                                nullableString(deleteQuery.where()),
+                                nullableArrayOfStrings(deleteQuery.whereArgs())
+                        );
+            }
+
+            if (metricsListener != null) {
+                metricsListener.onDelete(deleteQuery, numberOfRows, System.nanoTime() - startNanos);
+            }
+
+            return numberOfRows;
         }
 
         /**
@@ -411,7 +895,7 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
 
             // Fast path, no synchronization required
             if (numberOfRunningTransactions.get() == 0) {
-                changesBus.onNext(changes);
+                sendChanges(changes);
             } else {
                 synchronized (lock) {
                     pendingChanges.add(changes);
@@ -434,9 +918,67 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
             }
 
             if (changesToSend != null) {
+                // Changes of same tables are merged, so keys of affected rows are kept
+                // and number of notifications is same as without keys
+                final Map<Set<String>, List<Changes>> changesByTables
+                        = new HashMap<Set<String>, List<Changes>>(changesToSend.size());
+
                 for (Changes changes : changesToSend) {
-                    changesBus.onNext(changes);
+                    List<Changes> changesOfTables = changesByTables.get(changes.affectedTables());
+
+                    if (changesOfTables == null) {
+                        changesOfTables = new ArrayList<Changes>(1);
+                        changesByTables.put(changes.affectedTables(), changesOfTables);
+                    }
+
+                    changesOfTables.add(changes);
                 }
+
+                for (List<Changes> changesOfTables : changesByTables.values()) {
+                    sendChanges(Changes.merge(changesOfTables));
+                }
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Returns {@code null} during transactions: uncommitted results must not be
+         * visible to other threads and can be rolled back.
+         */
+        @Nullable
+        @Override
+        public QueryResultsCache queryResultsCache() {
+            return numberOfRunningTransactions.get() == 0
+                    ? queryResultsCache
+                    : null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Nullable
+        @Override
+        public SQLiteMetricsListener metricsListener() {
+            return metricsListener;
+        }
+
+        private void sendChanges(@NonNull Changes changes) {
+            final long startNanos = metricsListener != null ? System.nanoTime() : 0;
+
+            if (queryResultsCache != null) {
+                // Before notification, so observers re-query db instead of cache
+                queryResultsCache.invalidate(changes);
+            }
+
+            if (changesCoalescer != null) {
+                ((ChangesCoalescer) changesCoalescer).onNext(changes);
+            } else {
+                changesBus.onNext(changes);
+            }
+
+            if (metricsListener != null) {
+                metricsListener.onChanges(changes, System.nanoTime() - startNanos);
             }
         }
 
@@ -445,9 +987,12 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
          */
         @Override
         public void beginTransaction() {
-            sqLiteOpenHelper
-                    .getWritableDatabase()
-                    .beginTransaction();
+            if (writeAheadLoggingEnabled) {
+                // Non-exclusive transaction lets other connections of the pool keep reading
+                writableDatabase().beginTransactionNonExclusive();
+            } else {
+                writableDatabase().beginTransaction();
+            }
 
             numberOfRunningTransactions.incrementAndGet();
         }
@@ -457,8 +1002,7 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
          */
         @Override
         public void setTransactionSuccessful() {
-            sqLiteOpenHelper
-                    .getWritableDatabase()
+            writableDatabase()
                     .setTransactionSuccessful();
         }
 
@@ -467,8 +1011,7 @@ public class DefaultStorIOSQLite extends StorIOSQLite {
          */
         @Override
         public void endTransaction() {
-            sqLiteOpenHelper
-                    .getWritableDatabase()
+            writableDatabase()
                     .endTransaction();
 
             numberOfRunningTransactions.decrementAndGet();
@@ -0,0 +1,383 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import android.content.ContentValues;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * FOR INTERNAL USAGE ONLY.
+ * <p>
+ * LRU cache of compiled {@link SQLiteStatement}s for INSERT, UPDATE and DELETE.
+ * <p>
+ * Statements are keyed by table, set of columns, conflict algorithm and {@code WHERE} clause,
+ * so the same SQL is compiled only once and values are bound directly into reused statement.
+ * <p>
+ * Thread-safe.
+ */
+final class SQLiteStatementsCache {
+
+    // Same values as SQLiteDatabase uses for CONFLICT_* constants
+    @NonNull
+    private static final String[] CONFLICT_VALUES
+            = new String[]{"", " OR ROLLBACK ", " OR ABORT ", " OR FAIL ", " OR IGNORE ", " OR REPLACE "};
+
+    private static final int TYPE_INSERT = 0;
+
+    private static final int TYPE_UPDATE = 1;
+
+    private static final int TYPE_DELETE = 2;
+
+    private final int maxSize;
+
+    /**
+     * Guarded by {@code this}.
+     */
+    @NonNull
+    private final LinkedHashMap<Key, CachedStatement> statements;
+
+    /**
+     * Database for which statements were compiled, guarded by {@code this}.
+     */
+    @Nullable
+    private SQLiteDatabase database;
+
+    SQLiteStatementsCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize should be > 0, maxSize = " + maxSize);
+        }
+
+        this.maxSize = maxSize;
+        statements = new LinkedHashMap<Key, CachedStatement>(16, 0.75f, true);
+    }
+
+    /**
+     * Executes INSERT via cached statement.
+     *
+     * @return id of inserted row.
+     */
+    long insert(@NonNull SQLiteDatabase db,
+                @NonNull String table,
+                @NonNull ContentValues contentValues,
+                int conflictAlgorithm) {
+        final CachedStatement cachedStatement = acquire(
+                db,
+                new Key(TYPE_INSERT, conflictAlgorithm, table, contentValues.keySet(), null)
+        );
+
+        try {
+            cachedStatement.bindValues(contentValues);
+            return cachedStatement.statement.executeInsert();
+        } finally {
+            release(cachedStatement);
+        }
+    }
+
+    /**
+     * Executes UPDATE via cached statement.
+     *
+     * @return number of updated rows.
+     */
+    int update(@NonNull SQLiteDatabase db,
+               @NonNull String table,
+               @NonNull ContentValues contentValues,
+               @NonNull String where,
+               @NonNull List<String> whereArgs) {
+        final CachedStatement cachedStatement = acquire(
+                db,
+                new Key(TYPE_UPDATE, SQLiteDatabase.CONFLICT_NONE, table, contentValues.keySet(), where)
+        );
+
+        try {
+            cachedStatement.bindValues(contentValues);
+            cachedStatement.bindWhereArgs(whereArgs);
+            return cachedStatement.statement.executeUpdateDelete();
+        } finally {
+            release(cachedStatement);
+        }
+    }
+
+    /**
+     * Executes DELETE via cached statement.
+     *
+     * @return number of deleted rows.
+     */
+    int delete(@NonNull SQLiteDatabase db,
+               @NonNull String table,
+               @NonNull String where,
+               @NonNull List<String> whereArgs) {
+        final CachedStatement cachedStatement = acquire(
+                db,
+                new Key(TYPE_DELETE, SQLiteDatabase.CONFLICT_NONE, table, Collections.<String>emptySet(), where)
+        );
+
+        try {
+            cachedStatement.statement.clearBindings();
+            cachedStatement.bindWhereArgs(whereArgs);
+            return cachedStatement.statement.executeUpdateDelete();
+        } finally {
+            release(cachedStatement);
+        }
+    }
+
+    /**
+     * Compiles INSERT statement which is not cached, values should be bound in order of passed columns.
+     *
+     * @return compiled statement, caller should close it.
+     */
+    @NonNull
+    static SQLiteStatement compileInsert(@NonNull SQLiteDatabase db, @NonNull String table, @NonNull String[] columns) {
+        final Key key = new Key(TYPE_INSERT, SQLiteDatabase.CONFLICT_NONE, table, Collections.<String>emptySet(), null);
+        return db.compileStatement(key.sql(columns));
+    }
+
+    /**
+     * Closes all cached statements.
+     * Should be called when schema may be changed or db is going to be closed.
+     */
+    synchronized void clear() {
+        for (CachedStatement cachedStatement : statements.values()) {
+            evict(cachedStatement);
+        }
+
+        statements.clear();
+        database = null;
+    }
+
+    /**
+     * Returns cached statement or compiles new one, statement is exclusively owned
+     * by the caller until {@link #release(CachedStatement)}.
+     * <p>
+     * Lock of the cache is held only for lookup and publication of statements, statements are
+     * compiled without it: compiling needs connection of the db, which may be held by another
+     * thread's transaction, and that thread may want to use the cache.
+     * If cached statement is used by another thread at the moment, temporary statement
+     * will be compiled instead of waiting for the same reason.
+     */
+    @NonNull
+    private CachedStatement acquire(@NonNull SQLiteDatabase db, @NonNull Key key) {
+        synchronized (this) {
+            if (database != db) {
+                // Db was reopened, statements compiled for previous instance are useless
+                clear();
+                database = db;
+            }
+
+            final CachedStatement cachedStatement = statements.get(key);
+
+            if (cachedStatement != null && !cachedStatement.inUse) {
+                cachedStatement.inUse = true;
+                return cachedStatement;
+            }
+        }
+
+        final Key immutableKey = key.immutableCopy();
+        final CachedStatement compiledStatement = compile(db, immutableKey);
+
+        synchronized (this) {
+            final CachedStatement cachedStatement = statements.get(immutableKey);
+
+            if (database != db) {
+                // Db was reopened while statement was compiled
+                compiledStatement.evicted = true; // will be closed right after usage
+            } else if (cachedStatement == null) {
+                statements.put(immutableKey, compiledStatement);
+
+                if (statements.size() > maxSize) {
+                    final Iterator<CachedStatement> iterator = statements.values().iterator();
+                    evict(iterator.next());
+                    iterator.remove();
+                }
+            } else if (!cachedStatement.inUse) {
+                // Another thread published same statement while this one was compiled
+                compiledStatement.statement.close();
+                cachedStatement.inUse = true;
+                return cachedStatement;
+            } else {
+                compiledStatement.evicted = true; // will be closed right after usage
+            }
+
+            compiledStatement.inUse = true;
+            return compiledStatement;
+        }
+    }
+
+    private synchronized void release(@NonNull CachedStatement cachedStatement) {
+        cachedStatement.inUse = false;
+
+        if (cachedStatement.evicted) {
+            cachedStatement.statement.close();
+        }
+    }
+
+    private void evict(@NonNull CachedStatement cachedStatement) {
+        cachedStatement.evicted = true;
+
+        if (!cachedStatement.inUse) {
+            cachedStatement.statement.close();
+        }
+    }
+
+    @NonNull
+    private static CachedStatement compile(@NonNull SQLiteDatabase db, @NonNull Key key) {
+        final String[] columns = key.columns.toArray(new String[key.columns.size()]);
+        return new CachedStatement(db.compileStatement(key.sql(columns)), columns);
+    }
+
+    private static final class CachedStatement {
+
+        @NonNull
+        final SQLiteStatement statement;
+
+        /**
+         * Order of columns in compiled statement.
+         */
+        @NonNull
+        final String[] columns;
+
+        /**
+         * Guarded by {@link SQLiteStatementsCache}.
+         */
+        boolean inUse;
+
+        /**
+         * Guarded by {@link SQLiteStatementsCache}.
+         */
+        boolean evicted;
+
+        CachedStatement(@NonNull SQLiteStatement statement, @NonNull String[] columns) {
+            this.statement = statement;
+            this.columns = columns;
+        }
+
+        void bindValues(@NonNull ContentValues contentValues) {
+            statement.clearBindings();
+
+            //noinspection ForLoopReplaceableByForEach -> on Android it's faster
+            for (int i = 0; i < columns.length; i++) {
+                DatabaseUtils.bindObjectToProgram(statement, i + 1, contentValues.get(columns[i]));
+            }
+        }
+
+        void bindWhereArgs(@NonNull List<String> whereArgs) {
+            final int offset = columns.length + 1;
+
+            for (int i = 0; i < whereArgs.size(); i++) {
+                statement.bindString(offset + i, whereArgs.get(i));
+            }
+        }
+    }
+
+    private static final class Key {
+
+        private final int type;
+
+        private final int conflictAlgorithm;
+
+        @NonNull
+        private final String table;
+
+        @NonNull
+        private final Set<String> columns;
+
+        @Nullable
+        private final String where;
+
+        private final int hashCode;
+
+        Key(int type, int conflictAlgorithm, @NonNull String table, @NonNull Set<String> columns, @Nullable String where) {
+            this.type = type;
+            this.conflictAlgorithm = conflictAlgorithm;
+            this.table = table;
+            this.columns = columns;
+            this.where = where;
+
+            int result = type;
+            result = 31 * result + conflictAlgorithm;
+            result = 31 * result + table.hashCode();
+            result = 31 * result + columns.hashCode();
+            result = 31 * result + (where != null ? where.hashCode() : 0);
+            hashCode = result;
+        }
+
+        /**
+         * Lookup keys are created from live {@link ContentValues#keySet()},
+         * key that is stored in the cache must not depend on it.
+         */
+        @NonNull
+        Key immutableCopy() {
+            return new Key(type, conflictAlgorithm, table, new HashSet<String>(columns), where);
+        }
+
+        @NonNull
+        String sql(@NonNull String[] orderedColumns) {
+            final StringBuilder sql = new StringBuilder(64);
+
+            if (type == TYPE_INSERT) {
+                sql.append("INSERT").append(CONFLICT_VALUES[conflictAlgorithm]).append(" INTO ").append(table).append(" (");
+
+                for (int i = 0; i < orderedColumns.length; i++) {
+                    sql.append(i > 0 ? "," : "").append(orderedColumns[i]);
+                }
+
+                sql.append(") VALUES (");
+
+                for (int i = 0; i < orderedColumns.length; i++) {
+                    sql.append(i > 0 ? ",?" : "?");
+                }
+
+                sql.append(')');
+            } else {
+                if (type == TYPE_UPDATE) {
+                    sql.append("UPDATE ").append(table).append(" SET ");
+
+                    for (int i = 0; i < orderedColumns.length; i++) {
+                        sql.append(i > 0 ? "," : "").append(orderedColumns[i]).append("=?");
+                    }
+                } else {
+                    sql.append("DELETE FROM ").append(table);
+                }
+
+                if (where != null && where.length() > 0) {
+                    sql.append(" WHERE ").append(where);
+                }
+            }
+
+            return sql.toString();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Key key = (Key) o;
+
+            if (type != key.type) return false;
+            if (conflictAlgorithm != key.conflictAlgorithm) return false;
+            if (hashCode != key.hashCode) return false;
+            if (!table.equals(key.table)) return false;
+            if (!columns.equals(key.columns)) return false;
+            return where != null ? where.equals(key.where) : key.where == null;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    // Visible for tests
+    synchronized int size() {
+        return statements.size();
+    }
+}
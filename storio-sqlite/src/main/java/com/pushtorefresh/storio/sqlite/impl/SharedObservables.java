@@ -0,0 +1,82 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import android.support.annotation.NonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import rx.Observable;
+import rx.functions.Action0;
+import rx.functions.Func0;
+
+/**
+ * Registry of {@link Observable}s shared between subscribers with equal keys:
+ * all subscribers share one subscription to the source, latest value is replayed
+ * to late subscribers, source is unsubscribed and removed from the registry
+ * when all subscribers unsubscribe.
+ * <p>
+ * Registry is owned by {@link DefaultStorIOSQLite}, Get Operations reach it via
+ * {@link DefaultStorIOSQLite#sharedObservable(Object, Func0)}.
+ * <p>
+ * Hides RxJava from ClassLoader via separate class.
+ * <p>
+ * Thread-safe.
+ */
+final class SharedObservables {
+
+    /**
+     * Guarded by {@code this}.
+     */
+    @NonNull
+    private final Map<Object, Observable<?>> observables = new HashMap<Object, Observable<?>>();
+
+    SharedObservables() {
+    }
+
+    /**
+     * Returns shared {@link Observable} for passed key, creates it if there is no such observable.
+     *
+     * @param key               key of the observable, should implement {@code equals()} and {@code hashCode()}.
+     * @param observableFactory creates source observable if there is no shared observable for the key.
+     * @param <T>               type of values.
+     * @return shared observable.
+     */
+    @SuppressWarnings("unchecked")
+    @NonNull
+    synchronized <T> Observable<T> share(@NonNull final Object key, @NonNull Func0<Observable<T>> observableFactory) {
+        Observable<T> sharedObservable = (Observable<T>) observables.get(key);
+
+        if (sharedObservable == null) {
+            final AtomicReference<Observable<T>> sharedObservableReference = new AtomicReference<Observable<T>>();
+
+            sharedObservable = observableFactory
+                    .call()
+                    .doOnUnsubscribe(new Action0() {
+                        @Override
+                        public void call() {
+                            remove(key, sharedObservableReference.get());
+                        }
+                    })
+                    .replay(1)
+                    .refCount();
+
+            sharedObservableReference.set(sharedObservable);
+            observables.put(key, sharedObservable);
+        }
+
+        return sharedObservable;
+    }
+
+    private synchronized void remove(@NonNull Object key, @NonNull Observable<?> sharedObservable) {
+        // Newer observable can be registered for same key
+        if (observables.get(key) == sharedObservable) {
+            observables.remove(key);
+        }
+    }
+
+    // Visible for tests
+    synchronized int size() {
+        return observables.size();
+    }
+}
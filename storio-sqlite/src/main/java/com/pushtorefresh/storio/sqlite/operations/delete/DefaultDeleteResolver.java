@@ -5,6 +5,9 @@ import android.support.annotation.NonNull;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.queries.DeleteQuery;
 
+import static com.pushtorefresh.storio.internal.InternalQueries.keyColumnOf;
+import static java.util.Collections.singletonList;
+
 /**
  * Default implementation of {@link DeleteResolver}.
  * Thread-safe.
@@ -28,6 +31,11 @@ public abstract class DefaultDeleteResolver<T> extends DeleteResolver<T> {
     public DeleteResult performDelete(@NonNull StorIOSQLite storIOSQLite, @NonNull T object) {
         final DeleteQuery deleteQuery = mapToDeleteQuery(object);
         final int numberOfRowsDeleted = storIOSQLite.internal().delete(deleteQuery);
-        return DeleteResult.newInstance(numberOfRowsDeleted, deleteQuery.table());
+        final String keyColumn = keyColumnOf(deleteQuery.where(), deleteQuery.whereArgs().size());
+
+        // Key of deleted row lets observers of other rows skip this change
+        return keyColumn != null
+                ? DeleteResult.newInstance(numberOfRowsDeleted, deleteQuery.table(), keyColumn, singletonList(deleteQuery.whereArgs().get(0)))
+                : DeleteResult.newInstance(numberOfRowsDeleted, deleteQuery.table());
     }
 }
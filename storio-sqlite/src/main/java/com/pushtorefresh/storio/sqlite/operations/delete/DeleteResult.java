@@ -1,11 +1,18 @@
 package com.pushtorefresh.storio.sqlite.operations.delete;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
+import com.pushtorefresh.storio.sqlite.Changes;
+
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 
+import static com.pushtorefresh.storio.internal.Checks.checkNotEmpty;
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
+import static com.pushtorefresh.storio.internal.InternalQueries.normalizeKey;
 
 /**
  * Immutable container for result of Delete Operation.
@@ -19,10 +26,26 @@ public final class DeleteResult {
     @NonNull
     private final Set<String> affectedTables;
 
+    @Nullable
+    private final String keyColumn;
+
+    @NonNull
+    private final Set<String> affectedKeys;
+
     private DeleteResult(int numberOfRowsDeleted, @NonNull Set<String> affectedTables) {
+        this(numberOfRowsDeleted, affectedTables, null, Collections.<String>emptySet());
+    }
+
+    private DeleteResult(
+            int numberOfRowsDeleted,
+            @NonNull Set<String> affectedTables,
+            @Nullable String keyColumn,
+            @NonNull Set<String> affectedKeys) {
         checkNotNull(affectedTables, "Please specify affected tables");
         this.numberOfRowsDeleted = numberOfRowsDeleted;
         this.affectedTables = Collections.unmodifiableSet(affectedTables);
+        this.keyColumn = keyColumn;
+        this.affectedKeys = Collections.unmodifiableSet(affectedKeys);
     }
 
     /**
@@ -51,6 +74,37 @@ public final class DeleteResult {
         return new DeleteResult(numberOfRowsDeleted, Collections.singleton(affectedTable));
     }
 
+    /**
+     * Creates new instance of immutable container for results of Delete Operation
+     * with keys of deleted rows, so observers of other rows will not be notified about this change.
+     *
+     * @param numberOfRowsDeleted number of rows that were deleted.
+     * @param affectedTable       table that was affected.
+     * @param keyColumn           column that identifies rows, for example {@code "_id"}.
+     * @param affectedKeys        values of key column of deleted rows.
+     * @return new instance of immutable container for results of Delete Operation.
+     */
+    @NonNull
+    public static DeleteResult newInstance(
+            int numberOfRowsDeleted,
+            @NonNull String affectedTable,
+            @NonNull String keyColumn,
+            @NonNull Collection<?> affectedKeys) {
+
+        checkNotNull(affectedTable, "Please specify affected table");
+        checkNotEmpty(keyColumn, "Please specify key column");
+        checkNotNull(affectedKeys, "Please specify affected keys");
+
+        final Set<String> keys = new HashSet<String>(affectedKeys.size());
+
+        for (Object key : affectedKeys) {
+            checkNotNull(key, "Affected key can not be null");
+            keys.add(normalizeKey(key));
+        }
+
+        return new DeleteResult(numberOfRowsDeleted, Collections.singleton(affectedTable), keyColumn, keys);
+    }
+
     /**
      * Gets number of rows that were deleted.
      *
@@ -70,6 +124,38 @@ public final class DeleteResult {
         return affectedTables;
     }
 
+    /**
+     * Gets column that identifies deleted rows.
+     *
+     * @return {@code null} if keys of deleted rows are unknown, name of key column otherwise.
+     */
+    @Nullable
+    public String keyColumn() {
+        return keyColumn;
+    }
+
+    /**
+     * Gets keys of deleted rows in canonical form.
+     *
+     * @return unmodifiable set of keys, empty if keys of deleted rows are unknown.
+     */
+    @NonNull
+    public Set<String> affectedKeys() {
+        return affectedKeys;
+    }
+
+    /**
+     * Creates {@link Changes} that describe this result, with keys of deleted rows if they are known.
+     *
+     * @return new immutable instance of {@link Changes}.
+     */
+    @NonNull
+    public Changes toChanges() {
+        return keyColumn != null
+                ? Changes.newInstance(affectedTables.iterator().next(), keyColumn, affectedKeys)
+                : Changes.newInstance(affectedTables);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -78,13 +164,18 @@ public final class DeleteResult {
         DeleteResult that = (DeleteResult) o;
 
         if (numberOfRowsDeleted != that.numberOfRowsDeleted) return false;
-        return affectedTables.equals(that.affectedTables);
+        if (!affectedTables.equals(that.affectedTables)) return false;
+        if (keyColumn != null ? !keyColumn.equals(that.keyColumn) : that.keyColumn != null)
+            return false;
+        return affectedKeys.equals(that.affectedKeys);
     }
 
     @Override
     public int hashCode() {
         int result = numberOfRowsDeleted;
         result = 31 * result + affectedTables.hashCode();
+        result = 31 * result + (keyColumn != null ? keyColumn.hashCode() : 0);
+        result = 31 * result + affectedKeys.hashCode();
         return result;
     }
 
@@ -93,6 +184,8 @@ public final class DeleteResult {
         return "DeleteResult{" +
                 "numberOfRowsDeleted=" + numberOfRowsDeleted +
                 ", affectedTables=" + affectedTables +
+                ", keyColumn='" + keyColumn + '\'' +
+                ", affectedKeys=" + affectedKeys +
                 '}';
     }
 }
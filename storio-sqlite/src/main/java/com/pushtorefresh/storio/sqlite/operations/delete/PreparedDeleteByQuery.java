@@ -7,7 +7,6 @@ import android.support.annotation.WorkerThread;
 
 import com.pushtorefresh.storio.StorIOException;
 import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking;
-import com.pushtorefresh.storio.sqlite.Changes;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.queries.DeleteQuery;
 
@@ -49,7 +48,7 @@ public final class PreparedDeleteByQuery extends PreparedDelete<DeleteResult> {
         try {
             final DeleteResult deleteResult = deleteResolver.performDelete(storIOSQLite, deleteQuery);
             if (deleteResult.numberOfRowsDeleted() > 0) {
-                storIOSQLite.internal().notifyAboutChanges(Changes.newInstance(deleteResult.affectedTables()));
+                storIOSQLite.internal().notifyAboutChanges(deleteResult.toChanges());
             }
             return deleteResult;
         } catch (Exception exception) {
@@ -1,5 +1,6 @@
 package com.pushtorefresh.storio.sqlite.operations.delete;
 
+import android.database.Cursor;
 import android.support.annotation.CheckResult;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
@@ -10,20 +11,23 @@ import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking
 import com.pushtorefresh.storio.sqlite.Changes;
 import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.DeleteQuery;
+import com.pushtorefresh.storio.sqlite.queries.RawQuery;
 
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import rx.Observable;
 import rx.schedulers.Schedulers;
 
 import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+import static com.pushtorefresh.storio.internal.InternalQueries.keyColumnOf;
+import static java.util.Collections.singletonList;
 
 /**
  * Prepared Delete Operation for {@link StorIOSQLite}.
@@ -32,6 +36,11 @@ import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJa
  */
 public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<DeleteResults<T>> {
 
+    /**
+     * Default value of SQLITE_MAX_VARIABLE_NUMBER.
+     */
+    static final int MAX_NUMBER_OF_ARGS_IN_BATCH = 999;
+
     @NonNull
     private final Collection<T> objects;
 
@@ -40,14 +49,25 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
 
     private final boolean useTransaction;
 
+    private final boolean useBatchDelete;
+
     PreparedDeleteCollectionOfObjects(@NonNull StorIOSQLite storIOSQLite,
                                       @NonNull Collection<T> objects,
                                       @Nullable DeleteResolver<T> explicitDeleteResolver,
                                       boolean useTransaction) {
+        this(storIOSQLite, objects, explicitDeleteResolver, useTransaction, false);
+    }
+
+    PreparedDeleteCollectionOfObjects(@NonNull StorIOSQLite storIOSQLite,
+                                      @NonNull Collection<T> objects,
+                                      @Nullable DeleteResolver<T> explicitDeleteResolver,
+                                      boolean useTransaction,
+                                      boolean useBatchDelete) {
         super(storIOSQLite);
         this.objects = objects;
         this.explicitDeleteResolver = explicitDeleteResolver;
         this.useTransaction = useTransaction;
+        this.useBatchDelete = useBatchDelete;
     }
 
     /**
@@ -101,14 +121,16 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
             boolean transactionSuccessful = false;
 
             try {
-                if (explicitDeleteResolver != null) {
+                if (useBatchDelete) {
+                    performBatchDelete(internal, objectsAndDeleteResolvers, results);
+                } else if (explicitDeleteResolver != null) {
                     for (final T object : objects) {
                         final DeleteResult deleteResult = explicitDeleteResolver.performDelete(storIOSQLite, object);
 
                         results.put(object, deleteResult);
 
                         if (!useTransaction && deleteResult.numberOfRowsDeleted() > 0) {
-                            internal.notifyAboutChanges(Changes.newInstance(deleteResult.affectedTables()));
+                            internal.notifyAboutChanges(deleteResult.toChanges());
                         }
                     }
                 } else {
@@ -121,7 +143,7 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
                         results.put(object, deleteResult);
 
                         if (!useTransaction && deleteResult.numberOfRowsDeleted() > 0) {
-                            internal.notifyAboutChanges(Changes.newInstance(deleteResult.affectedTables()));
+                            internal.notifyAboutChanges(deleteResult.toChanges());
                         }
                     }
                 }
@@ -136,19 +158,19 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
 
                     // if delete was in transaction and it was successful -> notify about changes
                     if (transactionSuccessful) {
-                        final Set<String> affectedTables = new HashSet<String>(1); // in most cases it will be one table
+                        final List<Changes> changes = new ArrayList<Changes>(results.size());
 
                         for (final T object : results.keySet()) {
                             final DeleteResult deleteResult = results.get(object);
                             if (deleteResult.numberOfRowsDeleted() > 0) {
-                                affectedTables.addAll(results.get(object).affectedTables());
+                                changes.add(deleteResult.toChanges());
                             }
                         }
 
                         // IMPORTANT: Notifying about change should be done after end of transaction
                         // It'll reduce number of possible deadlock situations
-                        if (!affectedTables.isEmpty()) {
-                            internal.notifyAboutChanges(Changes.newInstance(affectedTables));
+                        if (!changes.isEmpty()) {
+                            internal.notifyAboutChanges(Changes.merge(changes));
                         }
                     }
                 }
@@ -161,6 +183,191 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
         }
     }
 
+    /**
+     * Deletes objects which {@link DeleteResolver} is {@link DefaultDeleteResolver} and which
+     * {@link DeleteQuery} looks like {@code "key = ?"} via {@code "key IN (?, ?, ...)"} statements
+     * grouped by table and key column. Other objects are deleted as usual.
+     */
+    private void performBatchDelete(@NonNull StorIOSQLite.Internal internal,
+                                    @Nullable List<SimpleImmutableEntry<T, DeleteResolver<T>>> objectsAndDeleteResolvers,
+                                    @NonNull Map<T, DeleteResult> results) {
+        // table -> key column -> objects with their keys
+        final Map<String, Map<String, List<SimpleImmutableEntry<T, String>>>> batches
+                = new HashMap<String, Map<String, List<SimpleImmutableEntry<T, String>>>>(1); // in most cases it will be 1 table
+
+        int index = 0;
+
+        for (final T object : objects) {
+            //noinspection ConstantConditions -> objectsAndDeleteResolvers is not null if there is no explicit DeleteResolver
+            final DeleteResolver<T> deleteResolver = explicitDeleteResolver != null
+                    ? explicitDeleteResolver
+                    : objectsAndDeleteResolvers.get(index).getValue();
+
+            index++;
+
+            if (deleteResolver instanceof DefaultDeleteResolver) {
+                final DeleteQuery deleteQuery = ((DefaultDeleteResolver<T>) deleteResolver).mapToDeleteQuery(object);
+                final String keyColumn = keyColumnOf(deleteQuery.where(), deleteQuery.whereArgs().size());
+
+                if (keyColumn != null) {
+                    Map<String, List<SimpleImmutableEntry<T, String>>> batchesForTable = batches.get(deleteQuery.table());
+
+                    if (batchesForTable == null) {
+                        batchesForTable = new HashMap<String, List<SimpleImmutableEntry<T, String>>>(1);
+                        batches.put(deleteQuery.table(), batchesForTable);
+                    }
+
+                    List<SimpleImmutableEntry<T, String>> batch = batchesForTable.get(keyColumn);
+
+                    if (batch == null) {
+                        batch = new ArrayList<SimpleImmutableEntry<T, String>>();
+                        batchesForTable.put(keyColumn, batch);
+                    }
+
+                    batch.add(new SimpleImmutableEntry<T, String>(object, deleteQuery.whereArgs().get(0)));
+                    continue;
+                }
+            }
+
+            final DeleteResult deleteResult = deleteResolver.performDelete(storIOSQLite, object);
+            results.put(object, deleteResult);
+
+            if (!useTransaction && deleteResult.numberOfRowsDeleted() > 0) {
+                internal.notifyAboutChanges(deleteResult.toChanges());
+            }
+        }
+
+        for (final Map.Entry<String, Map<String, List<SimpleImmutableEntry<T, String>>>> batchesForTable : batches.entrySet()) {
+            for (final Map.Entry<String, List<SimpleImmutableEntry<T, String>>> batch : batchesForTable.getValue().entrySet()) {
+                final List<SimpleImmutableEntry<T, String>> objectsAndKeys = batch.getValue();
+
+                for (int start = 0; start < objectsAndKeys.size(); start += MAX_NUMBER_OF_ARGS_IN_BATCH) {
+                    final int end = Math.min(start + MAX_NUMBER_OF_ARGS_IN_BATCH, objectsAndKeys.size());
+
+                    performBatchDelete(
+                            internal,
+                            batchesForTable.getKey(),
+                            batch.getKey(),
+                            objectsAndKeys.subList(start, end),
+                            results
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes one chunk of objects. To keep per-object {@link DeleteResult}s, number of rows
+     * for each key is counted by one query before the delete, in the same transaction.
+     * <p>
+     * Rows are attributed to keys by SQLite itself via {@code CASE WHEN key = ?1 THEN 0 ...},
+     * so comparison uses same affinity and collation as the delete, for example
+     * key {@code "42"} matches {@code REAL} value {@code 42.0}.
+     */
+    private void performBatchDelete(@NonNull StorIOSQLite.Internal internal,
+                                    @NonNull String table,
+                                    @NonNull String keyColumn,
+                                    @NonNull List<SimpleImmutableEntry<T, String>> objectsAndKeys,
+                                    @NonNull Map<T, DeleteResult> results) {
+        // Same key can appear multiple times, SQLite has limit on number of args per statement
+        final Map<String, Integer> indicesOfKeys = new LinkedHashMap<String, Integer>(objectsAndKeys.size());
+
+        for (final SimpleImmutableEntry<T, String> objectAndKey : objectsAndKeys) {
+            if (!indicesOfKeys.containsKey(objectAndKey.getValue())) {
+                indicesOfKeys.put(objectAndKey.getValue(), indicesOfKeys.size());
+            }
+        }
+
+        final int numberOfKeys = indicesOfKeys.size();
+
+        final StringBuilder where = new StringBuilder(keyColumn.length() + 6 + numberOfKeys * 5)
+                .append(keyColumn)
+                .append(" IN (");
+
+        final StringBuilder keyIndex = new StringBuilder(5 + numberOfKeys * (keyColumn.length() + 20))
+                .append("CASE");
+
+        for (int i = 1; i <= numberOfKeys; i++) {
+            where.append(i == 1 ? "?" : ",?").append(i);
+
+            keyIndex.append(" WHEN ")
+                    .append(keyColumn)
+                    .append(" = ?")
+                    .append(i)
+                    .append(" THEN ")
+                    .append(i - 1);
+        }
+
+        where.append(')');
+        keyIndex.append(" END");
+
+        final Object[] whereArgs = indicesOfKeys.keySet().toArray(new Object[numberOfKeys]);
+
+        final int[] numberOfRowsForKeys = new int[numberOfKeys];
+        final int numberOfRowsDeleted;
+
+        // Count and delete should see same rows
+        if (!useTransaction) {
+            internal.beginTransaction();
+        }
+
+        try {
+            final Cursor cursor = internal.rawQuery(RawQuery.builder()
+                    .query("SELECT " + keyIndex + ", COUNT(*) FROM " + table
+                            + " WHERE " + where + " GROUP BY 1")
+                    .args(whereArgs)
+                    .build());
+
+            try {
+                while (cursor.moveToNext()) {
+                    if (!cursor.isNull(0)) {
+                        numberOfRowsForKeys[cursor.getInt(0)] = cursor.getInt(1);
+                    }
+                }
+            } finally {
+                cursor.close();
+            }
+
+            numberOfRowsDeleted = internal.delete(DeleteQuery.builder()
+                    .table(table)
+                    .where(where.toString())
+                    .whereArgs(whereArgs)
+                    .build());
+
+            if (!useTransaction) {
+                internal.setTransactionSuccessful();
+            }
+        } finally {
+            if (!useTransaction) {
+                internal.endTransaction();
+            }
+        }
+
+        final boolean[] reportedKeys = new boolean[numberOfKeys];
+
+        for (final SimpleImmutableEntry<T, String> objectAndKey : objectsAndKeys) {
+            final int index = indicesOfKeys.get(objectAndKey.getValue());
+
+            // Duplicates of the key get 0 as it would be with sequential deletes
+            final int numberOfRowsForKey = reportedKeys[index] ? 0 : numberOfRowsForKeys[index];
+            reportedKeys[index] = true;
+
+            results.put(
+                    objectAndKey.getKey(),
+                    DeleteResult.newInstance(
+                            numberOfRowsForKey,
+                            table,
+                            keyColumn,
+                            singletonList(objectAndKey.getValue())
+                    )
+            );
+        }
+
+        if (!useTransaction && numberOfRowsDeleted > 0) {
+            internal.notifyAboutChanges(Changes.newInstance(table, keyColumn, indicesOfKeys.keySet()));
+        }
+    }
+
     /**
      * Creates {@link Observable} which will perform Delete Operation and send result to observer.
      * <p>
@@ -203,6 +410,8 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
 
         private boolean useTransaction = true;
 
+        private boolean useBatchDelete;
+
         Builder(@NonNull StorIOSQLite storIOSQLite, @NonNull Collection<T> objects) {
             this.storIOSQLite = storIOSQLite;
             this.objects = objects;
@@ -239,6 +448,32 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
             return this;
         }
 
+        /**
+         * Optional: Defines that Delete Operation will delete objects in batches.
+         * <p>
+         * Objects which {@link DeleteResolver} is {@link DefaultDeleteResolver} and
+         * which {@link DeleteQuery} has form {@code "key = ?"} with one argument
+         * (as generated for objects with one key column) are grouped by table and key column
+         * and deleted via {@code "key IN (?, ?, ...)"} statements, up to
+         * 999 objects per statement.
+         * Other objects are deleted as usual. Per-object results are still available in {@link DeleteResults},
+         * to get them number of rows for each key is counted by one additional query
+         * executed in the same transaction as the delete statement.
+         * <p>
+         * Notice: {@link DefaultDeleteResolver#performDelete(StorIOSQLite, Object)} is not called
+         * for objects deleted in batches, so if you've overridden it, its logic will be skipped.
+         * <p>
+         * By default, batch delete is not used.
+         *
+         * @param useBatchDelete {@code true} to use batch delete, {@code false} to not.
+         * @return builder.
+         */
+        @NonNull
+        public Builder<T> useBatchDelete(boolean useBatchDelete) {
+            this.useBatchDelete = useBatchDelete;
+            return this;
+        }
+
         /**
          * Prepares Delete Operation.
          *
@@ -250,7 +485,8 @@ public final class PreparedDeleteCollectionOfObjects<T> extends PreparedDelete<D
                     storIOSQLite,
                     objects,
                     deleteResolver,
-                    useTransaction
+                    useTransaction,
+                    useBatchDelete
             );
         }
     }
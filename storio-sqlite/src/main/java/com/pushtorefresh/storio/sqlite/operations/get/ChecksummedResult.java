@@ -0,0 +1,94 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio.sqlite.Changes;
+
+import rx.Observable;
+import rx.Subscriber;
+import rx.functions.Func0;
+import rx.functions.Func1;
+import rx.schedulers.Schedulers;
+
+/**
+ * FOR INTERNAL USAGE ONLY.
+ * <p>
+ * Result of Get Operation with checksum of rows it was mapped from.
+ *
+ * @param <Result> type of result.
+ */
+final class ChecksummedResult<Result> {
+
+    @Nullable
+    final Result result;
+
+    final long checksum;
+
+    ChecksummedResult(@Nullable Result result, long checksum) {
+        this.result = result;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Creates {@link Observable} which executes Get Operation on subscription and on each change,
+     * but emits result only if checksum of rows is different from the previous one.
+     *
+     * @param changes changes that trigger execution, {@code null} if there is nothing to observe.
+     * @param execute executes Get Operation.
+     * @param <Result> type of result.
+     * @return {@link Observable} of results without identical consecutive results.
+     */
+    @NonNull
+    static <Result> Observable<Result> createObservableWithoutIdenticalResults(
+            @Nullable Observable<Changes> changes,
+            @NonNull final Func0<ChecksummedResult<Result>> execute) {
+
+        final Observable<ChecksummedResult<Result>> firstResult = Observable.create(new Observable.OnSubscribe<ChecksummedResult<Result>>() {
+            @Override
+            public void call(Subscriber<? super ChecksummedResult<Result>> subscriber) {
+                try {
+                    final ChecksummedResult<Result> checksummedResult = execute.call();
+
+                    if (!subscriber.isUnsubscribed()) {
+                        subscriber.onNext(checksummedResult);
+                        subscriber.onCompleted();
+                    }
+                } catch (Exception exception) {
+                    subscriber.onError(exception);
+                }
+            }
+        });
+
+        final Observable<ChecksummedResult<Result>> results;
+
+        if (changes != null) {
+            results = changes
+                    .map(new Func1<Changes, ChecksummedResult<Result>>() { // each change triggers execution
+                        @Override
+                        public ChecksummedResult<Result> call(Changes changes) {
+                            return execute.call();
+                        }
+                    })
+                    .startWith(firstResult) // start stream with first query result
+                    .onBackpressureLatest();
+        } else {
+            results = firstResult;
+        }
+
+        return results
+                .distinctUntilChanged(new Func1<ChecksummedResult<Result>, Long>() {
+                    @Override
+                    public Long call(ChecksummedResult<Result> checksummedResult) {
+                        return checksummedResult.checksum;
+                    }
+                })
+                .map(new Func1<ChecksummedResult<Result>, Result>() {
+                    @Override
+                    public Result call(ChecksummedResult<Result> checksummedResult) {
+                        return checksummedResult.result;
+                    }
+                })
+                .subscribeOn(Schedulers.io());
+    }
+}
@@ -0,0 +1,125 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.CharArrayBuffer;
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+/**
+ * FOR INTERNAL USAGE ONLY.
+ * <p>
+ * 64-bit FNV-1a checksum of values of {@link Cursor} rows,
+ * used to find out whether result of the query was changed without keeping previous result.
+ * <p>
+ * Not thread-safe.
+ */
+final class CursorChecksum {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private long value = FNV_OFFSET_BASIS;
+
+    /**
+     * Adds values of all columns of the current row of passed {@link Cursor} to the checksum.
+     *
+     * @param cursor cursor with already set position.
+     */
+    void update(@NonNull Cursor cursor) {
+        update(cursor, null);
+    }
+
+    /**
+     * Same as {@link #update(Cursor)}, but copies {@code TEXT} values into passed buffer
+     * instead of allocating a {@link String} for each of them, checksum value is the same.
+     * {@code BLOB} values are still read as new arrays.
+     *
+     * @param cursor cursor with already set position.
+     * @param buffer buffer for {@code TEXT} values or {@code null} to read them as strings.
+     */
+    void update(@NonNull Cursor cursor, @Nullable CharArrayBuffer buffer) {
+        final int columnCount = cursor.getColumnCount();
+
+        for (int i = 0; i < columnCount; i++) {
+            final int type = cursor.getType(i);
+            add(type, 1);
+
+            switch (type) {
+                case Cursor.FIELD_TYPE_NULL:
+                    break;
+                case Cursor.FIELD_TYPE_INTEGER:
+                    add(cursor.getLong(i), 8);
+                    break;
+                case Cursor.FIELD_TYPE_FLOAT:
+                    add(Double.doubleToLongBits(cursor.getDouble(i)), 8);
+                    break;
+                case Cursor.FIELD_TYPE_BLOB:
+                    final byte[] blob = cursor.getBlob(i);
+                    add(blob.length, 4);
+
+                    for (byte b : blob) {
+                        add(b, 1);
+                    }
+                    break;
+                default:
+                    if (buffer == null) {
+                        add(cursor.getString(i));
+                    } else {
+                        cursor.copyStringToBuffer(i, buffer);
+                        add(buffer.data, buffer.sizeCopied);
+                    }
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Adds names of all columns of passed {@link Cursor} to the checksum,
+     * so rows with same values of different columns have different checksums.
+     *
+     * @param cursor cursor.
+     */
+    void updateColumnNames(@NonNull Cursor cursor) {
+        for (String columnName : cursor.getColumnNames()) {
+            add(columnName);
+        }
+    }
+
+    long value() {
+        return value;
+    }
+
+    /**
+     * Resets the checksum to its initial value, so instance can be reused.
+     */
+    void reset() {
+        value = FNV_OFFSET_BASIS;
+    }
+
+    private void add(@NonNull String string) {
+        add(string.length(), 4);
+
+        for (int i = 0; i < string.length(); i++) {
+            add(string.charAt(i), 2);
+        }
+    }
+
+    private void add(@NonNull char[] chars, int length) {
+        add(length, 4);
+
+        for (int i = 0; i < length; i++) {
+            add(chars[i], 2);
+        }
+    }
+
+    /**
+     * Adds passed number of lowest bytes of data to the checksum.
+     */
+    private void add(long data, int numberOfBytes) {
+        for (int shift = 0; shift < numberOfBytes * 8; shift += 8) {
+            value ^= (data >>> shift) & 0xff;
+            value *= FNV_PRIME;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
+
+/**
+ * {@link Iterator} which lazily maps rows of {@link Cursor} to objects,
+ * only one row is mapped per {@link #next()} call, so memory usage does not depend
+ * on number of rows in the result.
+ * <p>
+ * Underlying {@link Cursor} is closed automatically when iteration reaches its end,
+ * if you stop iteration earlier — please call {@link #close()}.
+ * <p>
+ * In chunked mode rows are loaded by chunks of limited size, next chunk is loaded
+ * when iteration reaches the end of the previous one, see {@link #numberOfChunks()}.
+ * <p>
+ * Not thread-safe.
+ *
+ * @param <T> type of objects.
+ */
+public final class CursorIterator<T> implements Iterator<T>, Closeable {
+
+    @NonNull
+    private final GetResolver<T> getResolver;
+
+    @Nullable
+    private final QueryChunks queryChunks;
+
+    @NonNull
+    private Cursor cursor;
+
+    private int numberOfChunks = 1;
+
+    private int rowsInChunk;
+
+    private boolean movedToNext;
+
+    private boolean hasNext;
+
+    private boolean closed;
+
+    CursorIterator(@NonNull Cursor cursor, @NonNull GetResolver<T> getResolver) {
+        this(cursor, getResolver, null);
+    }
+
+    CursorIterator(@NonNull Cursor cursor, @NonNull GetResolver<T> getResolver, @Nullable QueryChunks queryChunks) {
+        checkNotNull(cursor, "Please specify cursor");
+        checkNotNull(getResolver, "Please specify getResolver");
+        this.cursor = cursor;
+        this.getResolver = getResolver;
+        this.queryChunks = queryChunks;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+
+        if (!movedToNext) {
+            hasNext = cursor.moveToNext();
+
+            // Only full chunk can be followed by another one
+            if (!hasNext && queryChunks != null && rowsInChunk == queryChunks.chunkSize()) {
+                cursor.close();
+                cursor = queryChunks.load(numberOfChunks);
+                numberOfChunks++;
+                rowsInChunk = 0;
+                hasNext = cursor.moveToNext();
+            }
+
+            if (hasNext) {
+                rowsInChunk++;
+            }
+
+            movedToNext = true;
+
+            if (!hasNext) {
+                close();
+            }
+        }
+
+        return hasNext;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There are no more rows in the cursor");
+        }
+
+        movedToNext = false;
+        return getResolver.mapFromCursor(cursor);
+    }
+
+    /**
+     * Not supported, rows can not be removed through the iterator.
+     */
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Iterator is read-only, please use Delete Operation");
+    }
+
+    /**
+     * Returns number of chunks loaded by this iterator, each chunk is loaded by separate query.
+     * <p>
+     * Always {@code 1} if chunked mode is disabled.
+     *
+     * @return number of loaded chunks.
+     */
+    public int numberOfChunks() {
+        return numberOfChunks;
+    }
+
+    /**
+     * Closes underlying {@link Cursor}, {@link #hasNext()} will return {@code false} after that.
+     * <p>
+     * Can be called multiple times.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            hasNext = false;
+            cursor.close();
+        }
+    }
+}
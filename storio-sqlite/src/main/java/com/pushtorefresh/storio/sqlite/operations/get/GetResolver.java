@@ -2,6 +2,7 @@ package com.pushtorefresh.storio.sqlite.operations.get;
 
 import android.database.Cursor;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.queries.Query;
@@ -45,4 +46,17 @@ public abstract class GetResolver<T> {
      */
     @NonNull
     public abstract Cursor performGet(@NonNull StorIOSQLite storIOSQLite, @NonNull Query query);
+
+    /**
+     * Returns column that identifies rows mapped by this resolver, for example column declared
+     * with {@code @StorIOSQLiteColumn(key = true)}, used to enable identity map without
+     * specifying the column manually, see {@link IdentityMapGetResolver}.
+     *
+     * @return name of the key column or {@code null} if it's unknown, default implementation
+     * returns {@code null}.
+     */
+    @Nullable
+    public String keyColumn() {
+        return null;
+    }
 }
@@ -0,0 +1,264 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.CharArrayBuffer;
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+import com.pushtorefresh.storio.sqlite.queries.RawQuery;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import static com.pushtorefresh.storio.internal.Checks.checkNotEmpty;
+import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
+
+/**
+ * {@link GetResolver} that reuses previously mapped objects for rows that were not changed,
+ * so repeated queries don't allocate new objects for same rows.
+ * <p>
+ * Objects are kept in LRU map keyed by value of the key column. Row is considered unchanged if
+ * {@link Cursor} has same columns as when object was mapped and either value of the version
+ * column (if it was specified and is present in the {@link Cursor}) or checksum of values of
+ * all columns of the row is the same.
+ * <p>
+ * Indices of the key and version columns and checksum of column names are resolved once per
+ * {@link Cursor}. Checksum of row values reads {@code INTEGER} and {@code REAL} values
+ * as primitives and copies {@code TEXT} values into reusable buffer, but {@code BLOB} values
+ * are still read as new arrays, so for tables with blobs prefer version column.
+ * Note that row is read twice if it was changed: for checksum and by the wrapped resolver.
+ * <p>
+ * Rows without key column or with {@code NULL} key are always mapped by the wrapped resolver.
+ * <p>
+ * Same instance can be returned to multiple callers, so objects should be immutable.
+ * <p>
+ * Thread-safe.
+ *
+ * @param <T> type of objects.
+ */
+public final class IdentityMapGetResolver<T> extends GetResolver<T> {
+
+    private static final ThreadLocal<RowChecksum> ROW_CHECKSUM = new ThreadLocal<RowChecksum>() {
+        @Override
+        protected RowChecksum initialValue() {
+            return new RowChecksum();
+        }
+    };
+
+    @NonNull
+    private final GetResolver<T> getResolver;
+
+    @NonNull
+    private final String keyColumn;
+
+    @Nullable
+    private final String versionColumn;
+
+    private final int maxSize;
+
+    /**
+     * Guarded by {@code this}.
+     */
+    @NonNull
+    private final LinkedHashMap<Object, Entry<T>> entries;
+
+    @Nullable
+    private volatile CursorColumns cursorColumns;
+
+    /**
+     * Creates new {@link IdentityMapGetResolver} that compares checksums of rows.
+     *
+     * @param getResolver resolver that maps rows to objects and performs queries.
+     * @param keyColumn   column that identifies rows, for example {@code "_id"}.
+     * @param maxSize     max number of objects kept in the map, should be > 0.
+     */
+    public IdentityMapGetResolver(@NonNull GetResolver<T> getResolver, @NonNull String keyColumn, int maxSize) {
+        this(getResolver, keyColumn, null, maxSize);
+    }
+
+    /**
+     * Creates new {@link IdentityMapGetResolver}.
+     *
+     * @param getResolver   resolver that maps rows to objects and performs queries.
+     * @param keyColumn     column that identifies rows, for example {@code "_id"}.
+     * @param versionColumn optional {@code INTEGER} column which value changes on each update
+     *                      of the row, if it's {@code null} checksums of rows are compared.
+     * @param maxSize       max number of objects kept in the map, should be > 0.
+     */
+    public IdentityMapGetResolver(@NonNull GetResolver<T> getResolver,
+                                  @NonNull String keyColumn,
+                                  @Nullable String versionColumn,
+                                  int maxSize) {
+        checkNotNull(getResolver, "Please specify GetResolver");
+        checkNotEmpty(keyColumn, "Please specify key column");
+
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize should be > 0, maxSize = " + maxSize);
+        }
+
+        this.getResolver = getResolver;
+        this.keyColumn = keyColumn;
+        this.versionColumn = versionColumn;
+        this.maxSize = maxSize;
+        entries = new LinkedHashMap<Object, Entry<T>>(16, 0.75f, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public T mapFromCursor(@NonNull Cursor cursor) {
+        final CursorColumns columns = columnsOf(cursor);
+        final int keyColumnIndex = columns.keyColumnIndex;
+
+        if (keyColumnIndex < 0 || cursor.getType(keyColumnIndex) == Cursor.FIELD_TYPE_NULL) {
+            return getResolver.mapFromCursor(cursor);
+        }
+
+        final Object key = cursor.getType(keyColumnIndex) == Cursor.FIELD_TYPE_INTEGER
+                ? (Object) cursor.getLong(keyColumnIndex)
+                : cursor.getString(keyColumnIndex);
+
+        final long rowStamp;
+
+        if (columns.versionColumnIndex >= 0
+                && cursor.getType(columns.versionColumnIndex) == Cursor.FIELD_TYPE_INTEGER) {
+            rowStamp = cursor.getLong(columns.versionColumnIndex);
+        } else {
+            final RowChecksum rowChecksum = ROW_CHECKSUM.get();
+            rowChecksum.checksum.reset();
+            rowChecksum.checksum.update(cursor, rowChecksum.buffer);
+            rowStamp = rowChecksum.checksum.value();
+        }
+
+        synchronized (this) {
+            final Entry<T> entry = entries.get(key);
+
+            if (entry != null
+                    && entry.columnNamesChecksum == columns.columnNamesChecksum
+                    && entry.rowStamp == rowStamp) {
+                return entry.object;
+            }
+        }
+
+        final T object = getResolver.mapFromCursor(cursor);
+
+        synchronized (this) {
+            entries.put(key, new Entry<T>(columns.columnNamesChecksum, rowStamp, object));
+
+            if (entries.size() > maxSize) {
+                final Iterator<Entry<T>> iterator = entries.values().iterator();
+                iterator.next();
+                iterator.remove();
+            }
+        }
+
+        return object;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public Cursor performGet(@NonNull StorIOSQLite storIOSQLite, @NonNull RawQuery rawQuery) {
+        return getResolver.performGet(storIOSQLite, rawQuery);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public Cursor performGet(@NonNull StorIOSQLite storIOSQLite, @NonNull Query query) {
+        return getResolver.performGet(storIOSQLite, query);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public String keyColumn() {
+        return keyColumn;
+    }
+
+    // Visible for tests
+    synchronized int size() {
+        return entries.size();
+    }
+
+    @NonNull
+    private CursorColumns columnsOf(@NonNull Cursor cursor) {
+        final CursorColumns current = cursorColumns;
+
+        if (current != null && current.cursorReference.get() == cursor) {
+            return current;
+        }
+
+        final CursorChecksum columnNamesChecksum = new CursorChecksum();
+        columnNamesChecksum.updateColumnNames(cursor);
+
+        // Weak reference allows cursor to be garbage collected after usage
+        final CursorColumns columns = new CursorColumns(
+                new WeakReference<Cursor>(cursor),
+                cursor.getColumnIndex(keyColumn),
+                versionColumn != null ? cursor.getColumnIndex(versionColumn) : -1,
+                columnNamesChecksum.value()
+        );
+
+        cursorColumns = columns;
+        return columns;
+    }
+
+    private static final class CursorColumns {
+
+        @NonNull
+        final WeakReference<Cursor> cursorReference;
+
+        final int keyColumnIndex;
+
+        final int versionColumnIndex;
+
+        final long columnNamesChecksum;
+
+        CursorColumns(@NonNull WeakReference<Cursor> cursorReference,
+                      int keyColumnIndex,
+                      int versionColumnIndex,
+                      long columnNamesChecksum) {
+            this.cursorReference = cursorReference;
+            this.keyColumnIndex = keyColumnIndex;
+            this.versionColumnIndex = versionColumnIndex;
+            this.columnNamesChecksum = columnNamesChecksum;
+        }
+    }
+
+    private static final class RowChecksum {
+
+        @NonNull
+        final CursorChecksum checksum = new CursorChecksum();
+
+        @NonNull
+        final CharArrayBuffer buffer = new CharArrayBuffer(64);
+    }
+
+    private static final class Entry<T> {
+
+        private final long columnNamesChecksum;
+
+        private final long rowStamp;
+
+        @NonNull
+        private final T object;
+
+        Entry(long columnNamesChecksum, long rowStamp, @NonNull T object) {
+            this.columnNamesChecksum = columnNamesChecksum;
+            this.rowStamp = rowStamp;
+            this.object = object;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+
+import static com.pushtorefresh.storio.internal.Checks.checkNotEmpty;
+import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
+
+/**
+ * Value of BLOB column which is loaded on first access instead of being read
+ * together with the row, so objects can be listed without loading their blobs.
+ * <p>
+ * Holds only table, key and column of the value until {@link #get(StorIOSQLite)} is called,
+ * generated resolvers use it for fields marked as lazy.
+ * <p>
+ * Generated resolvers exclude lazy columns only from {@link Query} which selects all columns,
+ * SQL of {@link com.pushtorefresh.storio.sqlite.queries.RawQuery} can not be changed, so it
+ * should select only required columns, otherwise blobs are still copied into the
+ * {@link android.database.CursorWindow} (but not into the objects).
+ * <p>
+ * Thread-safe.
+ */
+public final class LazyBlob {
+
+    @Nullable
+    private final String table;
+
+    @Nullable
+    private final String keyColumn;
+
+    @Nullable
+    private final String key;
+
+    @Nullable
+    private final String column;
+
+    /**
+     * Written only under lock of {@code this} after {@link #value}.
+     */
+    private volatile boolean loaded;
+
+    /**
+     * Written only under lock of {@code this} before {@link #loaded}.
+     */
+    @Nullable
+    private volatile byte[] value;
+
+    private LazyBlob(@Nullable String table,
+                     @Nullable String keyColumn,
+                     @Nullable String key,
+                     @Nullable String column,
+                     boolean loaded,
+                     @Nullable byte[] value) {
+        this.table = table;
+        this.keyColumn = keyColumn;
+        this.key = key;
+        this.column = column;
+        this.loaded = loaded;
+        this.value = value;
+    }
+
+    /**
+     * Creates {@link LazyBlob} which will load value of the column of the row with passed key.
+     *
+     * @param table     table of the row.
+     * @param keyColumn column which identifies the row.
+     * @param key       value of the key column of the row.
+     * @param column    BLOB column.
+     * @return new instance of {@link LazyBlob}.
+     */
+    @NonNull
+    public static LazyBlob newInstance(@NonNull String table,
+                                       @NonNull String keyColumn,
+                                       @NonNull String key,
+                                       @NonNull String column) {
+        checkNotEmpty(table, "Please specify table");
+        checkNotEmpty(keyColumn, "Please specify keyColumn");
+        checkNotNull(key, "Please specify key");
+        checkNotEmpty(column, "Please specify column");
+        return new LazyBlob(table, keyColumn, key, column, false, null);
+    }
+
+    /**
+     * Creates already loaded {@link LazyBlob}, for example to put new value.
+     *
+     * @param value value of the BLOB column, can be {@code null}.
+     * @return new instance of {@link LazyBlob}.
+     */
+    @NonNull
+    public static LazyBlob newLoadedInstance(@Nullable byte[] value) {
+        return new LazyBlob(null, null, null, null, true, value);
+    }
+
+    /**
+     * Checks whether value is loaded.
+     *
+     * @return {@code true} if value is loaded, {@code false} otherwise.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Gets loaded value.
+     *
+     * @return value of the BLOB column, can be {@code null}.
+     * @throws IllegalStateException if value is not loaded yet.
+     */
+    @Nullable
+    public byte[] value() {
+        if (!loaded) {
+            throw new IllegalStateException("Value is not loaded, please use get(StorIOSQLite), column = " + column);
+        }
+
+        return value;
+    }
+
+    /**
+     * Gets value, loads it from the db on first call.
+     * <p>
+     * Notice: This is blocking I/O operation that should not be executed on the Main Thread
+     * if value is not loaded yet. See {@link WorkerThread}.
+     * <p>
+     * Value is loaded without holding any lock, so concurrent first calls can load it
+     * more than once, but all of them return the value that was published first.
+     *
+     * @param storIOSQLite instance of {@link StorIOSQLite} to load value from.
+     * @return value of the BLOB column, {@code null} if value is {@code NULL} or row does not exist.
+     */
+    @WorkerThread
+    @Nullable
+    public byte[] get(@NonNull StorIOSQLite storIOSQLite) {
+        if (loaded) {
+            return value;
+        }
+
+        final byte[] loadedValue;
+
+        final Cursor cursor = storIOSQLite
+                .get()
+                .cursor()
+                .withQuery(query())
+                .prepare()
+                .executeAsBlocking();
+
+        try {
+            loadedValue = cursor.moveToFirst() ? cursor.getBlob(0) : null;
+        } finally {
+            cursor.close();
+        }
+
+        synchronized (this) {
+            if (!loaded) {
+                value = loadedValue;
+                loaded = true;
+            }
+
+            return value;
+        }
+    }
+
+    /**
+     * Creates {@link Query} which selects value of the BLOB column,
+     * for example to load it via reactive Get Operation.
+     *
+     * @return query for value of the BLOB column.
+     * @throws IllegalStateException if {@link LazyBlob} was created via {@link #newLoadedInstance(byte[])}.
+     */
+    @NonNull
+    public Query query() {
+        if (table == null || keyColumn == null || key == null || column == null) {
+            throw new IllegalStateException("LazyBlob was created with value and can not be queried");
+        }
+
+        return Query.builder()
+                .table(table)
+                .columns(column)
+                .where(keyColumn + " = ?")
+                .whereArgs(key)
+                .build();
+    }
+
+    @Override
+    public String toString() {
+        return "LazyBlob{" +
+                "table='" + table + '\'' +
+                ", keyColumn='" + keyColumn + '\'' +
+                ", key='" + key + '\'' +
+                ", column='" + column + '\'' +
+                ", loaded=" + isLoaded() +
+                '}';
+    }
+}
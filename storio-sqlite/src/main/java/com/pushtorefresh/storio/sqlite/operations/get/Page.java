@@ -0,0 +1,107 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
+
+/**
+ * Immutable result of paged Get Operation.
+ * <p>
+ * Instances of this class are immutable.
+ *
+ * @param <T> type of objects.
+ */
+public final class Page<T> {
+
+    @NonNull
+    private final List<T> items;
+
+    @Nullable
+    private final String lastKey;
+
+    private final boolean hasNextPage;
+
+    private Page(@NonNull List<T> items, @Nullable String lastKey, boolean hasNextPage) {
+        checkNotNull(items, "Please specify items");
+        this.items = Collections.unmodifiableList(items);
+        this.lastKey = lastKey;
+        this.hasNextPage = hasNextPage;
+    }
+
+    /**
+     * Creates new instance of {@link Page}.
+     *
+     * @param items       items of the page.
+     * @param lastKey     value of the key column of the last item, {@code null} if page is empty.
+     * @param hasNextPage {@code true} if there are more rows after this page.
+     * @param <T>         type of objects.
+     * @return new instance of {@link Page}.
+     */
+    @NonNull
+    public static <T> Page<T> newInstance(@NonNull List<T> items, @Nullable String lastKey, boolean hasNextPage) {
+        return new Page<T>(items, lastKey, hasNextPage);
+    }
+
+    /**
+     * Returns immutable list of items of the page.
+     *
+     * @return immutable list of items, can be empty.
+     */
+    @NonNull
+    public List<T> items() {
+        return items;
+    }
+
+    /**
+     * Returns value of the key column of the last item of the page,
+     * pass it to {@link PreparedGetPageOfObjects.CompleteBuilder#afterKey(String)} to get next page.
+     *
+     * @return value of the key column of the last item, {@code null} if page is empty.
+     */
+    @Nullable
+    public String lastKey() {
+        return lastKey;
+    }
+
+    /**
+     * Checks whether there are more rows after this page.
+     *
+     * @return {@code true} if there are more rows after this page, {@code false} otherwise.
+     */
+    public boolean hasNextPage() {
+        return hasNextPage;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Page<?> page = (Page<?>) o;
+
+        if (hasNextPage != page.hasNextPage) return false;
+        if (!items.equals(page.items)) return false;
+        return lastKey != null ? lastKey.equals(page.lastKey) : page.lastKey == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = items.hashCode();
+        result = 31 * result + (lastKey != null ? lastKey.hashCode() : 0);
+        result = 31 * result + (hasNextPage ? 1 : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Page{" +
+                "items=" + items +
+                ", lastKey='" + lastKey + '\'' +
+                ", hasNextPage=" + hasNextPage +
+                '}';
+    }
+}
@@ -1,9 +1,13 @@
 package com.pushtorefresh.storio.sqlite.operations.get;
 
+import android.database.Cursor;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
 
 import com.pushtorefresh.storio.operations.PreparedOperation;
+import com.pushtorefresh.storio.sqlite.QueryResultsCache;
+import com.pushtorefresh.storio.sqlite.SQLiteMetricsListener;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.queries.Query;
 import com.pushtorefresh.storio.sqlite.queries.RawQuery;
@@ -36,6 +40,145 @@ public abstract class PreparedGet<Result> implements PreparedOperation<Result> {
         query = null;
     }
 
+    /**
+     * Creates key of this operation for {@link StorIOSQLite#sharedObservable(Object, rx.functions.Func0)}.
+     *
+     * @param getResolver          explicit resolver or type of objects if resolver is taken from type mapping.
+     * @param skipIdenticalResults whether operation skips identical results.
+     * @return key of this operation, query should be set.
+     */
+    @NonNull
+    SharedQueryKey sharedQueryKey(@NonNull Object getResolver, boolean skipIdenticalResults) {
+        //noinspection ConstantConditions
+        return new SharedQueryKey(getClass(), query != null ? query : rawQuery, getResolver, skipIdenticalResults);
+    }
+
+    /**
+     * Creates key of result of this operation for {@link QueryResultsCache}.
+     *
+     * @param getResolver resolver that maps rows of the query.
+     * @return key or {@code null} if result of this operation can not be cached.
+     */
+    @Nullable
+    QueryResultsCache.Key resultsCacheKey(@NonNull Object getResolver) {
+        if (query != null) {
+            return QueryResultsCache.keyOf(query, getResolver, getClass());
+        } else if (rawQuery != null) {
+            return QueryResultsCache.keyOf(rawQuery, getResolver, getClass());
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Reports read of rows of the query of this operation to {@link SQLiteMetricsListener}.
+     *
+     * @param metricsListener  listener of operations.
+     * @param numberOfRows     number of read rows.
+     * @param sqlTimeNanos     time spent in the db in nanoseconds.
+     * @param mappingTimeNanos time spent in mapping of rows in nanoseconds.
+     */
+    void reportGet(@NonNull SQLiteMetricsListener metricsListener, int numberOfRows, long sqlTimeNanos, long mappingTimeNanos) {
+        if (query != null) {
+            metricsListener.onGet(query, numberOfRows, sqlTimeNanos, mappingTimeNanos);
+        } else if (rawQuery != null) {
+            metricsListener.onGet(rawQuery, numberOfRows, sqlTimeNanos, mappingTimeNanos);
+        }
+    }
+
+    /**
+     * Performs the query of this operation via resolver and reports it to {@link SQLiteMetricsListener}
+     * if it's set, use it for operations that don't map rows of the cursor to objects.
+     *
+     * @param getResolver resolver that performs the query.
+     * @return cursor with results of the query.
+     */
+    @WorkerThread
+    @NonNull
+    Cursor performGet(@NonNull GetResolver<?> getResolver) {
+        if (query == null && rawQuery == null) {
+            throw new IllegalStateException("Please specify query");
+        }
+
+        return performGet(getResolver, storIOSQLite.internal().metricsListener());
+    }
+
+    /**
+     * Performs the query of this operation via resolver and reports it
+     * to passed {@link SQLiteMetricsListener} with zero mapping time and unknown number of rows.
+     *
+     * @param getResolver     resolver that performs the query.
+     * @param metricsListener listener of operations, {@code null} if reads should not be reported.
+     * @return cursor with results of the query.
+     */
+    @WorkerThread
+    @NonNull
+    Cursor performGet(@NonNull GetResolver<?> getResolver, @Nullable SQLiteMetricsListener metricsListener) {
+        if (query != null) {
+            return performGet(storIOSQLite, getResolver, query, metricsListener);
+        } else if (rawQuery != null) {
+            return performGet(storIOSQLite, getResolver, rawQuery, metricsListener);
+        } else {
+            throw new IllegalStateException("Please specify query");
+        }
+    }
+
+    /**
+     * Performs the query via resolver and reports it to passed {@link SQLiteMetricsListener}
+     * with zero mapping time.
+     * <p>
+     * Number of rows is reported as {@link SQLiteMetricsListener#UNKNOWN_NUMBER_OF_ROWS},
+     * {@link Cursor#getCount()} is not called, so cursor stays lazy.
+     *
+     * @param storIOSQLite    instance of {@link StorIOSQLite}.
+     * @param getResolver     resolver that performs the query.
+     * @param query           query to perform.
+     * @param metricsListener listener of operations, {@code null} if reads should not be reported.
+     * @return cursor with results of the query.
+     */
+    @WorkerThread
+    @NonNull
+    static Cursor performGet(@NonNull StorIOSQLite storIOSQLite,
+                             @NonNull GetResolver<?> getResolver,
+                             @NonNull Query query,
+                             @Nullable SQLiteMetricsListener metricsListener) {
+        if (metricsListener == null) {
+            return getResolver.performGet(storIOSQLite, query);
+        }
+
+        final long startNanos = System.nanoTime();
+        final Cursor cursor = getResolver.performGet(storIOSQLite, query);
+        metricsListener.onGet(query, SQLiteMetricsListener.UNKNOWN_NUMBER_OF_ROWS, System.nanoTime() - startNanos, 0);
+        return cursor;
+    }
+
+    /**
+     * Performs the raw query via resolver and reports it to passed {@link SQLiteMetricsListener}
+     * with zero mapping time and unknown number of rows, see
+     * {@link #performGet(StorIOSQLite, GetResolver, Query, SQLiteMetricsListener)}.
+     *
+     * @param storIOSQLite    instance of {@link StorIOSQLite}.
+     * @param getResolver     resolver that performs the query.
+     * @param rawQuery        raw query to perform.
+     * @param metricsListener listener of operations, {@code null} if reads should not be reported.
+     * @return cursor with results of the query.
+     */
+    @WorkerThread
+    @NonNull
+    static Cursor performGet(@NonNull StorIOSQLite storIOSQLite,
+                             @NonNull GetResolver<?> getResolver,
+                             @NonNull RawQuery rawQuery,
+                             @Nullable SQLiteMetricsListener metricsListener) {
+        if (metricsListener == null) {
+            return getResolver.performGet(storIOSQLite, rawQuery);
+        }
+
+        final long startNanos = System.nanoTime();
+        final Cursor cursor = getResolver.performGet(storIOSQLite, rawQuery);
+        metricsListener.onGet(rawQuery, SQLiteMetricsListener.UNKNOWN_NUMBER_OF_ROWS, System.nanoTime() - startNanos, 0);
+        return cursor;
+    }
+
     /**
      * Builder for {@link PreparedGet}.
      */
@@ -70,6 +213,33 @@ public abstract class PreparedGet<Result> implements PreparedOperation<Result> {
             return new PreparedGetListOfObjects.Builder<T>(storIOSQLite, type);
         }
 
+        /**
+         * Returns builder for Get Operation that returns result as lazy {@link CursorIterator} of items
+         * or as {@link rx.Observable} that emits items one by one,
+         * use it instead of {@link #listOfObjects(Class)} for huge results.
+         *
+         * @param type type of items.
+         * @param <T>  type of items.
+         * @return builder for Get Operation that returns result as {@link CursorIterator} of items.
+         */
+        @NonNull
+        public <T> PreparedGetIteratorOfObjects.Builder<T> iteratorOfObjects(@NonNull Class<T> type) {
+            return new PreparedGetIteratorOfObjects.Builder<T>(storIOSQLite, type);
+        }
+
+        /**
+         * Returns builder for Get Operation that returns result as {@link Page} of items
+         * using keyset pagination.
+         *
+         * @param type type of items.
+         * @param <T>  type of items.
+         * @return builder for Get Operation that returns result as {@link Page} of items.
+         */
+        @NonNull
+        public <T> PreparedGetPageOfObjects.Builder<T> pageOfObjects(@NonNull Class<T> type) {
+            return new PreparedGetPageOfObjects.Builder<T>(storIOSQLite, type);
+        }
+
         /**
          * Returns builder for Get Operation that returns result as item instance.
          *
@@ -91,5 +261,59 @@ public abstract class PreparedGet<Result> implements PreparedOperation<Result> {
         public PreparedGetNumberOfResults.Builder numberOfResults() {
             return new PreparedGetNumberOfResults.Builder(storIOSQLite);
         }
+
+        /**
+         * Returns builder for Get Operation that returns values of the first column
+         * of the query as {@code long[]}, {@code NULL} values are read as {@code 0}.
+         *
+         * @return builder for Get Operation that returns result as {@code long[]}.
+         */
+        @NonNull
+        public PreparedGetArrayOfValues.Builder<long[]> arrayOfLongs() {
+            return new PreparedGetArrayOfValues.Builder<long[]>(storIOSQLite, PreparedGetArrayOfValues.LONGS_GET_RESOLVER);
+        }
+
+        /**
+         * Returns builder for Get Operation that returns values of the first column
+         * of the query as {@code int[]}, {@code NULL} values are read as {@code 0}.
+         *
+         * @return builder for Get Operation that returns result as {@code int[]}.
+         */
+        @NonNull
+        public PreparedGetArrayOfValues.Builder<int[]> arrayOfInts() {
+            return new PreparedGetArrayOfValues.Builder<int[]>(storIOSQLite, PreparedGetArrayOfValues.INTS_GET_RESOLVER);
+        }
+
+        /**
+         * Returns builder for Get Operation that returns values of the first column
+         * of the query as {@code double[]}, {@code NULL} values are read as {@code 0}.
+         *
+         * @return builder for Get Operation that returns result as {@code double[]}.
+         */
+        @NonNull
+        public PreparedGetArrayOfValues.Builder<double[]> arrayOfDoubles() {
+            return new PreparedGetArrayOfValues.Builder<double[]>(storIOSQLite, PreparedGetArrayOfValues.DOUBLES_GET_RESOLVER);
+        }
+
+        /**
+         * Returns builder for Get Operation that returns values of the first column
+         * of the query as {@code String[]}, {@code NULL} values are read as {@code null}.
+         *
+         * @return builder for Get Operation that returns result as {@code String[]}.
+         */
+        @NonNull
+        public PreparedGetArrayOfValues.Builder<String[]> arrayOfStrings() {
+            return new PreparedGetArrayOfValues.Builder<String[]>(storIOSQLite, PreparedGetArrayOfValues.STRINGS_GET_RESOLVER);
+        }
+
+        /**
+         * Returns builder for Get Operation that checks whether query has at least one row.
+         *
+         * @return builder for Get Operation that checks whether query has at least one row.
+         */
+        @NonNull
+        public PreparedGetExists.Builder exists() {
+            return new PreparedGetExists.Builder(storIOSQLite);
+        }
     }
 }
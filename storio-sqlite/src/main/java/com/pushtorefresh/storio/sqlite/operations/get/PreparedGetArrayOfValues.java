@@ -0,0 +1,305 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.Cursor;
+import android.support.annotation.CheckResult;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+
+import com.pushtorefresh.storio.StorIOException;
+import com.pushtorefresh.storio.operations.internal.MapSomethingToExecuteAsBlocking;
+import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking;
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+import com.pushtorefresh.storio.sqlite.queries.RawQuery;
+
+import java.util.Collections;
+import java.util.Set;
+
+import rx.Observable;
+import rx.schedulers.Schedulers;
+
+import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
+import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+
+/**
+ * Prepared Get Operation that reads values of the first column of the query
+ * into array, for example {@code long[]} of ids.
+ * <p>
+ * Values are read from {@link Cursor} directly into array of primitives,
+ * without mapping rows to objects and without boxing.
+ *
+ * @param <Result> type of array, for example {@code long[]}.
+ */
+public final class PreparedGetArrayOfValues<Result> extends PreparedGet<Result> {
+
+    @NonNull
+    static final GetResolver<long[]> LONGS_GET_RESOLVER = new DefaultGetResolver<long[]>() {
+        @NonNull
+        @Override
+        public long[] mapFromCursor(@NonNull Cursor cursor) {
+            final long[] values = new long[cursor.getCount()];
+
+            for (int i = 0; cursor.moveToNext(); i++) {
+                values[i] = cursor.getLong(0);
+            }
+
+            return values;
+        }
+    };
+
+    @NonNull
+    static final GetResolver<int[]> INTS_GET_RESOLVER = new DefaultGetResolver<int[]>() {
+        @NonNull
+        @Override
+        public int[] mapFromCursor(@NonNull Cursor cursor) {
+            final int[] values = new int[cursor.getCount()];
+
+            for (int i = 0; cursor.moveToNext(); i++) {
+                values[i] = cursor.getInt(0);
+            }
+
+            return values;
+        }
+    };
+
+    @NonNull
+    static final GetResolver<double[]> DOUBLES_GET_RESOLVER = new DefaultGetResolver<double[]>() {
+        @NonNull
+        @Override
+        public double[] mapFromCursor(@NonNull Cursor cursor) {
+            final double[] values = new double[cursor.getCount()];
+
+            for (int i = 0; cursor.moveToNext(); i++) {
+                values[i] = cursor.getDouble(0);
+            }
+
+            return values;
+        }
+    };
+
+    @NonNull
+    static final GetResolver<String[]> STRINGS_GET_RESOLVER = new DefaultGetResolver<String[]>() {
+        @NonNull
+        @Override
+        public String[] mapFromCursor(@NonNull Cursor cursor) {
+            final String[] values = new String[cursor.getCount()];
+
+            for (int i = 0; cursor.moveToNext(); i++) {
+                values[i] = cursor.getString(0);
+            }
+
+            return values;
+        }
+    };
+
+    @NonNull
+    private final GetResolver<Result> getResolver;
+
+    PreparedGetArrayOfValues(@NonNull StorIOSQLite storIOSQLite, @NonNull Query query, @NonNull GetResolver<Result> getResolver) {
+        super(storIOSQLite, query);
+        this.getResolver = getResolver;
+    }
+
+    PreparedGetArrayOfValues(@NonNull StorIOSQLite storIOSQLite, @NonNull RawQuery rawQuery, @NonNull GetResolver<Result> getResolver) {
+        super(storIOSQLite, rawQuery);
+        this.getResolver = getResolver;
+    }
+
+    /**
+     * Executes Get Operation immediately in current thread.
+     * <p>
+     * Notice: This is blocking I/O operation that should not be executed on the Main Thread,
+     * it can cause ANR (Activity Not Responding dialog), block the UI and drop animations frames.
+     * So please, call this method on some background thread. See {@link WorkerThread}.
+     * <p>
+     * Results are not stored in {@link com.pushtorefresh.storio.sqlite.QueryResultsCache}
+     * because arrays are mutable.
+     *
+     * @return non-null, can be empty array of values of the first column of the query.
+     */
+    @WorkerThread
+    @NonNull
+    @Override
+    public Result executeAsBlocking() {
+        try {
+            final Cursor cursor = performGet(getResolver);
+
+            try {
+                return getResolver.mapFromCursor(cursor);
+            } finally {
+                cursor.close();
+            }
+        } catch (Exception exception) {
+            throw new StorIOException(exception);
+        }
+    }
+
+    /**
+     * Creates "Hot" {@link Observable} which will be subscribed to changes of tables from query
+     * and will emit result each time change occurs.
+     * <p>
+     * First result will be emitted immediately after subscription,
+     * other emissions will occur only if changes of tables from query will occur during lifetime of
+     * the {@link Observable}.
+     * <dl>
+     * <dt><b>Scheduler:</b></dt>
+     * <dd>Operates on {@link Schedulers#io()}.</dd>
+     * </dl>
+     * <p>
+     * Please don't forget to unsubscribe from this {@link Observable} because
+     * it's "Hot" and endless.
+     *
+     * @return non-null {@link Observable} which will emit non-null array of values
+     * and will be subscribed to changes of tables from query.
+     */
+    @NonNull
+    @CheckResult
+    @Override
+    public Observable<Result> createObservable() {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
+        final Set<String> tables;
+
+        if (query != null) {
+            tables = Collections.singleton(query.table());
+        } else if (rawQuery != null) {
+            tables = rawQuery.observesTables();
+        } else {
+            throw new StorIOException("Please specify query");
+        }
+
+        if (!tables.isEmpty()) {
+            return storIOSQLite
+                    .observeChangesInTables(tables) // each change triggers executeAsBlocking
+                    .map(MapSomethingToExecuteAsBlocking.newInstance(this))
+                    .startWith(Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))) // start stream with first query result
+                    .onBackpressureLatest()
+                    .subscribeOn(Schedulers.io());
+        } else {
+            return Observable
+                    .create(OnSubscribeExecuteAsBlocking.newInstance(this))
+                    .subscribeOn(Schedulers.io());
+        }
+    }
+
+    /**
+     * Builder for {@link PreparedGetArrayOfValues}.
+     *
+     * @param <Result> type of array.
+     */
+    public static final class Builder<Result> {
+
+        @NonNull
+        private final StorIOSQLite storIOSQLite;
+
+        @NonNull
+        private final GetResolver<Result> standardGetResolver;
+
+        Builder(@NonNull StorIOSQLite storIOSQLite, @NonNull GetResolver<Result> standardGetResolver) {
+            this.storIOSQLite = storIOSQLite;
+            this.standardGetResolver = standardGetResolver;
+        }
+
+        /**
+         * Required: Specifies query which will be passed to {@link StorIOSQLite}
+         * to get values, values are read from the first column of the query,
+         * so please specify required column via {@link Query.CompleteBuilder#columns(String...)}.
+         *
+         * @param query non-null query.
+         * @return builder.
+         * @see Query
+         */
+        @NonNull
+        public CompleteBuilder<Result> withQuery(@NonNull Query query) {
+            checkNotNull(query, "Please specify query");
+            return new CompleteBuilder<Result>(storIOSQLite, standardGetResolver, query);
+        }
+
+        /**
+         * Required: Specifies {@link RawQuery} for Get Operation,
+         * you can use it for "joins" and same constructions which are not allowed for {@link Query}.
+         * <p>
+         * Values are read from the first column of the query.
+         *
+         * @param rawQuery query.
+         * @return builder.
+         * @see RawQuery
+         */
+        @NonNull
+        public CompleteBuilder<Result> withQuery(@NonNull RawQuery rawQuery) {
+            checkNotNull(rawQuery, "Please specify rawQuery");
+            return new CompleteBuilder<Result>(storIOSQLite, standardGetResolver, rawQuery);
+        }
+    }
+
+    /**
+     * Compile-time safe part of builder for {@link PreparedGetArrayOfValues}.
+     *
+     * @param <Result> type of array.
+     */
+    public static final class CompleteBuilder<Result> {
+
+        @NonNull
+        private final StorIOSQLite storIOSQLite;
+
+        @NonNull
+        private final GetResolver<Result> standardGetResolver;
+
+        @Nullable
+        Query query;
+
+        @Nullable
+        RawQuery rawQuery;
+
+        @Nullable
+        private GetResolver<Result> getResolver;
+
+        CompleteBuilder(@NonNull StorIOSQLite storIOSQLite, @NonNull GetResolver<Result> standardGetResolver, @NonNull Query query) {
+            this.storIOSQLite = storIOSQLite;
+            this.standardGetResolver = standardGetResolver;
+            this.query = query;
+            rawQuery = null;
+        }
+
+        CompleteBuilder(@NonNull StorIOSQLite storIOSQLite, @NonNull GetResolver<Result> standardGetResolver, @NonNull RawQuery rawQuery) {
+            this.storIOSQLite = storIOSQLite;
+            this.standardGetResolver = standardGetResolver;
+            this.rawQuery = rawQuery;
+            query = null;
+        }
+
+        /**
+         * Optional: Specifies resolver for Get Operation which can be used
+         * to provide custom behavior of Get Operation.
+         *
+         * @param getResolver nullable resolver for Get Operation.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder<Result> withGetResolver(@Nullable GetResolver<Result> getResolver) {
+            this.getResolver = getResolver;
+            return this;
+        }
+
+        /**
+         * Builds new instance of {@link PreparedGetArrayOfValues}.
+         *
+         * @return new instance of {@link PreparedGetArrayOfValues}.
+         */
+        @NonNull
+        public PreparedGetArrayOfValues<Result> prepare() {
+            if (getResolver == null) {
+                getResolver = standardGetResolver;
+            }
+
+            if (query != null) {
+                return new PreparedGetArrayOfValues<Result>(storIOSQLite, query, getResolver);
+            } else if (rawQuery != null) {
+                return new PreparedGetArrayOfValues<Result>(storIOSQLite, rawQuery, getResolver);
+            } else {
+                throw new IllegalStateException("Please specify query");
+            }
+        }
+    }
+}
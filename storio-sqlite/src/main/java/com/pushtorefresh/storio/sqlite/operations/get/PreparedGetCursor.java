@@ -57,13 +57,7 @@ public final class PreparedGetCursor extends PreparedGet<Cursor> {
     @NonNull
     public Cursor executeAsBlocking() {
         try {
-            if (query != null) {
-                return getResolver.performGet(storIOSQLite, query);
-            } else if (rawQuery != null) {
-                return getResolver.performGet(storIOSQLite, rawQuery);
-            } else {
-                throw new IllegalStateException("Please specify query");
-            }
+            return performGet(getResolver);
         } catch (Exception exception) {
             throw new StorIOException(exception);
         }
@@ -0,0 +1,262 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.Cursor;
+import android.support.annotation.CheckResult;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+
+import com.pushtorefresh.storio.StorIOException;
+import com.pushtorefresh.storio.operations.internal.MapSomethingToExecuteAsBlocking;
+import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking;
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+import com.pushtorefresh.storio.sqlite.queries.RawQuery;
+
+import java.util.Collections;
+import java.util.Set;
+
+import rx.Observable;
+import rx.schedulers.Schedulers;
+
+import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
+import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+
+/**
+ * Prepared Get Operation that checks whether query has at least one row.
+ */
+public final class PreparedGetExists extends PreparedGet<Boolean> {
+
+    @NonNull
+    private final GetResolver<Boolean> getResolver;
+
+    PreparedGetExists(@NonNull StorIOSQLite storIOSQLite, @NonNull Query query, @NonNull GetResolver<Boolean> getResolver) {
+        super(storIOSQLite, query);
+        this.getResolver = getResolver;
+    }
+
+    PreparedGetExists(@NonNull StorIOSQLite storIOSQLite, @NonNull RawQuery rawQuery, @NonNull GetResolver<Boolean> getResolver) {
+        super(storIOSQLite, rawQuery);
+        this.getResolver = getResolver;
+    }
+
+    /**
+     * Executes Get Operation immediately in current thread.
+     * <p>
+     * Notice: This is blocking I/O operation that should not be executed on the Main Thread,
+     * it can cause ANR (Activity Not Responding dialog), block the UI and drop animations frames.
+     * So please, call this method on some background thread. See {@link WorkerThread}.
+     *
+     * @return {@code true} if query has at least one row, {@code false} otherwise.
+     */
+    @WorkerThread
+    @NonNull
+    @Override
+    public Boolean executeAsBlocking() {
+        try {
+            final Cursor cursor = performGet(getResolver);
+
+            try {
+                return getResolver.mapFromCursor(cursor);
+            } finally {
+                cursor.close();
+            }
+        } catch (Exception exception) {
+            throw new StorIOException(exception);
+        }
+    }
+
+    /**
+     * Creates "Hot" {@link Observable} which will be subscribed to changes of tables from query
+     * and will emit result each time change occurs.
+     * <p>
+     * First result will be emitted immediately after subscription,
+     * other emissions will occur only if changes of tables from query will occur during lifetime of
+     * the {@link Observable}.
+     * <dl>
+     * <dt><b>Scheduler:</b></dt>
+     * <dd>Operates on {@link Schedulers#io()}.</dd>
+     * </dl>
+     * <p>
+     * Please don't forget to unsubscribe from this {@link Observable} because
+     * it's "Hot" and endless.
+     *
+     * @return non-null {@link Observable} which will emit whether query has at least one row
+     * and will be subscribed to changes of tables from query.
+     */
+    @NonNull
+    @CheckResult
+    @Override
+    public Observable<Boolean> createObservable() {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
+        final Set<String> tables;
+
+        if (query != null) {
+            tables = Collections.singleton(query.table());
+        } else if (rawQuery != null) {
+            tables = rawQuery.observesTables();
+        } else {
+            throw new StorIOException("Please specify query");
+        }
+
+        if (!tables.isEmpty()) {
+            return storIOSQLite
+                    .observeChangesInTables(tables) // each change triggers executeAsBlocking
+                    .map(MapSomethingToExecuteAsBlocking.newInstance(this))
+                    .startWith(Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))) // start stream with first query result
+                    .onBackpressureLatest()
+                    .subscribeOn(Schedulers.io());
+        } else {
+            return Observable
+                    .create(OnSubscribeExecuteAsBlocking.newInstance(this))
+                    .subscribeOn(Schedulers.io());
+        }
+    }
+
+    /**
+     * Converts {@link Query} to query that selects at most one row with {@code "1"} instead of
+     * columns of the row, so SQLite stops at first matching row.
+     * Columns are kept for queries with {@code GROUP BY}, because {@code HAVING} can refer to them.
+     *
+     * @param query query which should be checked for rows.
+     * @return non-null {@link Query} which returns at most one row if passed query has rows.
+     */
+    @NonNull
+    static Query existsQueryOf(@NonNull Query query) {
+        final Query.CompleteBuilder builder = query.toBuilder();
+
+        if (query.groupBy().isEmpty()) {
+            builder.columns("1");
+        }
+
+        if (query.limit().isEmpty()) {
+            builder
+                    .orderBy(null)
+                    .limit(1);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Builder for {@link PreparedGetExists}.
+     */
+    public static final class Builder {
+
+        @NonNull
+        private final StorIOSQLite storIOSQLite;
+
+        Builder(@NonNull StorIOSQLite storIOSQLite) {
+            this.storIOSQLite = storIOSQLite;
+        }
+
+        /**
+         * Required: Specifies query which will be passed to {@link StorIOSQLite}
+         * to check whether it has at least one row.
+         *
+         * @param query non-null query.
+         * @return builder.
+         * @see Query
+         */
+        @NonNull
+        public CompleteBuilder withQuery(@NonNull Query query) {
+            checkNotNull(query, "Please specify query");
+            return new CompleteBuilder(storIOSQLite, query);
+        }
+
+        /**
+         * Required: Specifies {@link RawQuery} for Get Operation,
+         * you can use it for "joins" and same constructions which are not allowed for {@link Query}.
+         * <p>
+         * Raw query is executed as is, so please add {@code LIMIT 1} to it by yourself.
+         *
+         * @param rawQuery query.
+         * @return builder.
+         * @see RawQuery
+         */
+        @NonNull
+        public CompleteBuilder withQuery(@NonNull RawQuery rawQuery) {
+            checkNotNull(rawQuery, "Please specify rawQuery");
+            return new CompleteBuilder(storIOSQLite, rawQuery);
+        }
+    }
+
+    /**
+     * Compile-time safe part of builder for {@link PreparedGetExists}.
+     */
+    public static final class CompleteBuilder {
+
+        @NonNull
+        static final GetResolver<Boolean> STANDARD_GET_RESOLVER = new DefaultGetResolver<Boolean>() {
+            @NonNull
+            @Override
+            public Cursor performGet(@NonNull StorIOSQLite storIOSQLite, @NonNull Query query) {
+                return storIOSQLite.internal().query(existsQueryOf(query));
+            }
+
+            @NonNull
+            @Override
+            public Boolean mapFromCursor(@NonNull Cursor cursor) {
+                return cursor.moveToFirst();
+            }
+        };
+
+        @NonNull
+        private final StorIOSQLite storIOSQLite;
+
+        @Nullable
+        Query query;
+
+        @Nullable
+        RawQuery rawQuery;
+
+        @Nullable
+        private GetResolver<Boolean> getResolver;
+
+        CompleteBuilder(@NonNull StorIOSQLite storIOSQLite, @NonNull Query query) {
+            this.storIOSQLite = storIOSQLite;
+            this.query = query;
+            rawQuery = null;
+        }
+
+        CompleteBuilder(@NonNull StorIOSQLite storIOSQLite, @NonNull RawQuery rawQuery) {
+            this.storIOSQLite = storIOSQLite;
+            this.rawQuery = rawQuery;
+            query = null;
+        }
+
+        /**
+         * Optional: Specifies resolver for Get Operation which can be used
+         * to provide custom behavior of Get Operation.
+         *
+         * @param getResolver nullable resolver for Get Operation.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder withGetResolver(@Nullable GetResolver<Boolean> getResolver) {
+            this.getResolver = getResolver;
+            return this;
+        }
+
+        /**
+         * Builds new instance of {@link PreparedGetExists}.
+         *
+         * @return new instance of {@link PreparedGetExists}.
+         */
+        @NonNull
+        public PreparedGetExists prepare() {
+            if (getResolver == null) {
+                getResolver = STANDARD_GET_RESOLVER;
+            }
+
+            if (query != null) {
+                return new PreparedGetExists(storIOSQLite, query, getResolver);
+            } else if (rawQuery != null) {
+                return new PreparedGetExists(storIOSQLite, rawQuery, getResolver);
+            } else {
+                throw new IllegalStateException("Please specify query");
+            }
+        }
+    }
+}
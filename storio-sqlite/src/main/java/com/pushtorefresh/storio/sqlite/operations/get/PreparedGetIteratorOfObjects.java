@@ -0,0 +1,368 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.Cursor;
+import android.support.annotation.CheckResult;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+
+import com.pushtorefresh.storio.StorIOException;
+import com.pushtorefresh.storio.sqlite.SQLiteMetricsListener;
+import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+import com.pushtorefresh.storio.sqlite.queries.RawQuery;
+
+import java.util.Iterator;
+
+import rx.Observable;
+import rx.functions.Action1;
+import rx.functions.Func0;
+import rx.functions.Func1;
+
+import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
+import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+
+/**
+ * Prepared Get Operation for {@link StorIOSQLite} which maps rows lazily,
+ * use it to process huge results without loading all of them into memory.
+ * <p>
+ * It's not a {@link com.pushtorefresh.storio.operations.PreparedOperation}
+ * because its {@link Observable} emits objects one by one instead of one result.
+ *
+ * @param <T> type of results.
+ */
+public final class PreparedGetIteratorOfObjects<T> {
+
+    /**
+     * Value of chunk size which means that rows are loaded by one query.
+     */
+    static final int CHUNKS_DISABLED = 0;
+
+    @NonNull
+    private final StorIOSQLite storIOSQLite;
+
+    @NonNull
+    private final Class<T> type;
+
+    @Nullable
+    private final Query query;
+
+    @Nullable
+    private final RawQuery rawQuery;
+
+    @Nullable
+    private final GetResolver<T> explicitGetResolver;
+
+    private final int chunkSize;
+
+    PreparedGetIteratorOfObjects(@NonNull StorIOSQLite storIOSQLite,
+                                 @NonNull Class<T> type,
+                                 @NonNull Query query,
+                                 @Nullable GetResolver<T> explicitGetResolver) {
+        this(storIOSQLite, type, query, explicitGetResolver, CHUNKS_DISABLED);
+    }
+
+    PreparedGetIteratorOfObjects(@NonNull StorIOSQLite storIOSQLite,
+                                 @NonNull Class<T> type,
+                                 @NonNull Query query,
+                                 @Nullable GetResolver<T> explicitGetResolver,
+                                 int chunkSize) {
+        this.storIOSQLite = storIOSQLite;
+        this.type = type;
+        this.query = query;
+        this.rawQuery = null;
+        this.explicitGetResolver = explicitGetResolver;
+        this.chunkSize = chunkSize;
+    }
+
+    PreparedGetIteratorOfObjects(@NonNull StorIOSQLite storIOSQLite,
+                                 @NonNull Class<T> type,
+                                 @NonNull RawQuery rawQuery,
+                                 @Nullable GetResolver<T> explicitGetResolver) {
+        this.storIOSQLite = storIOSQLite;
+        this.type = type;
+        this.query = null;
+        this.rawQuery = rawQuery;
+        this.explicitGetResolver = explicitGetResolver;
+        this.chunkSize = CHUNKS_DISABLED;
+    }
+
+    /**
+     * Executes Get Operation immediately in current thread.
+     * <p>
+     * Notice: This is blocking I/O operation that should not be executed on the Main Thread,
+     * it can cause ANR (Activity Not Responding dialog), block the UI and drop animations frames.
+     * So please, call this method on some background thread. See {@link WorkerThread}.
+     * <p>
+     * Returned {@link CursorIterator} holds opened {@link Cursor} and maps rows one by one,
+     * it closes {@link Cursor} when iteration reaches its end, otherwise please call
+     * {@link CursorIterator#close()}.
+     * <p>
+     * If {@link CompleteBuilder#chunkSize(int)} is set, {@link CursorIterator} holds
+     * only one chunk of rows at a time and loads next chunk when previous one is iterated.
+     *
+     * @return non-null {@link CursorIterator} over mapped results, can be empty.
+     */
+    @WorkerThread
+    @NonNull
+    public CursorIterator<T> executeAsBlocking() {
+        try {
+            final GetResolver<T> getResolver;
+
+            if (explicitGetResolver != null) {
+                getResolver = explicitGetResolver;
+            } else {
+                final SQLiteTypeMapping<T> typeMapping = storIOSQLite.internal().typeMapping(type);
+
+                if (typeMapping == null) {
+                    throw new IllegalStateException("This type does not have type mapping: " +
+                            "type = " + type + "," +
+                            "db was not touched by this operation, please add type mapping for this type");
+                }
+
+                getResolver = typeMapping.getResolver();
+            }
+
+            final SQLiteMetricsListener metricsListener = storIOSQLite.internal().metricsListener();
+
+            if (query != null) {
+                if (chunkSize != CHUNKS_DISABLED) {
+                    final QueryChunks queryChunks = new QueryChunks(
+                            storIOSQLite,
+                            query,
+                            getResolver,
+                            chunkSize,
+                            metricsListener
+                    );
+                    return new CursorIterator<T>(queryChunks.load(0), getResolver, queryChunks);
+                }
+
+                return new CursorIterator<T>(
+                        PreparedGet.performGet(storIOSQLite, getResolver, query, metricsListener),
+                        getResolver
+                );
+            } else if (rawQuery != null) {
+                return new CursorIterator<T>(
+                        PreparedGet.performGet(storIOSQLite, getResolver, rawQuery, metricsListener),
+                        getResolver
+                );
+            } else {
+                throw new IllegalStateException("Please specify query");
+            }
+        } catch (Exception exception) {
+            throw new StorIOException(exception);
+        }
+    }
+
+    /**
+     * Creates "Cold" {@link Observable} which emits mapped rows one by one and completes.
+     * <p>
+     * Query is performed on subscribe, rows are mapped only when subscriber requests them,
+     * so backpressure is supported and memory usage does not depend on number of rows.
+     * <p>
+     * {@link Cursor} is closed when all rows are emitted, on error and on unsubscribe.
+     * <p>
+     * Please use {@link Observable#subscribeOn(rx.Scheduler)} to perform the query
+     * on some background thread, notice that next rows are mapped on the thread that requests them.
+     * <p>
+     * Does not observe changes of tables.
+     *
+     * @return non-null {@link Observable} which emits mapped rows one by one.
+     */
+    @NonNull
+    @CheckResult
+    public Observable<T> createObservable() {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
+        return Observable.using(
+                new Func0<CursorIterator<T>>() {
+                    @Override
+                    public CursorIterator<T> call() {
+                        return executeAsBlocking();
+                    }
+                },
+                new Func1<CursorIterator<T>, Observable<T>>() {
+                    @Override
+                    public Observable<T> call(final CursorIterator<T> cursorIterator) {
+                        return Observable.from(new Iterable<T>() {
+                            @Override
+                            public Iterator<T> iterator() {
+                                return cursorIterator;
+                            }
+                        });
+                    }
+                },
+                new Action1<CursorIterator<T>>() {
+                    @Override
+                    public void call(CursorIterator<T> cursorIterator) {
+                        cursorIterator.close();
+                    }
+                }
+        );
+    }
+
+    /**
+     * Builder for {@link PreparedGetIteratorOfObjects} Operation.
+     *
+     * @param <T> type of objects.
+     */
+    public static final class Builder<T> {
+
+        @NonNull
+        private final StorIOSQLite storIOSQLite;
+
+        @NonNull
+        private final Class<T> type;
+
+        Builder(@NonNull StorIOSQLite storIOSQLite, @NonNull Class<T> type) {
+            this.storIOSQLite = storIOSQLite;
+            this.type = type;
+        }
+
+        /**
+         * Required: Specifies query which will be passed to {@link StorIOSQLite}
+         * to get objects.
+         *
+         * @param query non-null query.
+         * @return builder.
+         * @see Query
+         */
+        @NonNull
+        public CompleteBuilder<T> withQuery(@NonNull Query query) {
+            checkNotNull(query, "Please specify query");
+            return new CompleteBuilder<T>(storIOSQLite, type, query);
+        }
+
+        /**
+         * Required: Specifies {@link RawQuery} for Get Operation,
+         * you can use it for "joins" and same constructions which are not allowed for {@link Query}.
+         *
+         * @param rawQuery query.
+         * @return builder.
+         * @see RawQuery
+         */
+        @NonNull
+        public CompleteBuilder<T> withQuery(@NonNull RawQuery rawQuery) {
+            checkNotNull(rawQuery, "Please specify rawQuery");
+            return new CompleteBuilder<T>(storIOSQLite, type, rawQuery);
+        }
+    }
+
+    /**
+     * Compile-safe part of {@link Builder}.
+     *
+     * @param <T> type of objects.
+     */
+    public static final class CompleteBuilder<T> {
+
+        @NonNull
+        private final StorIOSQLite storIOSQLite;
+
+        @NonNull
+        private final Class<T> type;
+
+        @Nullable
+        Query query;
+
+        @Nullable
+        RawQuery rawQuery;
+
+        @Nullable
+        private GetResolver<T> getResolver;
+
+        private int chunkSize = CHUNKS_DISABLED;
+
+        CompleteBuilder(@NonNull StorIOSQLite storIOSQLite, @NonNull Class<T> type, @NonNull Query query) {
+            this.storIOSQLite = storIOSQLite;
+            this.type = type;
+            this.query = query;
+            rawQuery = null;
+        }
+
+        CompleteBuilder(@NonNull StorIOSQLite storIOSQLite, @NonNull Class<T> type, @NonNull RawQuery rawQuery) {
+            this.storIOSQLite = storIOSQLite;
+            this.type = type;
+            this.rawQuery = rawQuery;
+            query = null;
+        }
+
+        /**
+         * Optional: Specifies resolver for Get Operation which can be used
+         * to provide custom behavior of Get Operation.
+         * <p>
+         * {@link SQLiteTypeMapping} can be used to set default GetResolver.
+         * If GetResolver is not set via {@link SQLiteTypeMapping}
+         * or explicitly — exception will be thrown.
+         *
+         * @param getResolver nullable resolver for Get Operation.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder<T> withGetResolver(@Nullable GetResolver<T> getResolver) {
+            this.getResolver = getResolver;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies number of rows loaded by one query, rows of the query are loaded
+         * in chunks via {@code LIMIT offset, chunkSize} when iteration reaches the end of previous chunk.
+         * <p>
+         * Use it for results with blobs or wide text columns, so {@link android.database.CursorWindow}
+         * is not refilled again and again and does not overflow.
+         * <p>
+         * Each chunk is a separate query, so please specify {@code orderBy} for stable order of rows
+         * and notice that rows changed between chunks can be skipped or iterated twice.
+         * <p>
+         * Supported only for {@link Query} without {@code limit}.
+         * By default, all rows are loaded by one query.
+         *
+         * @param chunkSize positive number of rows in one chunk.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder<T> chunkSize(int chunkSize) {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("chunkSize should be > 0, chunkSize = " + chunkSize);
+            }
+
+            if (query == null) {
+                throw new IllegalStateException("Chunked reads are supported only for Query");
+            }
+
+            if (!query.limit().isEmpty()) {
+                throw new IllegalStateException("Chunked reads are not supported for Query with limit");
+            }
+
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Builds new instance of {@link PreparedGetIteratorOfObjects}.
+         *
+         * @return new instance of {@link PreparedGetIteratorOfObjects}.
+         */
+        @NonNull
+        public PreparedGetIteratorOfObjects<T> prepare() {
+            if (query != null) {
+                return new PreparedGetIteratorOfObjects<T>(
+                        storIOSQLite,
+                        type,
+                        query,
+                        getResolver,
+                        chunkSize
+                );
+            } else if (rawQuery != null) {
+                return new PreparedGetIteratorOfObjects<T>(
+                        storIOSQLite,
+                        type,
+                        rawQuery,
+                        getResolver
+                );
+            } else {
+                throw new IllegalStateException("Please specify Query or RawQuery");
+            }
+        }
+    }
+}
\ No newline at end of file
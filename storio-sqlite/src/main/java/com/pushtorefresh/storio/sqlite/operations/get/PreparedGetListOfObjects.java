@@ -9,6 +9,9 @@ import android.support.annotation.WorkerThread;
 import com.pushtorefresh.storio.StorIOException;
 import com.pushtorefresh.storio.operations.internal.MapSomethingToExecuteAsBlocking;
 import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking;
+import com.pushtorefresh.storio.sqlite.Changes;
+import com.pushtorefresh.storio.sqlite.QueryResultsCache;
+import com.pushtorefresh.storio.sqlite.SQLiteMetricsListener;
 import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.queries.Query;
@@ -20,6 +23,7 @@ import java.util.List;
 import java.util.Set;
 
 import rx.Observable;
+import rx.functions.Func0;
 import rx.schedulers.Schedulers;
 
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
@@ -40,22 +44,34 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
     @Nullable
     private final GetResolver<T> explicitGetResolver;
 
+    private final boolean skipIdenticalResults;
+
+    private final boolean shareIdenticalQueries;
+
     PreparedGetListOfObjects(@NonNull StorIOSQLite storIOSQLite,
                              @NonNull Class<T> type,
                              @NonNull Query query,
-                             @Nullable GetResolver<T> explicitGetResolver) {
+                             @Nullable GetResolver<T> explicitGetResolver,
+                             boolean skipIdenticalResults,
+                             boolean shareIdenticalQueries) {
         super(storIOSQLite, query);
         this.type = type;
         this.explicitGetResolver = explicitGetResolver;
+        this.skipIdenticalResults = skipIdenticalResults;
+        this.shareIdenticalQueries = shareIdenticalQueries;
     }
 
     PreparedGetListOfObjects(@NonNull StorIOSQLite storIOSQLite,
                              @NonNull Class<T> type,
                              @NonNull RawQuery rawQuery,
-                             @Nullable GetResolver<T> explicitGetResolver) {
+                             @Nullable GetResolver<T> explicitGetResolver,
+                             boolean skipIdenticalResults,
+                             boolean shareIdenticalQueries) {
         super(storIOSQLite, rawQuery);
         this.type = type;
         this.explicitGetResolver = explicitGetResolver;
+        this.skipIdenticalResults = skipIdenticalResults;
+        this.shareIdenticalQueries = shareIdenticalQueries;
     }
 
     /**
@@ -68,18 +84,27 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
      * @return non-null, immutable {@link List} with mapped results, list can be empty.
      */
     @WorkerThread
-    @SuppressWarnings({"TryFinallyCanBeTryWithResources", "unchecked"})
-    // Min SDK :( unchecked for empty list
     @NonNull
     @Override
     public List<T> executeAsBlocking() {
+        return executeAsBlocking(null);
+    }
+
+    /**
+     * Executes Get Operation and updates passed checksum with each mapped row.
+     */
+    @SuppressWarnings({"TryFinallyCanBeTryWithResources", "unchecked"})
+    // Min SDK :( unchecked for empty list
+    @NonNull
+    private List<T> executeAsBlocking(@Nullable CursorChecksum checksum) {
         try {
+            final StorIOSQLite.Internal internal = storIOSQLite.internal();
             final GetResolver<T> getResolver;
 
             if (explicitGetResolver != null) {
                 getResolver = explicitGetResolver;
             } else {
-                final SQLiteTypeMapping<T> typeMapping = storIOSQLite.internal().typeMapping(type);
+                final SQLiteTypeMapping<T> typeMapping = internal.typeMapping(type);
 
                 if (typeMapping == null) {
                     throw new IllegalStateException("This type does not have type mapping: " +
@@ -90,33 +115,77 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
                 getResolver = typeMapping.getResolver();
             }
 
-            final Cursor cursor;
+            // Results mapped for checksum are not cached, they are compared by checksum anyway
+            final QueryResultsCache.Key resultsCacheKey = checksum == null
+                    ? resultsCacheKey(getResolver)
+                    : null;
+            final QueryResultsCache resultsCache = resultsCacheKey != null
+                    ? internal.queryResultsCache()
+                    : null;
+            long resultsCacheVersion = 0;
 
-            if (query != null) {
-                cursor = getResolver.performGet(storIOSQLite, query);
-            } else if (rawQuery != null) {
-                cursor = getResolver.performGet(storIOSQLite, rawQuery);
-            } else {
+            if (resultsCache != null) {
+                final Object cachedResult = resultsCache.get(resultsCacheKey);
+
+                if (cachedResult != null) {
+                    return (List<T>) cachedResult;
+                }
+
+                resultsCacheVersion = resultsCache.version();
+            }
+
+            if (query == null && rawQuery == null) {
                 throw new IllegalStateException("Please specify query");
             }
 
+            final SQLiteMetricsListener metricsListener = internal.metricsListener();
+            // Time is read only if operations are measured
+            final long startNanos = metricsListener != null ? System.nanoTime() : 0;
+            long mappingStartNanos = 0;
+
+            //noinspection ConstantConditions
+            final Cursor cursor = query != null
+                    ? getResolver.performGet(storIOSQLite, query)
+                    : getResolver.performGet(storIOSQLite, rawQuery);
+
+            final List<T> result;
+
             try {
+                // Cursor reads rows from the db on first access
                 final int count = cursor.getCount();
 
-                if (count == 0) {
-                    return EMPTY_LIST; // it's immutable
+                if (metricsListener != null) {
+                    mappingStartNanos = System.nanoTime();
                 }
 
-                final List<T> list = new ArrayList<T>(count);
+                if (count == 0) {
+                    result = EMPTY_LIST; // it's immutable
+                } else {
+                    final List<T> list = new ArrayList<T>(count);
+
+                    while (cursor.moveToNext()) {
+                        list.add(getResolver.mapFromCursor(cursor));
 
-                while (cursor.moveToNext()) {
-                    list.add(getResolver.mapFromCursor(cursor));
-                }
+                        if (checksum != null) {
+                            checksum.update(cursor);
+                        }
+                    }
 
-                return unmodifiableList(list);
+                    result = unmodifiableList(list);
+                }
             } finally {
                 cursor.close();
             }
+
+            if (metricsListener != null) {
+                reportGet(metricsListener, result.size(), mappingStartNanos - startNanos, System.nanoTime() - mappingStartNanos);
+            }
+
+            if (resultsCache != null) {
+                resultsCache.put(resultsCacheKey, result, resultsCacheVersion);
+            }
+
+            return result;
         } catch (Exception exception) {
             throw new StorIOException(exception);
         }
@@ -136,6 +205,15 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
      * <p>
      * Please don't forget to unsubscribe from this {@link Observable} because
      * it's "Hot" and endless.
+     * <p>
+     * If {@link CompleteBuilder#skipIdenticalResults(boolean)} is enabled,
+     * result identical to the previous one will not be emitted.
+     * <p>
+     * If {@link Query} selects rows like {@code "key = ?"} by {@link GetResolver#keyColumn()}, changes of other rows
+     * with known keys will not trigger re-query, see {@link Changes#mayAffectRow(String, String, Object)}.
+     * <p>
+     * If {@link CompleteBuilder#shareIdenticalQueries(boolean)} is enabled, subscribers of
+     * identical operations share one query execution and the latest result.
      *
      * @return non-null {@link Observable} which will emit non-null, immutable
      * {@link List} with mapped results and will be subscribed to changes of tables from query,
@@ -157,9 +235,37 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
             throw new IllegalStateException("Please specify query");
         }
 
+        if (shareIdenticalQueries) {
+            return storIOSQLite.sharedObservable(
+                    sharedQueryKey(explicitGetResolver != null ? explicitGetResolver : type, skipIdenticalResults),
+                    new Func0<Observable<List<T>>>() {
+                        @Override
+                        public Observable<List<T>> call() {
+                            return createObservable(tables);
+                        }
+                    });
+        }
+
+        return createObservable(tables);
+    }
+
+    @NonNull
+    private Observable<List<T>> createObservable(@NonNull Set<String> tables) {
+        if (skipIdenticalResults) {
+            return ChecksummedResult.createObservableWithoutIdenticalResults(
+                    tables.isEmpty() ? null : observeChanges(tables),
+                    new Func0<ChecksummedResult<List<T>>>() {
+                        @Override
+                        public ChecksummedResult<List<T>> call() {
+                            final CursorChecksum checksum = new CursorChecksum();
+                            final List<T> result = executeAsBlocking(checksum);
+                            return new ChecksummedResult<List<T>>(result, checksum.value());
+                        }
+                    });
+        }
+
         if (!tables.isEmpty()) {
-            return storIOSQLite
-                    .observeChangesInTables(tables) // each change triggers executeAsBlocking
+            return observeChanges(tables) // each change that may affect result triggers executeAsBlocking
                     .map(MapSomethingToExecuteAsBlocking.newInstance(this))
                     .startWith(Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))) // start stream with first query result
                     .onBackpressureLatest()
@@ -171,6 +277,17 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
         }
     }
 
+    @NonNull
+    private Observable<Changes> observeChanges(@NonNull Set<String> tables) {
+        return RowChangesFilter.apply(
+                storIOSQLite.observeChangesInTables(tables),
+                query,
+                storIOSQLite,
+                type,
+                explicitGetResolver
+        );
+    }
+
     /**
      * Builder for {@link PreparedGetListOfObjects} Operation.
      *
@@ -240,6 +357,10 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
         @Nullable
         private GetResolver<T> getResolver;
 
+        private boolean skipIdenticalResults;
+
+        private boolean shareIdenticalQueries;
+
         CompleteBuilder(@NonNull StorIOSQLite storIOSQLite, @NonNull Class<T> type, @NonNull Query query) {
             this.storIOSQLite = storIOSQLite;
             this.type = type;
@@ -271,6 +392,48 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
             return this;
         }
 
+        /**
+         * Optional: Specifies whether {@link PreparedGetListOfObjects#createObservable()}
+         * should skip results identical to the previous one.
+         * <p>
+         * Results are compared by checksum of values of all rows and columns that is computed
+         * during mapping, so previous result is not kept in memory and objects
+         * don't need to implement {@code equals()}.
+         * <p>
+         * Default value is {@code false}.
+         *
+         * @param skipIdenticalResults {@code true} to skip identical results.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder<T> skipIdenticalResults(boolean skipIdenticalResults) {
+            this.skipIdenticalResults = skipIdenticalResults;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies whether {@link PreparedGetListOfObjects#createObservable()}
+         * should be shared with other operations that have same query, resolver
+         * (or type if resolver is taken from type mapping) and value of {@link #skipIdenticalResults(boolean)}.
+         * <p>
+         * All subscribers of shared operations are served by one query execution per change,
+         * late subscriber immediately receives the latest result. Query is unsubscribed
+         * when all subscribers unsubscribe.
+         * Operations are shared only by {@link com.pushtorefresh.storio.sqlite.impl.DefaultStorIOSQLite}.
+         * <p>
+         * Results are shared between all subscribers, so they should not be modified.
+         * <p>
+         * Default value is {@code false}.
+         *
+         * @param shareIdenticalQueries {@code true} to share identical queries.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder<T> shareIdenticalQueries(boolean shareIdenticalQueries) {
+            this.shareIdenticalQueries = shareIdenticalQueries;
+            return this;
+        }
+
         /**
          * Builds new instance of {@link PreparedGetListOfObjects}.
          *
@@ -283,14 +446,18 @@ public final class PreparedGetListOfObjects<T> extends PreparedGet<List<T>> {
                         storIOSQLite,
                         type,
                         query,
-                        getResolver
+                        getResolver,
+                        skipIdenticalResults,
+                        shareIdenticalQueries
                 );
             } else if (rawQuery != null) {
                 return new PreparedGetListOfObjects<T>(
                         storIOSQLite,
                         type,
                         rawQuery,
-                        getResolver
+                        getResolver,
+                        skipIdenticalResults,
+                        shareIdenticalQueries
                 );
             } else {
                 throw new IllegalStateException("Please specify Query or RawQuery");
@@ -1,6 +1,7 @@
 package com.pushtorefresh.storio.sqlite.operations.get;
 
 import android.database.Cursor;
+import android.database.sqlite.SQLiteQueryBuilder;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.WorkerThread;
@@ -8,6 +9,7 @@ import android.support.annotation.WorkerThread;
 import com.pushtorefresh.storio.StorIOException;
 import com.pushtorefresh.storio.operations.internal.MapSomethingToExecuteAsBlocking;
 import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking;
+import com.pushtorefresh.storio.sqlite.QueryResultsCache;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.queries.Query;
 import com.pushtorefresh.storio.sqlite.queries.RawQuery;
@@ -16,24 +18,37 @@ import java.util.HashSet;
 import java.util.Set;
 
 import rx.Observable;
+import rx.functions.Func0;
 import rx.schedulers.Schedulers;
 
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
 import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+import static com.pushtorefresh.storio.internal.InternalQueries.nullableArrayOfStrings;
+import static com.pushtorefresh.storio.internal.InternalQueries.nullableString;
 
 public final class PreparedGetNumberOfResults extends PreparedGet<Integer> {
 
     @NonNull
     private final GetResolver<Integer> getResolver;
 
-    PreparedGetNumberOfResults(@NonNull StorIOSQLite storIOSQLite, @NonNull Query query, @NonNull GetResolver<Integer> getResolver) {
+    private final boolean shareIdenticalQueries;
+
+    PreparedGetNumberOfResults(@NonNull StorIOSQLite storIOSQLite,
+                               @NonNull Query query,
+                               @NonNull GetResolver<Integer> getResolver,
+                               boolean shareIdenticalQueries) {
         super(storIOSQLite, query);
         this.getResolver = getResolver;
+        this.shareIdenticalQueries = shareIdenticalQueries;
     }
 
-    PreparedGetNumberOfResults(@NonNull StorIOSQLite storIOSQLite, @NonNull RawQuery rawQuery, @NonNull GetResolver<Integer> getResolver) {
+    PreparedGetNumberOfResults(@NonNull StorIOSQLite storIOSQLite,
+                               @NonNull RawQuery rawQuery,
+                               @NonNull GetResolver<Integer> getResolver,
+                               boolean shareIdenticalQueries) {
         super(storIOSQLite, rawQuery);
         this.getResolver = getResolver;
+        this.shareIdenticalQueries = shareIdenticalQueries;
     }
 
     /**
@@ -49,22 +64,43 @@ public final class PreparedGetNumberOfResults extends PreparedGet<Integer> {
     @NonNull
     @Override
     public Integer executeAsBlocking() {
-        final Cursor cursor;
-
         try {
-            if (query != null) {
-                cursor = getResolver.performGet(storIOSQLite, query);
-            } else if (rawQuery != null) {
-                cursor = getResolver.performGet(storIOSQLite, rawQuery);
-            } else {
+            if (query == null && rawQuery == null) {
                 throw new IllegalStateException("Please specify query");
             }
 
+            final StorIOSQLite.Internal internal = storIOSQLite.internal();
+            final QueryResultsCache.Key resultsCacheKey = resultsCacheKey(getResolver);
+            final QueryResultsCache resultsCache = resultsCacheKey != null
+                    ? internal.queryResultsCache()
+                    : null;
+            long resultsCacheVersion = 0;
+
+            if (resultsCache != null) {
+                final Object cachedResult = resultsCache.get(resultsCacheKey);
+
+                if (cachedResult != null) {
+                    return (Integer) cachedResult;
+                }
+
+                resultsCacheVersion = resultsCache.version();
+            }
+
+            final Cursor cursor = performGet(getResolver, internal.metricsListener());
+
+            final Integer numberOfResults;
+
             try {
-                return getResolver.mapFromCursor(cursor);
+                numberOfResults = getResolver.mapFromCursor(cursor);
             } finally {
                 cursor.close();
             }
+
+            if (resultsCache != null) {
+                resultsCache.put(resultsCacheKey, numberOfResults, resultsCacheVersion);
+            }
+
+            return numberOfResults;
         } catch (Exception exception) {
             throw new StorIOException(exception);
         }
@@ -84,6 +120,9 @@ public final class PreparedGetNumberOfResults extends PreparedGet<Integer> {
      * <p>
      * Please don't forget to unsubscribe from this {@link Observable} because
      * it's "Hot" and endless.
+     * <p>
+     * If {@link CompleteBuilder#shareIdenticalQueries(boolean)} is enabled, subscribers of
+     * identical operations share one query execution and the latest result.
      *
      * @return non-null {@link Observable} which will emit non-null
      * number of results of the executed query and will be subscribed to changes of tables from query.
@@ -104,6 +143,22 @@ public final class PreparedGetNumberOfResults extends PreparedGet<Integer> {
             throw new StorIOException("Please specify query");
         }
 
+        if (shareIdenticalQueries) {
+            return storIOSQLite.sharedObservable(
+                    sharedQueryKey(getResolver, false),
+                    new Func0<Observable<Integer>>() {
+                        @Override
+                        public Observable<Integer> call() {
+                            return createObservable(tables);
+                        }
+                    });
+        }
+
+        return createObservable(tables);
+    }
+
+    @NonNull
+    private Observable<Integer> createObservable(@NonNull Set<String> tables) {
         if (!tables.isEmpty()) {
             return storIOSQLite
                     .observeChangesInTables(tables) // each change triggers executeAsBlocking
@@ -118,6 +173,51 @@ public final class PreparedGetNumberOfResults extends PreparedGet<Integer> {
         }
     }
 
+    /**
+     * Converts {@link Query} to {@link RawQuery} that counts its rows via {@code SELECT COUNT(*)},
+     * so SQLite does not need to read all rows and columns into the {@link Cursor}.
+     * Queries with {@code DISTINCT}, {@code GROUP BY} or {@code LIMIT} are counted via subquery.
+     *
+     * @param query query which rows should be counted.
+     * @return non-null {@link RawQuery} which returns one row with number of rows of passed query.
+     */
+    @NonNull
+    static RawQuery countQueryOf(@NonNull Query query) {
+        final String sql;
+
+        if (!query.distinct() && query.groupBy().isEmpty() && query.limit().isEmpty()) {
+            sql = SQLiteQueryBuilder.buildQueryString(
+                    false,
+                    query.table(),
+                    new String[]{"COUNT(*)"},
+                    nullableString(query.where()),
+                    null,
+                    null,
+                    null,
+                    null
+            );
+        } else {
+            // Order matters only for the rows selected by the limit
+            final String subquery = SQLiteQueryBuilder.buildQueryString(
+                    query.distinct(),
+                    query.table(),
+                    nullableArrayOfStrings(query.columns()),
+                    nullableString(query.where()),
+                    nullableString(query.groupBy()),
+                    nullableString(query.having()),
+                    query.limit().isEmpty() ? null : nullableString(query.orderBy()),
+                    nullableString(query.limit())
+            );
+
+            sql = "SELECT COUNT(*) FROM (" + subquery + ")";
+        }
+
+        return RawQuery.builder()
+                .query(sql)
+                .args(query.whereArgs().toArray())
+                .build();
+    }
+
     /**
      * Builder for {@link PreparedGetNumberOfResults}.
      */
@@ -173,6 +273,25 @@ public final class PreparedGetNumberOfResults extends PreparedGet<Integer> {
             }
         };
 
+        /**
+         * Default resolver for {@link Query}, counts rows via {@code SELECT COUNT(*)}
+         * instead of reading them, see {@link #countQueryOf(Query)}.
+         */
+        @NonNull
+        static final GetResolver<Integer> COUNT_GET_RESOLVER = new DefaultGetResolver<Integer>() {
+            @NonNull
+            @Override
+            public Cursor performGet(@NonNull StorIOSQLite storIOSQLite, @NonNull Query query) {
+                return storIOSQLite.internal().rawQuery(countQueryOf(query));
+            }
+
+            @NonNull
+            @Override
+            public Integer mapFromCursor(@NonNull Cursor cursor) {
+                return cursor.moveToFirst() ? cursor.getInt(0) : 0;
+            }
+        };
+
         @NonNull
         private final StorIOSQLite storIOSQLite;
 
@@ -185,6 +304,8 @@ public final class PreparedGetNumberOfResults extends PreparedGet<Integer> {
         @Nullable
         private GetResolver<Integer> getResolver;
 
+        private boolean shareIdenticalQueries;
+
         CompleteBuilder(@NonNull StorIOSQLite storIOSQLite, @NonNull Query query) {
             this.storIOSQLite = storIOSQLite;
             this.query = query;
@@ -211,6 +332,26 @@ public final class PreparedGetNumberOfResults extends PreparedGet<Integer> {
             return this;
         }
 
+        /**
+         * Optional: Specifies whether {@link PreparedGetNumberOfResults#createObservable()}
+         * should be shared with other operations that have same query and resolver.
+         * <p>
+         * All subscribers of shared operations are served by one query execution per change,
+         * late subscriber immediately receives the latest result. Query is unsubscribed
+         * when all subscribers unsubscribe.
+         * Operations are shared only by {@link com.pushtorefresh.storio.sqlite.impl.DefaultStorIOSQLite}.
+         * <p>
+         * Default value is {@code false}.
+         *
+         * @param shareIdenticalQueries {@code true} to share identical queries.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder shareIdenticalQueries(boolean shareIdenticalQueries) {
+            this.shareIdenticalQueries = shareIdenticalQueries;
+            return this;
+        }
+
         /**
          * Builds new instance of {@link PreparedGetNumberOfResults}.
          *
@@ -219,20 +360,22 @@ public final class PreparedGetNumberOfResults extends PreparedGet<Integer> {
         @NonNull
         public PreparedGetNumberOfResults prepare() {
             if (getResolver == null) {
-                getResolver = STANDARD_GET_RESOLVER;
+                getResolver = query != null ? COUNT_GET_RESOLVER : STANDARD_GET_RESOLVER;
             }
 
             if (query != null) {
                 return new PreparedGetNumberOfResults(
                         storIOSQLite,
                         query,
-                        getResolver
+                        getResolver,
+                        shareIdenticalQueries
                 );
             } else if (rawQuery != null) {
                 return new PreparedGetNumberOfResults(
                         storIOSQLite,
                         rawQuery,
-                        getResolver
+                        getResolver,
+                        shareIdenticalQueries
                 );
             } else {
                 throw new IllegalStateException("Please specify query");
@@ -9,6 +9,9 @@ import android.support.annotation.WorkerThread;
 import com.pushtorefresh.storio.StorIOException;
 import com.pushtorefresh.storio.operations.internal.MapSomethingToExecuteAsBlocking;
 import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking;
+import com.pushtorefresh.storio.sqlite.Changes;
+import com.pushtorefresh.storio.sqlite.QueryResultsCache;
+import com.pushtorefresh.storio.sqlite.SQLiteMetricsListener;
 import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.queries.Query;
@@ -18,6 +21,7 @@ import java.util.Collections;
 import java.util.Set;
 
 import rx.Observable;
+import rx.functions.Func0;
 import rx.schedulers.Schedulers;
 
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
@@ -31,22 +35,45 @@ public class PreparedGetObject<T> extends PreparedGet<T> {
     @Nullable
     private final GetResolver<T> explicitGetResolver;
 
+    private final boolean skipIdenticalResults;
+
+    private final boolean shareIdenticalQueries;
+
     PreparedGetObject(@NonNull StorIOSQLite storIOSQLite,
-                             @NonNull Class<T> type,
-                             @NonNull Query query,
-                             @Nullable GetResolver<T> explicitGetResolver) {
-        super(storIOSQLite, query);
+                      @NonNull Class<T> type,
+                      @NonNull Query query,
+                      @Nullable GetResolver<T> explicitGetResolver,
+                      boolean skipIdenticalResults,
+                      boolean shareIdenticalQueries) {
+        super(storIOSQLite, limitToFirstRow(query));
         this.type = type;
         this.explicitGetResolver = explicitGetResolver;
+        this.skipIdenticalResults = skipIdenticalResults;
+        this.shareIdenticalQueries = shareIdenticalQueries;
     }
 
     PreparedGetObject(@NonNull StorIOSQLite storIOSQLite,
-                             @NonNull Class<T> type,
-                             @NonNull RawQuery rawQuery,
-                             @Nullable GetResolver<T> explicitGetResolver) {
+                      @NonNull Class<T> type,
+                      @NonNull RawQuery rawQuery,
+                      @Nullable GetResolver<T> explicitGetResolver,
+                      boolean skipIdenticalResults,
+                      boolean shareIdenticalQueries) {
         super(storIOSQLite, rawQuery);
         this.type = type;
         this.explicitGetResolver = explicitGetResolver;
+        this.skipIdenticalResults = skipIdenticalResults;
+        this.shareIdenticalQueries = shareIdenticalQueries;
+    }
+
+    /**
+     * Only first row of the result is mapped, so {@code LIMIT 1} is added
+     * if query does not have a limit.
+     */
+    @NonNull
+    private static Query limitToFirstRow(@NonNull Query query) {
+        return query.limit().isEmpty()
+                ? query.toBuilder().limit(1).build()
+                : query;
     }
 
     /**
@@ -62,13 +89,23 @@ public class PreparedGetObject<T> extends PreparedGet<T> {
     @SuppressWarnings({"ConstantConditions", "NullableProblems"})
     @WorkerThread
     public T executeAsBlocking() {
+        return executeAsBlocking(null);
+    }
+
+    /**
+     * Executes Get Operation and updates passed checksum with mapped row.
+     */
+    @SuppressWarnings("unchecked") // cached result has same type for same key
+    @Nullable
+    private T executeAsBlocking(@Nullable CursorChecksum checksum) {
         try {
+            final StorIOSQLite.Internal internal = storIOSQLite.internal();
             final GetResolver<T> getResolver;
 
             if (explicitGetResolver != null) {
                 getResolver = explicitGetResolver;
             } else {
-                final SQLiteTypeMapping<T> typeMapping = storIOSQLite.internal().typeMapping(type);
+                final SQLiteTypeMapping<T> typeMapping = internal.typeMapping(type);
 
                 if (typeMapping == null) {
                     throw new IllegalStateException("This type does not have type mapping: " +
@@ -79,29 +116,77 @@ public class PreparedGetObject<T> extends PreparedGet<T> {
                 getResolver = typeMapping.getResolver();
             }
 
-            final Cursor cursor;
+            // Results mapped for checksum are not cached, they are compared by checksum anyway
+            final QueryResultsCache.Key resultsCacheKey = checksum == null
+                    ? resultsCacheKey(getResolver)
+                    : null;
+            final QueryResultsCache resultsCache = resultsCacheKey != null
+                    ? internal.queryResultsCache()
+                    : null;
+            long resultsCacheVersion = 0;
 
-            if (query != null) {
-                cursor = getResolver.performGet(storIOSQLite, query);
-            } else if (rawQuery != null) {
-                cursor = getResolver.performGet(storIOSQLite, rawQuery);
-            } else {
+            if (resultsCache != null) {
+                final Object cachedResult = resultsCache.get(resultsCacheKey);
+
+                if (cachedResult != null) {
+                    return (T) cachedResult;
+                }
+
+                resultsCacheVersion = resultsCache.version();
+            }
+
+            if (query == null && rawQuery == null) {
                 throw new IllegalStateException("Please specify query");
             }
 
+            final SQLiteMetricsListener metricsListener = internal.metricsListener();
+            // Time is read only if operations are measured
+            final long startNanos = metricsListener != null ? System.nanoTime() : 0;
+            long mappingStartNanos = 0;
+
+            //noinspection ConstantConditions
+            final Cursor cursor = query != null
+                    ? getResolver.performGet(storIOSQLite, query)
+                    : getResolver.performGet(storIOSQLite, rawQuery);
+
+            final T object;
+
             try {
+                // Cursor reads rows from the db on first access
                 final int count = cursor.getCount();
 
+                if (metricsListener != null) {
+                    mappingStartNanos = System.nanoTime();
+                }
+
                 if (count == 0) {
-                    return null;
+                    if (metricsListener != null) {
+                        reportGet(metricsListener, 0, mappingStartNanos - startNanos, 0);
+                    }
+
+                    return null; // absence of object is not cached
                 }
 
                 cursor.moveToNext();
 
-                return getResolver.mapFromCursor(cursor);
+                object = getResolver.mapFromCursor(cursor);
+
+                if (checksum != null) {
+                    checksum.update(cursor);
+                }
             } finally {
                 cursor.close();
             }
+
+            if (metricsListener != null) {
+                reportGet(metricsListener, 1, mappingStartNanos - startNanos, System.nanoTime() - mappingStartNanos);
+            }
+
+            if (resultsCache != null) {
+                resultsCache.put(resultsCacheKey, object, resultsCacheVersion);
+            }
+
+            return object;
         } catch (Exception exception) {
             throw new StorIOException(exception);
         }
@@ -121,6 +206,15 @@ public class PreparedGetObject<T> extends PreparedGet<T> {
      * <p>
      * Please don't forget to unsubscribe from this {@link Observable} because
      * it's "Hot" and endless.
+     * <p>
+     * If {@link CompleteBuilder#skipIdenticalResults(boolean)} is enabled,
+     * result identical to the previous one will not be emitted.
+     * <p>
+     * If {@link Query} selects rows like {@code "key = ?"} by {@link GetResolver#keyColumn()}, changes of other rows
+     * with known keys will not trigger re-query, see {@link Changes#mayAffectRow(String, String, Object)}.
+     * <p>
+     * If {@link CompleteBuilder#shareIdenticalQueries(boolean)} is enabled, subscribers of
+     * identical operations share one query execution and the latest result.
      *
      * @return non-null {@link Observable} which will emit single object
      * (can be {@code null}, if no items are found)
@@ -142,9 +236,37 @@ public class PreparedGetObject<T> extends PreparedGet<T> {
             throw new IllegalStateException("Please specify query");
         }
 
+        if (shareIdenticalQueries) {
+            return storIOSQLite.sharedObservable(
+                    sharedQueryKey(explicitGetResolver != null ? explicitGetResolver : type, skipIdenticalResults),
+                    new Func0<Observable<T>>() {
+                        @Override
+                        public Observable<T> call() {
+                            return createObservable(tables);
+                        }
+                    });
+        }
+
+        return createObservable(tables);
+    }
+
+    @NonNull
+    private Observable<T> createObservable(@NonNull Set<String> tables) {
+        if (skipIdenticalResults) {
+            return ChecksummedResult.createObservableWithoutIdenticalResults(
+                    tables.isEmpty() ? null : observeChanges(tables),
+                    new Func0<ChecksummedResult<T>>() {
+                        @Override
+                        public ChecksummedResult<T> call() {
+                            final CursorChecksum checksum = new CursorChecksum();
+                            final T result = executeAsBlocking(checksum);
+                            return new ChecksummedResult<T>(result, checksum.value());
+                        }
+                    });
+        }
+
         if (!tables.isEmpty()) {
-            return storIOSQLite
-                    .observeChangesInTables(tables) // each change triggers executeAsBlocking
+            return observeChanges(tables) // each change that may affect result triggers executeAsBlocking
                     .map(MapSomethingToExecuteAsBlocking.newInstance(this))
                     .startWith(Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))) // start stream with first query result
                     .onBackpressureLatest()
@@ -156,6 +278,17 @@ public class PreparedGetObject<T> extends PreparedGet<T> {
         }
     }
 
+    @NonNull
+    private Observable<Changes> observeChanges(@NonNull Set<String> tables) {
+        return RowChangesFilter.apply(
+                storIOSQLite.observeChangesInTables(tables),
+                query,
+                storIOSQLite,
+                type,
+                explicitGetResolver
+        );
+    }
+
     /**
      * Builder for {@link PreparedGetObject} Operation.
      *
@@ -225,6 +358,10 @@ public class PreparedGetObject<T> extends PreparedGet<T> {
         @Nullable
         private GetResolver<T> getResolver;
 
+        private boolean skipIdenticalResults;
+
+        private boolean shareIdenticalQueries;
+
         CompleteBuilder(@NonNull StorIOSQLite storIOSQLite, @NonNull Class<T> type, @NonNull Query query) {
             this.storIOSQLite = storIOSQLite;
             this.type = type;
@@ -256,6 +393,47 @@ public class PreparedGetObject<T> extends PreparedGet<T> {
             return this;
         }
 
+        /**
+         * Optional: Specifies whether {@link PreparedGetObject#createObservable()}
+         * should skip results identical to the previous one.
+         * <p>
+         * Results are compared by checksum of values of the row that is computed
+         * during mapping, so object doesn't need to implement {@code equals()}.
+         * <p>
+         * Default value is {@code false}.
+         *
+         * @param skipIdenticalResults {@code true} to skip identical results.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder<T> skipIdenticalResults(boolean skipIdenticalResults) {
+            this.skipIdenticalResults = skipIdenticalResults;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies whether {@link PreparedGetObject#createObservable()}
+         * should be shared with other operations that have same query, resolver
+         * (or type if resolver is taken from type mapping) and value of {@link #skipIdenticalResults(boolean)}.
+         * <p>
+         * All subscribers of shared operations are served by one query execution per change,
+         * late subscriber immediately receives the latest result. Query is unsubscribed
+         * when all subscribers unsubscribe.
+         * Operations are shared only by {@link com.pushtorefresh.storio.sqlite.impl.DefaultStorIOSQLite}.
+         * <p>
+         * Result is shared between all subscribers, so it should not be modified.
+         * <p>
+         * Default value is {@code false}.
+         *
+         * @param shareIdenticalQueries {@code true} to share identical queries.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder<T> shareIdenticalQueries(boolean shareIdenticalQueries) {
+            this.shareIdenticalQueries = shareIdenticalQueries;
+            return this;
+        }
+
         /**
          * Builds new instance of {@link PreparedGetObject}.
          *
@@ -268,14 +446,18 @@ public class PreparedGetObject<T> extends PreparedGet<T> {
                         storIOSQLite,
                         type,
                         query,
-                        getResolver
+                        getResolver,
+                        skipIdenticalResults,
+                        shareIdenticalQueries
                 );
             } else if (rawQuery != null) {
                 return new PreparedGetObject<T>(
                         storIOSQLite,
                         type,
                         rawQuery,
-                        getResolver
+                        getResolver,
+                        skipIdenticalResults,
+                        shareIdenticalQueries
                 );
             } else {
                 throw new IllegalStateException("Please specify Query or RawQuery");
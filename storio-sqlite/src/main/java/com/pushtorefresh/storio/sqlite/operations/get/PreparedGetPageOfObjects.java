@@ -0,0 +1,530 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.Cursor;
+import android.support.annotation.CheckResult;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+
+import com.pushtorefresh.storio.StorIOException;
+import com.pushtorefresh.storio.operations.internal.MapSomethingToExecuteAsBlocking;
+import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking;
+import com.pushtorefresh.storio.sqlite.Changes;
+import com.pushtorefresh.storio.sqlite.SQLiteMetricsListener;
+import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import rx.Observable;
+import rx.functions.Func0;
+import rx.functions.Func1;
+import rx.schedulers.Schedulers;
+
+import static com.pushtorefresh.storio.internal.Checks.checkNotEmpty;
+import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
+import static com.pushtorefresh.storio.internal.Environment.throwExceptionIfRxJavaIsNotAvailable;
+
+/**
+ * Prepared Get Operation for {@link StorIOSQLite} which returns results page by page
+ * using keyset pagination: {@code WHERE key > ? ORDER BY key LIMIT pageSize}.
+ * <p>
+ * Unlike {@code OFFSET} based paging, cost of loading of the page does not depend
+ * on the number of rows before it.
+ *
+ * @param <T> type of results.
+ */
+public final class PreparedGetPageOfObjects<T> extends PreparedGet<Page<T>> {
+
+    private static final int EVENT_RELOAD = 0;
+
+    private static final int EVENT_NEXT_PAGE = 1;
+
+    @NonNull
+    private final Class<T> type;
+
+    @NonNull
+    private final String keyColumn;
+
+    private final int pageSize;
+
+    private final boolean descending;
+
+    @Nullable
+    private final String afterKey;
+
+    @Nullable
+    private final GetResolver<T> explicitGetResolver;
+
+    PreparedGetPageOfObjects(@NonNull StorIOSQLite storIOSQLite,
+                             @NonNull Class<T> type,
+                             @NonNull Query query,
+                             @NonNull String keyColumn,
+                             int pageSize,
+                             boolean descending,
+                             @Nullable String afterKey,
+                             @Nullable GetResolver<T> explicitGetResolver) {
+        super(storIOSQLite, query);
+        this.type = type;
+        this.keyColumn = keyColumn;
+        this.pageSize = pageSize;
+        this.descending = descending;
+        this.afterKey = afterKey;
+        this.explicitGetResolver = explicitGetResolver;
+    }
+
+    /**
+     * Executes Get Operation immediately in current thread.
+     * <p>
+     * Notice: This is blocking I/O operation that should not be executed on the Main Thread,
+     * it can cause ANR (Activity Not Responding dialog), block the UI and drop animations frames.
+     * So please, call this method on some background thread. See {@link WorkerThread}.
+     *
+     * @return non-null {@link Page} with mapped results, page can be empty.
+     */
+    @WorkerThread
+    @NonNull
+    @Override
+    public Page<T> executeAsBlocking() {
+        try {
+            return loadPage(getResolver(), afterKey, pageSize);
+        } catch (Exception exception) {
+            throw new StorIOException(exception);
+        }
+    }
+
+    /**
+     * Creates "Hot" {@link Observable} which will be subscribed to changes of table from query
+     * and will emit page each time change occurs.
+     * <p>
+     * First result will be emitted immediately after subscription,
+     * other emissions will occur only if changes of table from query will occur during lifetime of
+     * the {@link Observable}.
+     * <dl>
+     * <dt><b>Scheduler:</b></dt>
+     * <dd>Operates on {@link Schedulers#io()}.</dd>
+     * </dl>
+     * <p>
+     * Please don't forget to unsubscribe from this {@link Observable} because
+     * it's "Hot" and endless.
+     *
+     * @return non-null {@link Observable} which will emit non-null {@link Page}
+     * and will be subscribed to changes of table from query.
+     * @see #createPagingObservable(Observable)
+     */
+    @NonNull
+    @CheckResult
+    @Override
+    public Observable<Page<T>> createObservable() {
+        throwExceptionIfRxJavaIsNotAvailable("createObservable()");
+
+        //noinspection ConstantConditions
+        return storIOSQLite
+                .observeChangesInTables(Collections.singleton(query.table())) // each change triggers executeAsBlocking
+                .map(MapSomethingToExecuteAsBlocking.newInstance(this))
+                .startWith(Observable.create(OnSubscribeExecuteAsBlocking.newInstance(this))) // start stream with first query result
+                .onBackpressureLatest()
+                .subscribeOn(Schedulers.io());
+    }
+
+    /**
+     * Creates "Hot" {@link Observable} which loads pages on demand and emits all loaded items.
+     * <p>
+     * First page will be loaded immediately after subscription, each emission of
+     * {@code nextPageRequests} loads next page (if there is one). When table from query changes,
+     * only already loaded range of rows is loaded again — with one query limited
+     * by number of loaded pages, rows after this range are not touched.
+     * <dl>
+     * <dt><b>Scheduler:</b></dt>
+     * <dd>Operates on {@link Schedulers#io()}.</dd>
+     * </dl>
+     * <p>
+     * Please don't forget to unsubscribe from this {@link Observable} because
+     * it's "Hot" and endless.
+     *
+     * @param nextPageRequests each emission requests loading of the next page.
+     * @return non-null {@link Observable} which will emit non-null, immutable {@link List}
+     * with all loaded items, list can be empty.
+     */
+    @NonNull
+    @CheckResult
+    public Observable<List<T>> createPagingObservable(@NonNull final Observable<?> nextPageRequests) {
+        throwExceptionIfRxJavaIsNotAvailable("createPagingObservable()");
+        checkNotNull(nextPageRequests, "Please specify nextPageRequests");
+
+        //noinspection ConstantConditions
+        final Observable<Integer> reloads = storIOSQLite
+                .observeChangesInTables(Collections.singleton(query.table()))
+                .map(new Func1<Changes, Integer>() {
+                    @Override
+                    public Integer call(Changes changes) {
+                        return EVENT_RELOAD;
+                    }
+                });
+
+        final Observable<Integer> nextPages = nextPageRequests
+                .map(new Func1<Object, Integer>() {
+                    @Override
+                    public Integer call(Object request) {
+                        return EVENT_NEXT_PAGE;
+                    }
+                });
+
+        return Observable.defer(new Func0<Observable<List<T>>>() {
+            @Override
+            public Observable<List<T>> call() {
+                // State of loaded pages is confined to this subscription
+                return Observable
+                        .merge(reloads, nextPages)
+                        .startWith(EVENT_RELOAD) // start stream with first page
+                        .onBackpressureBuffer() // requests of next pages should not be dropped
+                        .observeOn(Schedulers.io())
+                        .map(new LoadedPages());
+            }
+        });
+    }
+
+    @NonNull
+    private GetResolver<T> getResolver() {
+        if (explicitGetResolver != null) {
+            return explicitGetResolver;
+        }
+
+        final SQLiteTypeMapping<T> typeMapping = storIOSQLite.internal().typeMapping(type);
+
+        if (typeMapping == null) {
+            throw new IllegalStateException("This type does not have type mapping: " +
+                    "type = " + type + "," +
+                    "db was not touched by this operation, please add type mapping for this type");
+        }
+
+        return typeMapping.getResolver();
+    }
+
+    /**
+     * Loads up to {@code limit} rows after passed key and reports read of the page
+     * to {@link SQLiteMetricsListener} if it's set.
+     */
+    @SuppressWarnings("TryFinallyCanBeTryWithResources") // Min SDK :(
+    @NonNull
+    private Page<T> loadPage(@NonNull GetResolver<T> getResolver, @Nullable String afterKey, int limit) {
+        final SQLiteMetricsListener metricsListener = storIOSQLite.internal().metricsListener();
+        final Query pageQuery = pageQuery(afterKey, limit);
+
+        final long startNanos = metricsListener != null ? System.nanoTime() : 0;
+        final Cursor cursor = getResolver.performGet(storIOSQLite, pageQuery);
+        long mappingStartNanos = 0;
+
+        try {
+            final int count = cursor.getCount();
+
+            if (metricsListener != null) {
+                mappingStartNanos = System.nanoTime();
+            }
+
+            if (count == 0) {
+                if (metricsListener != null) {
+                    metricsListener.onGet(pageQuery, 0, mappingStartNanos - startNanos, 0);
+                }
+
+                return Page.newInstance(Collections.<T>emptyList(), null, false);
+            }
+
+            final int keyColumnIndex = cursor.getColumnIndexOrThrow(keyColumn);
+            final List<T> items = new ArrayList<T>(Math.min(count, limit));
+            String lastKey = null;
+
+            // One extra row is requested to find out whether there is a next page
+            while (items.size() < limit && cursor.moveToNext()) {
+                items.add(getResolver.mapFromCursor(cursor));
+                lastKey = cursor.getString(keyColumnIndex);
+            }
+
+            if (metricsListener != null) {
+                metricsListener.onGet(pageQuery, items.size(), mappingStartNanos - startNanos, System.nanoTime() - mappingStartNanos);
+            }
+
+            return Page.newInstance(items, lastKey, count > limit);
+        } finally {
+            cursor.close();
+        }
+    }
+
+    @NonNull
+    private Query pageQuery(@Nullable String afterKey, int limit) {
+        //noinspection ConstantConditions
+        final Query.CompleteBuilder builder = query.toBuilder()
+                .orderBy(descending ? keyColumn + " DESC" : keyColumn)
+                .limit(String.valueOf(limit + 1));
+
+        if (!query.columns().isEmpty() && !query.columns().contains(keyColumn)) {
+            final List<String> columns = new ArrayList<String>(query.columns());
+            columns.add(keyColumn);
+            builder.columns(columns.toArray(new String[columns.size()]));
+        }
+
+        if (afterKey != null) {
+            final String keyCondition = keyColumn + (descending ? " < ?" : " > ?");
+
+            final List<String> whereArgs = new ArrayList<String>(query.whereArgs());
+            whereArgs.add(afterKey);
+
+            builder
+                    .where(query.where().isEmpty() ? keyCondition : "(" + query.where() + ") AND " + keyCondition)
+                    .whereArgs(whereArgs);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Accumulates loaded pages of one subscription, events are delivered sequentially.
+     */
+    private final class LoadedPages implements Func1<Integer, List<T>> {
+
+        @NonNull
+        private final List<T> items = new ArrayList<T>();
+
+        private int numberOfPages;
+
+        @Nullable
+        private String lastKey;
+
+        private boolean hasNextPage;
+
+        @Override
+        public List<T> call(Integer event) {
+            try {
+                final GetResolver<T> getResolver = getResolver();
+
+                if (event == EVENT_RELOAD) {
+                    numberOfPages = Math.max(numberOfPages, 1);
+
+                    final Page<T> page = loadPage(getResolver, afterKey, numberOfPages * pageSize);
+                    items.clear();
+                    items.addAll(page.items());
+                    lastKey = page.lastKey();
+                    hasNextPage = page.hasNextPage();
+                } else if (hasNextPage) {
+                    final Page<T> page = loadPage(getResolver, lastKey, pageSize);
+                    items.addAll(page.items());
+                    lastKey = page.lastKey() != null ? page.lastKey() : lastKey;
+                    hasNextPage = page.hasNextPage();
+                    numberOfPages++;
+                }
+
+                return Collections.unmodifiableList(new ArrayList<T>(items));
+            } catch (Exception exception) {
+                throw new StorIOException(exception);
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link PreparedGetPageOfObjects} Operation.
+     *
+     * @param <T> type of objects.
+     */
+    public static final class Builder<T> {
+
+        @NonNull
+        private final StorIOSQLite storIOSQLite;
+
+        @NonNull
+        private final Class<T> type;
+
+        Builder(@NonNull StorIOSQLite storIOSQLite, @NonNull Class<T> type) {
+            this.storIOSQLite = storIOSQLite;
+            this.type = type;
+        }
+
+        /**
+         * Required: Specifies query which will be passed to {@link StorIOSQLite}
+         * to get pages of objects.
+         * <p>
+         * Query should not specify {@code orderBy} and {@code limit},
+         * they are defined by the key column and the page size.
+         *
+         * @param query non-null query.
+         * @return builder.
+         * @see Query
+         */
+        @NonNull
+        public KeyColumnBuilder<T> withQuery(@NonNull Query query) {
+            checkNotNull(query, "Please specify query");
+
+            if (!query.orderBy().isEmpty() || !query.limit().isEmpty()) {
+                throw new IllegalArgumentException("Query for paged Get Operation should not specify orderBy and limit, " +
+                        "they are defined by the key column and the page size, query = " + query);
+            }
+
+            return new KeyColumnBuilder<T>(storIOSQLite, type, query);
+        }
+    }
+
+    /**
+     * Builder for {@link PreparedGetPageOfObjects} Operation.
+     *
+     * @param <T> type of objects.
+     */
+    public static final class KeyColumnBuilder<T> {
+
+        @NonNull
+        private final StorIOSQLite storIOSQLite;
+
+        @NonNull
+        private final Class<T> type;
+
+        @NonNull
+        private final Query query;
+
+        KeyColumnBuilder(@NonNull StorIOSQLite storIOSQLite, @NonNull Class<T> type, @NonNull Query query) {
+            this.storIOSQLite = storIOSQLite;
+            this.type = type;
+            this.query = query;
+        }
+
+        /**
+         * Required: Specifies column by which results will be ordered and paged.
+         * <p>
+         * Values of the column should be unique (for example primary key),
+         * otherwise rows with the same value on the border of the pages can be skipped.
+         *
+         * @param keyColumn non-null and not empty name of the key column.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder<T> keyColumn(@NonNull String keyColumn) {
+            checkNotEmpty(keyColumn, "Please specify keyColumn");
+            return new CompleteBuilder<T>(storIOSQLite, type, query, keyColumn);
+        }
+    }
+
+    /**
+     * Compile-safe part of {@link Builder}.
+     *
+     * @param <T> type of objects.
+     */
+    public static final class CompleteBuilder<T> {
+
+        static final int DEFAULT_PAGE_SIZE = 50;
+
+        @NonNull
+        private final StorIOSQLite storIOSQLite;
+
+        @NonNull
+        private final Class<T> type;
+
+        @NonNull
+        private final Query query;
+
+        @NonNull
+        private final String keyColumn;
+
+        private int pageSize = DEFAULT_PAGE_SIZE;
+
+        private boolean descending;
+
+        @Nullable
+        private String afterKey;
+
+        @Nullable
+        private GetResolver<T> getResolver;
+
+        CompleteBuilder(@NonNull StorIOSQLite storIOSQLite,
+                        @NonNull Class<T> type,
+                        @NonNull Query query,
+                        @NonNull String keyColumn) {
+            this.storIOSQLite = storIOSQLite;
+            this.type = type;
+            this.query = query;
+            this.keyColumn = keyColumn;
+        }
+
+        /**
+         * Optional: Specifies max number of items in the page.
+         * <p>
+         * Default value is 50.
+         *
+         * @param pageSize positive number of items in the page.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder<T> pageSize(int pageSize) {
+            if (pageSize <= 0) {
+                throw new IllegalArgumentException("pageSize should be > 0, pageSize = " + pageSize);
+            }
+
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies descending order of the key column.
+         * <p>
+         * Default value is {@code false}.
+         *
+         * @param descending {@code true} to order results by the key column descending.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder<T> descending(boolean descending) {
+            this.descending = descending;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies value of the key column after which page starts,
+         * usually it's {@link Page#lastKey()} of the previous page.
+         * <p>
+         * If not specified, first page will be returned.
+         *
+         * @param afterKey nullable value of the key column.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder<T> afterKey(@Nullable String afterKey) {
+            this.afterKey = afterKey;
+            return this;
+        }
+
+        /**
+         * Optional: Specifies resolver for Get Operation which can be used
+         * to provide custom behavior of Get Operation.
+         * <p>
+         * {@link SQLiteTypeMapping} can be used to set default GetResolver.
+         * If GetResolver is not set via {@link SQLiteTypeMapping}
+         * or explicitly — exception will be thrown.
+         *
+         * @param getResolver nullable resolver for Get Operation.
+         * @return builder.
+         */
+        @NonNull
+        public CompleteBuilder<T> withGetResolver(@Nullable GetResolver<T> getResolver) {
+            this.getResolver = getResolver;
+            return this;
+        }
+
+        /**
+         * Builds new instance of {@link PreparedGetPageOfObjects}.
+         *
+         * @return new instance of {@link PreparedGetPageOfObjects}.
+         */
+        @NonNull
+        public PreparedGetPageOfObjects<T> prepare() {
+            return new PreparedGetPageOfObjects<T>(
+                    storIOSQLite,
+                    type,
+                    query,
+                    keyColumn,
+                    pageSize,
+                    descending,
+                    afterKey,
+                    getResolver
+            );
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+
+import com.pushtorefresh.storio.sqlite.SQLiteMetricsListener;
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+
+/**
+ * FOR INTERNAL USAGE ONLY.
+ * <p>
+ * Loads rows of {@link Query} in chunks limited via {@code LIMIT offset, chunkSize},
+ * so {@link android.database.CursorWindow} of each chunk holds only {@code chunkSize} rows.
+ * <p>
+ * Thread-safe.
+ */
+final class QueryChunks {
+
+    @NonNull
+    private final StorIOSQLite storIOSQLite;
+
+    @NonNull
+    private final Query query;
+
+    @NonNull
+    private final GetResolver<?> getResolver;
+
+    private final int chunkSize;
+
+    @Nullable
+    private final SQLiteMetricsListener metricsListener;
+
+    QueryChunks(@NonNull StorIOSQLite storIOSQLite,
+                @NonNull Query query,
+                @NonNull GetResolver<?> getResolver,
+                int chunkSize,
+                @Nullable SQLiteMetricsListener metricsListener) {
+        this.storIOSQLite = storIOSQLite;
+        this.query = query;
+        this.getResolver = getResolver;
+        this.chunkSize = chunkSize;
+        this.metricsListener = metricsListener;
+    }
+
+    int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Loads chunk of rows, query of each chunk is reported to {@link SQLiteMetricsListener} separately.
+     *
+     * @param chunkIndex zero-based index of the chunk.
+     * @return cursor with at most {@code chunkSize} rows.
+     */
+    @WorkerThread
+    @NonNull
+    Cursor load(int chunkIndex) {
+        return PreparedGet.performGet(
+                storIOSQLite,
+                getResolver,
+                query.toBuilder()
+                        .limit(chunkIndex * chunkSize, chunkSize)
+                        .build(),
+                metricsListener
+        );
+    }
+}
@@ -0,0 +1,88 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.pushtorefresh.storio.sqlite.Changes;
+import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+
+import rx.Observable;
+import rx.functions.Func1;
+
+import static com.pushtorefresh.storio.internal.InternalQueries.keyColumnOf;
+
+/**
+ * FOR INTERNAL USAGE ONLY.
+ * <p>
+ * Skips {@link Changes} that are known to not affect row selected by {@code "key = ?"} query,
+ * so Get Operation of one row is not re-executed on changes of other rows of the table.
+ * See {@link Changes#mayAffectRow(String, String, Object)}.
+ * <p>
+ * Hides RxJava from ClassLoader via separate class.
+ */
+final class RowChangesFilter implements Func1<Changes, Boolean> {
+
+    @NonNull
+    private final String table;
+
+    @NonNull
+    private final String keyColumn;
+
+    @NonNull
+    private final String key;
+
+    private RowChangesFilter(@NonNull String table, @NonNull String keyColumn, @NonNull String key) {
+        this.table = table;
+        this.keyColumn = keyColumn;
+        this.key = key;
+    }
+
+    /**
+     * Applies filter to changes if query selects rows by key column that {@link GetResolver}
+     * of the operation reports via {@link GetResolver#keyColumn()}, so filter is not applied
+     * to queries by other columns which values are not tracked by {@link Changes}.
+     *
+     * @param changes             changes of tables observed by the query.
+     * @param query               query of Get Operation, {@code null} for raw queries.
+     * @param storIOSQLite        instance of {@link StorIOSQLite} to find type mapping.
+     * @param type                type of objects of Get Operation.
+     * @param explicitGetResolver explicit {@link GetResolver} of Get Operation, can be {@code null}.
+     * @return filtered changes or passed changes as is if query does not select rows by key.
+     */
+    @NonNull
+    static Observable<Changes> apply(@NonNull Observable<Changes> changes,
+                                     @Nullable Query query,
+                                     @NonNull StorIOSQLite storIOSQLite,
+                                     @NonNull Class<?> type,
+                                     @Nullable GetResolver<?> explicitGetResolver) {
+        if (query == null) {
+            return changes;
+        }
+
+        final String keyColumn = keyColumnOf(query.where(), query.whereArgs().size());
+
+        if (keyColumn == null) {
+            return changes;
+        }
+
+        final GetResolver<?> getResolver;
+
+        if (explicitGetResolver != null) {
+            getResolver = explicitGetResolver;
+        } else {
+            final SQLiteTypeMapping<?> typeMapping = storIOSQLite.internal().typeMapping(type);
+            getResolver = typeMapping != null ? typeMapping.getResolver() : null;
+        }
+
+        return getResolver != null && keyColumn.equals(getResolver.keyColumn())
+                ? changes.filter(new RowChangesFilter(query.table(), keyColumn, query.whereArgs().get(0)))
+                : changes;
+    }
+
+    @Override
+    public Boolean call(Changes changes) {
+        return changes.mayAffectRow(table, keyColumn, key);
+    }
+}
@@ -0,0 +1,68 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.support.annotation.NonNull;
+
+/**
+ * FOR INTERNAL USAGE ONLY.
+ * <p>
+ * Key of Get Operation for {@link com.pushtorefresh.storio.sqlite.StorIOSQLite#sharedObservable(Object, rx.functions.Func0)}:
+ * operations with equal keys emit equal results, so they can share one observable.
+ */
+final class SharedQueryKey {
+
+    @NonNull
+    private final Class<?> operationType;
+
+    @NonNull
+    private final Object query;
+
+    /**
+     * Explicit {@link GetResolver} or type of objects if resolver is taken from type mapping.
+     */
+    @NonNull
+    private final Object getResolver;
+
+    private final boolean skipIdenticalResults;
+
+    SharedQueryKey(@NonNull Class<?> operationType,
+                   @NonNull Object query,
+                   @NonNull Object getResolver,
+                   boolean skipIdenticalResults) {
+        this.operationType = operationType;
+        this.query = query;
+        this.getResolver = getResolver;
+        this.skipIdenticalResults = skipIdenticalResults;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        SharedQueryKey that = (SharedQueryKey) o;
+
+        if (skipIdenticalResults != that.skipIdenticalResults) return false;
+        if (!operationType.equals(that.operationType)) return false;
+        if (!query.equals(that.query)) return false;
+        return getResolver.equals(that.getResolver);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = operationType.hashCode();
+        result = 31 * result + query.hashCode();
+        result = 31 * result + getResolver.hashCode();
+        result = 31 * result + (skipIdenticalResults ? 1 : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "SharedQueryKey{" +
+                "operationType=" + operationType +
+                ", query=" + query +
+                ", getResolver=" + getResolver +
+                ", skipIdenticalResults=" + skipIdenticalResults +
+                '}';
+    }
+}
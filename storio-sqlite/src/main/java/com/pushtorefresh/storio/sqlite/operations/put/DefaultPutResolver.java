@@ -3,14 +3,20 @@ package com.pushtorefresh.storio.sqlite.operations.put;
 import android.content.ContentValues;
 import android.database.Cursor;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
+import com.pushtorefresh.storio.internal.InternalQueries;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.queries.InsertQuery;
 import com.pushtorefresh.storio.sqlite.queries.Query;
 import com.pushtorefresh.storio.sqlite.queries.UpdateQuery;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.pushtorefresh.storio.internal.InternalQueries.nullableArrayOfStrings;
 import static com.pushtorefresh.storio.internal.InternalQueries.nullableString;
+import static java.util.Collections.singletonList;
 
 /**
  * Default implementation of {@link PutResolver}.
@@ -48,6 +54,43 @@ public abstract class DefaultPutResolver<T> extends PutResolver<T> {
     @NonNull
     protected abstract ContentValues mapToContentValues(@NonNull T object);
 
+    /**
+     * Defines whether Put Operation should work in "upsert" mode.
+     * <p>
+     * By default, {@link DefaultPutResolver} queries rows matching {@link UpdateQuery}
+     * and then performs insert or update depending on the number of found rows.
+     * <p>
+     * In "upsert" mode it performs update first and performs insert only if
+     * no rows were updated, so existence check query and its cursor are skipped.
+     * Result of Put Operation is the same as in default mode.
+     * <p>
+     * Default value is {@code false}, override this method to enable "upsert" mode.
+     *
+     * @return {@code true} if Put Operation should try to update first, {@code false} otherwise.
+     */
+    protected boolean useUpsert() {
+        return false;
+    }
+
+    /**
+     * Gets {@link StatementBinder} which binds values of objects directly to compiled INSERT statement,
+     * it is used by bulk insert instead of {@link #mapToContentValues(Object)} if
+     * {@link StorIOSQLite.Internal} supports it.
+     * <p>
+     * Binder should bind same values as {@link #mapToContentValues(Object)} puts.
+     * It's used only if class of the resolver is {@link StatementBinder#putResolverClass()},
+     * so subclasses that override {@link #mapToContentValues(Object)} put objects
+     * via {@link ContentValues} unless they provide their own binder.
+     * <p>
+     * Default implementation returns {@code null}, generated resolvers override it.
+     *
+     * @return binder or {@code null} if objects should be mapped to {@link ContentValues}.
+     */
+    @Nullable
+    protected StatementBinder<T> statementBinder() {
+        return null;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -60,28 +103,9 @@ public abstract class DefaultPutResolver<T> extends PutResolver<T> {
         storIOSQLite.internal().beginTransaction();
 
         try {
-            final Cursor cursor = storIOSQLite.internal().query(Query.builder()
-                    .table(updateQuery.table())
-                    .where(nullableString(updateQuery.where()))
-                    .whereArgs((Object[]) nullableArrayOfStrings(updateQuery.whereArgs()))
-                    .build());
-
-            final PutResult putResult;
-
-            try {
-                final ContentValues contentValues = mapToContentValues(object);
-
-                if (cursor.getCount() == 0) {
-                    final InsertQuery insertQuery = mapToInsertQuery(object);
-                    final long insertedId = storIOSQLite.internal().insert(insertQuery, contentValues);
-                    putResult = PutResult.newInsertResult(insertedId, insertQuery.table());
-                } else {
-                    final int numberOfRowsUpdated = storIOSQLite.internal().update(updateQuery, contentValues);
-                    putResult = PutResult.newUpdateResult(numberOfRowsUpdated, updateQuery.table());
-                }
-            } finally {
-                cursor.close();
-            }
+            final PutResult putResult = useUpsert()
+                    ? performUpsert(storIOSQLite, object, updateQuery)
+                    : performQueryAndPut(storIOSQLite, object, updateQuery);
 
             // everything okay
             storIOSQLite.internal().setTransactionSuccessful();
@@ -92,4 +116,99 @@ public abstract class DefaultPutResolver<T> extends PutResolver<T> {
             storIOSQLite.internal().endTransaction();
         }
     }
+
+    @NonNull
+    private PutResult performQueryAndPut(@NonNull StorIOSQLite storIOSQLite, @NonNull T object, @NonNull UpdateQuery updateQuery) {
+        final Cursor cursor = storIOSQLite.internal().query(Query.builder()
+                .table(updateQuery.table())
+                .where(nullableString(updateQuery.where()))
+                .whereArgs((Object[]) nullableArrayOfStrings(updateQuery.whereArgs()))
+                .build());
+
+        try {
+            final ContentValues contentValues = mapToContentValues(object);
+
+            if (cursor.getCount() == 0) {
+                final InsertQuery insertQuery = mapToInsertQuery(object);
+                final long insertedId = storIOSQLite.internal().insert(insertQuery, contentValues);
+                return newInsertResult(insertedId, insertQuery, updateQuery, contentValues);
+            } else {
+                final int numberOfRowsUpdated = storIOSQLite.internal().update(updateQuery, contentValues);
+                return newUpdateResult(numberOfRowsUpdated, updateQuery, contentValues);
+            }
+        } finally {
+            cursor.close();
+        }
+    }
+
+    @NonNull
+    private PutResult performUpsert(@NonNull StorIOSQLite storIOSQLite, @NonNull T object, @NonNull UpdateQuery updateQuery) {
+        final ContentValues contentValues = mapToContentValues(object);
+        final int numberOfRowsUpdated = storIOSQLite.internal().update(updateQuery, contentValues);
+
+        if (numberOfRowsUpdated > 0) {
+            return newUpdateResult(numberOfRowsUpdated, updateQuery, contentValues);
+        } else {
+            final InsertQuery insertQuery = mapToInsertQuery(object);
+            final long insertedId = storIOSQLite.internal().insert(insertQuery, contentValues);
+            return newInsertResult(insertedId, insertQuery, updateQuery, contentValues);
+        }
+    }
+
+    /**
+     * Creates result of insert with key of inserted row if {@link UpdateQuery} selects rows
+     * by one key column and key is present in {@link ContentValues}.
+     */
+    @NonNull
+    private static PutResult newInsertResult(
+            long insertedId,
+            @NonNull InsertQuery insertQuery,
+            @NonNull UpdateQuery updateQuery,
+            @NonNull ContentValues contentValues) {
+
+        final String keyColumn = keyColumnOf(updateQuery);
+
+        if (keyColumn != null && insertQuery.table().equals(updateQuery.table())) {
+            final Object key = contentValues.get(keyColumn);
+
+            if (key != null) {
+                return PutResult.newInsertResult(insertedId, insertQuery.table(), keyColumn, singletonList(key));
+            }
+        }
+
+        return PutResult.newInsertResult(insertedId, insertQuery.table());
+    }
+
+    /**
+     * Creates result of update with keys of updated row if {@link UpdateQuery} selects rows
+     * by one key column. New value of the key is also affected if update changes it.
+     */
+    @NonNull
+    private static PutResult newUpdateResult(
+            int numberOfRowsUpdated,
+            @NonNull UpdateQuery updateQuery,
+            @NonNull ContentValues contentValues) {
+
+        final String keyColumn = keyColumnOf(updateQuery);
+
+        if (keyColumn != null) {
+            final List<Object> affectedKeys = new ArrayList<Object>(2);
+            affectedKeys.add(updateQuery.whereArgs().get(0));
+
+            final Object newKey = contentValues.get(keyColumn);
+
+            if (newKey != null) {
+                affectedKeys.add(newKey);
+            }
+
+            return PutResult.newUpdateResult(numberOfRowsUpdated, updateQuery.table(), keyColumn, affectedKeys);
+        }
+
+        return PutResult.newUpdateResult(numberOfRowsUpdated, updateQuery.table());
+    }
+
+    @Nullable
+    private static String keyColumnOf(@NonNull UpdateQuery updateQuery) {
+        return InternalQueries.keyColumnOf(updateQuery.where(), updateQuery.whereArgs().size());
+    }
 }
@@ -1,5 +1,6 @@
 package com.pushtorefresh.storio.sqlite.operations.put;
 
+import android.content.ContentValues;
 import android.support.annotation.CheckResult;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
@@ -10,15 +11,15 @@ import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking
 import com.pushtorefresh.storio.sqlite.Changes;
 import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.InsertQuery;
 
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import rx.Observable;
 import rx.schedulers.Schedulers;
@@ -32,6 +33,8 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
 
     private final boolean useTransaction;
 
+    private final boolean useBulkInsert;
+
     @Nullable
     private final PutResolver<T> explicitPutResolver;
 
@@ -39,9 +42,18 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
                                    @NonNull Collection<T> objects,
                                    @Nullable PutResolver<T> explicitPutResolver,
                                    boolean useTransaction) {
+        this(storIOSQLite, objects, explicitPutResolver, useTransaction, false);
+    }
+
+    PreparedPutCollectionOfObjects(@NonNull StorIOSQLite storIOSQLite,
+                                   @NonNull Collection<T> objects,
+                                   @Nullable PutResolver<T> explicitPutResolver,
+                                   boolean useTransaction,
+                                   boolean useBulkInsert) {
         super(storIOSQLite);
         this.objects = objects;
         this.useTransaction = useTransaction;
+        this.useBulkInsert = useBulkInsert;
         this.explicitPutResolver = explicitPutResolver;
     }
 
@@ -95,13 +107,15 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
             boolean transactionSuccessful = false;
 
             try {
-                if (explicitPutResolver != null) {
+                if (useBulkInsert) {
+                    performBulkInsert(internal, objectsAndPutResolvers, results);
+                } else if (explicitPutResolver != null) {
                     for (final T object : objects) {
                         final PutResult putResult = explicitPutResolver.performPut(storIOSQLite, object);
                         results.put(object, putResult);
 
                         if (!useTransaction && (putResult.wasInserted() || putResult.wasUpdated())) {
-                            internal.notifyAboutChanges(Changes.newInstance(putResult.affectedTables()));
+                            internal.notifyAboutChanges(putResult.toChanges());
                         }
                     }
                 } else {
@@ -114,7 +128,7 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
                         results.put(object, putResult);
 
                         if (!useTransaction && (putResult.wasInserted() || putResult.wasUpdated())) {
-                            internal.notifyAboutChanges(Changes.newInstance(putResult.affectedTables()));
+                            internal.notifyAboutChanges(putResult.toChanges());
                         }
                     }
                 }
@@ -129,19 +143,19 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
 
                     // if delete was in transaction and it was successful -> notify about changes
                     if (transactionSuccessful) {
-                        final Set<String> affectedTables = new HashSet<String>(1); // in most cases it will be 1 table
+                        final List<Changes> changes = new ArrayList<Changes>(results.size());
 
                         for (final T object : results.keySet()) {
                             final PutResult putResult = results.get(object);
                             if (putResult.wasInserted() || putResult.wasUpdated()) {
-                                affectedTables.addAll(putResult.affectedTables());
+                                changes.add(putResult.toChanges());
                             }
                         }
 
                         // IMPORTANT: Notifying about change should be done after end of transaction
                         // It'll reduce number of possible deadlock situations
-                        if (!affectedTables.isEmpty()) {
-                            internal.notifyAboutChanges(Changes.newInstance(affectedTables));
+                        if (!changes.isEmpty()) {
+                            internal.notifyAboutChanges(Changes.merge(changes));
                         }
                     }
                 }
@@ -154,6 +168,124 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
         }
     }
 
+    /**
+     * Inserts objects which {@link PutResolver} is {@link DefaultPutResolver} without
+     * checking whether they are already stored, objects are grouped by {@link InsertQuery}
+     * and each group is inserted via {@link StorIOSQLite.Internal#insertAll(InsertQuery, List, StatementBinder)}
+     * if all objects of the group have same {@link StatementBinder}
+     * or via {@link StorIOSQLite.Internal#insertAll(InsertQuery, List)} otherwise.
+     * Objects with other {@link PutResolver}s are put as usual.
+     */
+    private void performBulkInsert(@NonNull StorIOSQLite.Internal internal,
+                                   @Nullable List<SimpleImmutableEntry<T, PutResolver<T>>> objectsAndPutResolvers,
+                                   @NonNull Map<T, PutResult> results) {
+        final Map<InsertQuery, List<T>> objectsToInsert = new LinkedHashMap<InsertQuery, List<T>>(1); // in most cases it will be 1 query
+        final Map<InsertQuery, List<DefaultPutResolver<T>>> putResolvers = new HashMap<InsertQuery, List<DefaultPutResolver<T>>>(1);
+
+        int index = 0;
+
+        for (final T object : objects) {
+            //noinspection ConstantConditions -> objectsAndPutResolvers is not null if there is no explicit PutResolver
+            final PutResolver<T> putResolver = explicitPutResolver != null
+                    ? explicitPutResolver
+                    : objectsAndPutResolvers.get(index).getValue();
+
+            index++;
+
+            if (putResolver instanceof DefaultPutResolver) {
+                final DefaultPutResolver<T> defaultPutResolver = (DefaultPutResolver<T>) putResolver;
+                final InsertQuery insertQuery = defaultPutResolver.mapToInsertQuery(object);
+
+                List<T> objectsForQuery = objectsToInsert.get(insertQuery);
+
+                if (objectsForQuery == null) {
+                    objectsForQuery = new ArrayList<T>();
+                    objectsToInsert.put(insertQuery, objectsForQuery);
+                    putResolvers.put(insertQuery, new ArrayList<DefaultPutResolver<T>>());
+                }
+
+                objectsForQuery.add(object);
+                putResolvers.get(insertQuery).add(defaultPutResolver);
+            } else {
+                final PutResult putResult = putResolver.performPut(storIOSQLite, object);
+                results.put(object, putResult);
+
+                if (!useTransaction && (putResult.wasInserted() || putResult.wasUpdated())) {
+                    internal.notifyAboutChanges(putResult.toChanges());
+                }
+            }
+        }
+
+        for (final Map.Entry<InsertQuery, List<T>> entry : objectsToInsert.entrySet()) {
+            final InsertQuery insertQuery = entry.getKey();
+            final List<T> objectsForQuery = entry.getValue();
+            final List<DefaultPutResolver<T>> putResolversForQuery = putResolvers.get(insertQuery);
+
+            final StatementBinder<T> statementBinder = commonStatementBinder(putResolversForQuery);
+
+            long[] insertedIds = statementBinder != null
+                    ? internal.insertAll(insertQuery, objectsForQuery, statementBinder)
+                    : null;
+
+            if (insertedIds == null) {
+                final List<ContentValues> contentValuesList = new ArrayList<ContentValues>(objectsForQuery.size());
+
+                for (int i = 0; i < objectsForQuery.size(); i++) {
+                    contentValuesList.add(putResolversForQuery.get(i).mapToContentValues(objectsForQuery.get(i)));
+                }
+
+                insertedIds = internal.insertAll(insertQuery, contentValuesList);
+            }
+
+            for (int i = 0; i < insertedIds.length; i++) {
+                results.put(objectsForQuery.get(i), PutResult.newInsertResult(insertedIds[i], insertQuery.table()));
+            }
+
+            if (!useTransaction && insertedIds.length > 0) {
+                internal.notifyAboutChanges(Changes.newInstance(insertQuery.table()));
+            }
+        }
+    }
+
+    /**
+     * Returns {@link StatementBinder} if all resolvers have the same one, {@code null} otherwise.
+     */
+    @Nullable
+    private static <T> StatementBinder<T> commonStatementBinder(@NonNull List<DefaultPutResolver<T>> putResolvers) {
+        final StatementBinder<T> statementBinder = statementBinder(putResolvers.get(0));
+
+        if (statementBinder != null) {
+            DefaultPutResolver<T> previousPutResolver = putResolvers.get(0);
+
+            for (int i = 1; i < putResolvers.size(); i++) {
+                final DefaultPutResolver<T> putResolver = putResolvers.get(i);
+
+                // In most cases all objects have same resolver
+                if (putResolver != previousPutResolver && statementBinder(putResolver) != statementBinder) {
+                    return null;
+                }
+
+                previousPutResolver = putResolver;
+            }
+        }
+
+        return statementBinder;
+    }
+
+    /**
+     * Returns {@link StatementBinder} of the resolver if it's provided for class of the resolver,
+     * subclass can override {@link DefaultPutResolver#mapToContentValues(Object)},
+     * so binder of its superclass may bind different values.
+     */
+    @Nullable
+    private static <T> StatementBinder<T> statementBinder(@NonNull DefaultPutResolver<T> putResolver) {
+        final StatementBinder<T> statementBinder = putResolver.statementBinder();
+
+        return statementBinder != null && statementBinder.putResolverClass() == putResolver.getClass()
+                ? statementBinder
+                : null;
+    }
+
     /**
      * Creates {@link Observable} which will perform Put Operation and send result to observer.
      * <p>
@@ -196,6 +328,8 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
 
         private boolean useTransaction = true;
 
+        private boolean useBulkInsert;
+
         Builder(@NonNull StorIOSQLite storIOSQLite, @NonNull Collection<T> objects) {
             this.storIOSQLite = storIOSQLite;
             this.objects = objects;
@@ -231,6 +365,30 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
             return this;
         }
 
+        /**
+         * Optional: Defines that Put Operation will insert objects without checking whether
+         * they are already stored in {@link StorIOSQLite}, for example for initial sync.
+         * <p>
+         * Works for objects which {@link PutResolver} is {@link DefaultPutResolver}:
+         * they are grouped by {@link InsertQuery} and inserted via one compiled statement per group.
+         * Objects with other {@link PutResolver}s are put as usual.
+         * <p>
+         * Notice: {@link DefaultPutResolver#performPut(StorIOSQLite, Object)} is not called
+         * for inserted objects, so if you've overridden it, its logic will be skipped.
+         * <p>
+         * Notice: if one of objects is already stored, Put Operation will fail
+         * with constraint violation, so use it only for new objects.
+         * <p>
+         * By default, bulk insert is not used
+         *
+         * @return builder
+         */
+        @NonNull
+        public Builder<T> useBulkInsert(boolean useBulkInsert) {
+            this.useBulkInsert = useBulkInsert;
+            return this;
+        }
+
         /**
          * Prepares Put Operation
          *
@@ -242,7 +400,8 @@ public final class PreparedPutCollectionOfObjects<T> extends PreparedPut<PutResu
                     storIOSQLite,
                     objects,
                     putResolver,
-                    useTransaction
+                    useTransaction,
+                    useBulkInsert
             );
         }
     }
@@ -10,10 +10,10 @@ import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking
 import com.pushtorefresh.storio.sqlite.Changes;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import rx.Observable;
 import rx.schedulers.Schedulers;
@@ -73,7 +73,7 @@ public final class PreparedPutContentValuesIterable extends PreparedPut<PutResul
                     putResults.put(contentValues, putResult);
 
                     if (!useTransaction && (putResult.wasInserted() || putResult.wasUpdated())) {
-                        internal.notifyAboutChanges(Changes.newInstance(putResult.affectedTables()));
+                        internal.notifyAboutChanges(putResult.toChanges());
                     }
                 }
 
@@ -86,19 +86,19 @@ public final class PreparedPutContentValuesIterable extends PreparedPut<PutResul
                     internal.endTransaction();
 
                     if (transactionSuccessful) {
-                        final Set<String> affectedTables = new HashSet<String>(1); // in most cases it will be 1 table
+                        final List<Changes> changes = new ArrayList<Changes>(putResults.size());
 
                         for (final ContentValues contentValues : putResults.keySet()) {
                             final PutResult putResult = putResults.get(contentValues);
                             if (putResult.wasInserted() || putResult.wasUpdated()) {
-                                affectedTables.addAll(putResult.affectedTables());
+                                changes.add(putResult.toChanges());
                             }
                         }
 
                         // IMPORTANT: Notifying about change should be done after end of transaction
                         // It'll reduce number of possible deadlock situations
-                        if (!affectedTables.isEmpty()) {
-                            internal.notifyAboutChanges(Changes.newInstance(affectedTables));
+                        if (!changes.isEmpty()) {
+                            internal.notifyAboutChanges(Changes.merge(changes));
                         }
                     }
                 }
@@ -7,7 +7,6 @@ import android.support.annotation.WorkerThread;
 
 import com.pushtorefresh.storio.StorIOException;
 import com.pushtorefresh.storio.operations.internal.OnSubscribeExecuteAsBlocking;
-import com.pushtorefresh.storio.sqlite.Changes;
 import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 
@@ -73,7 +72,7 @@ public final class PreparedPutObject<T> extends PreparedPut<PutResult> {
             final PutResult putResult = putResolver.performPut(storIOSQLite, object);
 
             if (putResult.wasInserted() || putResult.wasUpdated()) {
-                internal.notifyAboutChanges(Changes.newInstance(putResult.affectedTables()));
+                internal.notifyAboutChanges(putResult.toChanges());
             }
 
             return putResult;
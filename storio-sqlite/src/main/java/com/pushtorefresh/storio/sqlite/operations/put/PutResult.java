@@ -3,10 +3,16 @@ package com.pushtorefresh.storio.sqlite.operations.put;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
+import com.pushtorefresh.storio.sqlite.Changes;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 
 import static com.pushtorefresh.storio.internal.Checks.checkNotEmpty;
 import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
+import static com.pushtorefresh.storio.internal.InternalQueries.normalizeKey;
 import static java.util.Collections.singleton;
 import static java.util.Collections.unmodifiableSet;
 
@@ -26,7 +32,22 @@ public final class PutResult {
     @NonNull
     private final Set<String> affectedTables;
 
+    @Nullable
+    private final String keyColumn;
+
+    @NonNull
+    private final Set<String> affectedKeys;
+
     private PutResult(@Nullable Long insertedId, @Nullable Integer numberOfRowsUpdated, @NonNull Set<String> affectedTables) {
+        this(insertedId, numberOfRowsUpdated, affectedTables, null, Collections.<String>emptySet());
+    }
+
+    private PutResult(
+            @Nullable Long insertedId,
+            @Nullable Integer numberOfRowsUpdated,
+            @NonNull Set<String> affectedTables,
+            @Nullable String keyColumn,
+            @NonNull Set<String> affectedKeys) {
         if (numberOfRowsUpdated != null && numberOfRowsUpdated < 0) {
             throw new IllegalArgumentException("Number of rows updated must be >= 0");
         }
@@ -44,6 +65,29 @@ public final class PutResult {
         this.insertedId = insertedId;
         this.numberOfRowsUpdated = numberOfRowsUpdated;
         this.affectedTables = unmodifiableSet(affectedTables);
+        this.keyColumn = keyColumn;
+        this.affectedKeys = unmodifiableSet(affectedKeys);
+    }
+
+    @NonNull
+    private static PutResult newResultWithKeys(
+            @Nullable Long insertedId,
+            @Nullable Integer numberOfRowsUpdated,
+            @NonNull String affectedTable,
+            @NonNull String keyColumn,
+            @NonNull Collection<?> affectedKeys) {
+
+        checkNotEmpty(keyColumn, "keyColumn must not be null or empty");
+        checkNotNull(affectedKeys, "affectedKeys must not be null");
+
+        final Set<String> keys = new HashSet<String>(affectedKeys.size());
+
+        for (Object key : affectedKeys) {
+            checkNotNull(key, "affectedKey must not be null, affectedKeys = " + affectedKeys);
+            keys.add(normalizeKey(key));
+        }
+
+        return new PutResult(insertedId, numberOfRowsUpdated, singleton(affectedTable), keyColumn, keys);
     }
 
     /**
@@ -70,6 +114,25 @@ public final class PutResult {
         return new PutResult(insertedId, null, singleton(affectedTable));
     }
 
+    /**
+     * Creates {@link PutResult} of insert with key of inserted row,
+     * so observers of other rows will not be notified about this change.
+     *
+     * @param insertedId    id of new row.
+     * @param affectedTable table that was affected.
+     * @param keyColumn     column that identifies rows, for example {@code "_id"}.
+     * @param affectedKeys  values of key column of inserted rows.
+     * @return new {@link PutResult} instance.
+     */
+    @NonNull
+    public static PutResult newInsertResult(
+            long insertedId,
+            @NonNull String affectedTable,
+            @NonNull String keyColumn,
+            @NonNull Collection<?> affectedKeys) {
+        return newResultWithKeys(insertedId, null, affectedTable, keyColumn, affectedKeys);
+    }
+
     /**
      * Creates {@link PutResult} of update.
      *
@@ -94,6 +157,25 @@ public final class PutResult {
         return new PutResult(null, numberOfRowsUpdated, singleton(affectedTable));
     }
 
+    /**
+     * Creates {@link PutResult} of update with keys of updated rows,
+     * so observers of other rows will not be notified about this change.
+     *
+     * @param numberOfRowsUpdated number of rows that were updated, must be {@code >= 0}.
+     * @param affectedTable       table that was affected.
+     * @param keyColumn           column that identifies rows, for example {@code "_id"}.
+     * @param affectedKeys        values of key column of updated rows.
+     * @return new {@link PutResult} instance.
+     */
+    @NonNull
+    public static PutResult newUpdateResult(
+            int numberOfRowsUpdated,
+            @NonNull String affectedTable,
+            @NonNull String keyColumn,
+            @NonNull Collection<?> affectedKeys) {
+        return newResultWithKeys(null, numberOfRowsUpdated, affectedTable, keyColumn, affectedKeys);
+    }
+
     /**
      * Checks whether result of Put Operation was "insert".
      *
@@ -170,6 +252,38 @@ public final class PutResult {
         return affectedTables;
     }
 
+    /**
+     * Gets column that identifies affected rows.
+     *
+     * @return {@code null} if keys of affected rows are unknown, name of key column otherwise.
+     */
+    @Nullable
+    public String keyColumn() {
+        return keyColumn;
+    }
+
+    /**
+     * Gets keys of affected rows in canonical form.
+     *
+     * @return non-null unmodifiable set of keys, empty if keys of affected rows are unknown.
+     */
+    @NonNull
+    public Set<String> affectedKeys() {
+        return affectedKeys;
+    }
+
+    /**
+     * Creates {@link Changes} that describe this result, with keys of affected rows if they are known.
+     *
+     * @return new immutable instance of {@link Changes}.
+     */
+    @NonNull
+    public Changes toChanges() {
+        return keyColumn != null
+                ? Changes.newInstance(affectedTables.iterator().next(), keyColumn, affectedKeys)
+                : Changes.newInstance(affectedTables);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -181,7 +295,10 @@ public final class PutResult {
             return false;
         if (numberOfRowsUpdated != null ? !numberOfRowsUpdated.equals(putResult.numberOfRowsUpdated) : putResult.numberOfRowsUpdated != null)
             return false;
-        return affectedTables.equals(putResult.affectedTables);
+        if (!affectedTables.equals(putResult.affectedTables)) return false;
+        if (keyColumn != null ? !keyColumn.equals(putResult.keyColumn) : putResult.keyColumn != null)
+            return false;
+        return affectedKeys.equals(putResult.affectedKeys);
     }
 
     @Override
@@ -189,6 +306,8 @@ public final class PutResult {
         int result = insertedId != null ? insertedId.hashCode() : 0;
         result = 31 * result + (numberOfRowsUpdated != null ? numberOfRowsUpdated.hashCode() : 0);
         result = 31 * result + affectedTables.hashCode();
+        result = 31 * result + (keyColumn != null ? keyColumn.hashCode() : 0);
+        result = 31 * result + affectedKeys.hashCode();
         return result;
     }
 
@@ -198,6 +317,8 @@ public final class PutResult {
                 "insertedId=" + insertedId +
                 ", numberOfRowsUpdated=" + numberOfRowsUpdated +
                 ", affectedTables=" + affectedTables +
+                ", keyColumn='" + keyColumn + '\'' +
+                ", affectedKeys=" + affectedKeys +
                 '}';
     }
 }
@@ -0,0 +1,78 @@
+package com.pushtorefresh.storio.sqlite.operations.put;
+
+import android.database.sqlite.SQLiteStatement;
+import android.support.annotation.NonNull;
+
+import static com.pushtorefresh.storio.internal.Checks.checkNotNull;
+
+/**
+ * Binds values of object directly to compiled INSERT {@link SQLiteStatement} by index,
+ * so bulk insert does not allocate {@link android.content.ContentValues} and does not box
+ * primitive values for each object.
+ * <p>
+ * Generated {@link DefaultPutResolver}s provide it via {@link DefaultPutResolver#statementBinder()}.
+ * Binder is used only for objects of the resolver class passed to the constructor,
+ * subclasses of that class may override {@link DefaultPutResolver#mapToContentValues(Object)},
+ * so they put objects via {@link android.content.ContentValues}.
+ * <p>
+ * Thread-safe.
+ *
+ * @param <T> type of objects to bind.
+ */
+public abstract class StatementBinder<T> {
+
+    @NonNull
+    private final Class<?> putResolverClass;
+
+    @NonNull
+    private final String[] columns;
+
+    /**
+     * Creates new {@link StatementBinder}.
+     *
+     * @param putResolverClass class of {@link DefaultPutResolver} which
+     *                         {@link DefaultPutResolver#mapToContentValues(Object)} puts same values.
+     * @param columns          columns of the statement, value of {@code columns[i]}
+     *                         should be bound to the index {@code i + 1}.
+     */
+    protected StatementBinder(@NonNull Class<?> putResolverClass, @NonNull String... columns) {
+        checkNotNull(putResolverClass, "Please specify class of PutResolver");
+
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("Please specify at least one column");
+        }
+
+        this.putResolverClass = putResolverClass;
+        this.columns = columns;
+    }
+
+    /**
+     * Gets class of {@link DefaultPutResolver} which values are bound by this binder.
+     *
+     * @return non-null class of {@link DefaultPutResolver}.
+     */
+    @NonNull
+    public final Class<?> putResolverClass() {
+        return putResolverClass;
+    }
+
+    /**
+     * Gets columns of the statement in order of binding.
+     *
+     * @return non-null, non-empty array of columns.
+     * Returned array is shared and should not be modified!
+     */
+    @NonNull
+    public final String[] columns() {
+        return columns;
+    }
+
+    /**
+     * Binds values of the object to the statement, value of {@code columns()[i]}
+     * should be bound to the index {@code i + 1}.
+     *
+     * @param statement compiled INSERT statement with cleared bindings.
+     * @param object    non-null object which values should be bound.
+     */
+    public abstract void bind(@NonNull SQLiteStatement statement, @NonNull T object);
+}
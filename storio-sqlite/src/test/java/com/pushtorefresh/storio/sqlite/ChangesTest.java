@@ -9,6 +9,7 @@ import java.util.Set;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class ChangesTest {
@@ -48,6 +49,89 @@ public class ChangesTest {
         assertThat(changes.affectedTables()).isEqualTo(affectedTables);
     }
 
+    @Test
+    public void newInstanceWithAffectedKeys() {
+        final Changes changes = Changes.newInstance("test_table", "_id", asList(1L, 2, "3"));
+
+        assertThat(changes.affectedTables()).containsOnly("test_table");
+        assertThat(changes.affectedKeys("test_table", "_id")).containsOnly("1", "2", "3");
+        assertThat(changes.affectedKeys("test_table", "other_column")).isNull();
+    }
+
+    @Test
+    public void mayAffectRowShouldCompareNormalizedKeys() {
+        final Changes changes = Changes.newInstance("test_table", "_id", asList(1L, 2L));
+
+        assertThat(changes.mayAffectRow("test_table", "_id", "1")).isTrue();
+        assertThat(changes.mayAffectRow("test_table", "_id", 2)).isTrue();
+        assertThat(changes.mayAffectRow("test_table", "_id", 3L)).isFalse();
+        assertThat(changes.mayAffectRow("other_table", "_id", 1L)).isFalse();
+    }
+
+    @Test
+    public void mayAffectRowShouldReturnTrueIfKeysAreNotIntegers() {
+        // 42.0 = 42 in REAL column
+        final Changes changesOfReal = Changes.newInstance("test_table", "_id", asList("42.0"));
+        assertThat(changesOfReal.mayAffectRow("test_table", "_id", "42")).isTrue();
+
+        // 'a' = 'A' in column with NOCASE collation
+        final Changes changesOfText = Changes.newInstance("test_table", "name", asList("a"));
+        assertThat(changesOfText.mayAffectRow("test_table", "name", "A")).isTrue();
+
+        final Changes changesOfInteger = Changes.newInstance("test_table", "_id", asList(1L));
+        assertThat(changesOfInteger.mayAffectRow("test_table", "_id", "1.0")).isTrue();
+    }
+
+    @Test
+    public void mayAffectRowShouldReturnTrueIfKeysAreUnknown() {
+        final Changes changes = Changes.newInstance("test_table");
+
+        assertThat(changes.affectedKeys("test_table", "_id")).isNull();
+        assertThat(changes.mayAffectRow("test_table", "_id", 1L)).isTrue();
+        assertThat(changes.mayAffectRow("other_table", "_id", 1L)).isFalse();
+    }
+
+    @Test
+    public void mayAffectRowShouldReturnTrueForOtherKeyColumn() {
+        final Changes changes = Changes.newInstance("test_table", "_id", asList(1L));
+        assertThat(changes.mayAffectRow("test_table", "email", "some@example.com")).isTrue();
+    }
+
+    @Test
+    public void mergeShouldUniteAffectedKeys() {
+        final Changes changes = Changes.merge(asList(
+                Changes.newInstance("test_table", "_id", asList(1L)),
+                Changes.newInstance("test_table", "_id", asList(2L))
+        ));
+
+        assertThat(changes).isEqualTo(Changes.newInstance("test_table", "_id", asList(1L, 2L)));
+    }
+
+    @Test
+    public void mergeShouldDropKeysOfTableIfSomeChangesDoNotHaveThem() {
+        final Set<String> affectedTables = new HashSet<String>(asList("test_table_1", "test_table_2"));
+
+        final Changes changes = Changes.merge(asList(
+                Changes.newInstance("test_table_1", "_id", asList(1L)),
+                Changes.newInstance("test_table_1"),
+                Changes.newInstance("test_table_2", "_id", asList(2L))
+        ));
+
+        assertThat(changes.affectedTables()).isEqualTo(affectedTables);
+        assertThat(changes.affectedKeys("test_table_1", "_id")).isNull();
+        assertThat(changes.affectedKeys("test_table_2", "_id")).containsOnly("2");
+    }
+
+    @Test
+    public void mergeShouldDropKeysOfTableIfKeyColumnsAreDifferent() {
+        final Changes changes = Changes.merge(asList(
+                Changes.newInstance("test_table", "_id", asList(1L)),
+                Changes.newInstance("test_table", "email", asList("some@example.com"))
+        ));
+
+        assertThat(changes).isEqualTo(Changes.newInstance("test_table"));
+    }
+
     @Test
     public void verifyEqualsAndHashCodeImplementation() {
         EqualsVerifier
@@ -0,0 +1,122 @@
+package com.pushtorefresh.storio.sqlite;
+
+import com.pushtorefresh.storio.sqlite.queries.Query;
+import com.pushtorefresh.storio.sqlite.queries.RawQuery;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+
+public class QueryResultsCacheTest {
+
+    private final Object getResolver = new Object();
+
+    @Test
+    public void maxSizeShouldBePositive() {
+        try {
+            new QueryResultsCache(0);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (IllegalArgumentException expected) {
+            assertThat(expected).hasMessage("maxSize should be > 0, maxSize = 0");
+        }
+    }
+
+    @Test
+    public void shouldReturnCachedResultForEqualKey() {
+        final QueryResultsCache cache = new QueryResultsCache(2);
+        final Object result = new Object();
+
+        cache.put(keyOf("table"), result, cache.version());
+
+        assertThat(cache.get(keyOf("table"))).isSameAs(result);
+    }
+
+    @Test
+    public void shouldNotShareResultsOfDifferentOperationsOrResolvers() {
+        final QueryResultsCache cache = new QueryResultsCache(2);
+        final Query query = Query.builder().table("table").build();
+
+        cache.put(QueryResultsCache.keyOf(query, getResolver, Integer.class), new Object(), cache.version());
+
+        assertThat(cache.get(QueryResultsCache.keyOf(query, getResolver, Long.class))).isNull();
+        assertThat(cache.get(QueryResultsCache.keyOf(query, new Object(), Integer.class))).isNull();
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedResult() {
+        final QueryResultsCache cache = new QueryResultsCache(2);
+
+        cache.put(keyOf("table1"), "1", cache.version());
+        cache.put(keyOf("table2"), "2", cache.version());
+
+        cache.get(keyOf("table1"));
+
+        cache.put(keyOf("table3"), "3", cache.version());
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(keyOf("table1"))).isEqualTo("1");
+        assertThat(cache.get(keyOf("table2"))).isNull();
+        assertThat(cache.get(keyOf("table3"))).isEqualTo("3");
+    }
+
+    @Test
+    public void shouldInvalidateOnlyResultsOfAffectedTables() {
+        final QueryResultsCache cache = new QueryResultsCache(3);
+
+        final RawQuery join = RawQuery.builder()
+                .query("SELECT * FROM table1 JOIN table2")
+                .observesTables("table1", "table2")
+                .build();
+
+        //noinspection ConstantConditions
+        cache.put(QueryResultsCache.keyOf(join, getResolver, Object.class), "join", cache.version());
+        cache.put(keyOf("table1"), "1", cache.version());
+        cache.put(keyOf("table3"), "3", cache.version());
+
+        cache.invalidate(Changes.newInstance("table2"));
+
+        //noinspection ConstantConditions
+        assertThat(cache.get(QueryResultsCache.keyOf(join, getResolver, Object.class))).isNull();
+        assertThat(cache.get(keyOf("table1"))).isEqualTo("1");
+        assertThat(cache.get(keyOf("table3"))).isEqualTo("3");
+    }
+
+    @Test
+    public void shouldIgnoreResultReadBeforeInvalidation() {
+        final QueryResultsCache cache = new QueryResultsCache(2);
+
+        final long version = cache.version();
+
+        // Result was read, then table was changed before result was put to the cache
+        cache.invalidate(Changes.newInstance("other_table"));
+        cache.put(keyOf("table"), "stale", version);
+
+        assertThat(cache.get(keyOf("table"))).isNull();
+    }
+
+    @Test
+    public void clearShouldRemoveAllResults() {
+        final QueryResultsCache cache = new QueryResultsCache(2);
+
+        cache.put(keyOf("table1"), "1", cache.version());
+        cache.put(keyOf("table2"), "2", cache.version());
+
+        cache.clear();
+
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void rawQueryWithoutObservedTablesShouldNotHaveKey() {
+        final RawQuery rawQuery = RawQuery.builder()
+                .query("SELECT * FROM table")
+                .build();
+
+        assertThat(QueryResultsCache.keyOf(rawQuery, getResolver, Object.class)).isNull();
+    }
+
+    private QueryResultsCache.Key keyOf(String table) {
+        return QueryResultsCache.keyOf(Query.builder().table(table).build(), getResolver, Object.class);
+    }
+}
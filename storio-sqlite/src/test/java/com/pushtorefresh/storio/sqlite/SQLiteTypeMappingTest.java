@@ -2,12 +2,15 @@ package com.pushtorefresh.storio.sqlite;
 
 import com.pushtorefresh.storio.sqlite.operations.delete.DeleteResolver;
 import com.pushtorefresh.storio.sqlite.operations.get.GetResolver;
+import com.pushtorefresh.storio.sqlite.operations.get.IdentityMapGetResolver;
 import com.pushtorefresh.storio.sqlite.operations.put.PutResolver;
 
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class SQLiteTypeMappingTest {
 
@@ -62,4 +65,67 @@ public class SQLiteTypeMappingTest {
         assertThat(typeMapping.getResolver()).isSameAs(getResolver);
         assertThat(typeMapping.deleteResolver()).isSameAs(deleteResolver);
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void identityMapShouldWrapGetResolver() {
+        final GetResolver<Object> getResolver = mock(GetResolver.class);
+
+        final SQLiteTypeMapping<Object> typeMapping = SQLiteTypeMapping.<Object>builder()
+                .putResolver(mock(PutResolver.class))
+                .getResolver(getResolver)
+                .deleteResolver(mock(DeleteResolver.class))
+                .identityMap("_id", 100)
+                .build();
+
+        assertThat(typeMapping.getResolver()).isInstanceOf(IdentityMapGetResolver.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void identityMapSizeShouldBePositive() {
+        try {
+            SQLiteTypeMapping.builder()
+                    .putResolver(mock(PutResolver.class))
+                    .getResolver(mock(GetResolver.class))
+                    .deleteResolver(mock(DeleteResolver.class))
+                    .identityMap("_id", 0);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (IllegalArgumentException expected) {
+            assertThat(expected).hasMessage("maxSize should be > 0, maxSize = 0");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void identityMapShouldUseKeyColumnOfGetResolver() {
+        final GetResolver<Object> getResolver = mock(GetResolver.class);
+        when(getResolver.keyColumn()).thenReturn("_id");
+
+        final SQLiteTypeMapping<Object> typeMapping = SQLiteTypeMapping.<Object>builder()
+                .putResolver(mock(PutResolver.class))
+                .getResolver(getResolver)
+                .deleteResolver(mock(DeleteResolver.class))
+                .identityMap(100)
+                .build();
+
+        assertThat(typeMapping.getResolver()).isInstanceOf(IdentityMapGetResolver.class);
+        assertThat(typeMapping.getResolver().keyColumn()).isEqualTo("_id");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void identityMapShouldThrowIfGetResolverDoesNotKnowKeyColumn() {
+        try {
+            SQLiteTypeMapping.builder()
+                    .putResolver(mock(PutResolver.class))
+                    .getResolver(mock(GetResolver.class))
+                    .deleteResolver(mock(DeleteResolver.class))
+                    .identityMap(100);
+            failBecauseExceptionWasNotThrown(IllegalStateException.class);
+        } catch (IllegalStateException expected) {
+            assertThat(expected).hasMessage("GetResolver doesn't know its key column, " +
+                    "please specify it via identityMap(keyColumn, maxSize)");
+        }
+    }
 }
@@ -0,0 +1,84 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import com.pushtorefresh.storio.internal.ChangesBus;
+import com.pushtorefresh.storio.sqlite.Changes;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+
+import rx.observers.TestSubscriber;
+import rx.schedulers.TestScheduler;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+public class ChangesCoalescerTest {
+
+    private ChangesBus<Changes> changesBus;
+
+    private TestScheduler testScheduler;
+
+    private TestSubscriber<Changes> testSubscriber;
+
+    @Before
+    public void setUp() {
+        changesBus = new ChangesBus<Changes>(true);
+        testScheduler = new TestScheduler();
+        testSubscriber = new TestSubscriber<Changes>();
+
+        //noinspection ConstantConditions
+        changesBus.asObservable().subscribe(testSubscriber);
+    }
+
+    @Test
+    public void shouldMergeChangesWithinWindow() {
+        final ChangesCoalescer changesCoalescer = new ChangesCoalescer(changesBus, 100, testScheduler);
+
+        changesCoalescer.onNext(Changes.newInstance("table1"));
+        changesCoalescer.onNext(Changes.newInstance("table2"));
+        changesCoalescer.onNext(Changes.newInstance("table1"));
+
+        testScheduler.advanceTimeBy(99, MILLISECONDS);
+        testSubscriber.assertNoValues();
+
+        testScheduler.advanceTimeBy(1, MILLISECONDS);
+        testSubscriber.assertReceivedOnNext(singletonList(
+                Changes.newInstance(new HashSet<String>(asList("table1", "table2")))
+        ));
+    }
+
+    @Test
+    public void shouldStartNewWindowAfterFlush() {
+        final ChangesCoalescer changesCoalescer = new ChangesCoalescer(changesBus, 100, testScheduler);
+
+        changesCoalescer.onNext(Changes.newInstance("table1"));
+        testScheduler.advanceTimeBy(100, MILLISECONDS);
+
+        changesCoalescer.onNext(Changes.newInstance("table2"));
+        testScheduler.advanceTimeBy(100, MILLISECONDS);
+
+        testSubscriber.assertReceivedOnNext(asList(
+                Changes.newInstance("table1"),
+                Changes.newInstance("table2")
+        ));
+    }
+
+    @Test
+    public void zeroWindowShouldMergeChangesUntilNextTick() {
+        final ChangesCoalescer changesCoalescer = new ChangesCoalescer(changesBus, 0, testScheduler);
+
+        changesCoalescer.onNext(Changes.newInstance("table1"));
+        changesCoalescer.onNext(Changes.newInstance("table2"));
+
+        testSubscriber.assertNoValues();
+
+        testScheduler.triggerActions();
+
+        testSubscriber.assertReceivedOnNext(singletonList(
+                Changes.newInstance(new HashSet<String>(asList("table1", "table2")))
+        ));
+    }
+}
@@ -0,0 +1,113 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import com.pushtorefresh.storio.sqlite.Changes;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+
+import rx.Subscription;
+import rx.observers.TestSubscriber;
+import rx.subjects.PublishSubject;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+
+public class ChangesDispatcherTest {
+
+    private PublishSubject<Changes> rxBus;
+
+    private ChangesDispatcher changesDispatcher;
+
+    @Before
+    public void setUp() {
+        rxBus = PublishSubject.create();
+        changesDispatcher = ChangesDispatcher.newInstance(rxBus);
+    }
+
+    @Test
+    public void shouldDispatchOnlyChangesOfRequiredTable() {
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        changesDispatcher
+                .observeChangesInTables(singleton("table2"))
+                .subscribe(testSubscriber);
+
+        rxBus.onNext(Changes.newInstance("table1"));
+        rxBus.onNext(Changes.newInstance("table2"));
+        rxBus.onNext(Changes.newInstance("table3"));
+
+        // All other tables should be filtered
+        testSubscriber.assertValue(Changes.newInstance("table2"));
+
+        testSubscriber.unsubscribe();
+    }
+
+    @Test
+    public void shouldDispatchChangesWhichContainRequiredTable() {
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        changesDispatcher
+                .observeChangesInTables(singleton("table3"))
+                .subscribe(testSubscriber);
+
+        final Changes changes = Changes.newInstance(new HashSet<String>(asList("table1", "table2", "table3")));
+
+        rxBus.onNext(Changes.newInstance("table1"));
+        // Notice, that required table is just a part of one Changes object
+        rxBus.onNext(changes);
+
+        testSubscriber.assertValue(changes);
+
+        testSubscriber.unsubscribe();
+    }
+
+    @Test
+    public void shouldDispatchChangesOnlyOnceToSubscriberOfSeveralAffectedTables() {
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        changesDispatcher
+                .observeChangesInTables(new HashSet<String>(asList("table1", "table2")))
+                .subscribe(testSubscriber);
+
+        final Changes changes = Changes.newInstance(new HashSet<String>(asList("table1", "table2")));
+        rxBus.onNext(changes);
+
+        testSubscriber.assertValue(changes);
+
+        testSubscriber.unsubscribe();
+    }
+
+    @Test
+    public void shouldNotDispatchChangesAfterUnsubscribe() {
+        final TestSubscriber<Changes> testSubscriber = new TestSubscriber<Changes>();
+
+        final Subscription subscription = changesDispatcher
+                .observeChangesInTables(singleton("table1"))
+                .subscribe(testSubscriber);
+
+        rxBus.onNext(Changes.newInstance("table1"));
+        subscription.unsubscribe();
+        rxBus.onNext(Changes.newInstance("table1"));
+
+        testSubscriber.assertValue(Changes.newInstance("table1"));
+    }
+
+    @Test
+    public void shouldDispatchChangesToAllSubscribersOfTable() {
+        final TestSubscriber<Changes> testSubscriber1 = new TestSubscriber<Changes>();
+        final TestSubscriber<Changes> testSubscriber2 = new TestSubscriber<Changes>();
+
+        changesDispatcher.observeChangesInTables(singleton("table1")).subscribe(testSubscriber1);
+        changesDispatcher.observeChangesInTables(singleton("table1")).subscribe(testSubscriber2);
+
+        rxBus.onNext(Changes.newInstance("table1"));
+
+        testSubscriber1.assertValue(Changes.newInstance("table1"));
+        testSubscriber2.assertValue(Changes.newInstance("table1"));
+
+        testSubscriber1.unsubscribe();
+        testSubscriber2.unsubscribe();
+    }
+}
@@ -1,17 +1,24 @@
 package com.pushtorefresh.storio.sqlite.impl;
 
 import android.content.ContentValues;
+import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
 
 import com.pushtorefresh.storio.sqlite.Changes;
+import com.pushtorefresh.storio.sqlite.QueryResultsCache;
+import com.pushtorefresh.storio.sqlite.SQLiteMetricsListener;
 import com.pushtorefresh.storio.sqlite.SQLiteTypeMapping;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.operations.delete.DeleteResolver;
 import com.pushtorefresh.storio.sqlite.operations.get.GetResolver;
+import com.pushtorefresh.storio.sqlite.operations.get.PreparedGetNumberOfResults;
 import com.pushtorefresh.storio.sqlite.operations.put.PutResolver;
+import com.pushtorefresh.storio.sqlite.queries.DeleteQuery;
 import com.pushtorefresh.storio.sqlite.queries.InsertQuery;
+import com.pushtorefresh.storio.sqlite.queries.Query;
 import com.pushtorefresh.storio.sqlite.queries.RawQuery;
+import com.pushtorefresh.storio.sqlite.queries.UpdateQuery;
 
 import org.junit.Test;
 
@@ -21,14 +28,19 @@ import java.util.Set;
 
 import rx.observers.TestSubscriber;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 public class DefaultStorIOSQLiteTest {
@@ -542,4 +554,341 @@ public class DefaultStorIOSQLiteTest {
         testSubscriber.assertNoErrors();
         testSubscriber.unsubscribe();
     }
+
+    @Test
+    public void compiledStatementsCacheSizeShouldNotAcceptNegativeValue() {
+        try {
+            DefaultStorIOSQLite.builder()
+                    .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                    .compiledStatementsCacheSize(-1);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (IllegalArgumentException expected) {
+            assertThat(expected).hasMessage("compiledStatementsCacheSize should be >= 0, compiledStatementsCacheSize = -1");
+        }
+    }
+
+    @Test
+    public void changesCoalescingWindowShouldNotAcceptNegativeValue() {
+        try {
+            DefaultStorIOSQLite.builder()
+                    .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                    .changesCoalescingWindow(-1, MILLISECONDS);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (IllegalArgumentException expected) {
+            assertThat(expected).hasMessage("window should be >= 0, window = -1");
+        }
+    }
+
+    @Test
+    public void shouldNotUseCompiledStatementsByDefault() {
+        SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+        SQLiteDatabase sqLiteDatabase = mock(SQLiteDatabase.class);
+
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(sqLiteDatabase);
+
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .build();
+
+        InsertQuery insertQuery = InsertQuery.builder()
+                .table("test_table")
+                .build();
+
+        ContentValues contentValues = mock(ContentValues.class);
+        when(contentValues.size()).thenReturn(1);
+
+        storIOSQLite.internal().insert(insertQuery, contentValues);
+
+        verify(sqLiteDatabase).insertOrThrow(eq("test_table"), eq((String) null), same(contentValues));
+        verifyNoMoreInteractions(sqLiteDatabase);
+    }
+
+    @Test
+    public void shouldNotEnableWriteAheadLoggingByDefault() {
+        SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+        SQLiteDatabase sqLiteDatabase = mock(SQLiteDatabase.class);
+
+        when(sqLiteOpenHelper.getReadableDatabase()).thenReturn(sqLiteDatabase);
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(sqLiteDatabase);
+
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .build();
+
+        storIOSQLite.internal().rawQuery(RawQuery.builder().query("SELECT * FROM test_table").build());
+        storIOSQLite.internal().beginTransaction();
+
+        verify(sqLiteOpenHelper).getReadableDatabase();
+        verify(sqLiteOpenHelper, never()).setWriteAheadLoggingEnabled(anyBoolean());
+        verify(sqLiteDatabase).beginTransaction();
+        verify(sqLiteDatabase, never()).enableWriteAheadLogging();
+        verify(sqLiteDatabase, never()).beginTransactionNonExclusive();
+    }
+
+    @Test
+    public void queryResultsCacheSizeShouldNotAcceptNegativeValue() {
+        try {
+            DefaultStorIOSQLite.builder()
+                    .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                    .queryResultsCacheSize(-1);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (IllegalArgumentException expected) {
+            assertThat(expected).hasMessage("queryResultsCacheSize should be >= 0, queryResultsCacheSize = -1");
+        }
+    }
+
+    @Test
+    public void shouldNotCacheQueryResultsByDefault() {
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .build();
+
+        assertThat(storIOSQLite.internal().queryResultsCache()).isNull();
+    }
+
+    @Test
+    public void shouldServeRepeatedGetFromQueryResultsCacheUntilTableChanges() {
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .queryResultsCacheSize(10)
+                .build();
+
+        Query query = Query.builder()
+                .table("test_table")
+                .build();
+
+        //noinspection unchecked
+        GetResolver<Integer> getResolver = mock(GetResolver.class);
+        Cursor cursor = mock(Cursor.class);
+
+        when(getResolver.performGet(storIOSQLite, query)).thenReturn(cursor);
+        when(getResolver.mapFromCursor(cursor)).thenReturn(3);
+
+        PreparedGetNumberOfResults preparedGet = storIOSQLite
+                .get()
+                .numberOfResults()
+                .withQuery(query)
+                .withGetResolver(getResolver)
+                .prepare();
+
+        assertThat(preparedGet.executeAsBlocking()).isEqualTo(3);
+        assertThat(preparedGet.executeAsBlocking()).isEqualTo(3);
+        verify(getResolver, times(1)).performGet(storIOSQLite, query);
+
+        // Changes of other tables should not invalidate result
+        storIOSQLite.internal().notifyAboutChanges(Changes.newInstance("other_table"));
+        assertThat(preparedGet.executeAsBlocking()).isEqualTo(3);
+        verify(getResolver, times(1)).performGet(storIOSQLite, query);
+
+        storIOSQLite.internal().notifyAboutChanges(Changes.newInstance("test_table"));
+        assertThat(preparedGet.executeAsBlocking()).isEqualTo(3);
+        verify(getResolver, times(2)).performGet(storIOSQLite, query);
+    }
+
+    @Test
+    public void shouldNotUseQueryResultsCacheDuringTransaction() {
+        SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(mock(SQLiteDatabase.class));
+
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .queryResultsCacheSize(10)
+                .build();
+
+        QueryResultsCache queryResultsCache = storIOSQLite.internal().queryResultsCache();
+        assertThat(queryResultsCache).isNotNull();
+
+        storIOSQLite.internal().beginTransaction();
+        assertThat(storIOSQLite.internal().queryResultsCache()).isNull();
+
+        storIOSQLite.internal().endTransaction();
+        assertThat(storIOSQLite.internal().queryResultsCache()).isSameAs(queryResultsCache);
+    }
+
+    @Test
+    public void executeSQLShouldClearQueryResultsCache() {
+        SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(mock(SQLiteDatabase.class));
+
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .queryResultsCacheSize(10)
+                .build();
+
+        QueryResultsCache queryResultsCache = storIOSQLite.internal().queryResultsCache();
+        //noinspection ConstantConditions
+        QueryResultsCache.Key key = QueryResultsCache.keyOf(Query.builder().table("test_table").build(), new Object(), Object.class);
+
+        //noinspection ConstantConditions
+        queryResultsCache.put(key, "result", queryResultsCache.version());
+
+        storIOSQLite.internal().executeSQL(RawQuery.builder().query("DELETE FROM test_table").build());
+
+        assertThat(queryResultsCache.get(key)).isNull();
+    }
+
+    @Test
+    public void metricsListenerShouldNotAcceptNull() {
+        try {
+            //noinspection ConstantConditions
+            DefaultStorIOSQLite.builder()
+                    .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                    .metricsListener(null);
+            failBecauseExceptionWasNotThrown(NullPointerException.class);
+        } catch (NullPointerException expected) {
+            assertThat(expected).hasMessage("Please specify metrics listener");
+        }
+    }
+
+    @Test
+    public void shouldNotMeasureOperationsByDefault() {
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .build();
+
+        assertThat(storIOSQLite.internal().metricsListener()).isNull();
+    }
+
+    @Test
+    public void shouldReportWritesToMetricsListener() {
+        SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+        SQLiteDatabase sqLiteDatabase = mock(SQLiteDatabase.class);
+        SQLiteMetricsListener metricsListener = mock(SQLiteMetricsListener.class);
+
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(sqLiteDatabase);
+
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .metricsListener(metricsListener)
+                .build();
+
+        InsertQuery insertQuery = InsertQuery.builder()
+                .table("test_table")
+                .build();
+
+        UpdateQuery updateQuery = UpdateQuery.builder()
+                .table("test_table")
+                .where("_id = ?")
+                .whereArgs("1")
+                .build();
+
+        DeleteQuery deleteQuery = DeleteQuery.builder()
+                .table("test_table")
+                .where("_id = ?")
+                .whereArgs("1")
+                .build();
+
+        RawQuery rawQuery = RawQuery.builder()
+                .query("DELETE FROM test_table")
+                .build();
+
+        ContentValues contentValues = mock(ContentValues.class);
+
+        when(sqLiteDatabase.insertOrThrow("test_table", null, contentValues)).thenReturn(1L);
+        when(sqLiteDatabase.update("test_table", contentValues, "_id = ?", new String[]{"1"})).thenReturn(2);
+        when(sqLiteDatabase.delete("test_table", "_id = ?", new String[]{"1"})).thenReturn(3);
+
+        storIOSQLite.internal().insert(insertQuery, contentValues);
+        storIOSQLite.internal().update(updateQuery, contentValues);
+        storIOSQLite.internal().delete(deleteQuery);
+        storIOSQLite.internal().executeSQL(rawQuery);
+
+        verify(metricsListener).onInsert(eq(insertQuery), eq(1), anyLong());
+        verify(metricsListener).onUpdate(eq(updateQuery), eq(2), anyLong());
+        verify(metricsListener).onDelete(eq(deleteQuery), eq(3), anyLong());
+        verify(metricsListener).onExecuteSQL(eq(rawQuery), anyLong());
+        verifyNoMoreInteractions(metricsListener);
+    }
+
+    @Test
+    public void shouldReportChangesToMetricsListenerAfterTransaction() {
+        SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+        SQLiteMetricsListener metricsListener = mock(SQLiteMetricsListener.class);
+
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(mock(SQLiteDatabase.class));
+
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .metricsListener(metricsListener)
+                .build();
+
+        Changes changes = Changes.newInstance("test_table");
+
+        storIOSQLite.internal().beginTransaction();
+        storIOSQLite.internal().notifyAboutChanges(changes);
+        verifyZeroInteractions(metricsListener);
+
+        storIOSQLite.internal().endTransaction();
+        verify(metricsListener).onChanges(eq(changes), anyLong());
+    }
+
+    @Test
+    public void shouldReportGetToMetricsListener() {
+        SQLiteMetricsListener metricsListener = mock(SQLiteMetricsListener.class);
+
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .metricsListener(metricsListener)
+                .build();
+
+        Query query = Query.builder()
+                .table("test_table")
+                .build();
+
+        //noinspection unchecked
+        GetResolver<Integer> getResolver = mock(GetResolver.class);
+        Cursor cursor = mock(Cursor.class);
+
+        when(getResolver.performGet(storIOSQLite, query)).thenReturn(cursor);
+        when(cursor.getCount()).thenReturn(2);
+        when(cursor.moveToNext()).thenReturn(true, true, false);
+        when(getResolver.mapFromCursor(cursor)).thenReturn(1, 2);
+
+        storIOSQLite
+                .get()
+                .listOfObjects(Integer.class)
+                .withQuery(query)
+                .withGetResolver(getResolver)
+                .prepare()
+                .executeAsBlocking();
+
+        verify(metricsListener).onGet(eq(query), eq(2), anyLong(), anyLong());
+        verifyNoMoreInteractions(metricsListener);
+    }
+
+    @Test
+    public void shouldReportGetWithoutMappingToMetricsListener() {
+        SQLiteMetricsListener metricsListener = mock(SQLiteMetricsListener.class);
+
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(mock(SQLiteOpenHelper.class))
+                .metricsListener(metricsListener)
+                .build();
+
+        Query query = Query.builder()
+                .table("test_table")
+                .build();
+
+        //noinspection unchecked
+        GetResolver<Cursor> getResolver = mock(GetResolver.class);
+        Cursor cursor = mock(Cursor.class);
+
+        when(getResolver.performGet(storIOSQLite, query)).thenReturn(cursor);
+
+        storIOSQLite
+                .get()
+                .cursor()
+                .withQuery(query)
+                .withGetResolver(getResolver)
+                .prepare()
+                .executeAsBlocking();
+
+        verify(metricsListener).onGet(eq(query), eq(SQLiteMetricsListener.UNKNOWN_NUMBER_OF_ROWS), anyLong(), eq(0L));
+        verifyNoMoreInteractions(metricsListener);
+
+        // Counting of rows would force a scan of the whole result
+        verify(cursor, never()).getCount();
+    }
 }
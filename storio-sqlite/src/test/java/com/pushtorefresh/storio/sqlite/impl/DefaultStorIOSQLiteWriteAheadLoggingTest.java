@@ -0,0 +1,87 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+
+import com.pushtorefresh.storio.sqlite.BuildConfig;
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.RawQuery;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricGradleTestRunner.class) // Required for API level check of the builder
+@Config(constants = BuildConfig.class, sdk = 21)
+public class DefaultStorIOSQLiteWriteAheadLoggingTest {
+
+    @Test
+    public void shouldEnableWriteAheadLoggingViaOpenHelper() {
+        SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+        SQLiteDatabase sqLiteDatabase = mock(SQLiteDatabase.class);
+
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(sqLiteDatabase);
+
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .writeAheadLoggingEnabled(true)
+                .build();
+
+        // Database should not be opened by the builder
+        verify(sqLiteOpenHelper).setWriteAheadLoggingEnabled(true);
+        verifyNoMoreInteractions(sqLiteOpenHelper);
+
+        RawQuery rawQuery = RawQuery.builder()
+                .query("SELECT * FROM test_table")
+                .build();
+
+        storIOSQLite.internal().rawQuery(rawQuery);
+
+        verify(sqLiteDatabase).rawQuery(eq(rawQuery.query()), eq((String[]) null));
+        verify(sqLiteOpenHelper, never()).getReadableDatabase();
+        verifyNoMoreInteractions(sqLiteDatabase);
+    }
+
+    @Test
+    public void shouldUseNonExclusiveTransactionsWithWriteAheadLogging() {
+        SQLiteOpenHelper sqLiteOpenHelper = mock(SQLiteOpenHelper.class);
+        SQLiteDatabase sqLiteDatabase = mock(SQLiteDatabase.class);
+
+        when(sqLiteOpenHelper.getWritableDatabase()).thenReturn(sqLiteDatabase);
+
+        StorIOSQLite storIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .writeAheadLoggingEnabled(true)
+                .build();
+
+        storIOSQLite.internal().beginTransaction();
+
+        verify(sqLiteDatabase).beginTransactionNonExclusive();
+        verify(sqLiteDatabase, never()).beginTransaction();
+    }
+
+    @Test
+    public void shouldNotAllowWriteAheadLoggingBeforeJellyBean() {
+        try {
+            DefaultStorIOSQLite.checkWriteAheadLoggingIsSupported(15);
+            failBecauseExceptionWasNotThrown(IllegalStateException.class);
+        } catch (IllegalStateException expected) {
+            assertThat(expected).hasMessage("Write-ahead logging requires API 16 (Jelly Bean) or higher, current API = 15");
+        }
+    }
+
+    @Test
+    public void shouldAllowWriteAheadLoggingSinceJellyBean() {
+        DefaultStorIOSQLite.checkWriteAheadLoggingIsSupported(16);
+    }
+}
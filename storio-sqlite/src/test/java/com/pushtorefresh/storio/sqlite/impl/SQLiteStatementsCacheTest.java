@@ -0,0 +1,189 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import com.pushtorefresh.storio.sqlite.BuildConfig;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Collections;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class SQLiteStatementsCacheTest {
+
+    private SQLiteDatabase db;
+
+    @Before
+    public void setUp() {
+        db = SQLiteDatabase.create(null);
+        db.execSQL("CREATE TABLE users(_id INTEGER PRIMARY KEY, email TEXT NOT NULL, age INTEGER)");
+    }
+
+    @After
+    public void tearDown() {
+        db.close();
+    }
+
+    @Test
+    public void constructorShouldThrowIfMaxSizeIsNotPositive() {
+        try {
+            new SQLiteStatementsCache(0);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (IllegalArgumentException expected) {
+            assertThat(expected).hasMessage("maxSize should be > 0, maxSize = 0");
+        }
+    }
+
+    @Test
+    public void insertsWithSameColumnsShouldReuseStatement() {
+        final SQLiteStatementsCache cache = new SQLiteStatementsCache(10);
+
+        final long firstId = cache.insert(db, "users", user(1, "first@email.com"), SQLiteDatabase.CONFLICT_NONE);
+        final long secondId = cache.insert(db, "users", user(2, "second@email.com"), SQLiteDatabase.CONFLICT_NONE);
+
+        assertThat(firstId).isEqualTo(1);
+        assertThat(secondId).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(countRows("email IN ('first@email.com', 'second@email.com')")).isEqualTo(2);
+    }
+
+    @Test
+    public void insertsWithDifferentColumnsShouldUseDifferentStatements() {
+        final SQLiteStatementsCache cache = new SQLiteStatementsCache(10);
+
+        final ContentValues withAge = user(2, "second@email.com");
+        withAge.put("age", 27);
+
+        cache.insert(db, "users", user(1, "first@email.com"), SQLiteDatabase.CONFLICT_NONE);
+        cache.insert(db, "users", withAge, SQLiteDatabase.CONFLICT_NONE);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(countRows("age = 27")).isEqualTo(1);
+    }
+
+    @Test
+    public void insertShouldRespectConflictAlgorithm() {
+        final SQLiteStatementsCache cache = new SQLiteStatementsCache(10);
+
+        cache.insert(db, "users", user(1, "first@email.com"), SQLiteDatabase.CONFLICT_NONE);
+
+        assertThat(cache.insert(db, "users", user(1, "ignored@email.com"), SQLiteDatabase.CONFLICT_IGNORE)).isEqualTo(-1);
+        assertThat(cache.insert(db, "users", user(1, "replaced@email.com"), SQLiteDatabase.CONFLICT_REPLACE)).isEqualTo(1);
+
+        assertThat(countRows("email = 'replaced@email.com'")).isEqualTo(1);
+        assertThat(countRows(null)).isEqualTo(1);
+    }
+
+    @Test
+    public void updateShouldBindValuesAndWhereArgs() {
+        final SQLiteStatementsCache cache = new SQLiteStatementsCache(10);
+
+        cache.insert(db, "users", user(1, "first@email.com"), SQLiteDatabase.CONFLICT_NONE);
+        cache.insert(db, "users", user(2, "second@email.com"), SQLiteDatabase.CONFLICT_NONE);
+
+        final ContentValues contentValues = new ContentValues();
+        contentValues.put("email", "updated@email.com");
+
+        final int numberOfRowsUpdated = cache.update(db, "users", contentValues, "_id = ?", asList("2"));
+
+        assertThat(numberOfRowsUpdated).isEqualTo(1);
+        assertThat(countRows("_id = 2 AND email = 'updated@email.com'")).isEqualTo(1);
+        assertThat(countRows("_id = 1 AND email = 'first@email.com'")).isEqualTo(1);
+    }
+
+    @Test
+    public void deleteShouldBindWhereArgs() {
+        final SQLiteStatementsCache cache = new SQLiteStatementsCache(10);
+
+        cache.insert(db, "users", user(1, "first@email.com"), SQLiteDatabase.CONFLICT_NONE);
+        cache.insert(db, "users", user(2, "second@email.com"), SQLiteDatabase.CONFLICT_NONE);
+
+        assertThat(cache.delete(db, "users", "_id = ?", asList("1"))).isEqualTo(1);
+        assertThat(cache.delete(db, "users", "_id = ?", asList("1"))).isEqualTo(0);
+        assertThat(cache.delete(db, "users", "", Collections.<String>emptyList())).isEqualTo(1);
+
+        assertThat(countRows(null)).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedStatements() {
+        final SQLiteStatementsCache cache = new SQLiteStatementsCache(2);
+
+        cache.delete(db, "users", "_id = ?", asList("1"));
+        cache.delete(db, "users", "email = ?", asList("1"));
+        cache.delete(db, "users", "age = ?", asList("1"));
+
+        assertThat(cache.size()).isEqualTo(2);
+
+        // Evicted statement should be compiled again
+        assertThat(cache.delete(db, "users", "_id = ?", asList("1"))).isEqualTo(0);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void clearShouldRemoveAllStatements() {
+        final SQLiteStatementsCache cache = new SQLiteStatementsCache(10);
+
+        cache.insert(db, "users", user(1, "first@email.com"), SQLiteDatabase.CONFLICT_NONE);
+        cache.delete(db, "users", "_id = ?", asList("1"));
+
+        cache.clear();
+
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldCompileStatementsWithoutHoldingLockOfCache() {
+        final SQLiteStatementsCache cache = new SQLiteStatementsCache(10);
+        final SQLiteDatabase mockDb = mock(SQLiteDatabase.class);
+
+        // Compiling waits for connection of the db, which may be held by thread that waits for the cache
+        when(mockDb.compileStatement(anyString())).thenAnswer(new Answer<SQLiteStatement>() {
+            @Override
+            public SQLiteStatement answer(InvocationOnMock invocation) throws Throwable {
+                assertThat(Thread.holdsLock(cache)).isFalse();
+                return mock(SQLiteStatement.class);
+            }
+        });
+
+        cache.delete(mockDb, "users", "_id = ?", asList("1"));
+        cache.delete(mockDb, "users", "_id = ?", asList("2"));
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    private static ContentValues user(long id, String email) {
+        final ContentValues contentValues = new ContentValues(2);
+        contentValues.put("_id", id);
+        contentValues.put("email", email);
+        return contentValues;
+    }
+
+    private int countRows(String where) {
+        final Cursor cursor = db.query("users", null, where, null, null, null, null);
+
+        try {
+            return cursor.getCount();
+        } finally {
+            cursor.close();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.pushtorefresh.storio.sqlite.impl;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import rx.Observable;
+import rx.Subscription;
+import rx.functions.Action0;
+import rx.functions.Func0;
+import rx.observers.TestSubscriber;
+import rx.subjects.PublishSubject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SharedObservablesTest {
+
+    private final SharedObservables sharedObservables = new SharedObservables();
+
+    private final PublishSubject<String> source = PublishSubject.create();
+
+    private final AtomicInteger numberOfSubscriptions = new AtomicInteger();
+
+    private final Func0<Observable<String>> observableFactory = new Func0<Observable<String>>() {
+        @Override
+        public Observable<String> call() {
+            return source.doOnSubscribe(new Action0() {
+                @Override
+                public void call() {
+                    numberOfSubscriptions.incrementAndGet();
+                }
+            });
+        }
+    };
+
+    @Test
+    public void shouldSubscribeToSourceOnceForEqualKeys() {
+        final TestSubscriber<String> testSubscriber1 = new TestSubscriber<String>();
+        final TestSubscriber<String> testSubscriber2 = new TestSubscriber<String>();
+
+        sharedObservables.share("key", observableFactory).subscribe(testSubscriber1);
+        sharedObservables.share("key", observableFactory).subscribe(testSubscriber2);
+
+        source.onNext("value");
+
+        assertThat(numberOfSubscriptions.get()).isEqualTo(1);
+        testSubscriber1.assertValue("value");
+        testSubscriber2.assertValue("value");
+    }
+
+    @Test
+    public void shouldNotShareObservablesOfDifferentKeys() {
+        sharedObservables.share("key1", observableFactory).subscribe(new TestSubscriber<String>());
+        sharedObservables.share("key2", observableFactory).subscribe(new TestSubscriber<String>());
+
+        assertThat(numberOfSubscriptions.get()).isEqualTo(2);
+        assertThat(sharedObservables.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldReplayLatestValueToLateSubscriber() {
+        final TestSubscriber<String> lateSubscriber = new TestSubscriber<String>();
+
+        sharedObservables.share("key", observableFactory).subscribe(new TestSubscriber<String>());
+
+        source.onNext("value1");
+        source.onNext("value2");
+
+        sharedObservables.share("key", observableFactory).subscribe(lateSubscriber);
+
+        lateSubscriber.assertValue("value2");
+    }
+
+    @Test
+    public void shouldRemoveObservableWhenAllSubscribersUnsubscribe() {
+        final Subscription subscription1 = sharedObservables.share("key", observableFactory).subscribe(new TestSubscriber<String>());
+        final Subscription subscription2 = sharedObservables.share("key", observableFactory).subscribe(new TestSubscriber<String>());
+
+        subscription1.unsubscribe();
+        assertThat(sharedObservables.size()).isEqualTo(1);
+        assertThat(source.hasObservers()).isTrue();
+
+        subscription2.unsubscribe();
+        assertThat(sharedObservables.size()).isEqualTo(0);
+        assertThat(source.hasObservers()).isFalse();
+
+        // New subscriber should re-subscribe to the source
+        sharedObservables.share("key", observableFactory).subscribe(new TestSubscriber<String>());
+        assertThat(numberOfSubscriptions.get()).isEqualTo(2);
+    }
+}
@@ -64,4 +64,42 @@ public class DeleteTest extends BaseTest {
             assertThat(usersAfterDelete.contains(user)).isEqualTo(!shouldBeDeleted);
         }
     }
+
+    @Test
+    public void deleteCollectionWithBatchDelete() {
+        final List<User> allUsers = putUsersBlocking(10);
+
+        final List<User> usersToDelete = new ArrayList<User>();
+
+        for (int i = 0; i < allUsers.size(); i += 2) {  // Delete every second user
+            usersToDelete.add(allUsers.get(i));
+        }
+
+        // Not stored user should not affect results of others
+        final User notStoredUser = User.newInstance(Long.MAX_VALUE, "not_stored@example.com");
+        usersToDelete.add(notStoredUser);
+
+        final DeleteResults<User> deleteResults = storIOSQLite
+                .delete()
+                .objects(usersToDelete)
+                .useBatchDelete(true)
+                .prepare()
+                .executeAsBlocking();
+
+        final List<User> usersAfterDelete = getAllUsersBlocking();
+
+        assertThat(usersAfterDelete).hasSize(allUsers.size() / 2);
+
+        assertThat(deleteResults.wasDeleted(notStoredUser)).isFalse();
+
+        for (User user : allUsers) {
+            final boolean shouldBeDeleted = usersToDelete.contains(user);
+
+            // Check that per-object results are correct.
+            assertThat(deleteResults.wasDeleted(user)).isEqualTo(shouldBeDeleted);
+
+            // Check that we didn't delete users that we didn't want to
+            assertThat(usersAfterDelete.contains(user)).isEqualTo(!shouldBeDeleted);
+        }
+    }
 }
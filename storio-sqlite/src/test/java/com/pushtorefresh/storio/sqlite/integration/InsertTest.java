@@ -1,8 +1,16 @@
 package com.pushtorefresh.storio.sqlite.integration;
 
+import android.content.ContentValues;
 import android.database.Cursor;
+import android.database.sqlite.SQLiteStatement;
+import android.support.annotation.NonNull;
 
 import com.pushtorefresh.storio.sqlite.BuildConfig;
+import com.pushtorefresh.storio.sqlite.operations.put.DefaultPutResolver;
+import com.pushtorefresh.storio.sqlite.operations.put.PutResults;
+import com.pushtorefresh.storio.sqlite.operations.put.StatementBinder;
+import com.pushtorefresh.storio.sqlite.queries.InsertQuery;
+import com.pushtorefresh.storio.sqlite.queries.UpdateQuery;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -53,6 +61,102 @@ public class InsertTest extends BaseTest {
         cursor.close();
     }
 
+    @Test
+    public void insertCollectionWithBulkInsert() {
+        final List<User> users = TestFactory.newUsers(5);
+
+        final PutResults<User> putResults = storIOSQLite
+                .put()
+                .objects(users)
+                .useBulkInsert(true)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(putResults.numberOfInserts()).isEqualTo(users.size());
+
+        final Cursor cursor = db.query(UserTableMeta.TABLE, null, null, null, null, null, null);
+
+        assertThat(cursor.getCount()).isEqualTo(users.size());
+
+        for (int i = 0; i < users.size(); i++) {
+            assertThat(cursor.moveToNext()).isTrue();
+
+            final User insertedUser = UserTableMeta.GET_RESOLVER.mapFromCursor(cursor);
+
+            // inserted ids should be reported for each object
+            assertThat(insertedUser.id()).isEqualTo(putResults.results().get(users.get(i)).insertedId());
+            assertThat(users.get(i).equalsExceptId(insertedUser)).isTrue();
+        }
+
+        cursor.close();
+    }
+
+    @Test
+    public void insertCollectionWithBulkInsertViaStatementBinder() {
+        final List<User> users = TestFactory.newUsers(5);
+
+        class UserPutResolver extends DefaultPutResolver<User> {
+
+            private final StatementBinder<User> statementBinder = new StatementBinder<User>(UserPutResolver.class, UserTableMeta.COLUMN_EMAIL) {
+                @Override
+                public void bind(@NonNull SQLiteStatement statement, @NonNull User user) {
+                    statement.bindString(1, user.email());
+                }
+            };
+
+            @NonNull
+            @Override
+            protected InsertQuery mapToInsertQuery(@NonNull User user) {
+                return InsertQuery.builder()
+                        .table(UserTableMeta.TABLE)
+                        .build();
+            }
+
+            @NonNull
+            @Override
+            protected UpdateQuery mapToUpdateQuery(@NonNull User user) {
+                throw new IllegalStateException("Should not be called");
+            }
+
+            @NonNull
+            @Override
+            protected ContentValues mapToContentValues(@NonNull User user) {
+                throw new IllegalStateException("Should not be called");
+            }
+
+            @NonNull
+            @Override
+            protected StatementBinder<User> statementBinder() {
+                return statementBinder;
+            }
+        }
+
+        final PutResults<User> putResults = storIOSQLite
+                .put()
+                .objects(users)
+                .withPutResolver(new UserPutResolver())
+                .useBulkInsert(true)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(putResults.numberOfInserts()).isEqualTo(users.size());
+
+        final Cursor cursor = db.query(UserTableMeta.TABLE, null, null, null, null, null, null);
+
+        assertThat(cursor.getCount()).isEqualTo(users.size());
+
+        for (int i = 0; i < users.size(); i++) {
+            assertThat(cursor.moveToNext()).isTrue();
+
+            final User insertedUser = UserTableMeta.GET_RESOLVER.mapFromCursor(cursor);
+
+            assertThat(insertedUser.id()).isEqualTo(putResults.results().get(users.get(i)).insertedId());
+            assertThat(users.get(i).equalsExceptId(insertedUser)).isTrue();
+        }
+
+        cursor.close();
+    }
+
     @Test
     public void insertAndDeleteTwice() {
         final User user = TestFactory.newUser();
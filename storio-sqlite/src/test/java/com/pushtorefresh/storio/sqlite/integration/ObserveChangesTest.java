@@ -67,13 +67,16 @@ public class ObserveChangesTest extends BaseTest {
     public void updateEmission() {
         final List<User> users = putUsersBlocking(10);
         final List<User> updated = new ArrayList<User>(users.size());
+        final List<Long> ids = new ArrayList<Long>(users.size());
 
         for (User user : users) {
             updated.add(User.newInstance(user.id(), user.email()));
+            ids.add(user.id());
         }
 
+        // Keys of updated rows are known
         final Queue<Changes> expectedChanges = new LinkedList<Changes>();
-        expectedChanges.add(Changes.newInstance(UserTableMeta.TABLE));
+        expectedChanges.add(Changes.newInstance(UserTableMeta.TABLE, UserTableMeta.COLUMN_ID, ids));
 
         final EmissionChecker emissionChecker = new EmissionChecker(expectedChanges);
         final Subscription subscription = emissionChecker.subscribe();
@@ -95,9 +98,15 @@ public class ObserveChangesTest extends BaseTest {
     @Test
     public void deleteEmission() {
         final List<User> users = putUsersBlocking(10);
+        final List<Long> ids = new ArrayList<Long>(users.size());
 
+        for (User user : users) {
+            ids.add(user.id());
+        }
+
+        // Keys of deleted rows are known
         final Queue<Changes> expectedChanges = new LinkedList<Changes>();
-        expectedChanges.add(Changes.newInstance(UserTableMeta.TABLE));
+        expectedChanges.add(Changes.newInstance(UserTableMeta.TABLE, UserTableMeta.COLUMN_ID, ids));
 
         final EmissionChecker emissionChecker = new EmissionChecker(expectedChanges);
         final Subscription subscription = emissionChecker.subscribe();
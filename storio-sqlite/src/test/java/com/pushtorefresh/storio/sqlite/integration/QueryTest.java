@@ -4,8 +4,11 @@ import android.database.Cursor;
 import android.support.annotation.NonNull;
 
 import com.pushtorefresh.storio.sqlite.BuildConfig;
+import com.pushtorefresh.storio.sqlite.operations.get.CursorIterator;
 import com.pushtorefresh.storio.sqlite.operations.get.DefaultGetResolver;
 import com.pushtorefresh.storio.sqlite.operations.get.GetResolver;
+import com.pushtorefresh.storio.sqlite.operations.get.IdentityMapGetResolver;
+import com.pushtorefresh.storio.sqlite.operations.get.Page;
 import com.pushtorefresh.storio.sqlite.queries.Query;
 import com.pushtorefresh.storio.sqlite.queries.RawQuery;
 
@@ -444,6 +447,103 @@ public class QueryTest extends BaseTest {
         assertThat(numberOfResults).isEqualTo(8);
     }
 
+    @Test
+    public void exists() {
+        final List<User> users = putUsersBlocking(3);
+
+        final Boolean exists = storIOSQLite
+                .get()
+                .exists()
+                .withQuery(Query.builder()
+                        .table(UserTableMeta.TABLE)
+                        .where(UserTableMeta.COLUMN_EMAIL + " = ?")
+                        .whereArgs(users.get(1).email())
+                        .build())
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(exists).isTrue();
+    }
+
+    @Test
+    public void notExists() {
+        putUsersBlocking(3);
+
+        final Boolean exists = storIOSQLite
+                .get()
+                .exists()
+                .withQuery(Query.builder()
+                        .table(UserTableMeta.TABLE)
+                        .where(UserTableMeta.COLUMN_EMAIL + " = ?")
+                        .whereArgs("not_existing@example.com")
+                        .build())
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(exists).isFalse();
+    }
+
+    @Test
+    public void getNumberOfResultsWithWhereAndLimit() {
+        final List<User> users = putUsersBlocking(8);
+
+        final Integer numberOfResultsWithWhere = storIOSQLite
+                .get()
+                .numberOfResults()
+                .withQuery(Query.builder()
+                        .table(UserTableMeta.TABLE)
+                        .where(UserTableMeta.COLUMN_EMAIL + " != ?")
+                        .whereArgs(users.get(0).email())
+                        .build())
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(numberOfResultsWithWhere).isEqualTo(7);
+
+        final Integer numberOfResultsWithLimit = storIOSQLite
+                .get()
+                .numberOfResults()
+                .withQuery(Query.builder()
+                        .table(UserTableMeta.TABLE)
+                        .orderBy(UserTableMeta.COLUMN_ID)
+                        .limit(2, 5)
+                        .build())
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(numberOfResultsWithLimit).isEqualTo(5);
+    }
+
+    @Test
+    public void getNumberOfResultsWithDistinctAndGroupBy() {
+        putUsersBlocking(3);
+
+        final Integer numberOfDistinctResults = storIOSQLite
+                .get()
+                .numberOfResults()
+                .withQuery(Query.builder()
+                        .table(UserTableMeta.TABLE)
+                        .distinct(true)
+                        .columns("1")
+                        .build())
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(numberOfDistinctResults).isEqualTo(1);
+
+        final Integer numberOfGroups = storIOSQLite
+                .get()
+                .numberOfResults()
+                .withQuery(Query.builder()
+                        .table(UserTableMeta.TABLE)
+                        .groupBy(UserTableMeta.COLUMN_EMAIL)
+                        .build())
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(numberOfGroups).isEqualTo(3);
+    }
+
     @Test
     public void queryOneExistedObject() {
         final List<User> users = putUsersBlocking(3);
@@ -481,4 +581,137 @@ public class QueryTest extends BaseTest {
 
         assertThat(userFromQuery).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void identityMapShouldReuseObjectsOfUnchangedRows() {
+        final List<User> users = putUsersBlocking(3);
+
+        final GetResolver<User> getResolver
+                = new IdentityMapGetResolver<User>(UserTableMeta.GET_RESOLVER, UserTableMeta.COLUMN_ID, 10);
+
+        final List<User> usersFromQuery1 = storIOSQLite
+                .get()
+                .listOfObjects(User.class)
+                .withQuery(UserTableMeta.QUERY_ALL)
+                .withGetResolver(getResolver)
+                .prepare()
+                .executeAsBlocking();
+
+        final User updatedUser = User.newInstance(users.get(0).id(), "updated@example.com");
+
+        storIOSQLite
+                .put()
+                .object(updatedUser)
+                .prepare()
+                .executeAsBlocking();
+
+        final List<User> usersFromQuery2 = storIOSQLite
+                .get()
+                .listOfObjects(User.class)
+                .withQuery(UserTableMeta.QUERY_ALL)
+                .withGetResolver(getResolver)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(usersFromQuery2).hasSize(3);
+
+        for (int i = 0; i < usersFromQuery2.size(); i++) {
+            final User user = usersFromQuery2.get(i);
+
+            if (user.id().equals(updatedUser.id())) {
+                assertThat(user).isEqualTo(updatedUser);
+                assertThat(user).isNotSameAs(usersFromQuery1.get(i));
+            } else {
+                assertThat(user).isSameAs(usersFromQuery1.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void queryIteratorOfObjects() {
+        final List<User> users = putUsersBlocking(3);
+
+        final CursorIterator<User> iterator = storIOSQLite
+                .get()
+                .iteratorOfObjects(User.class)
+                .withQuery(Query.builder()
+                        .table(UserTableMeta.TABLE)
+                        .build())
+                .prepare()
+                .executeAsBlocking();
+
+        final List<User> usersFromIterator = new ArrayList<User>();
+
+        while (iterator.hasNext()) {
+            usersFromIterator.add(iterator.next());
+        }
+
+        assertThat(usersFromIterator).isEqualTo(users);
+    }
+
+    @Test
+    public void queryPagesOfObjects() {
+        final List<User> users = putUsersBlocking(5);
+        final List<User> usersFromPages = new ArrayList<User>();
+
+        String afterKey = null;
+        int numberOfPages = 0;
+
+        while (true) {
+            final Page<User> page = storIOSQLite
+                    .get()
+                    .pageOfObjects(User.class)
+                    .withQuery(UserTableMeta.QUERY_ALL)
+                    .keyColumn(UserTableMeta.COLUMN_ID)
+                    .pageSize(2)
+                    .afterKey(afterKey)
+                    .prepare()
+                    .executeAsBlocking();
+
+            numberOfPages++;
+            usersFromPages.addAll(page.items());
+
+            if (!page.hasNextPage()) {
+                break;
+            }
+
+            assertThat(page.items()).hasSize(2);
+            afterKey = page.lastKey();
+        }
+
+        assertThat(numberOfPages).isEqualTo(3);
+        assertThat(usersFromPages).isEqualTo(users);
+    }
+
+    @Test
+    public void queryPagesOfObjectsDescending() {
+        final List<User> users = putUsersBlocking(3);
+
+        final Page<User> firstPage = storIOSQLite
+                .get()
+                .pageOfObjects(User.class)
+                .withQuery(UserTableMeta.QUERY_ALL)
+                .keyColumn(UserTableMeta.COLUMN_ID)
+                .pageSize(2)
+                .descending(true)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(firstPage.items()).containsExactly(users.get(2), users.get(1));
+        assertThat(firstPage.hasNextPage()).isTrue();
+
+        final Page<User> secondPage = storIOSQLite
+                .get()
+                .pageOfObjects(User.class)
+                .withQuery(UserTableMeta.QUERY_ALL)
+                .keyColumn(UserTableMeta.COLUMN_ID)
+                .pageSize(2)
+                .descending(true)
+                .afterKey(firstPage.lastKey())
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(secondPage.items()).containsExactly(users.get(0));
+        assertThat(secondPage.hasNextPage()).isFalse();
+    }
+}
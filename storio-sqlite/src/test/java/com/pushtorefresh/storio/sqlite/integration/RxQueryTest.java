@@ -22,6 +22,7 @@ import rx.Observable;
 import rx.Subscription;
 import rx.functions.Action1;
 import rx.observers.TestSubscriber;
+import rx.subjects.PublishSubject;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -149,6 +150,113 @@ public class RxQueryTest extends BaseTest {
         subscription.unsubscribe();
     }
 
+    @Test
+    public void identicalResultsShouldBeSkippedIfRequested() {
+        final List<User> users = putUsersBlocking(3);
+
+        final List<User> updatedUsers = new ArrayList<User>(users);
+        updatedUsers.set(0, User.newInstance(users.get(0).id(), "updated@email.com"));
+
+        final Queue<List<User>> expectedUsers = new LinkedList<List<User>>();
+        expectedUsers.add(users);
+        expectedUsers.add(updatedUsers);
+
+        final AbstractEmissionChecker<List<User>> emissionChecker = new AbstractEmissionChecker<List<User>>(expectedUsers) {
+            @NonNull
+            @Override
+            public Subscription subscribe() {
+                return storIOSQLite
+                        .get()
+                        .listOfObjects(User.class)
+                        .withQuery(UserTableMeta.QUERY_ALL)
+                        .skipIdenticalResults(true)
+                        .prepare()
+                        .createObservable()
+                        .subscribe(new Action1<List<User>>() {
+                            @Override
+                            public void call(List<User> users) {
+                                onNextObtained(users);
+                            }
+                        });
+            }
+        };
+
+        final Subscription subscription = emissionChecker.subscribe();
+
+        // Should receive all users
+        emissionChecker.awaitNextExpectedValue();
+
+        // Same values, change of the table should not produce identical emission
+        putUsersBlocking(users);
+
+        putUsersBlocking(updatedUsers);
+
+        // Should receive updated users right after initial ones
+        emissionChecker.awaitNextExpectedValue();
+
+        emissionChecker.assertThatNoExpectedValuesLeft();
+
+        subscription.unsubscribe();
+    }
+
+    @Test
+    public void pagingObservableShouldLoadNextPagesOnRequest() {
+        final List<User> users = putUsersBlocking(5);
+        final PublishSubject<Object> nextPageRequests = PublishSubject.create();
+
+        final Queue<List<User>> expectedUsers = new LinkedList<List<User>>();
+        expectedUsers.add(users.subList(0, 2));
+        expectedUsers.add(users.subList(0, 4));
+
+        final List<User> updatedUsers = new ArrayList<User>(users.subList(0, 4));
+        updatedUsers.set(1, User.newInstance(users.get(1).id(), "updated@email.com"));
+        expectedUsers.add(updatedUsers);
+
+        final AbstractEmissionChecker<List<User>> emissionChecker = new AbstractEmissionChecker<List<User>>(expectedUsers) {
+            @NonNull
+            @Override
+            public Subscription subscribe() {
+                return storIOSQLite
+                        .get()
+                        .pageOfObjects(User.class)
+                        .withQuery(UserTableMeta.QUERY_ALL)
+                        .keyColumn(UserTableMeta.COLUMN_ID)
+                        .pageSize(2)
+                        .prepare()
+                        .createPagingObservable(nextPageRequests)
+                        .subscribe(new Action1<List<User>>() {
+                            @Override
+                            public void call(List<User> users) {
+                                onNextObtained(users);
+                            }
+                        });
+            }
+        };
+
+        final Subscription subscription = emissionChecker.subscribe();
+
+        // Should receive first page
+        emissionChecker.awaitNextExpectedValue();
+
+        nextPageRequests.onNext(new Object());
+
+        // Should receive first and second pages
+        emissionChecker.awaitNextExpectedValue();
+
+        storIOSQLite
+                .put()
+                .object(updatedUsers.get(1))
+                .prepare()
+                .executeAsBlocking();
+
+        // Should reload only already loaded pages
+        emissionChecker.awaitNextExpectedValue();
+
+        emissionChecker.assertThatNoExpectedValuesLeft();
+
+        subscription.unsubscribe();
+    }
+
     @Test
     public void parallelWritesWithoutTransaction() {
         final int numberOfParallelWorkers = 50;
@@ -310,4 +418,95 @@ public class RxQueryTest extends BaseTest {
         testSubscriber.assertValues(null, null);
         testSubscriber.assertNoErrors();
     }
+
+    @Test
+    public void queryOneObjectByKeyShouldSkipChangesOfOtherRows() throws InterruptedException {
+        final List<User> users = putUsersBlocking(2);
+        final User observedUser = users.get(0);
+        final User otherUser = users.get(1);
+
+        final CountDownLatch firstEmission = new CountDownLatch(1);
+        final TestSubscriber<User> testSubscriber = new TestSubscriber<User>();
+
+        storIOSQLite
+                .get()
+                .object(User.class)
+                .withQuery(Query.builder()
+                        .table(UserTableMeta.TABLE)
+                        .where(UserTableMeta.COLUMN_ID + " = ?")
+                        .whereArgs(observedUser.id())
+                        .build())
+                .prepare()
+                .createObservable()
+                .doOnNext(new Action1<User>() {
+                    @Override
+                    public void call(User user) {
+                        firstEmission.countDown();
+                    }
+                })
+                .take(2)
+                .subscribe(testSubscriber);
+
+        assertThat(firstEmission.await(5, SECONDS)).isTrue();
+
+        // Change of other row should not trigger re-query
+        storIOSQLite
+                .put()
+                .object(User.newInstance(otherUser.id(), "other_changed@example.com"))
+                .prepare()
+                .executeAsBlocking();
+
+        final User updatedObservedUser = User.newInstance(observedUser.id(), "observed_changed@example.com");
+
+        storIOSQLite
+                .put()
+                .object(updatedObservedUser)
+                .prepare()
+                .executeAsBlocking();
+
+        testSubscriber.awaitTerminalEvent(5, SECONDS);
+        testSubscriber.assertNoErrors();
+        testSubscriber.assertValues(observedUser, updatedObservedUser);
+    }
+
+    @Test
+    public void identicalSharedQueriesShouldShareResult() throws InterruptedException {
+        putUsersBlocking(3);
+
+        final CountDownLatch firstEmission = new CountDownLatch(1);
+        final TestSubscriber<List<User>> testSubscriber = new TestSubscriber<List<User>>();
+
+        final Subscription subscription = storIOSQLite
+                .get()
+                .listOfObjects(User.class)
+                .withQuery(UserTableMeta.QUERY_ALL)
+                .shareIdenticalQueries(true)
+                .prepare()
+                .createObservable()
+                .doOnNext(new Action1<List<User>>() {
+                    @Override
+                    public void call(List<User> users) {
+                        firstEmission.countDown();
+                    }
+                })
+                .subscribe(testSubscriber);
+
+        assertThat(firstEmission.await(5, SECONDS)).isTrue();
+
+        // Late subscriber should receive result of the first query instead of executing its own
+        final List<User> sharedUsers = storIOSQLite
+                .get()
+                .listOfObjects(User.class)
+                .withQuery(UserTableMeta.QUERY_ALL)
+                .shareIdenticalQueries(true)
+                .prepare()
+                .createObservable()
+                .take(1)
+                .toBlocking()
+                .first();
+
+        assertThat(sharedUsers).isSameAs(testSubscriber.getOnNextEvents().get(0));
+
+        subscription.unsubscribe();
+    }
 }
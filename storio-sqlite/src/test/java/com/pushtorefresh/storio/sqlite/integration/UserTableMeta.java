@@ -89,6 +89,12 @@ public class UserTableMeta {
                     cursor.getString(cursor.getColumnIndex(COLUMN_EMAIL))
             );
         }
+
+        @NonNull
+        @Override
+        public String keyColumn() {
+            return COLUMN_ID;
+        }
     };
     static final DeleteResolver<User> DELETE_RESOLVER = new DefaultDeleteResolver<User>() {
         @NonNull
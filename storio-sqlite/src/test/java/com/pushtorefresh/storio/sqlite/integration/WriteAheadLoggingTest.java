@@ -0,0 +1,59 @@
+package com.pushtorefresh.storio.sqlite.integration;
+
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.impl.DefaultStorIOSQLite;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WriteAheadLoggingTest extends BaseTest {
+
+    @Test
+    public void readShouldNotBeBlockedByOpenedWriteTransaction() throws InterruptedException {
+        final StorIOSQLite walStorIOSQLite = DefaultStorIOSQLite.builder()
+                .sqliteOpenHelper(sqLiteOpenHelper)
+                .writeAheadLoggingEnabled(true)
+                .build();
+
+        final AtomicReference<Integer> numberOfUsers = new AtomicReference<Integer>();
+        final CountDownLatch readFinished = new CountDownLatch(1);
+
+        walStorIOSQLite.internal().beginTransaction();
+
+        try {
+            walStorIOSQLite
+                    .put()
+                    .object(TestFactory.newUser())
+                    .withPutResolver(UserTableMeta.PUT_RESOLVER)
+                    .prepare()
+                    .executeAsBlocking();
+
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    numberOfUsers.set(walStorIOSQLite
+                            .get()
+                            .numberOfResults()
+                            .withQuery(UserTableMeta.QUERY_ALL)
+                            .prepare()
+                            .executeAsBlocking());
+
+                    readFinished.countDown();
+                }
+            }).start();
+
+            // Without write-ahead logging read waits for the end of the transaction
+            assertThat(readFinished.await(30, SECONDS)).isTrue();
+        } finally {
+            walStorIOSQLite.internal().endTransaction();
+        }
+
+        // Uncommitted row is not visible for the read from other connection
+        assertThat(numberOfUsers.get()).isEqualTo(0);
+    }
+}
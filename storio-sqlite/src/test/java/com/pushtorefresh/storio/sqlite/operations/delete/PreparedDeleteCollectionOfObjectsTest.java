@@ -1,14 +1,23 @@
 package com.pushtorefresh.storio.sqlite.operations.delete;
 
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+
 import com.pushtorefresh.storio.StorIOException;
+import com.pushtorefresh.storio.sqlite.Changes;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.queries.DeleteQuery;
+import com.pushtorefresh.storio.sqlite.queries.RawQuery;
 
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import rx.Observable;
 import rx.observers.TestSubscriber;
@@ -20,8 +29,10 @@ import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -434,4 +445,119 @@ public class PreparedDeleteCollectionOfObjectsTest {
             verifyNoMoreInteractions(storIOSQLite, internal, deleteResolver);
         }
     }
+
+    public static class BatchDelete {
+
+        @NonNull
+        private final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+
+        @NonNull
+        private final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+        @NonNull
+        private final Cursor cursor = mock(Cursor.class);
+
+        @NonNull
+        private final Map<TestItem, String> keys = new HashMap<TestItem, String>();
+
+        @NonNull
+        private final DeleteResolver<TestItem> deleteResolver = new DefaultDeleteResolver<TestItem>() {
+            @NonNull
+            @Override
+            protected DeleteQuery mapToDeleteQuery(@NonNull TestItem object) {
+                return DeleteQuery.builder()
+                        .table(TestItem.TABLE)
+                        .where("_id = ?")
+                        .whereArgs(keys.get(object))
+                        .build();
+            }
+        };
+
+        @NonNull
+        private final TestItem item1 = TestItem.newInstance();
+
+        @NonNull
+        private final TestItem item2 = TestItem.newInstance();
+
+        @NonNull
+        private final TestItem item3 = TestItem.newInstance();
+
+        public BatchDelete() {
+            when(storIOSQLite.internal()).thenReturn(internal);
+            when(internal.rawQuery(any(RawQuery.class))).thenReturn(cursor);
+            when(internal.delete(any(DeleteQuery.class))).thenReturn(1);
+
+            keys.put(item1, "1");
+            keys.put(item2, "2");
+            keys.put(item3, "1"); // duplicate of item1
+
+            // Only row with the first key exists, SQLite reports index of the key, not its value
+            when(cursor.moveToNext()).thenReturn(true, false);
+            when(cursor.getInt(0)).thenReturn(0);
+            when(cursor.getInt(1)).thenReturn(1);
+        }
+
+        @Test
+        public void shouldCountAndDeleteInOneTransactionWithoutOuterTransaction() {
+            final DeleteResults<TestItem> deleteResults = deleteBlocking(false);
+
+            final InOrder inOrder = inOrder(internal, cursor);
+            inOrder.verify(internal).beginTransaction();
+            inOrder.verify(internal).rawQuery(any(RawQuery.class));
+            inOrder.verify(cursor).close();
+            inOrder.verify(internal).delete(any(DeleteQuery.class));
+            inOrder.verify(internal).setTransactionSuccessful();
+            inOrder.verify(internal).endTransaction();
+            inOrder.verify(internal).notifyAboutChanges(
+                    Changes.newInstance(TestItem.TABLE, "_id", asList("1", "2")));
+
+            verifyResults(deleteResults);
+        }
+
+        @Test
+        public void shouldUseOuterTransaction() {
+            final DeleteResults<TestItem> deleteResults = deleteBlocking(true);
+
+            verify(internal, times(1)).beginTransaction();
+            verify(internal, times(1)).setTransactionSuccessful();
+            verify(internal, times(1)).endTransaction();
+
+            verifyResults(deleteResults);
+        }
+
+        @Test
+        public void shouldMatchKeysInSQLite() {
+            deleteBlocking(false);
+
+            final ArgumentCaptor<RawQuery> rawQueryCaptor = ArgumentCaptor.forClass(RawQuery.class);
+            verify(internal).rawQuery(rawQueryCaptor.capture());
+
+            assertThat(rawQueryCaptor.getValue().query()).isEqualTo("SELECT CASE WHEN _id = ?1 THEN 0 WHEN _id = ?2 THEN 1 END, " +
+                    "COUNT(*) FROM test_items WHERE _id IN (?1,?2) GROUP BY 1");
+            assertThat(rawQueryCaptor.getValue().args()).containsExactly("1", "2");
+
+            final ArgumentCaptor<DeleteQuery> deleteQueryCaptor = ArgumentCaptor.forClass(DeleteQuery.class);
+            verify(internal).delete(deleteQueryCaptor.capture());
+
+            assertThat(deleteQueryCaptor.getValue().where()).isEqualTo("_id IN (?1,?2)");
+            assertThat(deleteQueryCaptor.getValue().whereArgs()).containsExactly("1", "2");
+        }
+
+        @NonNull
+        private DeleteResults<TestItem> deleteBlocking(boolean useTransaction) {
+            return new PreparedDeleteCollectionOfObjects.Builder<TestItem>(storIOSQLite, asList(item1, item2, item3))
+                    .withDeleteResolver(deleteResolver)
+                    .useTransaction(useTransaction)
+                    .useBatchDelete(true)
+                    .prepare()
+                    .executeAsBlocking();
+        }
+
+        private void verifyResults(@NonNull DeleteResults<TestItem> deleteResults) {
+            assertThat(deleteResults.results().get(item1).numberOfRowsDeleted()).isEqualTo(1);
+            assertThat(deleteResults.results().get(item2).numberOfRowsDeleted()).isEqualTo(0);
+            // Duplicates of the key get 0 as it would be with sequential deletes
+            assertThat(deleteResults.results().get(item3).numberOfRowsDeleted()).isEqualTo(0);
+        }
+    }
 }
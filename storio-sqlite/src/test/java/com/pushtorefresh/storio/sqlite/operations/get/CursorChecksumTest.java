@@ -0,0 +1,146 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.CharArrayBuffer;
+import android.database.Cursor;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CursorChecksumTest {
+
+    @Test
+    public void checksumOfSameValuesShouldBeEqual() {
+        assertThat(checksumOf(row(1L, "value", 2.5, new byte[]{1, 2})))
+                .isEqualTo(checksumOf(row(1L, "value", 2.5, new byte[]{1, 2})));
+    }
+
+    @Test
+    public void checksumShouldDependOnEachValue() {
+        final long checksum = checksumOf(row(1L, "value", 2.5, new byte[]{1, 2}));
+
+        assertThat(checksumOf(row(2L, "value", 2.5, new byte[]{1, 2}))).isNotEqualTo(checksum);
+        assertThat(checksumOf(row(1L, "valuE", 2.5, new byte[]{1, 2}))).isNotEqualTo(checksum);
+        assertThat(checksumOf(row(1L, "value", 2.6, new byte[]{1, 2}))).isNotEqualTo(checksum);
+        assertThat(checksumOf(row(1L, "value", 2.5, new byte[]{2, 1}))).isNotEqualTo(checksum);
+    }
+
+    @Test
+    public void checksumShouldDistinguishStringsWithSameHashCode() {
+        // "Aa".hashCode() == "BB".hashCode()
+        assertThat(checksumOf(row(1L, "Aa", 0.0, new byte[0])))
+                .isNotEqualTo(checksumOf(row(1L, "BB", 0.0, new byte[0])));
+    }
+
+    @Test
+    public void checksumShouldDistinguishNullAndEmptyString() {
+        final Cursor cursorWithNull = mock(Cursor.class);
+        when(cursorWithNull.getColumnCount()).thenReturn(1);
+        when(cursorWithNull.getType(0)).thenReturn(Cursor.FIELD_TYPE_NULL);
+
+        final Cursor cursorWithEmptyString = mock(Cursor.class);
+        when(cursorWithEmptyString.getColumnCount()).thenReturn(1);
+        when(cursorWithEmptyString.getType(0)).thenReturn(Cursor.FIELD_TYPE_STRING);
+        when(cursorWithEmptyString.getString(0)).thenReturn("");
+
+        assertThat(checksumOf(cursorWithNull)).isNotEqualTo(checksumOf(cursorWithEmptyString));
+    }
+
+    @Test
+    public void checksumShouldDependOnOrderOfRows() {
+        final CursorChecksum checksum1 = new CursorChecksum();
+        checksum1.update(row(1L, "first", 0.0, new byte[0]));
+        checksum1.update(row(2L, "second", 0.0, new byte[0]));
+
+        final CursorChecksum checksum2 = new CursorChecksum();
+        checksum2.update(row(2L, "second", 0.0, new byte[0]));
+        checksum2.update(row(1L, "first", 0.0, new byte[0]));
+
+        assertThat(checksum1.value()).isNotEqualTo(checksum2.value());
+    }
+
+    @Test
+    public void checksumShouldDependOnColumnNames() {
+        final Cursor cursor1 = row(1L, "value", 2.5, new byte[0]);
+        when(cursor1.getColumnNames()).thenReturn(new String[]{"id", "name", "rating", "photo"});
+
+        final Cursor cursor2 = row(1L, "value", 2.5, new byte[0]);
+        when(cursor2.getColumnNames()).thenReturn(new String[]{"id", "email", "rating", "photo"});
+
+        final CursorChecksum checksum1 = new CursorChecksum();
+        checksum1.updateColumnNames(cursor1);
+        checksum1.update(cursor1);
+
+        final CursorChecksum checksum2 = new CursorChecksum();
+        checksum2.updateColumnNames(cursor2);
+        checksum2.update(cursor2);
+
+        assertThat(checksum1.value()).isNotEqualTo(checksum2.value());
+    }
+
+    @Test
+    public void checksumWithBufferShouldBeSameAsWithStrings() {
+        final Cursor cursor = row(1L, "value", 2.5, new byte[]{1, 2});
+
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                final CharArrayBuffer buffer = (CharArrayBuffer) invocation.getArguments()[1];
+                "value".getChars(0, 5, buffer.data, 0);
+                buffer.sizeCopied = 5;
+                return null;
+            }
+        }).when(cursor).copyStringToBuffer(eq(1), any(CharArrayBuffer.class));
+
+        final CursorChecksum checksum = new CursorChecksum();
+        checksum.update(cursor, new CharArrayBuffer(64));
+
+        assertThat(checksum.value()).isEqualTo(checksumOf(row(1L, "value", 2.5, new byte[]{1, 2})));
+        verify(cursor, never()).getString(1);
+    }
+
+    @Test
+    public void resetShouldRestoreInitialValue() {
+        final CursorChecksum checksum = new CursorChecksum();
+        checksum.update(row(1L, "first", 0.0, new byte[0]));
+        checksum.reset();
+        checksum.update(row(2L, "second", 0.0, new byte[0]));
+
+        assertThat(checksum.value()).isEqualTo(checksumOf(row(2L, "second", 0.0, new byte[0])));
+    }
+
+    private static long checksumOf(Cursor cursor) {
+        final CursorChecksum checksum = new CursorChecksum();
+        checksum.update(cursor);
+        return checksum.value();
+    }
+
+    private static Cursor row(long integer, String string, double real, byte[] blob) {
+        final Cursor cursor = mock(Cursor.class);
+
+        when(cursor.getColumnCount()).thenReturn(4);
+
+        when(cursor.getType(0)).thenReturn(Cursor.FIELD_TYPE_INTEGER);
+        when(cursor.getLong(0)).thenReturn(integer);
+
+        when(cursor.getType(1)).thenReturn(Cursor.FIELD_TYPE_STRING);
+        when(cursor.getString(1)).thenReturn(string);
+
+        when(cursor.getType(2)).thenReturn(Cursor.FIELD_TYPE_FLOAT);
+        when(cursor.getDouble(2)).thenReturn(real);
+
+        when(cursor.getType(3)).thenReturn(Cursor.FIELD_TYPE_BLOB);
+        when(cursor.getBlob(3)).thenReturn(blob);
+
+        return cursor;
+    }
+}
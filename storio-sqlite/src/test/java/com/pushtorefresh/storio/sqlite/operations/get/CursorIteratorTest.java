@@ -0,0 +1,151 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.Cursor;
+
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class CursorIteratorTest {
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldMapRowsLazily() {
+        final Cursor cursor = mock(Cursor.class);
+        when(cursor.moveToNext()).thenReturn(true, true, false);
+
+        final GetResolver<TestItem> getResolver = mock(GetResolver.class);
+        final TestItem item1 = new TestItem();
+        final TestItem item2 = new TestItem();
+        when(getResolver.mapFromCursor(cursor)).thenReturn(item1, item2);
+
+        final CursorIterator<TestItem> iterator = new CursorIterator<TestItem>(cursor, getResolver);
+
+        verifyZeroInteractions(getResolver);
+
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(iterator.hasNext()).isTrue(); // should not move cursor again
+        assertThat(iterator.next()).isSameAs(item1);
+        verify(getResolver, times(1)).mapFromCursor(cursor);
+
+        assertThat(iterator.next()).isSameAs(item2);
+        verify(getResolver, times(2)).mapFromCursor(cursor);
+
+        assertThat(iterator.hasNext()).isFalse();
+        verify(cursor, times(3)).moveToNext();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldCloseCursorAfterLastRow() {
+        final Cursor cursor = mock(Cursor.class);
+        when(cursor.moveToNext()).thenReturn(false);
+
+        final CursorIterator<TestItem> iterator = new CursorIterator<TestItem>(cursor, mock(GetResolver.class));
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(iterator.hasNext()).isFalse();
+
+        verify(cursor, times(1)).moveToNext();
+        verify(cursor, times(1)).close();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void nextShouldThrowIfThereAreNoMoreRows() {
+        final Cursor cursor = mock(Cursor.class);
+        when(cursor.moveToNext()).thenReturn(false);
+
+        final CursorIterator<TestItem> iterator = new CursorIterator<TestItem>(cursor, mock(GetResolver.class));
+
+        try {
+            iterator.next();
+            failBecauseExceptionWasNotThrown(NoSuchElementException.class);
+        } catch (NoSuchElementException expected) {
+            assertThat(expected).hasMessage("There are no more rows in the cursor");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldLoadNextChunkOnlyAfterFullChunk() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final Query query = Query.builder()
+                .table("test_table")
+                .orderBy("_id")
+                .build();
+
+        final Cursor cursor1 = mock(Cursor.class);
+        when(cursor1.moveToNext()).thenReturn(true, true, false);
+
+        final Cursor cursor2 = mock(Cursor.class);
+        when(cursor2.moveToNext()).thenReturn(true, false);
+
+        final GetResolver<TestItem> getResolver = mock(GetResolver.class);
+        when(getResolver.mapFromCursor(any(Cursor.class))).thenReturn(new TestItem());
+        when(getResolver.performGet(storIOSQLite, query.toBuilder().limit(0, 2).build())).thenReturn(cursor1);
+        when(getResolver.performGet(storIOSQLite, query.toBuilder().limit(2, 2).build())).thenReturn(cursor2);
+
+        final QueryChunks queryChunks = new QueryChunks(storIOSQLite, query, getResolver, 2, null);
+        final CursorIterator<TestItem> iterator = new CursorIterator<TestItem>(queryChunks.load(0), getResolver, queryChunks);
+
+        int numberOfRows = 0;
+
+        while (iterator.hasNext()) {
+            iterator.next();
+            numberOfRows++;
+        }
+
+        assertThat(numberOfRows).isEqualTo(3);
+        assertThat(iterator.numberOfChunks()).isEqualTo(2);
+
+        verify(getResolver).performGet(storIOSQLite, query.toBuilder().limit(0, 2).build());
+        verify(getResolver).performGet(storIOSQLite, query.toBuilder().limit(2, 2).build());
+        verify(getResolver, times(3)).mapFromCursor(any(Cursor.class));
+        verifyNoMoreInteractions(getResolver);
+        verify(cursor1).close();
+        verify(cursor2).close();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void closeShouldStopIterationAndCloseCursorOnlyOnce() {
+        final Cursor cursor = mock(Cursor.class);
+        when(cursor.moveToNext()).thenReturn(true);
+
+        final CursorIterator<TestItem> iterator = new CursorIterator<TestItem>(cursor, mock(GetResolver.class));
+
+        iterator.close();
+        iterator.close();
+
+        assertThat(iterator.hasNext()).isFalse();
+        verify(cursor, times(1)).close();
+        verify(cursor, times(0)).moveToNext();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void removeShouldThrowException() {
+        final CursorIterator<TestItem> iterator = new CursorIterator<TestItem>(mock(Cursor.class), mock(GetResolver.class));
+
+        try {
+            iterator.remove();
+            failBecauseExceptionWasNotThrown(UnsupportedOperationException.class);
+        } catch (UnsupportedOperationException expected) {
+            assertThat(expected).hasMessage("Iterator is read-only, please use Delete Operation");
+        }
+    }
+}
@@ -89,6 +89,8 @@ class GetCursorStub {
     void verifyQueryBehaviorForCursor(@NonNull Cursor actualCursor) {
         assertThat(actualCursor).isNotNull();
         verify(storIOSQLite).get();
+        verify(storIOSQLite).internal();
+        verify(internal).metricsListener();
         verify(getResolverForCursor).performGet(storIOSQLite, query);
         assertThat(actualCursor).isSameAs(cursor);
         verifyNoMoreInteractions(storIOSQLite, internal, cursor);
@@ -112,6 +114,8 @@ class GetCursorStub {
     void verifyRawQueryBehaviorForCursor(@NonNull Cursor actualCursor) {
         assertThat(actualCursor).isNotNull();
         verify(storIOSQLite, times(1)).get();
+        verify(storIOSQLite).internal();
+        verify(internal).metricsListener();
         verify(getResolverForCursor, times(1)).performGet(storIOSQLite, rawQuery);
         assertThat(actualCursor).isSameAs(cursor);
         verifyNoMoreInteractions(storIOSQLite, internal, cursor);
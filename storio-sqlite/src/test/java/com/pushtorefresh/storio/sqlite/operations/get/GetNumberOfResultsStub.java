@@ -96,6 +96,9 @@ class GetNumberOfResultsStub {
     void verifyQueryBehaviorForInteger(@NonNull Integer actualNumberOfResults) {
         assertThat(actualNumberOfResults).isNotNull();
         verify(storIOSQLite).get();
+        verify(storIOSQLite).internal();
+        verify(internal).queryResultsCache();
+        verify(internal).metricsListener();
         verify(getResolverForNumberOfResults).performGet(storIOSQLite, query);
         assertThat(actualNumberOfResults).isSameAs(numberOfResults);
         verify(cursor).close();
@@ -120,6 +123,9 @@ class GetNumberOfResultsStub {
     void verifyRawQueryBehaviorForInteger(@NonNull Integer actualNumberOfResults) {
         assertThat(actualNumberOfResults).isNotNull();
         verify(storIOSQLite).get();
+        verify(storIOSQLite).internal();
+        verify(internal).queryResultsCache();
+        verify(internal).metricsListener();
         verify(getResolverForNumberOfResults).performGet(storIOSQLite, rawQuery);
         assertThat(actualNumberOfResults).isSameAs(numberOfResults);
         verify(cursor).close();
@@ -36,6 +36,12 @@ class GetObjectStub {
     @NonNull
     final Query query;
 
+    /**
+     * Get Operation of object adds {@code LIMIT 1} to the query.
+     */
+    @NonNull
+    private final Query queryWithLimit;
+
     @NonNull
     final RawQuery rawQuery;
 
@@ -67,6 +73,11 @@ class GetObjectStub {
                 .table("test_table")
                 .build();
 
+        queryWithLimit = query
+                .toBuilder()
+                .limit(1)
+                .build();
+
         rawQuery = RawQuery
                 .builder()
                 .query("select * from who_cares")
@@ -102,7 +113,7 @@ class GetObjectStub {
         when(storIOSQLite.observeChangesInTables(rawQuery.observesTables()))
                 .thenReturn(Observable.<Changes>empty());
 
-        when(getResolver.performGet(storIOSQLite, query))
+        when(getResolver.performGet(storIOSQLite, queryWithLimit))
                 .thenReturn(cursor);
 
         when(getResolver.performGet(storIOSQLite, rawQuery))
@@ -135,7 +146,7 @@ class GetObjectStub {
         verify(storIOSQLite).get();
 
         // should be called only once
-        verify(getResolver).performGet(storIOSQLite, query);
+        verify(getResolver).performGet(storIOSQLite, queryWithLimit);
 
         // should be called only once
         verify(getResolver).mapFromCursor(cursor);
@@ -152,10 +163,16 @@ class GetObjectStub {
         // actual item should be equals to expected
         assertThat(actualItem).isEqualTo(item);
 
-        if (withTypeMapping) {
-            // should be called only once because of Performance!
-            verify(storIOSQLite).internal();
+        // should be called only once because of Performance!
+        verify(storIOSQLite).internal();
+
+        // should be called only once
+        verify(internal).queryResultsCache();
 
+        // should be called only once
+        verify(internal).metricsListener();
+
+        if (withTypeMapping) {
             // should be called only once because of Performance!
             verify(internal).typeMapping(TestItem.class);
 
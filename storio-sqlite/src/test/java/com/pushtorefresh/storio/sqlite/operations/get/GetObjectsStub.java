@@ -171,10 +171,16 @@ class GetObjectsStub {
         // list should be immutable!
         assertThatListIsImmutable(actualList);
 
-        if (withTypeMapping) {
-            // should be called only once because of Performance!
-            verify(storIOSQLite).internal();
+        // should be called only once because of Performance!
+        verify(storIOSQLite).internal();
+
+        // should be called only once
+        verify(internal).queryResultsCache();
+
+        // should be called only once
+        verify(internal).metricsListener();
 
+        if (withTypeMapping) {
             // should be called only once because of Performance!
             verify(internal).typeMapping(TestItem.class);
 
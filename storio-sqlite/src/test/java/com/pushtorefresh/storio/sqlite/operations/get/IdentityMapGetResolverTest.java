@@ -0,0 +1,243 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.CharArrayBuffer;
+import android.database.Cursor;
+
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+import com.pushtorefresh.storio.sqlite.queries.RawQuery;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IdentityMapGetResolverTest {
+
+    @SuppressWarnings("unchecked")
+    private final GetResolver<Object> getResolver = mock(GetResolver.class);
+
+    @Test
+    public void maxSizeShouldBePositive() {
+        try {
+            new IdentityMapGetResolver<Object>(getResolver, "_id", 0);
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (IllegalArgumentException expected) {
+            assertThat(expected).hasMessage("maxSize should be > 0, maxSize = 0");
+        }
+    }
+
+    @Test
+    public void shouldReuseObjectOfUnchangedRow() {
+        final IdentityMapGetResolver<Object> identityMapGetResolver
+                = new IdentityMapGetResolver<Object>(getResolver, "_id", 10);
+
+        final Cursor cursor1 = row(1, "value");
+        final Cursor cursor2 = row(1, "value");
+        final Object object = new Object();
+
+        when(getResolver.mapFromCursor(cursor1)).thenReturn(object);
+
+        assertThat(identityMapGetResolver.mapFromCursor(cursor1)).isSameAs(object);
+        assertThat(identityMapGetResolver.mapFromCursor(cursor2)).isSameAs(object);
+
+        verify(getResolver, never()).mapFromCursor(cursor2);
+    }
+
+    @Test
+    public void shouldMapChangedRowAgain() {
+        final IdentityMapGetResolver<Object> identityMapGetResolver
+                = new IdentityMapGetResolver<Object>(getResolver, "_id", 10);
+
+        final Cursor cursor1 = row(1, "value");
+        final Cursor cursor2 = row(1, "changed value");
+        final Object object1 = new Object();
+        final Object object2 = new Object();
+
+        when(getResolver.mapFromCursor(cursor1)).thenReturn(object1);
+        when(getResolver.mapFromCursor(cursor2)).thenReturn(object2);
+
+        assertThat(identityMapGetResolver.mapFromCursor(cursor1)).isSameAs(object1);
+        assertThat(identityMapGetResolver.mapFromCursor(cursor2)).isSameAs(object2);
+        assertThat(identityMapGetResolver.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedObject() {
+        final IdentityMapGetResolver<Object> identityMapGetResolver
+                = new IdentityMapGetResolver<Object>(getResolver, "_id", 2);
+
+        when(getResolver.mapFromCursor(any(Cursor.class))).thenReturn(new Object());
+
+        identityMapGetResolver.mapFromCursor(row(1, "value"));
+        identityMapGetResolver.mapFromCursor(row(2, "value"));
+        identityMapGetResolver.mapFromCursor(row(3, "value"));
+
+        assertThat(identityMapGetResolver.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNotCacheRowsWithoutKeyColumn() {
+        final IdentityMapGetResolver<Object> identityMapGetResolver
+                = new IdentityMapGetResolver<Object>(getResolver, "_id", 10);
+
+        final Cursor cursor = mock(Cursor.class);
+        final Object object = new Object();
+
+        when(cursor.getColumnNames()).thenReturn(new String[]{"value"});
+        when(cursor.getColumnIndex("_id")).thenReturn(-1);
+        when(getResolver.mapFromCursor(cursor)).thenReturn(object);
+
+        assertThat(identityMapGetResolver.mapFromCursor(cursor)).isSameAs(object);
+        assertThat(identityMapGetResolver.mapFromCursor(cursor)).isSameAs(object);
+
+        verify(getResolver, times(2)).mapFromCursor(cursor);
+        assertThat(identityMapGetResolver.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldResolveColumnsOncePerCursor() {
+        final IdentityMapGetResolver<Object> identityMapGetResolver
+                = new IdentityMapGetResolver<Object>(getResolver, "_id", 10);
+
+        final Cursor cursor = row(1, "value");
+
+        when(getResolver.mapFromCursor(cursor)).thenReturn(new Object());
+
+        identityMapGetResolver.mapFromCursor(cursor);
+        identityMapGetResolver.mapFromCursor(cursor);
+        identityMapGetResolver.mapFromCursor(cursor);
+
+        verify(cursor).getColumnIndex("_id");
+        verify(cursor).getColumnNames();
+    }
+
+    @Test
+    public void shouldNotReadStringsForChecksum() {
+        final IdentityMapGetResolver<Object> identityMapGetResolver
+                = new IdentityMapGetResolver<Object>(getResolver, "_id", 10);
+
+        final Cursor cursor = row(1, "value");
+
+        when(getResolver.mapFromCursor(cursor)).thenReturn(new Object());
+
+        identityMapGetResolver.mapFromCursor(cursor);
+
+        verify(cursor, never()).getString(1);
+    }
+
+    @Test
+    public void shouldCompareVersionColumnInsteadOfChecksum() {
+        final IdentityMapGetResolver<Object> identityMapGetResolver
+                = new IdentityMapGetResolver<Object>(getResolver, "_id", "version", 10);
+
+        final Cursor cursor1 = versionedRow(1, 1);
+        final Cursor cursor2 = versionedRow(1, 1);
+        final Cursor cursor3 = versionedRow(1, 2);
+        final Object object1 = new Object();
+        final Object object3 = new Object();
+
+        when(getResolver.mapFromCursor(cursor1)).thenReturn(object1);
+        when(getResolver.mapFromCursor(cursor3)).thenReturn(object3);
+
+        assertThat(identityMapGetResolver.mapFromCursor(cursor1)).isSameAs(object1);
+        assertThat(identityMapGetResolver.mapFromCursor(cursor2)).isSameAs(object1);
+        assertThat(identityMapGetResolver.mapFromCursor(cursor3)).isSameAs(object3);
+
+        verify(getResolver, never()).mapFromCursor(cursor2);
+        verify(cursor1, never()).getType(2);
+    }
+
+    @Test
+    public void shouldMapRowWithDifferentColumnsAgain() {
+        final IdentityMapGetResolver<Object> identityMapGetResolver
+                = new IdentityMapGetResolver<Object>(getResolver, "_id", 10);
+
+        final Cursor cursor1 = row(1, "value");
+        final Cursor cursor2 = row(1, "value");
+        when(cursor2.getColumnNames()).thenReturn(new String[]{"_id", "other_value"});
+
+        final Object object1 = new Object();
+        final Object object2 = new Object();
+
+        when(getResolver.mapFromCursor(cursor1)).thenReturn(object1);
+        when(getResolver.mapFromCursor(cursor2)).thenReturn(object2);
+
+        assertThat(identityMapGetResolver.mapFromCursor(cursor1)).isSameAs(object1);
+        assertThat(identityMapGetResolver.mapFromCursor(cursor2)).isSameAs(object2);
+    }
+
+    @Test
+    public void keyColumnShouldReturnKeyColumn() {
+        assertThat(new IdentityMapGetResolver<Object>(getResolver, "_id", 10).keyColumn()).isEqualTo("_id");
+    }
+
+    @Test
+    public void shouldDelegatePerformGet() {
+        final IdentityMapGetResolver<Object> identityMapGetResolver
+                = new IdentityMapGetResolver<Object>(getResolver, "_id", 10);
+
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final Query query = Query.builder().table("test_table").build();
+        final RawQuery rawQuery = RawQuery.builder().query("SELECT * FROM test_table").build();
+        final Cursor cursor = mock(Cursor.class);
+
+        when(getResolver.performGet(storIOSQLite, query)).thenReturn(cursor);
+        when(getResolver.performGet(storIOSQLite, rawQuery)).thenReturn(cursor);
+
+        assertThat(identityMapGetResolver.performGet(storIOSQLite, query)).isSameAs(cursor);
+        assertThat(identityMapGetResolver.performGet(storIOSQLite, rawQuery)).isSameAs(cursor);
+    }
+
+    private static Cursor row(long id, final String value) {
+        final Cursor cursor = mock(Cursor.class);
+
+        when(cursor.getColumnNames()).thenReturn(new String[]{"_id", "value"});
+        when(cursor.getColumnCount()).thenReturn(2);
+        when(cursor.getColumnIndex("_id")).thenReturn(0);
+
+        when(cursor.getType(0)).thenReturn(Cursor.FIELD_TYPE_INTEGER);
+        when(cursor.getLong(0)).thenReturn(id);
+
+        when(cursor.getType(1)).thenReturn(Cursor.FIELD_TYPE_STRING);
+        when(cursor.getString(1)).thenReturn(value);
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                final CharArrayBuffer buffer = (CharArrayBuffer) invocation.getArguments()[1];
+                buffer.data = value.toCharArray();
+                buffer.sizeCopied = value.length();
+                return null;
+            }
+        }).when(cursor).copyStringToBuffer(eq(1), any(CharArrayBuffer.class));
+
+        return cursor;
+    }
+
+    private static Cursor versionedRow(long id, long version) {
+        final Cursor cursor = mock(Cursor.class);
+
+        when(cursor.getColumnNames()).thenReturn(new String[]{"_id", "version", "value"});
+        when(cursor.getColumnCount()).thenReturn(3);
+        when(cursor.getColumnIndex("_id")).thenReturn(0);
+        when(cursor.getColumnIndex("version")).thenReturn(1);
+
+        when(cursor.getType(0)).thenReturn(Cursor.FIELD_TYPE_INTEGER);
+        when(cursor.getLong(0)).thenReturn(id);
+
+        when(cursor.getType(1)).thenReturn(Cursor.FIELD_TYPE_INTEGER);
+        when(cursor.getLong(1)).thenReturn(version);
+
+        return cursor;
+    }
+}
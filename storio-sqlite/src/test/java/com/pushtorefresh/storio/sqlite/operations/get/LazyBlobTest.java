@@ -0,0 +1,120 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.Cursor;
+
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class LazyBlobTest {
+
+    @Test
+    public void shouldCreateQueryForValue() {
+        final LazyBlob lazyBlob = LazyBlob.newInstance("test_table", "_id", "1", "image");
+
+        assertThat(lazyBlob.query()).isEqualTo(Query.builder()
+                .table("test_table")
+                .columns("image")
+                .where("_id = ?")
+                .whereArgs("1")
+                .build());
+    }
+
+    @Test
+    public void shouldLoadValueOnlyOnce() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+        final Cursor cursor = mock(Cursor.class);
+        final byte[] value = new byte[]{1, 2, 3};
+
+        final LazyBlob lazyBlob = LazyBlob.newInstance("test_table", "_id", "1", "image");
+
+        when(storIOSQLite.get()).thenReturn(new PreparedGet.Builder(storIOSQLite));
+        when(storIOSQLite.internal()).thenReturn(internal);
+        when(internal.query(lazyBlob.query())).thenReturn(cursor);
+        when(cursor.moveToFirst()).thenReturn(true);
+        when(cursor.getBlob(0)).thenReturn(value);
+
+        assertThat(lazyBlob.isLoaded()).isFalse();
+
+        assertThat(lazyBlob.get(storIOSQLite)).isSameAs(value);
+        assertThat(lazyBlob.get(storIOSQLite)).isSameAs(value);
+        assertThat(lazyBlob.isLoaded()).isTrue();
+        assertThat(lazyBlob.value()).isSameAs(value);
+
+        verify(internal, times(1)).query(lazyBlob.query());
+        verify(cursor).close();
+    }
+
+    @Test
+    public void shouldLoadValueWithoutHoldingLock() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+        final Cursor cursor = mock(Cursor.class);
+
+        final LazyBlob lazyBlob = LazyBlob.newInstance("test_table", "_id", "1", "image");
+
+        when(storIOSQLite.get()).thenReturn(new PreparedGet.Builder(storIOSQLite));
+        when(storIOSQLite.internal()).thenReturn(internal);
+        when(internal.query(lazyBlob.query())).thenAnswer(new Answer<Cursor>() {
+            @Override
+            public Cursor answer(InvocationOnMock invocation) throws Throwable {
+                assertThat(Thread.holdsLock(lazyBlob)).isFalse();
+                return cursor;
+            }
+        });
+
+        assertThat(lazyBlob.get(storIOSQLite)).isNull();
+        verify(internal).query(lazyBlob.query());
+    }
+
+    @Test
+    public void shouldReturnNullIfRowDoesNotExist() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+        final Cursor cursor = mock(Cursor.class);
+
+        final LazyBlob lazyBlob = LazyBlob.newInstance("test_table", "_id", "1", "image");
+
+        when(storIOSQLite.get()).thenReturn(new PreparedGet.Builder(storIOSQLite));
+        when(storIOSQLite.internal()).thenReturn(internal);
+        when(internal.query(lazyBlob.query())).thenReturn(cursor);
+        when(cursor.moveToFirst()).thenReturn(false);
+
+        assertThat(lazyBlob.get(storIOSQLite)).isNull();
+        assertThat(lazyBlob.isLoaded()).isTrue();
+    }
+
+    @Test
+    public void loadedInstanceShouldNotQueryDb() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final byte[] value = new byte[]{1};
+
+        final LazyBlob lazyBlob = LazyBlob.newLoadedInstance(value);
+
+        assertThat(lazyBlob.isLoaded()).isTrue();
+        assertThat(lazyBlob.get(storIOSQLite)).isSameAs(value);
+        verifyZeroInteractions(storIOSQLite);
+    }
+
+    @Test
+    public void valueShouldThrowIfNotLoaded() {
+        try {
+            LazyBlob.newInstance("test_table", "_id", "1", "image").value();
+            failBecauseExceptionWasNotThrown(IllegalStateException.class);
+        } catch (IllegalStateException expected) {
+            assertThat(expected).hasMessage("Value is not loaded, please use get(StorIOSQLite), column = image");
+        }
+    }
+}
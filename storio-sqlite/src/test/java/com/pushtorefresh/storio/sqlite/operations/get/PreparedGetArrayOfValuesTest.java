@@ -0,0 +1,127 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.Cursor;
+
+import com.pushtorefresh.storio.StorIOException;
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+import com.pushtorefresh.storio.sqlite.queries.RawQuery;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PreparedGetArrayOfValuesTest {
+
+    @Test
+    public void shouldGetArrayWithQueryBlocking() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+        final Cursor cursor = mock(Cursor.class);
+
+        when(storIOSQLite.internal()).thenReturn(internal);
+
+        final Query query = Query.builder()
+                .table("test_table")
+                .columns("_id")
+                .build();
+
+        when(internal.query(query)).thenReturn(cursor);
+        when(cursor.getCount()).thenReturn(2);
+        when(cursor.moveToNext()).thenReturn(true, true, false);
+        when(cursor.getLong(0)).thenReturn(1L, 2L);
+
+        final long[] ids = new PreparedGet.Builder(storIOSQLite)
+                .arrayOfLongs()
+                .withQuery(query)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(ids).containsExactly(1L, 2L);
+        verify(cursor).close();
+    }
+
+    @Test
+    public void shouldGetArrayWithRawQueryBlocking() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+        final Cursor cursor = mock(Cursor.class);
+
+        when(storIOSQLite.internal()).thenReturn(internal);
+
+        final RawQuery rawQuery = RawQuery.builder()
+                .query("SELECT name FROM test_table")
+                .build();
+
+        when(internal.rawQuery(rawQuery)).thenReturn(cursor);
+        when(cursor.getCount()).thenReturn(2);
+        when(cursor.moveToNext()).thenReturn(true, true, false);
+        when(cursor.getString(0)).thenReturn("a", null);
+
+        final String[] names = new PreparedGet.Builder(storIOSQLite)
+                .arrayOfStrings()
+                .withQuery(rawQuery)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(names).containsExactly("a", null);
+        verify(cursor).close();
+    }
+
+    @Test
+    public void standardGetResolversShouldReadFirstColumn() {
+        final Cursor cursor = mock(Cursor.class);
+
+        when(cursor.getCount()).thenReturn(1);
+        when(cursor.getInt(0)).thenReturn(42);
+        when(cursor.getDouble(0)).thenReturn(4.2);
+
+        when(cursor.moveToNext()).thenReturn(true, false);
+        assertThat(PreparedGetArrayOfValues.INTS_GET_RESOLVER.mapFromCursor(cursor)).containsExactly(42);
+
+        when(cursor.moveToNext()).thenReturn(true, false);
+        assertThat(PreparedGetArrayOfValues.DOUBLES_GET_RESOLVER.mapFromCursor(cursor)).containsExactly(4.2);
+    }
+
+    @Test
+    public void shouldReturnEmptyArrayForEmptyCursor() {
+        final Cursor cursor = mock(Cursor.class);
+
+        when(cursor.getCount()).thenReturn(0);
+        when(cursor.moveToNext()).thenReturn(false);
+
+        assertThat(PreparedGetArrayOfValues.LONGS_GET_RESOLVER.mapFromCursor(cursor)).isEmpty();
+    }
+
+    @Test
+    public void shouldWrapExceptionIntoStorIOExceptionForBlocking() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        when(storIOSQLite.internal()).thenReturn(mock(StorIOSQLite.Internal.class));
+
+        //noinspection unchecked
+        final GetResolver<long[]> getResolver = mock(GetResolver.class);
+
+        when(getResolver.performGet(eq(storIOSQLite), any(Query.class)))
+                .thenThrow(new IllegalStateException("test exception"));
+
+        try {
+            new PreparedGet.Builder(storIOSQLite)
+                    .arrayOfLongs()
+                    .withQuery(Query.builder().table("test_table").build())
+                    .withGetResolver(getResolver)
+                    .prepare()
+                    .executeAsBlocking();
+
+            failBecauseExceptionWasNotThrown(StorIOException.class);
+        } catch (StorIOException expected) {
+            IllegalStateException cause = (IllegalStateException) expected.getCause();
+            assertThat(cause).hasMessage("test exception");
+        }
+    }
+}
@@ -88,6 +88,7 @@ public class PreparedGetCursorTest {
     @Test
     public void shouldWrapExceptionIntoStorIOExceptionForBlocking() {
         final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        when(storIOSQLite.internal()).thenReturn(mock(StorIOSQLite.Internal.class));
 
         //noinspection unchecked
         final GetResolver<Cursor> getResolver = mock(GetResolver.class);
@@ -112,6 +113,7 @@ public class PreparedGetCursorTest {
     @Test
     public void shouldWrapExceptionIntoStorIOExceptionForObservable() {
         final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        when(storIOSQLite.internal()).thenReturn(mock(StorIOSQLite.Internal.class));
 
         when(storIOSQLite.observeChangesInTables(eq(singleton("test_table"))))
                 .thenReturn(Observable.<Changes>empty());
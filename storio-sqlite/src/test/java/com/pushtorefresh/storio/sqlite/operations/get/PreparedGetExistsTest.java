@@ -0,0 +1,171 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.Cursor;
+
+import com.pushtorefresh.storio.StorIOException;
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+import com.pushtorefresh.storio.sqlite.queries.RawQuery;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PreparedGetExistsTest {
+
+    @Test
+    public void shouldCheckExistenceWithQueryBlocking() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        when(storIOSQLite.internal()).thenReturn(mock(StorIOSQLite.Internal.class));
+        final Query query = Query.builder().table("test_table").build();
+        final Cursor cursor = mock(Cursor.class);
+
+        //noinspection unchecked
+        final GetResolver<Boolean> getResolver = mock(GetResolver.class);
+
+        when(getResolver.performGet(storIOSQLite, query)).thenReturn(cursor);
+        when(getResolver.mapFromCursor(cursor)).thenReturn(true);
+
+        final Boolean exists = new PreparedGetExists.Builder(storIOSQLite)
+                .withQuery(query)
+                .withGetResolver(getResolver)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(exists).isTrue();
+        verify(getResolver).performGet(storIOSQLite, query);
+        verify(cursor).close();
+    }
+
+    @Test
+    public void shouldCheckExistenceWithRawQueryBlocking() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        when(storIOSQLite.internal()).thenReturn(mock(StorIOSQLite.Internal.class));
+        final RawQuery rawQuery = RawQuery.builder().query("SELECT 1 FROM test_table LIMIT 1").build();
+        final Cursor cursor = mock(Cursor.class);
+
+        //noinspection unchecked
+        final GetResolver<Boolean> getResolver = mock(GetResolver.class);
+
+        when(getResolver.performGet(storIOSQLite, rawQuery)).thenReturn(cursor);
+        when(getResolver.mapFromCursor(cursor)).thenReturn(false);
+
+        final Boolean exists = new PreparedGetExists.Builder(storIOSQLite)
+                .withQuery(rawQuery)
+                .withGetResolver(getResolver)
+                .prepare()
+                .executeAsBlocking();
+
+        assertThat(exists).isFalse();
+        verify(getResolver).performGet(storIOSQLite, rawQuery);
+        verify(cursor).close();
+    }
+
+    @Test
+    public void shouldWrapExceptionIntoStorIOExceptionForBlocking() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        when(storIOSQLite.internal()).thenReturn(mock(StorIOSQLite.Internal.class));
+
+        //noinspection unchecked
+        final GetResolver<Boolean> getResolver = mock(GetResolver.class);
+
+        when(getResolver.performGet(eq(storIOSQLite), any(Query.class)))
+                .thenThrow(new IllegalStateException("test exception"));
+
+        try {
+            new PreparedGetExists.Builder(storIOSQLite)
+                    .withQuery(Query.builder().table("test_table").build())
+                    .withGetResolver(getResolver)
+                    .prepare()
+                    .executeAsBlocking();
+
+            failBecauseExceptionWasNotThrown(StorIOException.class);
+        } catch (StorIOException expected) {
+            IllegalStateException cause = (IllegalStateException) expected.getCause();
+            assertThat(cause).hasMessage("test exception");
+        }
+    }
+
+    @Test
+    public void standardGetResolverShouldQueryOneRowWithoutColumns() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+        final Cursor cursor = mock(Cursor.class);
+
+        when(storIOSQLite.internal()).thenReturn(internal);
+
+        final Query query = Query.builder()
+                .table("test_table")
+                .columns("column_1", "column_2")
+                .where("column_1 = ?")
+                .whereArgs("value")
+                .orderBy("column_2")
+                .build();
+
+        final Query expectedQuery = Query.builder()
+                .table("test_table")
+                .columns("1")
+                .where("column_1 = ?")
+                .whereArgs("value")
+                .limit(1)
+                .build();
+
+        when(internal.query(expectedQuery)).thenReturn(cursor);
+
+        assertThat(PreparedGetExists.CompleteBuilder.STANDARD_GET_RESOLVER.performGet(storIOSQLite, query))
+                .isSameAs(cursor);
+    }
+
+    @Test
+    public void existsQueryShouldKeepLimitAndColumnsOfGroupBy() {
+        final Query query = Query.builder()
+                .table("test_table")
+                .columns("column_1")
+                .groupBy("column_1")
+                .having("COUNT(*) > 1")
+                .orderBy("column_1")
+                .limit(5, 1)
+                .build();
+
+        assertThat(PreparedGetExists.existsQueryOf(query)).isEqualTo(query);
+    }
+
+    @Test
+    public void standardGetResolverShouldReturnTrueIfCursorHasRows() {
+        final Cursor cursor = mock(Cursor.class);
+
+        when(cursor.moveToFirst()).thenReturn(true);
+
+        assertThat(PreparedGetExists.CompleteBuilder.STANDARD_GET_RESOLVER.mapFromCursor(cursor)).isTrue();
+    }
+
+    @Test
+    public void standardGetResolverShouldReturnFalseIfCursorIsEmpty() {
+        final Cursor cursor = mock(Cursor.class);
+
+        when(cursor.moveToFirst()).thenReturn(false);
+
+        assertThat(PreparedGetExists.CompleteBuilder.STANDARD_GET_RESOLVER.mapFromCursor(cursor)).isFalse();
+    }
+
+    @Test
+    public void completeBuilderShouldThrowExceptionIfNoQueryWasSet() {
+        final PreparedGetExists.CompleteBuilder completeBuilder = new PreparedGetExists.Builder(mock(StorIOSQLite.class))
+                .withQuery(Query.builder().table("test_table").build()); // We will null it later
+
+        completeBuilder.query = null;
+
+        try {
+            completeBuilder.prepare();
+            failBecauseExceptionWasNotThrown(IllegalStateException.class);
+        } catch (IllegalStateException expected) {
+            assertThat(expected).hasMessage("Please specify query");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import android.database.Cursor;
+import android.support.annotation.NonNull;
+
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+
+import org.junit.Test;
+
+import rx.observers.TestSubscriber;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PreparedGetIteratorOfObjectsTest {
+
+    @NonNull
+    private final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+
+    @NonNull
+    private final Cursor cursor = mock(Cursor.class);
+
+    @NonNull
+    private final Query query = Query.builder().table("test_table").build();
+
+    @SuppressWarnings("unchecked")
+    @NonNull
+    private final GetResolver<String> getResolver = mock(GetResolver.class);
+
+    @NonNull
+    private PreparedGetIteratorOfObjects<String> prepareGet() {
+        when(storIOSQLite.internal())
+                .thenReturn(mock(StorIOSQLite.Internal.class));
+
+        when(getResolver.performGet(storIOSQLite, query))
+                .thenReturn(cursor);
+
+        when(cursor.moveToNext())
+                .thenReturn(true, true, false);
+
+        return new PreparedGet.Builder(storIOSQLite)
+                .iteratorOfObjects(String.class)
+                .withQuery(query)
+                .withGetResolver(getResolver)
+                .prepare();
+    }
+
+    @Test
+    public void createObservableShouldEmitObjectsAndCloseCursorOnCompletion() {
+        when(getResolver.mapFromCursor(cursor))
+                .thenReturn("1", "2");
+
+        final TestSubscriber<String> testSubscriber = new TestSubscriber<String>();
+
+        prepareGet()
+                .createObservable()
+                .subscribe(testSubscriber);
+
+        testSubscriber.assertValues("1", "2");
+        testSubscriber.assertCompleted();
+        testSubscriber.assertNoErrors();
+
+        verify(cursor).close();
+    }
+
+    @Test
+    public void createObservableShouldMapOnlyRequestedRowsAndCloseCursorOnUnsubscribe() {
+        when(getResolver.mapFromCursor(cursor))
+                .thenReturn("1", "2");
+
+        final TestSubscriber<String> testSubscriber = new TestSubscriber<String>() {
+            @Override
+            public void onStart() {
+                request(1);
+            }
+        };
+
+        prepareGet()
+                .createObservable()
+                .subscribe(testSubscriber);
+
+        testSubscriber.assertValue("1");
+        testSubscriber.assertNoTerminalEvent();
+
+        verify(getResolver).mapFromCursor(cursor);
+        verify(cursor, never()).close();
+
+        testSubscriber.unsubscribe();
+
+        verify(cursor).close();
+    }
+
+    @Test
+    public void createObservableShouldCloseCursorOnError() {
+        final IllegalStateException mappingException = new IllegalStateException("test exception");
+
+        when(getResolver.mapFromCursor(cursor))
+                .thenThrow(mappingException);
+
+        final TestSubscriber<String> testSubscriber = new TestSubscriber<String>();
+
+        prepareGet()
+                .createObservable()
+                .subscribe(testSubscriber);
+
+        testSubscriber.assertNoValues();
+        testSubscriber.assertError(mappingException);
+
+        verify(cursor).close();
+    }
+}
@@ -312,7 +312,9 @@ public class PreparedGetListOfObjectsTest {
                     mock(StorIOSQLite.class),
                     Object.class,
                     (Query) null,
-                    (GetResolver<Object>) mock(GetResolver.class)
+                    (GetResolver<Object>) mock(GetResolver.class),
+                    false,
+                    false
             );
 
             try {
@@ -332,7 +334,9 @@ public class PreparedGetListOfObjectsTest {
                     mock(StorIOSQLite.class),
                     Object.class,
                     (Query) null,
-                    (GetResolver<Object>) mock(GetResolver.class)
+                    (GetResolver<Object>) mock(GetResolver.class),
+                    false,
+                    false
             );
 
             try {
@@ -347,6 +351,9 @@ public class PreparedGetListOfObjectsTest {
         @Test
         public void cursorMustBeClosedInCaseOfExceptionForExecuteAsBlocking() {
             final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+            final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+            when(storIOSQLite.internal()).thenReturn(internal);
 
             //noinspection unchecked
             final GetResolver<Object> getResolver = mock(GetResolver.class);
@@ -368,7 +375,9 @@ public class PreparedGetListOfObjectsTest {
                             storIOSQLite,
                             Object.class,
                             Query.builder().table("test_table").build(),
-                            getResolver
+                            getResolver,
+                            false,
+                            false
                     );
 
             try {
@@ -381,6 +390,8 @@ public class PreparedGetListOfObjectsTest {
                 // Cursor must be closed in case of exception
                 verify(cursor).close();
 
+                verify(storIOSQLite).internal();
+                verify(internal).queryResultsCache();
                 verify(getResolver).performGet(eq(storIOSQLite), any(Query.class));
                 verify(getResolver).mapFromCursor(cursor);
                 verify(cursor).getCount();
@@ -393,6 +404,9 @@ public class PreparedGetListOfObjectsTest {
         @Test
         public void cursorMustBeClosedInCaseOfExceptionForObservable() {
             final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+            final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+            when(storIOSQLite.internal()).thenReturn(internal);
 
             when(storIOSQLite.observeChangesInTables(eq(singleton("test_table"))))
                     .thenReturn(Observable.<Changes>empty());
@@ -417,7 +431,9 @@ public class PreparedGetListOfObjectsTest {
                             storIOSQLite,
                             Object.class,
                             Query.builder().table("test_table").build(),
-                            getResolver
+                            getResolver,
+                            false,
+                            false
                     );
 
             final TestSubscriber<List<Object>> testSubscriber = new TestSubscriber<List<Object>>();
@@ -441,6 +457,8 @@ public class PreparedGetListOfObjectsTest {
 
             //noinspection unchecked
             verify(storIOSQLite).observeChangesInTables(anySet());
+            verify(storIOSQLite).internal();
+            verify(internal).queryResultsCache();
             verify(getResolver).performGet(eq(storIOSQLite), any(Query.class));
             verify(getResolver).mapFromCursor(cursor);
             verify(cursor).getCount();
@@ -89,6 +89,8 @@ public class PreparedGetNumberOfResultsTest {
     public void shouldWrapExceptionIntoStorIOExceptionForBlocking() {
         final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
 
+        when(storIOSQLite.internal()).thenReturn(mock(StorIOSQLite.Internal.class));
+
         //noinspection unchecked
         final GetResolver<Integer> getResolver = mock(GetResolver.class);
 
@@ -113,6 +115,8 @@ public class PreparedGetNumberOfResultsTest {
     public void shouldWrapExceptionIntoStorIOExceptionForObservable() {
         final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
 
+        when(storIOSQLite.internal()).thenReturn(mock(StorIOSQLite.Internal.class));
+
         when(storIOSQLite.observeChangesInTables(eq(singleton("test_table"))))
                 .thenReturn(Observable.<Changes>empty());
 
@@ -161,7 +165,7 @@ public class PreparedGetNumberOfResultsTest {
     public void executeAsBlockingShouldThrowExceptionIfNoQueryWasSet() {
         //noinspection unchecked,ConstantConditions
         PreparedGetNumberOfResults preparedGetNumberOfResults
-                = new PreparedGetNumberOfResults(mock(StorIOSQLite.class), (Query) null, (GetResolver<Integer>) mock(GetResolver.class));
+                = new PreparedGetNumberOfResults(mock(StorIOSQLite.class), (Query) null, (GetResolver<Integer>) mock(GetResolver.class), false);
 
         try {
             preparedGetNumberOfResults.executeAsBlocking();
@@ -176,7 +180,7 @@ public class PreparedGetNumberOfResultsTest {
     public void createObservableShouldThrowExceptionIfNoQueryWasSet() {
         //noinspection unchecked,ConstantConditions
         PreparedGetNumberOfResults preparedGetNumberOfResults
-                = new PreparedGetNumberOfResults(mock(StorIOSQLite.class), (Query) null, (GetResolver<Integer>) mock(GetResolver.class));
+                = new PreparedGetNumberOfResults(mock(StorIOSQLite.class), (Query) null, (GetResolver<Integer>) mock(GetResolver.class), false);
 
         try {
             preparedGetNumberOfResults.createObservable();
@@ -197,4 +201,26 @@ public class PreparedGetNumberOfResultsTest {
 
         assertThat(standardGetResolver.mapFromCursor(cursor)).isEqualTo(12314);
     }
+
+    @Test
+    public void verifyThatCountGetResolverReturnsValueOfFirstRow() {
+        final GetResolver<Integer> countGetResolver
+                = PreparedGetNumberOfResults.CompleteBuilder.COUNT_GET_RESOLVER;
+
+        final Cursor cursor = mock(Cursor.class);
+
+        when(cursor.moveToFirst()).thenReturn(true);
+        when(cursor.getInt(0)).thenReturn(12314);
+
+        assertThat(countGetResolver.mapFromCursor(cursor)).isEqualTo(12314);
+    }
+
+    @Test
+    public void countGetResolverShouldReturnZeroForEmptyCursor() {
+        final Cursor cursor = mock(Cursor.class);
+
+        when(cursor.moveToFirst()).thenReturn(false);
+
+        assertThat(PreparedGetNumberOfResults.CompleteBuilder.COUNT_GET_RESOLVER.mapFromCursor(cursor)).isEqualTo(0);
+    }
 }
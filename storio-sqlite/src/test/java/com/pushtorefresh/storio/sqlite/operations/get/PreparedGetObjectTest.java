@@ -324,7 +324,9 @@ public class PreparedGetObjectTest {
                     mock(StorIOSQLite.class),
                     Object.class,
                     (Query) null,
-                    (GetResolver<Object>) mock(GetResolver.class)
+                    (GetResolver<Object>) mock(GetResolver.class),
+                    false,
+                    false
             );
 
             try {
@@ -344,7 +346,9 @@ public class PreparedGetObjectTest {
                     mock(StorIOSQLite.class),
                     Object.class,
                     (Query) null,
-                    (GetResolver<Object>) mock(GetResolver.class)
+                    (GetResolver<Object>) mock(GetResolver.class),
+                    false,
+                    false
             );
 
             try {
@@ -361,6 +365,9 @@ public class PreparedGetObjectTest {
         @Test
         public void cursorMustBeClosedInCaseOfExceptionForExecuteAsBlocking() {
             final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+            final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+            when(storIOSQLite.internal()).thenReturn(internal);
 
             //noinspection unchecked
             final GetResolver<Object> getResolver = mock(GetResolver.class);
@@ -382,7 +389,9 @@ public class PreparedGetObjectTest {
                             storIOSQLite,
                             Object.class,
                             Query.builder().table("test_table").build(),
-                            getResolver
+                            getResolver,
+                            false,
+                            false
                     );
 
             try {
@@ -395,6 +404,8 @@ public class PreparedGetObjectTest {
                 // Cursor must be closed in case of exception
                 verify(cursor).close();
 
+                verify(storIOSQLite).internal();
+                verify(internal).queryResultsCache();
                 verify(getResolver).performGet(eq(storIOSQLite), any(Query.class));
                 verify(getResolver).mapFromCursor(cursor);
                 verify(cursor).getCount();
@@ -407,6 +418,9 @@ public class PreparedGetObjectTest {
         @Test
         public void cursorMustBeClosedInCaseOfExceptionForObservable() {
             final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+            final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+            when(storIOSQLite.internal()).thenReturn(internal);
 
             when(storIOSQLite.observeChangesInTables(eq(singleton("test_table"))))
                     .thenReturn(Observable.<Changes>empty());
@@ -431,7 +445,9 @@ public class PreparedGetObjectTest {
                             storIOSQLite,
                             Object.class,
                             Query.builder().table("test_table").build(),
-                            getResolver
+                            getResolver,
+                            false,
+                            false
                     );
 
             final TestSubscriber<Object> testSubscriber = new TestSubscriber<Object>();
@@ -455,6 +471,8 @@ public class PreparedGetObjectTest {
 
             //noinspection unchecked
             verify(storIOSQLite).observeChangesInTables(anySet());
+            verify(storIOSQLite).internal();
+            verify(internal).queryResultsCache();
             verify(getResolver).performGet(eq(storIOSQLite), any(Query.class));
             verify(getResolver).mapFromCursor(cursor);
             verify(cursor).getCount();
@@ -0,0 +1,78 @@
+package com.pushtorefresh.storio.sqlite.operations.get;
+
+import com.pushtorefresh.storio.sqlite.Changes;
+import com.pushtorefresh.storio.sqlite.StorIOSQLite;
+import com.pushtorefresh.storio.sqlite.queries.Query;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import rx.Observable;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class RowChangesFilterTest {
+
+    @SuppressWarnings("unchecked")
+    private final GetResolver<Object> getResolver = mock(GetResolver.class);
+
+    private final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+
+    // Change of other row
+    private final Changes changes = Changes.newInstance("test_table", "_id", singletonList(2L));
+
+    @Test
+    public void shouldSkipChangesOfOtherRowsIfQuerySelectsRowByKeyColumnOfResolver() {
+        when(getResolver.keyColumn()).thenReturn("_id");
+
+        assertThat(filter(queryBy("_id"))).isEmpty();
+    }
+
+    @Test
+    public void shouldNotFilterChangesIfResolverDoesNotKnowKeyColumn() {
+        when(getResolver.keyColumn()).thenReturn(null);
+
+        assertThat(filter(queryBy("_id"))).containsExactly(changes);
+    }
+
+    @Test
+    public void shouldNotFilterChangesIfQuerySelectsRowsByOtherColumn() {
+        when(getResolver.keyColumn()).thenReturn("_id");
+
+        assertThat(filter(queryBy("other_id"))).containsExactly(changes);
+    }
+
+    @Test
+    public void shouldNotLookUpResolverIfQueryDoesNotSelectRowByKey() {
+        final Query query = Query.builder().table("test_table").build();
+
+        assertThat(RowChangesFilter
+                .apply(Observable.just(changes), query, storIOSQLite, Object.class, null)
+                .toList()
+                .toBlocking()
+                .first()).containsExactly(changes);
+
+        verifyZeroInteractions(storIOSQLite);
+    }
+
+    private List<Changes> filter(Query query) {
+        return RowChangesFilter
+                .apply(Observable.just(changes), query, storIOSQLite, Object.class, getResolver)
+                .toList()
+                .toBlocking()
+                .first();
+    }
+
+    private static Query queryBy(String column) {
+        return Query.builder()
+                .table("test_table")
+                .where(column + " = ?")
+                .whereArgs(1L)
+                .build();
+    }
+}
@@ -220,6 +220,129 @@ public class DefaultPutResolverTest {
         assertThat(putResult.insertedId()).isNull();
     }
 
+    /**
+     * Verifies behavior of {@link DefaultPutResolver} in "upsert" mode for "update"
+     */
+    @Test
+    public void upsertShouldUpdateWithoutQuery() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+        final TestItem testItem = new TestItem(1L);
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        final UpdateQuery expectedUpdateQuery = UpdateQuery.builder()
+                .table(TestItem.TABLE)
+                .where(TestItem.COLUMN_ID + " = ?")
+                .whereArgs(testItem.getId())
+                .build();
+
+        final ContentValues expectedContentValues = TestItem.MAP_TO_CONTENT_VALUES.call(testItem);
+
+        when(internal.update(eq(expectedUpdateQuery), eq(expectedContentValues)))
+                .thenReturn(1);
+
+        final PutResolver<TestItem> putResolver = new UpsertTestItemPutResolver() {
+            @NonNull
+            @Override
+            protected InsertQuery mapToInsertQuery(@NonNull TestItem object) {
+                fail("Should not be called");
+                return null;
+            }
+        };
+
+        final PutResult putResult = putResolver.performPut(storIOSQLite, testItem);
+
+        verify(internal, times(1)).beginTransaction();
+        verify(internal, times(1)).setTransactionSuccessful();
+        verify(internal, times(1)).endTransaction();
+
+        // existence check query should not occur
+        verify(internal, times(0)).query(any(Query.class));
+
+        verify(internal, times(1)).update(eq(expectedUpdateQuery), eq(expectedContentValues));
+        verify(internal, times(0)).insert(any(InsertQuery.class), any(ContentValues.class));
+
+        assertThat(putResult.wasUpdated()).isTrue();
+        assertThat(putResult.wasInserted()).isFalse();
+        assertThat(putResult.numberOfRowsUpdated()).isEqualTo(1);
+    }
+
+    /**
+     * Verifies behavior of {@link DefaultPutResolver} in "upsert" mode for "insert"
+     */
+    @Test
+    public void upsertShouldInsertIfNothingWasUpdated() {
+        final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+        final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+        final TestItem testItem = new TestItem(2L);
+
+        when(storIOSQLite.internal())
+                .thenReturn(internal);
+
+        final ContentValues expectedContentValues = TestItem.MAP_TO_CONTENT_VALUES.call(testItem);
+
+        when(internal.update(any(UpdateQuery.class), eq(expectedContentValues)))
+                .thenReturn(0); // Nothing was updated -> insert should be performed
+
+        final InsertQuery expectedInsertQuery = InsertQuery.builder()
+                .table(TestItem.TABLE)
+                .build();
+
+        when(internal.insert(eq(expectedInsertQuery), eq(expectedContentValues)))
+                .thenReturn(2L);
+
+        final PutResolver<TestItem> putResolver = new UpsertTestItemPutResolver() {
+            @NonNull
+            @Override
+            protected InsertQuery mapToInsertQuery(@NonNull TestItem object) {
+                return expectedInsertQuery;
+            }
+        };
+
+        final PutResult putResult = putResolver.performPut(storIOSQLite, testItem);
+
+        verify(internal, times(1)).beginTransaction();
+        verify(internal, times(1)).setTransactionSuccessful();
+        verify(internal, times(1)).endTransaction();
+
+        // existence check query should not occur
+        verify(internal, times(0)).query(any(Query.class));
+
+        verify(internal, times(1)).update(any(UpdateQuery.class), eq(expectedContentValues));
+        verify(internal, times(1)).insert(eq(expectedInsertQuery), eq(expectedContentValues));
+
+        assertThat(putResult.wasInserted()).isTrue();
+        assertThat(putResult.wasUpdated()).isFalse();
+        assertThat(putResult.insertedId()).isEqualTo(2L);
+        assertThat(putResult.numberOfRowsUpdated()).isNull();
+    }
+
+    private static abstract class UpsertTestItemPutResolver extends DefaultPutResolver<TestItem> {
+
+        @Override
+        protected boolean useUpsert() {
+            return true;
+        }
+
+        @NonNull
+        @Override
+        protected UpdateQuery mapToUpdateQuery(@NonNull TestItem object) {
+            return UpdateQuery.builder()
+                    .table(TestItem.TABLE)
+                    .where(TestItem.COLUMN_ID + " = ?")
+                    .whereArgs(object.getId())
+                    .build();
+        }
+
+        @NonNull
+        @Override
+        protected ContentValues mapToContentValues(@NonNull TestItem object) {
+            return TestItem.MAP_TO_CONTENT_VALUES.call(object);
+        }
+    }
+
     private static class TestItem {
 
         final static String TABLE = "someTable";
@@ -1,8 +1,11 @@
 package com.pushtorefresh.storio.sqlite.operations.put;
 
 import android.content.ContentValues;
+import android.database.sqlite.SQLiteStatement;
+import android.support.annotation.NonNull;
 
 import com.pushtorefresh.storio.StorIOException;
+import com.pushtorefresh.storio.sqlite.Changes;
 import com.pushtorefresh.storio.sqlite.StorIOSQLite;
 import com.pushtorefresh.storio.sqlite.queries.InsertQuery;
 import com.pushtorefresh.storio.sqlite.queries.UpdateQuery;
@@ -22,6 +25,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.failBecauseExceptionWasNotThrown;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyObject;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -301,6 +305,206 @@ public class PreparedPutCollectionOfObjectsTest {
         }
     }
 
+    public static class BulkInsert {
+
+        @Test
+        public void shouldInsertObjectsWithDefaultPutResolverViaInsertAll() {
+            final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+            final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+            when(storIOSQLite.internal()).thenReturn(internal);
+
+            final InsertQuery insertQuery = InsertQuery.builder()
+                    .table(TestItem.TABLE)
+                    .build();
+
+            final ContentValues contentValues1 = mock(ContentValues.class);
+            final ContentValues contentValues2 = mock(ContentValues.class);
+
+            final TestItem testItem1 = TestItem.newInstance();
+            final TestItem testItem2 = TestItem.newInstance();
+
+            final PutResolver<TestItem> putResolver = new DefaultPutResolver<TestItem>() {
+                @NonNull
+                @Override
+                protected InsertQuery mapToInsertQuery(@NonNull TestItem object) {
+                    return insertQuery;
+                }
+
+                @NonNull
+                @Override
+                protected UpdateQuery mapToUpdateQuery(@NonNull TestItem object) {
+                    throw new IllegalStateException("Should not be called");
+                }
+
+                @NonNull
+                @Override
+                protected ContentValues mapToContentValues(@NonNull TestItem object) {
+                    return object == testItem1 ? contentValues1 : contentValues2;
+                }
+            };
+
+            when(internal.insertAll(eq(insertQuery), eq(asList(contentValues1, contentValues2))))
+                    .thenReturn(new long[]{10, 11});
+
+            final PutResults<TestItem> putResults = new PreparedPutCollectionOfObjects.Builder<TestItem>(storIOSQLite, asList(testItem1, testItem2))
+                    .withPutResolver(putResolver)
+                    .useBulkInsert(true)
+                    .prepare()
+                    .executeAsBlocking();
+
+            assertThat(putResults.numberOfInserts()).isEqualTo(2);
+            assertThat(putResults.results().get(testItem1)).isEqualTo(PutResult.newInsertResult(10, TestItem.TABLE));
+            assertThat(putResults.results().get(testItem2)).isEqualTo(PutResult.newInsertResult(11, TestItem.TABLE));
+
+            verify(internal).beginTransaction();
+            verify(internal).insertAll(eq(insertQuery), eq(asList(contentValues1, contentValues2)));
+            verify(internal).setTransactionSuccessful();
+            verify(internal).endTransaction();
+            verify(internal).notifyAboutChanges(Changes.newInstance(TestItem.TABLE));
+            verifyNoMoreInteractions(internal);
+        }
+
+        @Test
+        public void shouldInsertObjectsViaStatementBinderIfInternalSupportsIt() {
+            final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+            final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+            when(storIOSQLite.internal()).thenReturn(internal);
+
+            final InsertQuery insertQuery = InsertQuery.builder()
+                    .table(TestItem.TABLE)
+                    .build();
+
+            final TestItem testItem1 = TestItem.newInstance();
+            final TestItem testItem2 = TestItem.newInstance();
+
+            final StatementBinderPutResolver putResolver = new StatementBinderPutResolver(insertQuery);
+
+            when(internal.insertAll(insertQuery, asList(testItem1, testItem2), putResolver.statementBinder))
+                    .thenReturn(new long[]{10, 11});
+
+            final PutResults<TestItem> putResults = new PreparedPutCollectionOfObjects.Builder<TestItem>(storIOSQLite, asList(testItem1, testItem2))
+                    .withPutResolver(putResolver)
+                    .useBulkInsert(true)
+                    .prepare()
+                    .executeAsBlocking();
+
+            assertThat(putResults.numberOfInserts()).isEqualTo(2);
+            assertThat(putResults.results().get(testItem1)).isEqualTo(PutResult.newInsertResult(10, TestItem.TABLE));
+            assertThat(putResults.results().get(testItem2)).isEqualTo(PutResult.newInsertResult(11, TestItem.TABLE));
+
+            verify(internal).beginTransaction();
+            verify(internal).insertAll(insertQuery, asList(testItem1, testItem2), putResolver.statementBinder);
+            verify(internal).setTransactionSuccessful();
+            verify(internal).endTransaction();
+            verify(internal).notifyAboutChanges(Changes.newInstance(TestItem.TABLE));
+            verifyNoMoreInteractions(internal);
+        }
+
+        @Test
+        public void shouldNotUseStatementBinderOfSuperclassOfPutResolver() {
+            final StorIOSQLite storIOSQLite = mock(StorIOSQLite.class);
+            final StorIOSQLite.Internal internal = mock(StorIOSQLite.Internal.class);
+
+            when(storIOSQLite.internal()).thenReturn(internal);
+
+            final InsertQuery insertQuery = InsertQuery.builder()
+                    .table(TestItem.TABLE)
+                    .build();
+
+            final TestItem testItem1 = TestItem.newInstance();
+            final TestItem testItem2 = TestItem.newInstance();
+
+            final ContentValues contentValues = mock(ContentValues.class);
+
+            final StatementBinderPutResolver putResolver = new StatementBinderPutResolver(insertQuery) {
+                @NonNull
+                @Override
+                protected ContentValues mapToContentValues(@NonNull TestItem object) {
+                    return contentValues;
+                }
+            };
+
+            when(internal.insertAll(insertQuery, asList(contentValues, contentValues)))
+                    .thenReturn(new long[]{10, 11});
+
+            final PutResults<TestItem> putResults = new PreparedPutCollectionOfObjects.Builder<TestItem>(storIOSQLite, asList(testItem1, testItem2))
+                    .withPutResolver(putResolver)
+                    .useBulkInsert(true)
+                    .prepare()
+                    .executeAsBlocking();
+
+            assertThat(putResults.numberOfInserts()).isEqualTo(2);
+
+            verify(internal).beginTransaction();
+            verify(internal).insertAll(insertQuery, asList(contentValues, contentValues));
+            verify(internal).setTransactionSuccessful();
+            verify(internal).endTransaction();
+            verify(internal).notifyAboutChanges(Changes.newInstance(TestItem.TABLE));
+            verifyNoMoreInteractions(internal);
+        }
+
+        @Test
+        public void shouldPutObjectsWithCustomPutResolverAsUsual() {
+            final PutObjectsStub putStub
+                    = PutObjectsStub.newPutStubForMultipleObjectsWithoutTypeMappingWithTransaction();
+
+            final PutResults<TestItem> putResults = putStub.storIOSQLite
+                    .put()
+                    .objects(putStub.items)
+                    .useTransaction(true)
+                    .useBulkInsert(true)
+                    .withPutResolver(putStub.putResolver)
+                    .prepare()
+                    .executeAsBlocking();
+
+            putStub.verifyBehaviorForMultipleObjects(putResults);
+        }
+
+        private static class StatementBinderPutResolver extends DefaultPutResolver<TestItem> {
+
+            @NonNull
+            final StatementBinder<TestItem> statementBinder = new StatementBinder<TestItem>(StatementBinderPutResolver.class, "column") {
+                @Override
+                public void bind(@NonNull SQLiteStatement statement, @NonNull TestItem object) {
+                    throw new IllegalStateException("Should be called by Internal");
+                }
+            };
+
+            @NonNull
+            private final InsertQuery insertQuery;
+
+            StatementBinderPutResolver(@NonNull InsertQuery insertQuery) {
+                this.insertQuery = insertQuery;
+            }
+
+            @NonNull
+            @Override
+            protected InsertQuery mapToInsertQuery(@NonNull TestItem object) {
+                return insertQuery;
+            }
+
+            @NonNull
+            @Override
+            protected UpdateQuery mapToUpdateQuery(@NonNull TestItem object) {
+                throw new IllegalStateException("Should not be called");
+            }
+
+            @NonNull
+            @Override
+            protected ContentValues mapToContentValues(@NonNull TestItem object) {
+                throw new IllegalStateException("Should not be called");
+            }
+
+            @NonNull
+            @Override
+            protected StatementBinder<TestItem> statementBinder() {
+                return statementBinder;
+            }
+        }
+    }
+
     public static class OtherTests {
 
         @Test